@@ -0,0 +1,11 @@
+-- Adds the currency status of the members, for the background currency resolution. Existing members have their
+-- currency: a null status is read as RESOLVED.
+alter table member
+    add column if not exists currency_status varchar(255),
+    add column if not exists currency_attempts integer,
+    add column if not exists currency_retry_at timestamp(6);
+
+-- Supports the polls of the pending members, which are few compared to the resolved ones
+create index if not exists member_currency_pending_idx
+    on member (currency_retry_at, id)
+    where currency_status = 'PENDING';
@@ -0,0 +1,3 @@
+-- Adds the version of the members, used for optimistic locking and as ETag. Existing members start at version 0.
+alter table member
+    add column if not exists version bigint not null default 0;
@@ -0,0 +1,7 @@
+-- Adds the number of members of each tag, kept by the member writes so that the tag searches do not count the posting
+-- lists, and counts the members of the existing tags. Run it with the application stopped.
+alter table tag
+    add column if not exists member_count bigint not null default 0;
+
+update tag t
+set member_count = (select count(*) from member_tag_posting p where p.tag_id = t.id);
@@ -1,6 +1,15 @@
+-- Member ids are handed out by the application in blocks of api.members.id.allocation-size, which must be equal to the
+-- increment of the sequence. The id column has no default: single values taken from the sequence would collide with
+-- the blocks of the application.
+create sequence member_id_seq
+    increment by 50;
+
+alter sequence member_id_seq
+    owner to postgres;
+
 create table member
 (
-    id                bigserial
+    id                bigint not null
         primary key,
     created_at        timestamp(6),
     contract_duration integer,
@@ -10,8 +19,12 @@ create table member
     last_name         varchar(255),
     role              varchar(255),
     salary            numeric(38, 2),
-    type              varchar(255)
+    type              varchar(255),
+    version           bigint not null default 0
 );
 
 alter table member
-    owner to postgres;
\ No newline at end of file
+    owner to postgres;
+
+alter sequence member_id_seq
+    owned by member.id;
@@ -0,0 +1,3 @@
+-- Supports the keyset pagination of GET /api/members?sort=createdAt
+create index if not exists member_created_at_id_idx
+    on member (created_at, id);
@@ -0,0 +1,12 @@
+create table member_currency_dead_letter
+(
+    member_id  bigint not null
+        primary key,
+    country    varchar(255),
+    reason     varchar(1000),
+    attempts   integer,
+    created_at timestamp(6)
+);
+
+alter table member_currency_dead_letter
+    owner to postgres;
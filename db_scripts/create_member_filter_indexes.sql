@@ -0,0 +1,16 @@
+-- Support the filters of GET /api/members. Equality filters come first in each index and the id last, so that a
+-- filtered page is read in id order from the index and stops after the page size (keyset pagination).
+-- The creation date range is served by member_created_at_id_idx (create_member_created_at_index.sql).
+create index if not exists member_country_id_idx
+    on member (country, id);
+
+create index if not exists member_currency_id_idx
+    on member (currency, id);
+
+create index if not exists member_salary_idx
+    on member (salary);
+
+-- Only contractors have a contract duration, and the duration filters always select contractors
+create index if not exists member_contractor_contract_duration_idx
+    on member (contract_duration, id)
+    where type = 'CONTRACTOR';
@@ -0,0 +1,65 @@
+-- Type-ahead search of the members by name (GET /api/members/search).
+create extension if not exists pg_trgm;
+
+-- Prefix matches of the first name then the last name, and the reverse, read in order and stopped after the page size.
+-- The "C" collation lets LIKE 'prefix%' use the index whatever the database collation.
+create index if not exists member_first_last_name_idx
+    on member ((lower(first_name)) collate "C", (lower(last_name)) collate "C", id);
+
+create index if not exists member_last_first_name_idx
+    on member ((lower(last_name)) collate "C", (lower(first_name)) collate "C", id);
+
+-- The distinct first and last names, lower case. Misspelled names are matched against this dictionary by trigram
+-- similarity, then looked up in the indexes above: the trigram index covers the distinct names only, not every member.
+-- Names are never removed: a name left without members matches no member.
+create table if not exists member_name_word
+(
+    word varchar(255) not null
+        primary key
+);
+
+alter table member_name_word
+    owner to postgres;
+
+create index if not exists member_name_word_trgm_idx
+    on member_name_word using gin (word gin_trgm_ops);
+
+-- Kept up to date by the database, once per statement, so that every write path is covered (JPA, batches, the
+-- reactive writes and scripts) and a batch insert adds its names in one statement
+create or replace function member_name_word_add() returns trigger
+    language plpgsql as
+$$
+begin
+    insert into member_name_word (word)
+    select distinct name
+    from (select lower(first_name) as name from changed_members
+          union all
+          select lower(last_name) from changed_members) names
+    where name is not null
+    on conflict do nothing;
+    return null;
+end;
+$$;
+
+drop trigger if exists member_name_word_insert on member;
+create trigger member_name_word_insert
+    after insert on member
+    referencing new table as changed_members
+    for each statement
+execute function member_name_word_add();
+
+drop trigger if exists member_name_word_update on member;
+create trigger member_name_word_update
+    after update on member
+    referencing new table as changed_members
+    for each statement
+execute function member_name_word_add();
+
+-- Adds the names of the existing members
+insert into member_name_word (word)
+select distinct name
+from (select lower(first_name) as name from member
+      union all
+      select lower(last_name) from member) names
+where name is not null
+on conflict do nothing;
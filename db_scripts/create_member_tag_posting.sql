@@ -0,0 +1,33 @@
+-- The posting lists of the tag searches: one row per member and distinct normalized tag. Run after create_tag.sql.
+create table if not exists member_tag_posting
+(
+    member_id bigint  not null
+        references member,
+    tag_id    integer not null
+        references tag,
+    primary key (member_id, tag_id)
+);
+
+alter table member_tag_posting
+    owner to postgres;
+
+-- Serves the posting lists, read in member id order per tag, without reading the table
+create index if not exists member_tag_posting_tag_id_member_id_idx
+    on member_tag_posting (tag_id, member_id);
+
+-- Indexes the tags of the existing members, normalized as by TagNames.normalize
+insert into tag (name)
+select distinct lower(trim(tags))
+from member_tags
+where trim(tags) <> ''
+on conflict (name) do nothing;
+
+insert into member_tag_posting (member_id, tag_id)
+select distinct mt.member_id, t.id
+from member_tags mt
+         join tag t on t.name = lower(trim(mt.tags))
+on conflict do nothing;
+
+-- Counts the members of each tag
+update tag t
+set member_count = (select count(*) from member_tag_posting p where p.tag_id = t.id);
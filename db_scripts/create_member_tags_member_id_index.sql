@@ -0,0 +1,3 @@
+-- Supports the per-member tags lookup of the members export and of the tags collection loading
+create index if not exists member_tags_member_id_idx
+    on member_tags (member_id);
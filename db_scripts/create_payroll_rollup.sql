@@ -0,0 +1,33 @@
+-- Payroll of the members of each country, currency and type, kept up to date in the transactions writing the members.
+-- The salary sum is an unbounded numeric, so that it stays exact whatever the number of members.
+create table payroll_rollup
+(
+    id         integer generated by default as identity
+        primary key,
+    country    varchar(255) not null,
+    currency   varchar(255) not null,
+    type       varchar(255) not null,
+    members    bigint       not null,
+    salaried   bigint       not null,
+    salary_sum numeric      not null,
+    salary_min numeric(38, 2),
+    salary_max numeric(38, 2),
+    constraint payroll_rollup_group_key
+        unique (country, currency, type)
+);
+
+alter table payroll_rollup
+    owner to postgres;
+
+-- Serves the minimum and maximum salaries of a group, read again whenever a member joins or leaves it
+create index if not exists member_payroll_idx
+    on member (country, currency, type, salary);
+
+-- Backfill from the members already written, whose currency is resolved; run before starting the application
+insert into payroll_rollup (country, currency, type, members, salaried, salary_sum, salary_min, salary_max)
+select country, currency, type, count(*), count(salary), coalesce(sum(salary), 0), min(salary), max(salary)
+from member
+where country is not null
+  and currency is not null
+  and type is not null
+group by country, currency, type;
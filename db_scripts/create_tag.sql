@@ -0,0 +1,13 @@
+create table tag
+(
+    id   integer generated by default as identity
+        primary key,
+    name         varchar(255) not null
+        constraint tag_name_key
+            unique,
+    -- the number of members of the posting list of the tag, kept by the member writes
+    member_count bigint       not null default 0
+);
+
+alter table tag
+    owner to postgres;
@@ -0,0 +1,17 @@
+-- Only for a database created with a bigserial id column, before create_member.sql declared member_id_seq itself.
+-- Switches member_id_seq to blocks of 50 ids, as handed out by the application (api.members.id.allocation-size, which
+-- must be equal to the increment below). Existing ids are left untouched: the next block starts right after the
+-- highest id in use.
+begin;
+
+lock table member in exclusive mode;
+
+alter sequence member_id_seq increment by 50;
+
+select setval('member_id_seq', coalesce((select max(id) from member), 0) + 1, false);
+
+-- ids are now assigned by the application only: a database default taking single values from the sequence
+-- would collide with the blocks handed out to the application
+alter table member alter column id drop default;
+
+commit;
@@ -0,0 +1,59 @@
+package com.codelitt.technical.exercise.benchmark;
+
+import com.codelitt.technical.exercise.dto.MemberDTO;
+import com.codelitt.technical.exercise.enums.MemberType;
+import com.codelitt.technical.exercise.model.Member;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generated members shared by the benchmarks.
+ */
+final class BenchmarkData {
+
+  private static final List<String> COUNTRIES = List.of("Brazil", "France", "Germany", "Japan", "Canada");
+  private static final LocalDateTime EPOCH = LocalDateTime.of(2023, 1, 1, 0, 0);
+
+  private BenchmarkData() {
+  }
+
+  static Member member(final long id) {
+    final Member member = Member.builder()
+        .firstName("Member" + id)
+        .lastName("Doe")
+        .salary(BigDecimal.valueOf(1000 + id % 5000))
+        .type(id % 2 == 0 ? MemberType.EMPLOYEE : MemberType.CONTRACTOR)
+        .contractDuration(id % 2 == 0 ? null : 12)
+        .role(id % 2 == 0 ? "Developer" : null)
+        .tags(new ArrayList<>(List.of("Backend", "Frontend", "Tag" + id % 10)))
+        .country(COUNTRIES.get((int) (id % COUNTRIES.size())))
+        .currency("EUR")
+        .build();
+    member.setId(id);
+    member.setCreatedAt(EPOCH.plusMinutes(id));
+    return member;
+  }
+
+  static MemberDTO dto(final long id) {
+    return MemberDTO.builder()
+        .firstName("Member" + id)
+        .lastName("Doe")
+        .salary(BigDecimal.valueOf(1000 + id % 5000))
+        .type(MemberType.EMPLOYEE)
+        .role("Developer")
+        .tags(List.of("Backend", "Frontend", "Tag" + id % 10))
+        .country(COUNTRIES.get((int) (id % COUNTRIES.size())))
+        .build();
+  }
+
+  static List<MemberDTO> dtos(final int count) {
+    final List<MemberDTO> dtos = new ArrayList<>(count);
+    for (int i = 1; i <= count; i++) {
+      dtos.add(dto(i));
+    }
+    return dtos;
+  }
+}
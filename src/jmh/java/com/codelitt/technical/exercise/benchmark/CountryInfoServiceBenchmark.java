@@ -0,0 +1,83 @@
+package com.codelitt.technical.exercise.benchmark;
+
+import com.codelitt.technical.exercise.cache.CountryInfoCache;
+import com.codelitt.technical.exercise.configuration.CircuitBreakerProperties;
+import com.codelitt.technical.exercise.exception.ServiceException;
+import com.codelitt.technical.exercise.resilience.CountryApiGuard;
+import com.codelitt.technical.exercise.service.CountryInfoService;
+import com.codelitt.technical.exercise.service.impl.CountryInfoServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link CountryInfoServiceImpl#getCurrency(String)} against a stubbed "restcountries.com" response:
+ * served from the cache, and through the whole lookup path (circuit breaker, request, JSON parsing) when every
+ * entry expires at once.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CountryInfoServiceBenchmark {
+
+  private static final byte[] RESPONSE = """
+      [{"name":{"common":"Brazil","official":"Federative Republic of Brazil"},
+        "altSpellings":["BR","Brasil"],
+        "currencies":{"BRL":{"name":"Brazilian real","symbol":"R$"}}}]""".getBytes(StandardCharsets.UTF_8);
+
+  private CountryInfoService cachedService;
+  private CountryInfoService uncachedService;
+
+  @Setup
+  public void setup() {
+    cachedService = service(new CountryInfoCache(Duration.ofHours(24), Duration.ofMinutes(10), 512));
+    uncachedService = service(new CountryInfoCache(Duration.ofNanos(1), Duration.ofNanos(1), 512));
+  }
+
+  @Benchmark
+  public String getCurrencyCached() throws ServiceException {
+    return cachedService.getCurrency("Brazil");
+  }
+
+  @Benchmark
+  public String getCurrencyUncached() throws ServiceException {
+    return uncachedService.getCurrency("Brazil");
+  }
+
+  private static CountryInfoService service(final CountryInfoCache cache) {
+    final RestTemplate restTemplate = new RestTemplate((uri, method) -> {
+      final MockClientHttpRequest request = new MockClientHttpRequest(method, uri);
+      final MockClientHttpResponse response = new MockClientHttpResponse(RESPONSE, HttpStatus.OK);
+      response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+      request.setResponse(response);
+      return request;
+    });
+    final CountryApiGuard guard = new CountryApiGuard(new CircuitBreakerProperties(50, 50, Duration.ofSeconds(2), 20, 10,
+        Duration.ofSeconds(30), 1, 10, Duration.ofMillis(100)));
+    final CountryInfoService service = new CountryInfoServiceImpl(restTemplate, cache, guard, new SimpleMeterRegistry());
+    ReflectionTestUtils.setField(service, "baseUrl", "https://restcountries.com/v3.1/name/");
+    return service;
+  }
+}
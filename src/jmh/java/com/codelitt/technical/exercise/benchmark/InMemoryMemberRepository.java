@@ -0,0 +1,70 @@
+package com.codelitt.technical.exercise.benchmark;
+
+import com.codelitt.technical.exercise.model.Member;
+import com.codelitt.technical.exercise.repository.MemberRepository;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link MemberRepository} backed by a sorted map, implementing the methods used by the member service, so that
+ * benchmarks measure the service itself rather than the database. Only preloaded members are kept: members saved
+ * while benchmarking get an id but are not stored, which keeps the heap stable over millions of invocations.
+ */
+final class InMemoryMemberRepository implements InvocationHandler {
+
+  private final NavigableMap<Long, Member> members = new ConcurrentSkipListMap<>();
+  private final AtomicLong sequence = new AtomicLong();
+
+  private InMemoryMemberRepository() {
+  }
+
+  static MemberRepository create(final int preloaded) {
+    final InMemoryMemberRepository handler = new InMemoryMemberRepository();
+    for (long id = 1; id <= preloaded; id++) {
+      handler.members.put(id, BenchmarkData.member(id));
+    }
+    handler.sequence.set(preloaded);
+    return (MemberRepository) Proxy.newProxyInstance(MemberRepository.class.getClassLoader(), new Class<?>[] {MemberRepository.class},
+        handler);
+  }
+
+  @Override
+  public Object invoke(final Object proxy, final Method method, final Object[] args) {
+    return switch (method.getName()) {
+      case "save" -> save((Member) args[0]);
+      case "findById" -> Optional.ofNullable(members.get((Long) args[0]));
+      case "findAllBy" -> page(members, (Pageable) args[0]);
+      case "findByIdGreaterThan" -> page(members.tailMap((Long) args[0], false), (Pageable) args[1]);
+      case "findAll" -> {
+        final Pageable pageable = (Pageable) args[0];
+        yield new PageImpl<>(members.values().stream().skip(pageable.getOffset()).limit(pageable.getPageSize()).toList(), pageable,
+            members.size());
+      }
+      case "toString" -> "InMemoryMemberRepository";
+      case "hashCode" -> System.identityHashCode(this);
+      case "equals" -> proxy == args[0];
+      default -> throw new UnsupportedOperationException(method.getName());
+    };
+  }
+
+  private Member save(final Member member) {
+    if (member.getId() == null) {
+      member.setId(sequence.incrementAndGet());
+    }
+    return member;
+  }
+
+  private static List<Member> page(final NavigableMap<Long, Member> members, final Pageable pageable) {
+    return members.values().stream().limit(pageable.getPageSize()).toList();
+  }
+}
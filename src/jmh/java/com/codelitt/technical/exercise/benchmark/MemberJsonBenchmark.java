@@ -0,0 +1,58 @@
+package com.codelitt.technical.exercise.benchmark;
+
+import com.codelitt.technical.exercise.dto.MemberDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the Jackson serialization of member lists, as written in the responses of the list endpoints.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MemberJsonBenchmark {
+
+  @Param({"20", "100", "1000"})
+  private int size;
+
+  private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+  private List<MemberDTO> members;
+  private ObjectWriter listWriter;
+
+  @Setup
+  public void setup() {
+    members = BenchmarkData.dtos(size);
+    listWriter = objectMapper.writerFor(objectMapper.getTypeFactory().constructCollectionType(List.class, MemberDTO.class));
+  }
+
+  @Benchmark
+  public byte[] serialize() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(members);
+  }
+
+  @Benchmark
+  public byte[] serializeWithTypedWriter() throws JsonProcessingException {
+    return listWriter.writeValueAsBytes(members);
+  }
+}
@@ -0,0 +1,102 @@
+package com.codelitt.technical.exercise.benchmark;
+
+import com.codelitt.technical.exercise.dto.MemberDTO;
+import com.codelitt.technical.exercise.enums.MemberType;
+import com.codelitt.technical.exercise.mapper.MemberMapper;
+import com.codelitt.technical.exercise.model.Member;
+
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the reflective {@link ModelMapper} with the hand-written {@link MemberMapper} on the three mappings used
+ * by the member service.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MemberMapperBenchmark {
+
+  private final ModelMapper modelMapper = new ModelMapper();
+  private final MemberMapper memberMapper = new MemberMapper();
+
+  private MemberDTO dto;
+  private Member entity;
+
+  @Setup
+  public void setup() {
+    dto = MemberDTO.builder()
+        .firstName("John")
+        .lastName("Doe")
+        .salary(BigDecimal.valueOf(5000))
+        .type(MemberType.EMPLOYEE)
+        .role("Developer")
+        .tags(List.of("Backend", "Frontend", "DevOps"))
+        .country("brazil")
+        .build();
+    entity = Member.builder()
+        .firstName("Jane")
+        .lastName("Smith")
+        .salary(BigDecimal.valueOf(1200))
+        .type(MemberType.CONTRACTOR)
+        .contractDuration(12)
+        .tags(new ArrayList<>(List.of("Design", "UX")))
+        .country("France")
+        .currency("EUR")
+        .build();
+    entity.setId(1L);
+    entity.setCreatedAt(LocalDateTime.now());
+  }
+
+  @Benchmark
+  public Member modelMapperToEntity() {
+    return modelMapper.map(dto, Member.class);
+  }
+
+  @Benchmark
+  public Member memberMapperToEntity() {
+    return memberMapper.toEntity(dto);
+  }
+
+  @Benchmark
+  public MemberDTO modelMapperToDto() {
+    return modelMapper.map(entity, MemberDTO.class);
+  }
+
+  @Benchmark
+  public MemberDTO memberMapperToDto() {
+    return memberMapper.toDto(entity);
+  }
+
+  @Benchmark
+  public Member modelMapperUpdate() {
+    final Member target = new Member();
+    modelMapper.map(dto, target);
+    return target;
+  }
+
+  @Benchmark
+  public Member memberMapperUpdate() {
+    final Member target = new Member();
+    memberMapper.updateEntity(dto, target);
+    return target;
+  }
+}
@@ -0,0 +1,205 @@
+package com.codelitt.technical.exercise.benchmark;
+
+import jakarta.validation.Validation;
+
+import com.codelitt.technical.exercise.cache.LocalMemberInvalidationBus;
+import com.codelitt.technical.exercise.cache.MemberCache;
+import com.codelitt.technical.exercise.cache.SalaryConverter;
+import com.codelitt.technical.exercise.dto.MemberDTO;
+import com.codelitt.technical.exercise.dto.country.CountryInfoDTO;
+import com.codelitt.technical.exercise.dto.page.CursorPage;
+import com.codelitt.technical.exercise.dto.page.OffsetPage;
+import com.codelitt.technical.exercise.dto.page.PageCursor;
+import com.codelitt.technical.exercise.dto.payroll.PayrollChange;
+import com.codelitt.technical.exercise.dto.payroll.PayrollGroup;
+import com.codelitt.technical.exercise.dto.tag.TagCardinality;
+import com.codelitt.technical.exercise.dto.tag.TagSearchPage;
+import com.codelitt.technical.exercise.enums.MemberSortField;
+import com.codelitt.technical.exercise.enums.PayrollDimension;
+import com.codelitt.technical.exercise.enums.TagMatch;
+import com.codelitt.technical.exercise.exception.ServiceException;
+import com.codelitt.technical.exercise.mapper.MemberMapper;
+import com.codelitt.technical.exercise.mapper.MemberPatcher;
+import com.codelitt.technical.exercise.service.CountryInfoService;
+import com.codelitt.technical.exercise.service.MemberTagService;
+import com.codelitt.technical.exercise.service.PayrollService;
+import com.codelitt.technical.exercise.service.impl.MemberServiceImpl;
+import com.codelitt.technical.exercise.util.TagNames;
+import com.codelitt.technical.exercise.validation.MemberValidator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the member service on top of an in-memory repository, an in-memory tag dictionary and a constant
+ * currency lookup, without payroll rollups: mapping,
+ * validation and pagination overhead, without the database and the remote API. The member cache is disabled, except
+ * for {@link #findByIdCached()}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MemberServiceBenchmark {
+
+  private static final int MEMBERS = 10_000;
+
+  // the in-memory repository is not transactional
+  private static final PlatformTransactionManager NO_TRANSACTIONS = new PlatformTransactionManager() {
+    @Override
+    public TransactionStatus getTransaction(final TransactionDefinition definition) {
+      return new SimpleTransactionStatus();
+    }
+
+    @Override
+    public void commit(final TransactionStatus status) {
+    }
+
+    @Override
+    public void rollback(final TransactionStatus status) {
+    }
+  };
+
+  private MemberServiceImpl service;
+  private MemberServiceImpl cachedService;
+  private MemberDTO member;
+  private String cursor;
+
+  @State(Scope.Benchmark)
+  public static class Paging {
+
+    @Param({"20", "100"})
+    private int pageSize;
+  }
+
+  @Setup
+  public void setup() {
+    final CountryInfoService countryInfoService = new CountryInfoService() {
+      @Override
+      public CountryInfoDTO getCountryInfo(final String countryName) {
+        throw new UnsupportedOperationException();
+      }
+
+      @Override
+      public String getCurrency(final String countryName) {
+        return "EUR";
+      }
+    };
+    final MemberTagService memberTagService = new MemberTagService() {
+      private final Map<String, Integer> dictionary = new ConcurrentHashMap<>();
+
+      @Override
+      public Map<String, Integer> resolve(final Collection<String> tags) {
+        final Map<String, Integer> ids = new LinkedHashMap<>();
+        for (final String name : TagNames.normalize(tags)) {
+          ids.put(name, dictionary.computeIfAbsent(name, key -> dictionary.size() + 1));
+        }
+        return ids;
+      }
+
+      @Override
+      public Set<Integer> resolveIds(final Collection<String> tags) {
+        return new HashSet<>(resolve(tags).values());
+      }
+
+      @Override
+      public void applyPostings(final Collection<Integer> addedTagIds, final Collection<Integer> removedTagIds) {
+      }
+
+      @Override
+      public List<TagCardinality> findCardinalities(final Collection<String> tags) {
+        throw new UnsupportedOperationException();
+      }
+
+      @Override
+      public TagSearchPage<MemberDTO> findMembersByTags(final Collection<String> tags, final TagMatch match, final String cursor,
+                                                        final Integer size) {
+        throw new UnsupportedOperationException();
+      }
+    };
+    final PayrollService payrollService = new PayrollService() {
+      @Override
+      public void apply(final Collection<PayrollChange> changes) {
+      }
+
+      @Override
+      public List<PayrollGroup> findPayroll(final Set<PayrollDimension> groupBy) {
+        throw new UnsupportedOperationException();
+      }
+
+      @Override
+      public List<PayrollGroup> findPayroll(final Set<PayrollDimension> groupBy, final SalaryConverter converter) {
+        throw new UnsupportedOperationException();
+      }
+    };
+    final var repository = InMemoryMemberRepository.create(MEMBERS);
+    final var validator = new MemberValidator(Validation.buildDefaultValidatorFactory().getValidator());
+    final var patcher = new MemberPatcher(new ObjectMapper(), validator);
+    service = new MemberServiceImpl(countryInfoService, memberTagService, payrollService, repository, new MemberMapper(),
+        new MemberCache(Duration.ZERO, 0, new LocalMemberInvalidationBus()), patcher, validator, NO_TRANSACTIONS);
+    ReflectionTestUtils.setField(service, "defaultPageSize", 20);
+    ReflectionTestUtils.setField(service, "maxPageSize", 100);
+    cachedService = new MemberServiceImpl(countryInfoService, memberTagService, payrollService, repository, new MemberMapper(),
+        new MemberCache(Duration.ofMinutes(10), MEMBERS, new LocalMemberInvalidationBus()), patcher, validator, NO_TRANSACTIONS);
+    member = BenchmarkData.dto(1);
+    cursor = new PageCursor(MemberSortField.ID, Sort.Direction.ASC, null, MEMBERS / 2L).encode();
+  }
+
+  @Benchmark
+  public MemberDTO create() throws ServiceException {
+    return service.create(member);
+  }
+
+  @Benchmark
+  public MemberDTO findById() {
+    return service.findById(MEMBERS / 2L);
+  }
+
+  @Benchmark
+  public MemberDTO findByIdCached() {
+    return cachedService.findById(MEMBERS / 2L);
+  }
+
+  @Benchmark
+  public CursorPage<MemberDTO> findMembersFirstPage(final Paging paging) throws ServiceException {
+    return service.findMembers(null, paging.pageSize, null, null);
+  }
+
+  @Benchmark
+  public CursorPage<MemberDTO> findMembersWithCursor(final Paging paging) throws ServiceException {
+    return service.findMembers(cursor, paging.pageSize, null, null);
+  }
+
+  @Benchmark
+  public OffsetPage<MemberDTO> findMembersPage(final Paging paging) throws ServiceException {
+    return service.findMembersPage(0, paging.pageSize);
+  }
+}
@@ -0,0 +1,133 @@
+package com.codelitt.technical.exercise.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Finds the highest rate of member creations ({@code POST /api/members}) a running instance sustains, to compare the
+ * platform thread and the virtual thread ({@code spring.threads.virtual.enabled=true}) modes on the same database.
+ * Requests are sent at a constant rate, raised by a fixed step until the 99th percentile latency exceeds the target or
+ * more than 1% of the requests fail. Latencies are measured from the time each request was due, not sent, so that a
+ * saturated server cannot slow the load down and hide its own queueing.
+ * <p>
+ * Run with {@code mvn -P benchmark -DskipTests test-compile exec:exec@load-test [-Dload.url=...] [-Dload.start-rate=...]
+ * [-Dload.step=...] [-Dload.max-rate=...] [-Dload.step-duration=...] [-Dload.p99=...]}.
+ */
+public final class MemberWriteLoadTest {
+
+  private static final String[] COUNTRIES = {"Brazil", "France", "Germany", "Japan", "Canada"};
+  private static final double MAX_ERROR_RATE = 0.01;
+
+  private final HttpClient client = HttpClient.newBuilder()
+      .version(HttpClient.Version.HTTP_1_1)
+      .connectTimeout(Duration.ofSeconds(2))
+      .build();
+  private final URI uri;
+  private final AtomicInteger sequence = new AtomicInteger();
+
+  private MemberWriteLoadTest(final URI uri) {
+    this.uri = uri;
+  }
+
+  /**
+   * @param args the base URL of the instance, the first rate, the rate step and the maximum rate (requests per second),
+   *             the duration of each step (seconds) and the 99th percentile latency target (milliseconds).
+   */
+  public static void main(final String[] args) {
+    final URI uri = URI.create(arg(args, 0, "http://localhost:8080") + "/api/members");
+    final int startRate = Integer.parseInt(arg(args, 1, "50"));
+    final int step = Integer.parseInt(arg(args, 2, "50"));
+    final int maxRate = Integer.parseInt(arg(args, 3, "2000"));
+    final Duration stepDuration = Duration.ofSeconds(Long.parseLong(arg(args, 4, "10")));
+    final Duration p99Target = Duration.ofMillis(Long.parseLong(arg(args, 5, "500")));
+
+    final MemberWriteLoadTest loadTest = new MemberWriteLoadTest(uri);
+    System.out.printf("Target: %s, p99 <= %d ms, errors <= %.0f%%%n", uri, p99Target.toMillis(), MAX_ERROR_RATE * 100);
+    System.out.printf("%8s %8s %8s %10s %10s%n", "rate", "sent", "errors", "p50 (ms)", "p99 (ms)");
+
+    int sustained = 0;
+    for (int rate = startRate; rate <= maxRate; rate += step) {
+      final Result result = loadTest.run(rate, stepDuration);
+      System.out.printf("%8d %8d %8d %10.1f %10.1f%n", rate, result.sent(), result.errors(), millis(result.percentile(0.50)),
+          millis(result.percentile(0.99)));
+      if (result.percentile(0.99) > p99Target.toNanos() || result.errors() > result.sent() * MAX_ERROR_RATE) {
+        break;
+      }
+      sustained = rate;
+    }
+    System.out.printf("Max sustainable rate: %d requests/s%n", sustained);
+  }
+
+  /**
+   * Sends requests at a constant rate for the given duration and waits for all of them to complete.
+   *
+   * @param rate the number of requests per second.
+   * @param duration the time during which requests are sent.
+   * @return the latencies and the number of failed requests.
+   */
+  private Result run(final int rate, final Duration duration) {
+    final long interval = TimeUnit.SECONDS.toNanos(1) / rate;
+    final int count = (int) (duration.toNanos() / interval);
+    final long[] latencies = new long[count];
+    final AtomicInteger errors = new AtomicInteger();
+    final List<CompletableFuture<?>> responses = new ArrayList<>(count);
+
+    final long start = System.nanoTime();
+    for (int i = 0; i < count; i++) {
+      final long due = start + i * interval;
+      LockSupport.parkNanos(due - System.nanoTime());
+      final int index = i;
+      responses.add(client.sendAsync(request(), HttpResponse.BodyHandlers.ofString())
+          .whenComplete((response, failure) -> {
+            latencies[index] = System.nanoTime() - due;
+            if (failure != null || response.statusCode() != 200 || response.body().contains("\"code\":")) {
+              errors.incrementAndGet();
+            }
+          }));
+    }
+    CompletableFuture.allOf(responses.toArray(CompletableFuture[]::new)).exceptionally(failure -> null).join();
+    Arrays.sort(latencies);
+    return new Result(latencies, errors.get());
+  }
+
+  private HttpRequest request() {
+    final int id = sequence.incrementAndGet();
+    final String body = """
+        {"firstName":"Load","lastName":"Test %d","type":"CONTRACTOR","contractDuration":12,"salary":1000,\
+        "tags":["load-test"],"country":"%s"}""".formatted(id, COUNTRIES[id % COUNTRIES.length]);
+    return HttpRequest.newBuilder(uri)
+        .timeout(Duration.ofSeconds(30))
+        .header("Content-Type", "application/json")
+        .POST(HttpRequest.BodyPublishers.ofString(body))
+        .build();
+  }
+
+  private static String arg(final String[] args, final int index, final String defaultValue) {
+    return args.length > index && !args[index].isBlank() ? args[index] : defaultValue;
+  }
+
+  private static double millis(final long nanos) {
+    return nanos / 1_000_000.0;
+  }
+
+  private record Result(long[] latencies, int errors) {
+
+    int sent() {
+      return latencies.length;
+    }
+
+    long percentile(final double percentile) {
+      return latencies.length == 0 ? 0 : latencies[(int) Math.ceil(percentile * latencies.length) - 1];
+    }
+  }
+}
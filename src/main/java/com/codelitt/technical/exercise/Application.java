@@ -2,14 +2,20 @@ package com.codelitt.technical.exercise;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 
 /**
  * The main class of the application that is annotated with `@SpringBootApplication` to enable
  * the automatic configuration and component scan for a Spring Boot application.
  *
+ * R2DBC is not auto-configured: its connection factory would replace the data source of the JPA repositories, so
+ * the reactive member path creates its own (see {@code ReactiveMemberConfig}).
+ *
  *  @author Samuel Catalano
  */
-@SpringBootApplication
+@SpringBootApplication(exclude = R2dbcAutoConfiguration.class)
+@ConfigurationPropertiesScan
 public class Application {
 
 	/**
@@ -0,0 +1,83 @@
+package com.codelitt.technical.exercise.cache;
+
+import com.codelitt.technical.exercise.dto.country.CountryInfoDTO;
+import com.codelitt.technical.exercise.dto.country.CountryName;
+import com.codelitt.technical.exercise.util.CountryNames;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable lookup index of countries by name.
+ * Every country is reachable through its common name, its official name and its alternative spellings, all
+ * normalized with {@link CountryNames#normalize(String)}. When two countries share a spelling, common names win over
+ * official names, which win over alternative spellings.
+ */
+public final class CountryIndex {
+
+  private final Map<String, CountryInfoDTO> countriesByName;
+  private final int size;
+
+  private CountryIndex(final Map<String, CountryInfoDTO> countriesByName, final int size) {
+    this.countriesByName = countriesByName;
+    this.size = size;
+  }
+
+  /**
+   * Builds the index from the countries returned by the "restcountries.com" API, or read from the bundled snapshot.
+   * The information of each country is copied once here and shared by all the lookups.
+   *
+   * @param countries the countries to index.
+   * @return the index.
+   */
+  public static CountryIndex of(final Collection<CountryInfoDTO> countries) {
+    final List<CountryInfoDTO> entries = countries.stream()
+        .filter(country -> country.getName() != null && StringUtils.isNotBlank(country.getName().getCommon()))
+        .map(CountryIndex::copyOf)
+        .toList();
+
+    final Map<String, CountryInfoDTO> countriesByName = new HashMap<>(entries.size() * 8);
+    entries.forEach(country -> countriesByName.putIfAbsent(CountryNames.normalize(country.getName().getCommon()), country));
+    entries.forEach(country -> countriesByName.putIfAbsent(CountryNames.normalize(country.getName().getOfficial()), country));
+    entries.forEach(country -> country.getAltSpellings().forEach(spelling -> countriesByName.putIfAbsent(CountryNames.normalize(spelling), country)));
+    countriesByName.remove("");
+
+    return new CountryIndex(Map.copyOf(countriesByName), entries.size());
+  }
+
+  /**
+   * Finds a country by any of its names, without allocating.
+   *
+   * @param countryName the name of the country, in any case and with or without accents.
+   * @return the CountryInfoDTO of the country, shared by all the lookups and not to be modified, or null if the name
+   *         is unknown.
+   */
+  public CountryInfoDTO find(final String countryName) {
+    return countriesByName.get(CountryNames.normalize(countryName));
+  }
+
+  /**
+   * Returns the number of countries in the index.
+   *
+   * @return the number of countries.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Copies the information of a country, so that the index does not share it with the list it was built from.
+   */
+  private static CountryInfoDTO copyOf(final CountryInfoDTO countryInfo) {
+    return CountryInfoDTO.builder()
+        .name(new CountryName(countryInfo.getName().getCommon(), countryInfo.getName().getOfficial()))
+        .altSpellings(countryInfo.getAltSpellings() == null ? List.of() : List.copyOf(countryInfo.getAltSpellings()))
+        .currencies(countryInfo.getCurrencies() == null ? new LinkedHashMap<>() : new LinkedHashMap<>(countryInfo.getCurrencies()))
+        .build();
+  }
+}
@@ -0,0 +1,169 @@
+package com.codelitt.technical.exercise.cache;
+
+import com.codelitt.technical.exercise.dto.country.CountryInfoDTO;
+import com.codelitt.technical.exercise.util.CountryNames;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * In-process cache of the country information retrieved from "restcountries.com".
+ * Countries that are unknown to the API are cached as well (negative caching), with a shorter TTL, so that
+ * repeated requests with a misspelled country do not hit the API every time.
+ * The last information known for every country is also kept beyond the TTL, to be served when the API is down.
+ */
+@Component
+public class CountryInfoCache implements MeterBinder {
+
+  private static final String CACHE_NAME = "countries";
+
+  static final long DEFAULT_FALLBACK_MAX_SIZE = 1024;
+
+  private final Cache<String, Entry> cache;
+  private final Cache<String, CountryInfoDTO> lastKnown;
+
+  /**
+   * Creates the cache. The last known information is sized apart from the cache, so that disabling or shrinking the
+   * cache does not take the fallback of the circuit breaker with it.
+   *
+   * @param ttl the time a country is cached for.
+   * @param negativeTtl the time an unknown country is cached for.
+   * @param maxSize the maximum number of countries cached, 0 to disable the cache.
+   * @param fallbackMaxSize the maximum number of countries whose last known information is kept.
+   */
+  @Autowired
+  public CountryInfoCache(@Value("${api.countries.cache.ttl:24h}") final Duration ttl,
+                          @Value("${api.countries.cache.negative-ttl:10m}") final Duration negativeTtl,
+                          @Value("${api.countries.cache.max-size:512}") final long maxSize,
+                          @Value("${api.countries.fallback.max-size:1024}") final long fallbackMaxSize) {
+    this(ttl, negativeTtl, maxSize, fallbackMaxSize, Ticker.systemTicker());
+  }
+
+  public CountryInfoCache(final Duration ttl, final Duration negativeTtl, final long maxSize) {
+    this(ttl, negativeTtl, maxSize, DEFAULT_FALLBACK_MAX_SIZE, Ticker.systemTicker());
+  }
+
+  CountryInfoCache(final Duration ttl, final Duration negativeTtl, final long maxSize, final long fallbackMaxSize, final Ticker ticker) {
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfter(new EntryExpiry(ttl.toNanos(), negativeTtl.toNanos()))
+        .ticker(ticker)
+        .executor(Runnable::run)
+        .recordStats()
+        .build();
+    this.lastKnown = Caffeine.newBuilder()
+        .maximumSize(fallbackMaxSize)
+        .executor(Runnable::run)
+        .build();
+  }
+
+  /**
+   * Returns the cached entry for the given country, if present and not expired.
+   *
+   * @param countryName the name of the country.
+   * @return the cached entry, or null if the country is not cached.
+   */
+  public Entry getIfPresent(final String countryName) {
+    return cache.getIfPresent(CountryNames.normalize(countryName));
+  }
+
+  /**
+   * Returns the cached entry for the given country without recording a hit or a miss.
+   *
+   * @param countryName the name of the country.
+   * @return the cached entry, or null if the country is not cached.
+   */
+  public Entry peek(final String countryName) {
+    return cache.policy().getIfPresentQuietly(CountryNames.normalize(countryName));
+  }
+
+  /**
+   * Caches the information retrieved for a country.
+   *
+   * @param countryName the name of the country.
+   * @param countryInfo the information retrieved for the country.
+   */
+  public void put(final String countryName, final CountryInfoDTO countryInfo) {
+    var key = CountryNames.normalize(countryName);
+    cache.put(key, new Entry(countryInfo));
+    lastKnown.put(key, countryInfo);
+  }
+
+  /**
+   * Caches the fact that no information exists for a country.
+   *
+   * @param countryName the name of the country.
+   */
+  public void putMissing(final String countryName) {
+    cache.put(CountryNames.normalize(countryName), Entry.MISSING);
+  }
+
+  /**
+   * Returns the last information retrieved for the given country, even if its entry has expired.
+   *
+   * @param countryName the name of the country.
+   * @return the last known information, or null if the country was never retrieved.
+   */
+  public CountryInfoDTO getLastKnown(final String countryName) {
+    return lastKnown.getIfPresent(CountryNames.normalize(countryName));
+  }
+
+  /**
+   * Returns the hit, miss and eviction counters of the cache.
+   *
+   * @return a snapshot of the cache statistics.
+   */
+  public CacheStats stats() {
+    return cache.stats();
+  }
+
+  void cleanUp() {
+    cache.cleanUp();
+  }
+
+  @Override
+  public void bindTo(final MeterRegistry registry) {
+    CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+  }
+
+  /**
+   * A cached country. An entry without country information means that the country is unknown.
+   */
+  public record Entry(CountryInfoDTO countryInfo) {
+
+    private static final Entry MISSING = new Entry(null);
+
+    public boolean isMissing() {
+      return countryInfo == null;
+    }
+  }
+
+  private record EntryExpiry(long ttlNanos, long negativeTtlNanos) implements Expiry<String, Entry> {
+
+    @Override
+    public long expireAfterCreate(final String key, final Entry entry, final long currentTime) {
+      return entry.isMissing() ? negativeTtlNanos : ttlNanos;
+    }
+
+    @Override
+    public long expireAfterUpdate(final String key, final Entry entry, final long currentTime, final long currentDuration) {
+      return expireAfterCreate(key, entry, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(final String key, final Entry entry, final long currentTime, final long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
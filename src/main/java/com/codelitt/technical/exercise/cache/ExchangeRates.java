@@ -0,0 +1,157 @@
+package com.codelitt.technical.exercise.cache;
+
+import com.codelitt.technical.exercise.exception.InvalidRequestException;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Immutable exchange rates of a day against a base currency, in two parallel arrays: the currency codes, packed into
+ * an int each and sorted, and the rates. A lookup is a binary search over the packed codes, without hashing or
+ * allocating, and the table of a day takes a few hundred bytes whatever the number of lookups.
+ */
+public final class ExchangeRates {
+
+  private static final int NOT_A_CURRENCY = -1;
+
+  private final LocalDate date;
+  private final String base;
+  private final int[] currencies;
+  private final BigDecimal[] rates;
+
+  private ExchangeRates(final LocalDate date, final String base, final int[] currencies, final BigDecimal[] rates) {
+    this.date = date;
+    this.base = base;
+    this.currencies = currencies;
+    this.rates = rates;
+  }
+
+  /**
+   * Builds the rates of a day.
+   *
+   * @param date the day the rates apply to.
+   * @param base the ISO 4217 code of the currency the rates are against; its rate is 1 if not given.
+   * @param rates the units of each currency worth one unit of the base currency, by ISO 4217 code.
+   * @return the rates.
+   * @throws IllegalArgumentException if a code is not made of 3 letters or a rate is not positive.
+   */
+  public static ExchangeRates of(final LocalDate date, final String base, final Map<String, BigDecimal> rates) {
+    final Map<Integer, BigDecimal> byCurrency = new TreeMap<>();
+    byCurrency.put(packOrThrow(base), BigDecimal.ONE);
+    rates.forEach((currency, rate) -> {
+      if (rate == null || rate.signum() <= 0) {
+        throw new IllegalArgumentException("Exchange rate of " + currency + " on " + date + " must be positive: " + rate);
+      }
+      byCurrency.put(packOrThrow(currency), rate);
+    });
+
+    final int[] currencies = new int[byCurrency.size()];
+    final BigDecimal[] values = new BigDecimal[byCurrency.size()];
+    int i = 0;
+    for (final Map.Entry<Integer, BigDecimal> entry : byCurrency.entrySet()) {
+      currencies[i] = entry.getKey();
+      values[i++] = entry.getValue();
+    }
+    return new ExchangeRates(date, base.toUpperCase(), currencies, values);
+  }
+
+  /**
+   * Returns the day the rates apply to.
+   *
+   * @return the day of the rates.
+   */
+  public LocalDate getDate() {
+    return date;
+  }
+
+  /**
+   * Returns the currency the rates are against.
+   *
+   * @return the ISO 4217 code of the base currency.
+   */
+  public String getBase() {
+    return base;
+  }
+
+  /**
+   * Returns the number of currencies with a rate, the base one included.
+   *
+   * @return the number of currencies.
+   */
+  public int size() {
+    return currencies.length;
+  }
+
+  /**
+   * Returns the rate of a currency.
+   *
+   * @param currency the ISO 4217 code of the currency, in any case.
+   * @return the units of the currency worth one unit of the base currency, or null if the currency has no rate.
+   */
+  public BigDecimal getRate(final String currency) {
+    final int index = indexOf(currencies, currency);
+    return index < 0 ? null : rates[index];
+  }
+
+  /**
+   * Creates a converter of amounts in any of the currencies to the given one. The conversion factors are computed
+   * once here, so that converting an amount costs a binary search and a multiplication.
+   *
+   * @param currency the ISO 4217 code of the currency to convert to, in any case.
+   * @return the converter.
+   * @throws InvalidRequestException if the currency has no rate.
+   */
+  public SalaryConverter converterTo(final String currency) {
+    final int target = indexOf(currencies, currency);
+    if (target < 0) {
+      throw new InvalidRequestException("No exchange rate for the currency " + currency + " on " + date);
+    }
+    final BigDecimal[] factors = new BigDecimal[rates.length];
+    for (int i = 0; i < rates.length; i++) {
+      factors[i] = rates[target].divide(rates[i], MathContext.DECIMAL128);
+    }
+    return new SalaryConverter(currency.toUpperCase(), date, currencies, factors);
+  }
+
+  /**
+   * Finds a currency among packed and sorted codes.
+   *
+   * @return the index of the currency, or a negative value if it is not there or is not a currency code.
+   */
+  static int indexOf(final int[] currencies, final String currency) {
+    final int code = pack(currency);
+    return code == NOT_A_CURRENCY ? NOT_A_CURRENCY : Arrays.binarySearch(currencies, code);
+  }
+
+  /**
+   * Packs the 3 letters of a currency code into an int, one byte each, upper case.
+   *
+   * @return the packed code, or {@link #NOT_A_CURRENCY} if the code is not made of 3 letters.
+   */
+  static int pack(final String currency) {
+    if (currency == null || currency.length() != 3) {
+      return NOT_A_CURRENCY;
+    }
+    int code = 0;
+    for (int i = 0; i < 3; i++) {
+      final char letter = Character.toUpperCase(currency.charAt(i));
+      if (letter < 'A' || letter > 'Z') {
+        return NOT_A_CURRENCY;
+      }
+      code = code << 8 | letter;
+    }
+    return code;
+  }
+
+  private static int packOrThrow(final String currency) {
+    final int code = pack(currency);
+    if (code == NOT_A_CURRENCY) {
+      throw new IllegalArgumentException("Not an ISO 4217 currency code: " + currency);
+    }
+    return code;
+  }
+}
@@ -0,0 +1,24 @@
+package com.codelitt.technical.exercise.cache;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * In-JVM {@link MemberInvalidationBus}: the listeners are called synchronously by the publishing thread.
+ * Suitable for a single instance and for tests; declared by {@code MemberInvalidationConfig} unless another bus is.
+ */
+public class LocalMemberInvalidationBus implements MemberInvalidationBus {
+
+  private final List<Consumer<Long>> listeners = new CopyOnWriteArrayList<>();
+
+  @Override
+  public void publish(final Long memberId) {
+    listeners.forEach(listener -> listener.accept(memberId));
+  }
+
+  @Override
+  public void subscribe(final Consumer<Long> listener) {
+    listeners.add(listener);
+  }
+}
@@ -0,0 +1,102 @@
+package com.codelitt.technical.exercise.cache;
+
+import com.codelitt.technical.exercise.dto.MemberDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Read-through cache of the members returned by id, bounded in size and expiring a fixed time after being loaded.
+ * Updated and deleted members are evicted on every instance through the {@link MemberInvalidationBus}; the TTL only
+ * bounds how stale an entry can get if an invalidation is lost. The cached DTOs are shared between callers and must
+ * not be modified.
+ */
+@Component
+public class MemberCache implements MeterBinder {
+
+  private static final String CACHE_NAME = "members";
+
+  private final Cache<Long, MemberDTO> cache;
+  private final MemberInvalidationBus invalidationBus;
+
+  @Autowired
+  public MemberCache(@Value("${api.members.cache.ttl:10m}") final Duration ttl,
+                     @Value("${api.members.cache.max-size:10000}") final long maxSize,
+                     final MemberInvalidationBus invalidationBus) {
+    this(ttl, maxSize, invalidationBus, Ticker.systemTicker());
+  }
+
+  MemberCache(final Duration ttl, final long maxSize, final MemberInvalidationBus invalidationBus, final Ticker ticker) {
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(ttl)
+        .ticker(ticker)
+        .executor(Runnable::run)
+        .recordStats()
+        .build();
+    this.invalidationBus = invalidationBus;
+    invalidationBus.subscribe(cache::invalidate);
+  }
+
+  /**
+   * Returns the cached member with the given id, loading it on a miss. Concurrent misses for the same id share a
+   * single load, and an invalidation racing with a load waits for it, so that the stale result is evicted.
+   *
+   * @param id the id of the member.
+   * @param loader loads the member, returning null if it does not exist.
+   * @return the member, or null if it does not exist; missing members are not cached.
+   */
+  public MemberDTO get(final Long id, final Function<Long, MemberDTO> loader) {
+    return cache.get(id, loader);
+  }
+
+  /**
+   * Returns the cached member with the given id without loading it nor recording a hit or a miss.
+   *
+   * @param id the id of the member.
+   * @return the cached member, or null if it is not cached.
+   */
+  public MemberDTO peek(final Long id) {
+    return cache.policy().getIfPresentQuietly(id);
+  }
+
+  /**
+   * Evicts a member that was updated or deleted, on this instance and, through the bus, on every other one.
+   *
+   * @param id the id of the member.
+   */
+  public void invalidate(final Long id) {
+    cache.invalidate(id);
+    invalidationBus.publish(id);
+  }
+
+  /**
+   * Returns the hit, miss and eviction counters of the cache.
+   *
+   * @return a snapshot of the cache statistics.
+   */
+  public CacheStats stats() {
+    return cache.stats();
+  }
+
+  @Override
+  public void bindTo(final MeterRegistry registry) {
+    CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+    Gauge.builder("cache.hit.ratio", cache, c -> c.stats().hitRate())
+        .description("Ratio of cache requests which were hits")
+        .tag("cache", CACHE_NAME)
+        .register(registry);
+  }
+}
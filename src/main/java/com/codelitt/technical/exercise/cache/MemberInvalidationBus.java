@@ -0,0 +1,25 @@
+package com.codelitt.technical.exercise.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Broadcasts the ids of members that were updated or deleted, so that every instance of the application evicts them
+ * from its {@link MemberCache}. Multi-instance deployments provide an implementation backed by a shared broker;
+ * {@link LocalMemberInvalidationBus} only reaches the caches of the current JVM.
+ */
+public interface MemberInvalidationBus {
+
+  /**
+   * Announces that a member was updated or deleted.
+   *
+   * @param memberId the id of the member.
+   */
+  void publish(Long memberId);
+
+  /**
+   * Registers a listener called with the id of every member announced, including by the current instance.
+   *
+   * @param listener the listener to register.
+   */
+  void subscribe(Consumer<Long> listener);
+}
@@ -0,0 +1,71 @@
+package com.codelitt.technical.exercise.cache;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+
+/**
+ * Converts amounts in any currency of an {@link ExchangeRates} table to one currency, at the rates of that day.
+ * Immutable and shared between threads; converting an amount does not allocate anything but the result, so that
+ * a converter can be applied to every row of a large result set.
+ */
+public final class SalaryConverter {
+
+  private static final int SCALE = 2;
+
+  private final String currency;
+  private final LocalDate date;
+  private final int[] currencies;
+  private final BigDecimal[] factors;
+
+  SalaryConverter(final String currency, final LocalDate date, final int[] currencies, final BigDecimal[] factors) {
+    this.currency = currency;
+    this.date = date;
+    this.currencies = currencies;
+    this.factors = factors;
+  }
+
+  /**
+   * Returns the currency amounts are converted to.
+   *
+   * @return the ISO 4217 code of the currency, upper case.
+   */
+  public String getCurrency() {
+    return currency;
+  }
+
+  /**
+   * Returns the day of the rates amounts are converted at.
+   *
+   * @return the day of the rates.
+   */
+  public LocalDate getDate() {
+    return date;
+  }
+
+  /**
+   * Tells whether amounts in a currency can be converted.
+   *
+   * @param currency the ISO 4217 code of the currency.
+   * @return true if the currency has a rate.
+   */
+  public boolean canConvert(final String currency) {
+    return ExchangeRates.indexOf(currencies, currency) >= 0;
+  }
+
+  /**
+   * Converts an amount, rounded half even to cents.
+   *
+   * @param currency the ISO 4217 code of the currency of the amount.
+   * @param amount the amount.
+   * @return the amount in the currency of the converter, or null if the amount is null or its currency is unknown or
+   *         has no rate.
+   */
+  public BigDecimal convert(final String currency, final BigDecimal amount) {
+    if (amount == null) {
+      return null;
+    }
+    final int index = ExchangeRates.indexOf(currencies, currency);
+    return index < 0 ? null : amount.multiply(factors[index]).setScale(SCALE, RoundingMode.HALF_EVEN);
+  }
+}
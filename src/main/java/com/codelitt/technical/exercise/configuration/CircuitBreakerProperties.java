@@ -0,0 +1,32 @@
+package com.codelitt.technical.exercise.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings of the circuit breaker and bulkhead guarding the "restcountries.com" API, bound from
+ * {@code api.countries.circuit-breaker.*}.
+ *
+ * @param failureRateThreshold the percentage of failed calls above which the circuit opens.
+ * @param slowCallRateThreshold the percentage of slow calls above which the circuit opens.
+ * @param slowCallDuration the duration above which a call is considered slow.
+ * @param slidingWindowSize the number of most recent calls the rates are computed on.
+ * @param minimumNumberOfCalls the number of calls required before the rates are evaluated.
+ * @param waitDurationInOpenState the time the circuit stays open before letting probe calls through.
+ * @param permittedCallsInHalfOpenState the number of probe calls allowed while half-open.
+ * @param maxConcurrentCalls the maximum number of calls in flight to the API (bulkhead).
+ * @param maxWaitForPermit the maximum time a call waits for a free bulkhead slot.
+ */
+@ConfigurationProperties(prefix = "api.countries.circuit-breaker")
+public record CircuitBreakerProperties(@DefaultValue("50") float failureRateThreshold,
+                                       @DefaultValue("50") float slowCallRateThreshold,
+                                       @DefaultValue("2s") Duration slowCallDuration,
+                                       @DefaultValue("20") int slidingWindowSize,
+                                       @DefaultValue("10") int minimumNumberOfCalls,
+                                       @DefaultValue("30s") Duration waitDurationInOpenState,
+                                       @DefaultValue("1") int permittedCallsInHalfOpenState,
+                                       @DefaultValue("10") int maxConcurrentCalls,
+                                       @DefaultValue("100ms") Duration maxWaitForPermit) {
+}
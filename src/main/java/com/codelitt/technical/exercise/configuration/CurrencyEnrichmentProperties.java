@@ -0,0 +1,27 @@
+package com.codelitt.technical.exercise.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings of the background resolution of member currencies, bound from {@code api.members.enrichment.*}.
+ *
+ * @param enabled whether members are created with a pending currency, resolved in background.
+ * @param pollInterval the delay between two polls of the pending members.
+ * @param batchSize the maximum number of pending members read per poll.
+ * @param workers the number of threads looking currencies up, one country at a time each.
+ * @param maxAttempts the number of failed lookups after which a member is dead-lettered.
+ * @param initialBackoff the delay before the first retry, doubled on each further failure.
+ * @param maxBackoff the maximum delay between two retries.
+ */
+@ConfigurationProperties(prefix = "api.members.enrichment")
+public record CurrencyEnrichmentProperties(@DefaultValue("false") boolean enabled,
+                                           @DefaultValue("PT1S") Duration pollInterval,
+                                           @DefaultValue("500") int batchSize,
+                                           @DefaultValue("4") int workers,
+                                           @DefaultValue("8") int maxAttempts,
+                                           @DefaultValue("PT10S") Duration initialBackoff,
+                                           @DefaultValue("PT1H") Duration maxBackoff) {
+}
@@ -0,0 +1,97 @@
+package com.codelitt.technical.exercise.configuration;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.io.SocketConfig;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.function.ToIntFunction;
+
+/**
+ * Outbound HTTP client stack: a {@link RestTemplate} on top of a pooled, keep-alive Apache HttpClient with connect,
+ * pool lease and response timeouts, so that a slow upstream can never hold a request thread indefinitely.
+ * Automatic retries are disabled: failures are reported to the caller at once and handled by its circuit breaker.
+ */
+@Configuration
+public class HttpClientConfig {
+
+  private static final String POOL_NAME = "outbound";
+
+  @Bean(destroyMethod = "close")
+  public PoolingHttpClientConnectionManager connectionManager(final HttpClientProperties properties) {
+    return PoolingHttpClientConnectionManagerBuilder.create()
+        .setMaxConnTotal(properties.maxConnections())
+        .setMaxConnPerRoute(properties.maxConnectionsPerRoute())
+        .setConnectionTimeToLive(timeValue(properties.connectionTimeToLive()))
+        .setDefaultSocketConfig(SocketConfig.custom()
+            .setSoTimeout(timeout(properties.responseTimeout()))
+            .build())
+        .build();
+  }
+
+  @Bean(destroyMethod = "close")
+  public CloseableHttpClient httpClient(final PoolingHttpClientConnectionManager connectionManager, final HttpClientProperties properties) {
+    return HttpClients.custom()
+        .setConnectionManager(connectionManager)
+        .setDefaultRequestConfig(RequestConfig.custom()
+            .setConnectTimeout(timeout(properties.connectTimeout()))
+            .setConnectionRequestTimeout(timeout(properties.connectionRequestTimeout()))
+            .setResponseTimeout(timeout(properties.responseTimeout()))
+            .build())
+        .disableAutomaticRetries()
+        .evictExpiredConnections()
+        .evictIdleConnections(timeValue(properties.idleTimeout()))
+        .build();
+  }
+
+  @Bean
+  public RestTemplate restTemplate(final CloseableHttpClient httpClient) {
+    return new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+  }
+
+  /**
+   * Exposes the state of the connection pool as the {@code http.client.pool.*} gauges.
+   *
+   * @param connectionManager the pooled connection manager.
+   * @return the binder registering the gauges.
+   */
+  @Bean
+  public MeterBinder connectionPoolMetrics(final PoolingHttpClientConnectionManager connectionManager) {
+    return registry -> {
+      gauge(registry, connectionManager, "http.client.pool.leased", "Connections currently leased from the pool", PoolStats::getLeased);
+      gauge(registry, connectionManager, "http.client.pool.pending", "Requests waiting for a connection", PoolStats::getPending);
+      gauge(registry, connectionManager, "http.client.pool.available", "Idle connections available in the pool", PoolStats::getAvailable);
+      gauge(registry, connectionManager, "http.client.pool.max", "Maximum number of connections in the pool", PoolStats::getMax);
+    };
+  }
+
+  private static void gauge(final MeterRegistry registry, final PoolingHttpClientConnectionManager connectionManager,
+                            final String name, final String description, final ToIntFunction<PoolStats> value) {
+    Gauge.builder(name, connectionManager, manager -> value.applyAsInt(manager.getTotalStats()))
+        .description(description)
+        .tag("pool", POOL_NAME)
+        .register(registry);
+  }
+
+  private static Timeout timeout(final Duration duration) {
+    return Timeout.ofMilliseconds(duration.toMillis());
+  }
+
+  private static TimeValue timeValue(final Duration duration) {
+    return TimeValue.ofMilliseconds(duration.toMillis());
+  }
+}
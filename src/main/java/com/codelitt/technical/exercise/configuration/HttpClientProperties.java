@@ -0,0 +1,27 @@
+package com.codelitt.technical.exercise.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings of the pooled HTTP client used for outbound calls, bound from {@code api.http-client.*}.
+ *
+ * @param maxConnections the maximum number of connections in the pool.
+ * @param maxConnectionsPerRoute the maximum number of connections to a single host.
+ * @param connectTimeout the timeout for establishing a connection.
+ * @param connectionRequestTimeout the timeout for leasing a connection from the pool.
+ * @param responseTimeout the timeout for receiving the response once the request is sent (socket read timeout).
+ * @param connectionTimeToLive the maximum lifetime of a pooled connection.
+ * @param idleTimeout the idle time after which a pooled connection is evicted.
+ */
+@ConfigurationProperties(prefix = "api.http-client")
+public record HttpClientProperties(@DefaultValue("50") int maxConnections,
+                                   @DefaultValue("20") int maxConnectionsPerRoute,
+                                   @DefaultValue("2s") Duration connectTimeout,
+                                   @DefaultValue("1s") Duration connectionRequestTimeout,
+                                   @DefaultValue("5s") Duration responseTimeout,
+                                   @DefaultValue("5m") Duration connectionTimeToLive,
+                                   @DefaultValue("30s") Duration idleTimeout) {
+}
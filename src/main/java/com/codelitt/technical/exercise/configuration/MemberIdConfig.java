@@ -0,0 +1,22 @@
+package com.codelitt.technical.exercise.configuration;
+
+import com.codelitt.technical.exercise.model.base.PooledSequenceGenerator;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hands the id allocation size ({@code api.members.id.allocation-size}) over to Hibernate, where
+ * {@link PooledSequenceGenerator} reads it. It must be equal to the increment of {@code member_id_seq}
+ * (see {@code db_scripts/create_member.sql}).
+ */
+@Configuration
+public class MemberIdConfig {
+
+  @Bean
+  public HibernatePropertiesCustomizer memberIdAllocationSize(@Value("${api.members.id.allocation-size:50}") final int allocationSize) {
+    return properties -> properties.put(PooledSequenceGenerator.ALLOCATION_SIZE_SETTING, allocationSize);
+  }
+}
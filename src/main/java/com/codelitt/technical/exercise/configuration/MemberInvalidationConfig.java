@@ -0,0 +1,22 @@
+package com.codelitt.technical.exercise.configuration;
+
+import com.codelitt.technical.exercise.cache.LocalMemberInvalidationBus;
+import com.codelitt.technical.exercise.cache.MemberInvalidationBus;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Falls back to the in-JVM {@link LocalMemberInvalidationBus} when no other {@link MemberInvalidationBus} is declared,
+ * so that a multi-instance deployment replaces it by declaring a bus backed by a shared broker.
+ */
+@Configuration
+public class MemberInvalidationConfig {
+
+  @Bean
+  @ConditionalOnMissingBean(MemberInvalidationBus.class)
+  public MemberInvalidationBus localMemberInvalidationBus() {
+    return new LocalMemberInvalidationBus();
+  }
+}
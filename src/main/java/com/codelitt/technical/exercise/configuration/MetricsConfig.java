@@ -0,0 +1,22 @@
+package com.codelitt.technical.exercise.configuration;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Metrics not provided by the actuator auto-configuration. HTTP endpoints ({@code http.server.requests}), repository
+ * queries ({@code spring.data.repository.invocations}), the Hikari pool ({@code hikaricp.*}) and the JVM
+ * ({@code jvm.gc.*}, {@code jvm.memory.*}) are instrumented by Spring Boot; this adds the support for
+ * {@link io.micrometer.core.annotation.Timed} on beans, used to time the service methods.
+ */
+@Configuration
+public class MetricsConfig {
+
+  @Bean
+  public TimedAspect timedAspect(final MeterRegistry registry) {
+    return new TimedAspect(registry);
+  }
+}
@@ -0,0 +1,96 @@
+package com.codelitt.technical.exercise.configuration;
+
+import io.netty.channel.ChannelOption;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+
+import com.codelitt.technical.exercise.cache.CountryInfoCache;
+import com.codelitt.technical.exercise.mapper.MemberMapper;
+import com.codelitt.technical.exercise.reactive.ReactiveCountryInfoClient;
+import com.codelitt.technical.exercise.reactive.ReactiveMemberHandler;
+import com.codelitt.technical.exercise.reactive.ReactiveMemberRepository;
+import com.codelitt.technical.exercise.reactive.ReactiveMemberServer;
+import com.codelitt.technical.exercise.resilience.CountryApiGuard;
+import com.codelitt.technical.exercise.validation.MemberValidator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * The reactive member write path, started with {@code api.members.reactive.enabled=true}: a WebFlux router on a
+ * Netty server of its own ({@code api.members.reactive.port}), looking currencies up with a {@link WebClient} and
+ * inserting with R2DBC, so that a few event loop threads serve many concurrent creations while a slow upstream holds
+ * calls open. The outbound connections follow the same {@code api.http-client.*} limits as the blocking client.
+ */
+@Configuration
+@ConditionalOnProperty(name = "api.members.reactive.enabled", havingValue = "true")
+public class ReactiveMemberConfig {
+
+  @Bean(destroyMethod = "dispose")
+  public ConnectionProvider reactiveConnectionProvider(final HttpClientProperties properties) {
+    return ConnectionProvider.builder("outbound-reactive")
+        .maxConnections(properties.maxConnectionsPerRoute())
+        .pendingAcquireTimeout(properties.connectionRequestTimeout())
+        .maxIdleTime(properties.idleTimeout())
+        .maxLifeTime(properties.connectionTimeToLive())
+        .build();
+  }
+
+  @Bean
+  public ReactiveCountryInfoClient reactiveCountryInfoClient(final WebClient.Builder webClientBuilder, final ConnectionProvider reactiveConnectionProvider,
+                                                             final HttpClientProperties properties, final CountryInfoCache cache,
+                                                             final CountryApiGuard guard, @Value("${api.countries.url}") final String baseUrl) {
+    var httpClient = HttpClient.create(reactiveConnectionProvider)
+        .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.connectTimeout().toMillis())
+        .responseTimeout(properties.responseTimeout());
+    var webClient = webClientBuilder.clone()
+        .baseUrl(baseUrl)
+        .clientConnector(new ReactorClientHttpConnector(httpClient))
+        .build();
+    return new ReactiveCountryInfoClient(webClient, cache, guard);
+  }
+
+  @Bean(destroyMethod = "close")
+  public ReactiveMemberRepository reactiveMemberRepository(final ReactiveMemberProperties properties,
+                                                           @Value("${api.members.id.allocation-size:50}") final int allocationSize) {
+    var options = ConnectionFactoryOptions.parse(properties.url()).mutate()
+        .option(ConnectionFactoryOptions.USER, properties.username())
+        .option(ConnectionFactoryOptions.PASSWORD, properties.password())
+        .build();
+    var pool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+        .maxSize(properties.maxConnections())
+        .build());
+    return new ReactiveMemberRepository(pool, allocationSize);
+  }
+
+  @Bean
+  public ReactiveMemberHandler reactiveMemberHandler(final ReactiveCountryInfoClient reactiveCountryInfoClient,
+                                                     final ReactiveMemberRepository reactiveMemberRepository,
+                                                     final MemberMapper memberMapper, final MemberValidator memberValidator) {
+    return new ReactiveMemberHandler(reactiveCountryInfoClient, reactiveMemberRepository, memberMapper, memberValidator);
+  }
+
+  @Bean
+  public ReactiveMemberServer reactiveMemberServer(final ReactiveMemberHandler reactiveMemberHandler, final ObjectMapper objectMapper,
+                                                   final ReactiveMemberProperties properties) {
+    var strategies = HandlerStrategies.builder()
+        .codecs(codecs -> {
+          codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+          codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+        })
+        .build();
+    return new ReactiveMemberServer(reactiveMemberHandler.routes(), strategies, properties.port());
+  }
+}
@@ -0,0 +1,23 @@
+package com.codelitt.technical.exercise.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings of the reactive member write path, bound from {@code api.members.reactive.*}.
+ *
+ * @param enabled whether the reactive server is started.
+ * @param port the port of the reactive server, next to the one of the servlet server.
+ * @param url the R2DBC URL of the database of the members, e.g. {@code r2dbc:postgresql://localhost:5432/codelitt}.
+ * @param username the database user.
+ * @param password the database password.
+ * @param maxConnections the maximum number of connections of the R2DBC pool.
+ */
+@ConfigurationProperties(prefix = "api.members.reactive")
+public record ReactiveMemberProperties(@DefaultValue("false") boolean enabled,
+                                       @DefaultValue("8081") int port,
+                                       @DefaultValue("r2dbc:postgresql://localhost:5432/codelitt") String url,
+                                       @DefaultValue("postgres") String username,
+                                       @DefaultValue("postgres") String password,
+                                       @DefaultValue("20") int maxConnections) {
+}
@@ -0,0 +1,66 @@
+package com.codelitt.technical.exercise.configuration;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.apache.coyote.ProtocolHandler;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Opt-in execution of the requests on virtual threads, enabled with {@code spring.threads.virtual.enabled=true}
+ * (the property Spring Boot 3.2 reads for the same purpose). Tomcat then runs each request, and the blocking calls it
+ * makes to the database and to "restcountries.com", on its own virtual thread instead of a thread of its bounded pool,
+ * and the asynchronous request processing (e.g. the streamed exports) runs on virtual threads too.
+ * Virtual threads need a Java 21 runtime: build with the {@code java21} profile. The default build targets Java 17,
+ * so the executor is looked up reflectively and the application fails to start if the runtime does not provide it.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+  @Bean(destroyMethod = "shutdown")
+  public ExecutorService virtualThreadExecutor() {
+    log.info("Requests are executed on virtual threads");
+    return newVirtualThreadPerTaskExecutor();
+  }
+
+  @Bean
+  public TomcatProtocolHandlerCustomizer<ProtocolHandler> virtualThreadProtocolHandlerCustomizer(final ExecutorService virtualThreadExecutor) {
+    return protocolHandler -> protocolHandler.setExecutor(virtualThreadExecutor);
+  }
+
+  /**
+   * Replaces the pooled executor of the asynchronous request processing with the virtual thread executor.
+   *
+   * @param virtualThreadExecutor the executor starting a virtual thread per task.
+   * @return the executor of the asynchronous request processing.
+   */
+  @Bean(name = TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+  public AsyncTaskExecutor applicationTaskExecutor(final ExecutorService virtualThreadExecutor) {
+    return new TaskExecutorAdapter(virtualThreadExecutor);
+  }
+
+  /**
+   * Returns {@code Executors.newVirtualThreadPerTaskExecutor()}, which does not exist before Java 21.
+   *
+   * @return an executor starting a new virtual thread for each task.
+   * @throws IllegalStateException if the runtime does not support virtual threads.
+   */
+  static ExecutorService newVirtualThreadPerTaskExecutor() {
+    try {
+      return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    } catch (final NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException("Virtual threads require a Java 21 runtime, this one is Java " + Runtime.version().feature(), e);
+    }
+  }
+}
@@ -4,26 +4,63 @@ import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 
+import com.codelitt.technical.exercise.cache.SalaryConverter;
 import com.codelitt.technical.exercise.controller.base.BaseRESTController;
 import com.codelitt.technical.exercise.dto.MemberDTO;
+import com.codelitt.technical.exercise.dto.batch.MemberBatchResult;
+import com.codelitt.technical.exercise.dto.filter.MemberFilter;
+import com.codelitt.technical.exercise.dto.page.CursorPage;
+import com.codelitt.technical.exercise.dto.page.OffsetPage;
+import com.codelitt.technical.exercise.dto.payroll.PayrollGroup;
+import com.codelitt.technical.exercise.dto.search.MemberNameMatch;
+import com.codelitt.technical.exercise.dto.tag.TagSearchPage;
+import com.codelitt.technical.exercise.enums.CurrencyStatus;
+import com.codelitt.technical.exercise.enums.ExportFormat;
+import com.codelitt.technical.exercise.enums.MemberSortField;
+import com.codelitt.technical.exercise.enums.MemberType;
+import com.codelitt.technical.exercise.enums.PayrollDimension;
+import com.codelitt.technical.exercise.enums.TagMatch;
 import com.codelitt.technical.exercise.exception.ApiException;
+import com.codelitt.technical.exercise.exception.InvalidRequestException;
 import com.codelitt.technical.exercise.exception.ServiceException;
+import com.codelitt.technical.exercise.exception.VersionConflictException;
+import com.codelitt.technical.exercise.service.ExchangeRateService;
+import com.codelitt.technical.exercise.service.MemberBatchService;
+import com.codelitt.technical.exercise.service.MemberExportService;
+import com.codelitt.technical.exercise.service.MemberSearchService;
 import com.codelitt.technical.exercise.service.MemberService;
+import com.codelitt.technical.exercise.service.MemberTagService;
+import com.codelitt.technical.exercise.service.PayrollService;
+import com.fasterxml.jackson.databind.JsonNode;
 
+import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Validated
@@ -31,44 +68,86 @@ import java.util.List;
 @RequestMapping("/api/members")
 public class MemberController extends BaseRESTController {
 
+  private static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+
   private final MemberService memberService;
+  private final MemberExportService memberExportService;
+  private final MemberBatchService memberBatchService;
+  private final MemberTagService memberTagService;
+  private final PayrollService payrollService;
+  private final ExchangeRateService exchangeRateService;
+  private final MemberSearchService memberSearchService;
 
   @Autowired
-  public MemberController(final MemberService memberService) {
+  public MemberController(final MemberService memberService, final MemberExportService memberExportService,
+                          final MemberBatchService memberBatchService, final MemberTagService memberTagService,
+                          final PayrollService payrollService, final ExchangeRateService exchangeRateService,
+                          final MemberSearchService memberSearchService) {
     this.memberService = memberService;
+    this.memberExportService = memberExportService;
+    this.memberBatchService = memberBatchService;
+    this.memberTagService = memberTagService;
+    this.payrollService = payrollService;
+    this.exchangeRateService = exchangeRateService;
+    this.memberSearchService = memberSearchService;
   }
 
   /**
    * Creates a new Member.
    *
    * @param member the Member data to create.
-   * @return a ResponseEntity with the created Member and HTTP status CREATED.
+   * @return a ResponseEntity with the created Member and HTTP status CREATED, or HTTP status ACCEPTED if its currency
+   *         is still to be resolved in background.
    *         In case of error, returns a ResponseEntity with HTTP status INTERNAL_SERVER_ERROR.
    */
   @PostMapping
   public ResponseEntity<MemberDTO> create(@Valid @RequestBody final MemberDTO member) throws ApiException {
     try {
       final MemberDTO createdMember = memberService.create(member);
-      return new ResponseEntity<>(createdMember, HttpStatus.CREATED);
+      return new ResponseEntity<>(createdMember,
+          createdMember.getCurrencyStatus() == CurrencyStatus.PENDING ? HttpStatus.ACCEPTED : HttpStatus.CREATED);
     } catch (final ServiceException e) {
       log.error("Error creating Member: {}", e.getMessage(), e);
       throw new ApiException("Error creating Member: {}", e);
     }
   }
 
+  /**
+   * Creates a batch of Members. Every member is validated first; the valid ones are created and the invalid ones are
+   * reported with the reason, so that one invalid member does not reject the whole batch.
+   *
+   * @param members the Members to create.
+   * @return a ResponseEntity with the outcome of each member and HTTP status CREATED if all of them were created,
+   *         MULTI_STATUS otherwise.
+   */
+  @PostMapping("/batch")
+  public ResponseEntity<MemberBatchResult> createAll(@RequestBody final List<MemberDTO> members) {
+    final MemberBatchResult result = memberBatchService.createAll(members);
+    return new ResponseEntity<>(result, result.failed() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS);
+  }
+
   /**
    * Updates a Member by its id.
    *
    * @param id the id of the Member to update.
    * @param member the Member data to update.
-   * @return a ResponseEntity with the updated Member and HTTP status OK.
+   * @param ifMatch the ETag of the version of the Member the update is based on, if the update must fail when the
+   *                Member was updated since; "*" or absent to update whatever its version.
+   * @return a ResponseEntity with the updated Member, its new ETag and HTTP status OK.
+   *         If the Member is no longer at the version given in If-Match, returns a ResponseEntity with HTTP status
+   *         PRECONDITION_FAILED; if it was updated concurrently without If-Match, with HTTP status CONFLICT.
    *         In case of error or if the Member with the given id was not found, returns a ResponseEntity with HTTP status INTERNAL_SERVER_ERROR.
    */
   @PutMapping("/{id}")
-  public ResponseEntity<MemberDTO> update(@PathVariable final Long id, @Valid @RequestBody final MemberDTO member) {
+  public ResponseEntity<MemberDTO> update(@PathVariable final Long id, @Valid @RequestBody final MemberDTO member,
+                                          @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) final String ifMatch) {
+    final Long expectedVersion = versionOf(ifMatch);
     try {
-      final MemberDTO updatedMember = memberService.update(id, member);
-      return new ResponseEntity<>(updatedMember, HttpStatus.OK);
+      final MemberDTO updatedMember = memberService.update(id, member, expectedVersion);
+      return ResponseEntity.ok().eTag(etag(updatedMember.getVersion())).body(updatedMember);
+    } catch (final VersionConflictException e) {
+      log.warn("Conflict updating Member with id: {} - {}", id, e.getMessage());
+      return new ResponseEntity<>(e.getExpectedVersion() != null ? HttpStatus.PRECONDITION_FAILED : HttpStatus.CONFLICT);
     } catch (ServiceException | EntityNotFoundException e) {
       log.error("Error updating Member with id: {} - {}", id, e.getMessage(), e);
       return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
@@ -76,30 +155,224 @@ public class MemberController extends BaseRESTController {
   }
 
   /**
-   * Retrieves a Member by its id.
+   * Partially updates a Member by its id with a JSON Merge Patch document: only the fields present in the document are
+   * changed, a null value clears a field and the tags, if present, replace the current ones.
+   *
+   * @param id the id of the Member to update.
+   * @param patch the JSON Merge Patch document.
+   * @param ifMatch the ETag of the version of the Member the patch is based on, if the patch must fail when the
+   *                Member was updated since; "*" or absent to patch whatever its version.
+   * @return a ResponseEntity with the updated Member, its new ETag and HTTP status OK.
+   *         If the Member is no longer at the version given in If-Match, returns a ResponseEntity with HTTP status
+   *         PRECONDITION_FAILED; if it was updated concurrently without If-Match, with HTTP status CONFLICT.
+   *         In case of error or if the Member with the given id was not found, returns a ResponseEntity with HTTP status INTERNAL_SERVER_ERROR.
+   */
+  @PatchMapping(value = "/{id}", consumes = MERGE_PATCH_JSON_VALUE)
+  public ResponseEntity<MemberDTO> patch(@PathVariable final Long id, @RequestBody final JsonNode patch,
+                                         @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) final String ifMatch) {
+    final Long expectedVersion = versionOf(ifMatch);
+    try {
+      final MemberDTO updatedMember = memberService.patch(id, patch, expectedVersion);
+      return ResponseEntity.ok().eTag(etag(updatedMember.getVersion())).body(updatedMember);
+    } catch (final VersionConflictException e) {
+      log.warn("Conflict patching Member with id: {} - {}", id, e.getMessage());
+      return new ResponseEntity<>(e.getExpectedVersion() != null ? HttpStatus.PRECONDITION_FAILED : HttpStatus.CONFLICT);
+    } catch (ServiceException | EntityNotFoundException e) {
+      log.error("Error patching Member with id: {} - {}", id, e.getMessage(), e);
+      return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+  }
+
+  /**
+   * Retrieves a Member by its id. The response carries the version of the Member as its ETag; when the request
+   * carries it back in If-None-Match, the version alone is read and compared, and the Member is not sent again if
+   * it did not change.
    *
    * @param id the id of the Member to retrieve.
-   * @return a ResponseEntity with the found Member and HTTP status OK.
+   * @param request the request, for its conditional headers.
+   * @return a ResponseEntity with the found Member, its ETag and HTTP status OK, or null once the response was
+   *         completed with HTTP status NOT_MODIFIED.
    *         In case the Member with the given id was not found, returns a ResponseEntity with HTTP status NOT_FOUND.
    */
   @GetMapping("/{id}")
-  public ResponseEntity<MemberDTO> findById(@PathVariable final Long id) {
-      final MemberDTO foundMember = memberService.findById(id);
-      return new ResponseEntity<>(foundMember, HttpStatus.OK);
+  public ResponseEntity<MemberDTO> findById(@PathVariable final Long id, final WebRequest request) {
+    if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null && request.checkNotModified(etag(memberService.findVersion(id)))) {
+      return null;
+    }
+    final MemberDTO foundMember = memberService.findById(id);
+    return ResponseEntity.ok().eTag(etag(foundMember.getVersion())).body(foundMember);
   }
 
   /**
-   * Retrieves a list of all members by calling the `findAllMembers` method from the `memberService` and returns it as a response with an HTTP status of OK.
+   * Retrieves a page of members using keyset pagination, optionally filtered. The first page is requested without a
+   * cursor; each page returns the cursor of the next one, which is null once the last page is reached. The filters
+   * must be repeated with the cursor. The response carries the version of the page, digested from the members read
+   * for it, as its ETag; when the request carries it back in If-None-Match, the version alone is read and compared,
+   * and the page is not sent again if it did not change.
    *
-   * @return a response entity containing a list of MemberDTO objects representing all members and an HTTP status of OK
+   * @param cursor the cursor returned with the previous page, or absent for the first page.
+   * @param size the maximum number of members of the page, capped to the configured maximum page size.
+   * @param sort the field to sort on: "id" (default) or "createdAt".
+   * @param direction the direction of the sort: "asc" (default) or "desc".
+   * @param country the country of the members, or absent for any country.
+   * @param type the type of the members: "employee" or "contractor", or absent for both.
+   * @param currency the currency of the members, or absent for any currency.
+   * @param minSalary the lowest salary, inclusive.
+   * @param maxSalary the highest salary, inclusive.
+   * @param minContractDuration the shortest contract duration, inclusive; only matches contractors.
+   * @param maxContractDuration the longest contract duration, inclusive; only matches contractors.
+   * @param createdFrom the earliest creation date, ISO formatted, inclusive.
+   * @param createdTo the latest creation date, ISO formatted, inclusive.
+   * @param salaryCurrency the ISO 4217 code of a currency to also return the salaries in, at today's exchange rates,
+   *                       or absent.
+   * @param request the request, for its conditional headers.
+   * @return a response entity containing the page of members and the cursor of the next page, the version of the page
+   *         as ETag and an HTTP status of OK, or null once the response was completed with HTTP status NOT_MODIFIED
+   *         because the page did not change since the version given in If-None-Match
    * @throws ServiceException if there is an error retrieving the members from the memberService
    */
   @GetMapping
-  public ResponseEntity<List<MemberDTO>> findAllMembers() throws ServiceException {
-    final List<MemberDTO> foundMembers = memberService.findAllMembers();
+  public ResponseEntity<CursorPage<MemberDTO>> findMembers(@RequestParam(required = false) final String cursor,
+                                                           @RequestParam(required = false) final Integer size,
+                                                           @RequestParam(required = false) final String sort,
+                                                           @RequestParam(required = false) final String direction,
+                                                           @RequestParam(required = false) final String country,
+                                                           @RequestParam(required = false) final String type,
+                                                           @RequestParam(required = false) final String currency,
+                                                           @RequestParam(required = false) final BigDecimal minSalary,
+                                                           @RequestParam(required = false) final BigDecimal maxSalary,
+                                                           @RequestParam(required = false) final Integer minContractDuration,
+                                                           @RequestParam(required = false) final Integer maxContractDuration,
+                                                           @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                                                           final LocalDateTime createdFrom,
+                                                           @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                                                           final LocalDateTime createdTo,
+                                                           @RequestParam(required = false) final String salaryCurrency,
+                                                           final WebRequest request) throws ServiceException {
+    final MemberSortField sortField = sort == null ? null : MemberSortField.fromValue(sort);
+    final Sort.Direction sortDirection = direction == null ? null : directionOf(direction);
+    final MemberFilter filter = new MemberFilter(StringUtils.trimToNull(country),
+        StringUtils.isBlank(type) ? null : MemberType.fromValue(type.trim()), StringUtils.trimToNull(currency),
+        minSalary, maxSalary, minContractDuration, maxContractDuration, createdFrom, createdTo);
+    final SalaryConverter converter = converterTo(salaryCurrency);
+    // the normalized salaries change with the rates as well
+    final String rates = converter == null ? "" : "-" + converter.getCurrency() + "-" + converter.getDate();
+    if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+        && request.checkNotModified(etag(memberService.findMembersVersion(filter, cursor, size, sortField, sortDirection) + rates))) {
+      return null;
+    }
+    final CursorPage<MemberDTO> foundMembers = memberService.findMembers(filter, cursor, size, sortField, sortDirection);
+    normalize(foundMembers.items(), converter);
+    return ResponseEntity.ok().eTag(etag(foundMembers.version() + rates)).body(foundMembers);
+  }
+
+  /**
+   * Retrieves a page of the members tagged with all or any of the given tags, sorted by id, with the number of members
+   * of each tag. Tags are compared ignoring case and surrounding whitespace.
+   *
+   * @param tags the tags to search, comma separated.
+   * @param match "all" (default) to find the members tagged with all the tags, "any" with any of them.
+   * @param cursor the cursor returned with the previous page, or absent for the first page.
+   * @param size the maximum number of members of the page, capped to the configured maximum page size.
+   * @param salaryCurrency the ISO 4217 code of a currency to also return the salaries in, at today's exchange rates,
+   *                       or absent.
+   * @return a response entity containing the page of members, the cursor of the next page and the cardinality of the
+   *         tags, from the rarest to the most common, and an HTTP status of OK
+   * @throws ServiceException if there is an error searching the members
+   */
+  @GetMapping(params = "tags")
+  public ResponseEntity<TagSearchPage<MemberDTO>> findMembersByTags(@RequestParam final List<String> tags,
+                                                                    @RequestParam(defaultValue = "all") final String match,
+                                                                    @RequestParam(required = false) final String cursor,
+                                                                    @RequestParam(required = false) final Integer size,
+                                                                    @RequestParam(required = false) final String salaryCurrency) throws ServiceException {
+    final SalaryConverter converter = converterTo(salaryCurrency);
+    final TagSearchPage<MemberDTO> foundMembers = memberTagService.findMembersByTags(tags, TagMatch.fromValue(match), cursor, size);
+    normalize(foundMembers.items(), converter);
+    return new ResponseEntity<>(foundMembers, HttpStatus.OK);
+  }
+
+  /**
+   * Searches the members by name as it is typed, for a type-ahead list. The members whose first and last names start
+   * with the words typed come first; when there are not enough of them, the members with a similar name follow, so
+   * that a misspelled name is still found.
+   *
+   * @param q the name searched, e.g. "john d" or "doe j", in any case.
+   * @param limit the maximum number of members to return, capped to the configured maximum.
+   * @return a response entity containing the members found, from the most to the least relevant, with their id, names,
+   *         role and country only, and an HTTP status of OK
+   * @throws ServiceException if there is an error searching the members
+   */
+  @GetMapping("/search")
+  public ResponseEntity<List<MemberNameMatch>> searchByName(@RequestParam final String q,
+                                                            @RequestParam(required = false) final Integer limit) throws ServiceException {
+    return new ResponseEntity<>(memberSearchService.searchByName(q, limit), HttpStatus.OK);
+  }
+
+  /**
+   * Retrieves a page of members by its index, sorted by id, with the total number of members and pages.
+   *
+   * @param page the zero-based index of the page.
+   * @param size the maximum number of members of the page, capped to the configured maximum page size.
+   * @param salaryCurrency the ISO 4217 code of a currency to also return the salaries in, at today's exchange rates,
+   *                       or absent.
+   * @return a response entity containing the page of members and an HTTP status of OK
+   * @throws ServiceException if there is an error retrieving the members from the memberService
+   */
+  @GetMapping("/page")
+  public ResponseEntity<OffsetPage<MemberDTO>> findMembersPage(@RequestParam(defaultValue = "0") final int page,
+                                                               @RequestParam(required = false) final Integer size,
+                                                               @RequestParam(required = false) final String salaryCurrency) throws ServiceException {
+    final SalaryConverter converter = converterTo(salaryCurrency);
+    final OffsetPage<MemberDTO> foundMembers = memberService.findMembersPage(page, size);
+    normalize(foundMembers.items(), converter);
     return new ResponseEntity<>(foundMembers, HttpStatus.OK);
   }
 
+  /**
+   * Retrieves the payroll of the members by group: the number of members and the sum, minimum, maximum and mean of
+   * their salaries. The payroll is read from rollups kept up to date by the member writes, so that its cost depends on
+   * the number of groups and not on the number of members; members whose currency is not resolved are not part of it.
+   *
+   * @param groupBy the dimensions to group by, comma separated among "country", "currency" and "type"; all of them if absent.
+   * @param salaryCurrency the ISO 4217 code of a currency to convert the salary figures to, at today's exchange rates,
+   *                       so that groups paid in several currencies add up; absent to keep the currency of the members.
+   * @return a response entity containing the payroll of each group, sorted by country, currency and type, and an
+   *         HTTP status of OK
+   * @throws ServiceException if there is an error reading the payroll or converting its salary figures
+   */
+  @GetMapping("/payroll")
+  public ResponseEntity<List<PayrollGroup>> findPayroll(@RequestParam(required = false) final List<String> groupBy,
+                                                        @RequestParam(required = false) final String salaryCurrency) throws ServiceException {
+    final Set<PayrollDimension> dimensions = groupBy == null ? Set.of() : groupBy.stream()
+        .map(PayrollDimension::fromValue)
+        .collect(Collectors.toCollection(() -> EnumSet.noneOf(PayrollDimension.class)));
+    return new ResponseEntity<>(payrollService.findPayroll(dimensions, converterTo(salaryCurrency)), HttpStatus.OK);
+  }
+
+  /**
+   * Streams all the members, as newline-delimited JSON (default) or CSV. The rows are written to the response as they
+   * are read from the database, so the export does not hold the members in memory.
+   *
+   * @param format the format of the export: "ndjson" (default) or "csv".
+   * @param salaryCurrency the ISO 4217 code of a currency to also write the salaries in, at today's exchange rates,
+   *                       or absent.
+   * @return a response entity streaming the members as an attachment, with an HTTP status of OK
+   * @throws ServiceException if the exchange rates cannot be retrieved
+   */
+  @GetMapping("/export")
+  public ResponseEntity<StreamingResponseBody> export(@RequestParam(defaultValue = "ndjson") final String format,
+                                                      @RequestParam(required = false) final String salaryCurrency) throws ServiceException {
+    final ExportFormat exportFormat = ExportFormat.fromValue(format);
+    // resolved before the response starts, so that an unsupported currency is still answered with an error status
+    final SalaryConverter converter = converterTo(salaryCurrency);
+    final StreamingResponseBody body = outputStream -> memberExportService.export(exportFormat, converter, outputStream);
+    return ResponseEntity.ok()
+        .contentType(exportFormat.getMediaType())
+        .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=members." + exportFormat.getExtension())
+        .body(body);
+  }
+
   /**
    * Deletes a Member by its id.
    *
@@ -112,4 +385,48 @@ public class MemberController extends BaseRESTController {
     memberService.deleteById(id);
     return ResponseEntity.noContent().build();
   }
+
+  private SalaryConverter converterTo(final String salaryCurrency) throws ServiceException {
+    return StringUtils.isBlank(salaryCurrency) ? null : exchangeRateService.converterTo(salaryCurrency);
+  }
+
+  /**
+   * Sets the normalized salary of members mapped for this response, never of cached ones: the DTOs are changed in place.
+   */
+  private static void normalize(final List<MemberDTO> members, final SalaryConverter converter) {
+    if (converter == null) {
+      return;
+    }
+    for (final MemberDTO member : members) {
+      final BigDecimal normalizedSalary = converter.convert(member.getCurrency(), member.getSalary());
+      if (normalizedSalary != null) {
+        member.setNormalizedSalary(normalizedSalary);
+        member.setNormalizedCurrency(converter.getCurrency());
+      }
+    }
+  }
+
+  private static String etag(final Object version) {
+    return "\"" + version + "\"";
+  }
+
+  private static Sort.Direction directionOf(final String direction) {
+    return Sort.Direction.fromOptionalString(direction.trim())
+        .orElseThrow(() -> new InvalidRequestException("Unsupported sort direction: " + direction + ". Supported values: asc, desc"));
+  }
+
+  private static Long versionOf(final String ifMatch) {
+    if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+      return null;
+    }
+    final String etag = ifMatch.trim();
+    if (etag.length() > 2 && etag.startsWith("\"") && etag.endsWith("\"")) {
+      try {
+        return Long.valueOf(etag.substring(1, etag.length() - 1));
+      } catch (final NumberFormatException e) {
+        // not an ETag of this API, rejected below
+      }
+    }
+    throw new InvalidRequestException("If-Match must be the ETag of a version of the member: " + ifMatch);
+  }
 }
@@ -10,7 +10,10 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import com.codelitt.technical.exercise.enums.CurrencyStatus;
 import com.codelitt.technical.exercise.enums.MemberType;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
 
 import java.io.Serializable;
 import java.math.BigDecimal;
@@ -46,4 +49,22 @@ public class MemberDTO implements Serializable {
   @NotBlank(message = "Country must not be blank")
   private String country;
 
+  @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+  private Long version;
+
+  @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+  private CurrencyStatus currencyStatus;
+
+  @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+  private String currency;
+
+  // the salary converted to the currency asked for with salaryCurrency, only set when it was asked for
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+  private BigDecimal normalizedSalary;
+
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+  private String normalizedCurrency;
+
 }
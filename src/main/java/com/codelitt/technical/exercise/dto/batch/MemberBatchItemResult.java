@@ -0,0 +1,22 @@
+package com.codelitt.technical.exercise.dto.batch;
+
+import com.codelitt.technical.exercise.enums.BatchItemStatus;
+
+/**
+ * The outcome of one member of a batch.
+ *
+ * @param index the position of the member in the batch.
+ * @param id the id of the created member, or null if it was not created.
+ * @param status whether the member was created.
+ * @param error the reason why the member was not created, or null if it was.
+ */
+public record MemberBatchItemResult(int index, Long id, BatchItemStatus status, String error) {
+
+  public static MemberBatchItemResult created(final int index, final Long id) {
+    return new MemberBatchItemResult(index, id, BatchItemStatus.CREATED, null);
+  }
+
+  public static MemberBatchItemResult failed(final int index, final String error) {
+    return new MemberBatchItemResult(index, null, BatchItemStatus.FAILED, error);
+  }
+}
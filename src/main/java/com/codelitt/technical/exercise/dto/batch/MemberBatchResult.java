@@ -0,0 +1,13 @@
+package com.codelitt.technical.exercise.dto.batch;
+
+import java.util.List;
+
+/**
+ * The outcome of a batch of members, item by item, in the order of the request.
+ *
+ * @param created the number of members created.
+ * @param failed the number of members not created.
+ * @param items the outcome of each member.
+ */
+public record MemberBatchResult(int created, int failed, List<MemberBatchItemResult> items) {
+}
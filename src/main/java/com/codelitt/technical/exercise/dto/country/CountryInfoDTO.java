@@ -8,6 +8,7 @@ import lombok.Setter;
 
 import java.io.Serializable;
 import java.util.LinkedHashMap;
+import java.util.List;
 
 @Setter
 @Getter
@@ -17,5 +18,6 @@ import java.util.LinkedHashMap;
 public class CountryInfoDTO implements Serializable {
 
   private CountryName name;
+  private List<String> altSpellings;
   private transient LinkedHashMap<String, Object> currencies;
 }
@@ -0,0 +1,58 @@
+package com.codelitt.technical.exercise.dto.filter;
+
+import com.codelitt.technical.exercise.enums.MemberType;
+import com.codelitt.technical.exercise.exception.InvalidRequestException;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Criteria a page of members is filtered on; every criterion is optional, the members must match all the ones given.
+ * Ranges are inclusive and may be open on either side.
+ *
+ * @param country the country of the members, compared as stored (capitalized).
+ * @param type the type of the members.
+ * @param currency the currency of the members, ignoring case.
+ * @param minSalary the lowest salary.
+ * @param maxSalary the highest salary.
+ * @param minContractDuration the shortest contract duration; only contractors have one.
+ * @param maxContractDuration the longest contract duration; only contractors have one.
+ * @param createdFrom the earliest creation date.
+ * @param createdTo the latest creation date.
+ */
+public record MemberFilter(String country, MemberType type, String currency, BigDecimal minSalary, BigDecimal maxSalary,
+                           Integer minContractDuration, Integer maxContractDuration, LocalDateTime createdFrom,
+                           LocalDateTime createdTo) {
+
+  /**
+   * The filter matching every member.
+   */
+  public static final MemberFilter NONE = new MemberFilter(null, null, null, null, null, null, null, null, null);
+
+  /**
+   * @throws InvalidRequestException if the lower bound of a range is above its upper bound.
+   */
+  public MemberFilter {
+    checkRange("salary", minSalary, maxSalary);
+    checkRange("contract duration", minContractDuration, maxContractDuration);
+    checkRange("creation date", createdFrom, createdTo);
+  }
+
+  /**
+   * Tells whether the filter has no criterion, i.e. matches every member.
+   *
+   * @return true if no criterion is set.
+   */
+  public boolean isEmpty() {
+    return Stream.of(country, type, currency, minSalary, maxSalary, minContractDuration, maxContractDuration, createdFrom, createdTo)
+        .allMatch(Objects::isNull);
+  }
+
+  private static <T extends Comparable<? super T>> void checkRange(final String name, final T min, final T max) {
+    if (min != null && max != null && min.compareTo(max) > 0) {
+      throw new InvalidRequestException("The lowest " + name + " must not be above the highest one: " + min + " > " + max);
+    }
+  }
+}
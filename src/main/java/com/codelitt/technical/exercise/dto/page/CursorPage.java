@@ -0,0 +1,22 @@
+package com.codelitt.technical.exercise.dto.page;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.util.List;
+
+/**
+ * A page of results of a keyset (seek) paginated query.
+ *
+ * @param items the items of the page.
+ * @param size the maximum number of items requested.
+ * @param nextCursor the opaque cursor to pass to get the next page, or null if this is the last page.
+ * @param version the version of the page, read along with its items, or null if it has none. It is not part of the
+ *                body: it is sent as ETag.
+ * @param <T> the type of the items.
+ */
+public record CursorPage<T>(List<T> items, int size, String nextCursor, @JsonIgnore String version) {
+
+  public CursorPage(final List<T> items, final int size, final String nextCursor) {
+    this(items, size, nextCursor, null);
+  }
+}
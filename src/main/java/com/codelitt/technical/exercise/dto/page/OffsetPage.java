@@ -0,0 +1,16 @@
+package com.codelitt.technical.exercise.dto.page;
+
+import java.util.List;
+
+/**
+ * A page of results of an offset paginated query.
+ *
+ * @param items the items of the page.
+ * @param page the zero-based index of the page.
+ * @param size the maximum number of items per page.
+ * @param totalElements the total number of items.
+ * @param totalPages the total number of pages.
+ * @param <T> the type of the items.
+ */
+public record OffsetPage<T>(List<T> items, int page, int size, long totalElements, int totalPages) {
+}
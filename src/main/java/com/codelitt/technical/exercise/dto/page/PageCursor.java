@@ -0,0 +1,60 @@
+package com.codelitt.technical.exercise.dto.page;
+
+import com.codelitt.technical.exercise.enums.MemberSortField;
+import com.codelitt.technical.exercise.exception.InvalidRequestException;
+
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Position of the last item of a keyset paginated page. It is handed to clients as an opaque, URL-safe token
+ * carrying the sort order it was issued for, so that the next page is always read with the same order.
+ *
+ * @param sort the field the page is sorted on.
+ * @param direction the direction of the sort.
+ * @param createdAt the creation date of the last item, only set when sorting on {@link MemberSortField#CREATED_AT}.
+ * @param id the id of the last item.
+ */
+public record PageCursor(MemberSortField sort, Sort.Direction direction, LocalDateTime createdAt, Long id) {
+
+  private static final String VERSION = "v1";
+  private static final String SEPARATOR = "|";
+
+  /**
+   * Encodes the cursor into an opaque, URL-safe token.
+   *
+   * @return the encoded cursor.
+   */
+  public String encode() {
+    final String value = String.join(SEPARATOR, VERSION, sort.name(), direction.name(), String.valueOf(id),
+        createdAt == null ? "" : createdAt.toString());
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Decodes a token previously returned by {@link #encode()}.
+   *
+   * @param token the encoded cursor.
+   * @return the decoded cursor.
+   * @throws InvalidRequestException if the token is not a valid cursor.
+   */
+  public static PageCursor decode(final String token) {
+    try {
+      final String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|", -1);
+      if (parts.length != 5 || !VERSION.equals(parts[0])) {
+        throw new IllegalArgumentException("Unsupported cursor format");
+      }
+      final MemberSortField sort = MemberSortField.valueOf(parts[1]);
+      final LocalDateTime createdAt = parts[4].isEmpty() ? null : LocalDateTime.parse(parts[4]);
+      if (sort == MemberSortField.CREATED_AT && createdAt == null) {
+        throw new IllegalArgumentException("Missing creation date");
+      }
+      return new PageCursor(sort, Sort.Direction.valueOf(parts[2]), createdAt, Long.valueOf(parts[3]));
+    } catch (final RuntimeException e) {
+      throw new InvalidRequestException("Invalid cursor: " + token, e);
+    }
+  }
+}
@@ -0,0 +1,84 @@
+package com.codelitt.technical.exercise.dto.payroll;
+
+import com.codelitt.technical.exercise.enums.MemberType;
+import com.codelitt.technical.exercise.model.Member;
+
+import java.math.BigDecimal;
+
+/**
+ * A change to the payroll rollup of a group of members, the ones of a country paid in a currency and of a type: the
+ * members and the salaries added to the group, negative when removed from it.
+ *
+ * @param country the country of the group, capitalized as the country of a {@link Member}.
+ * @param currency the currency of the group.
+ * @param type the type of the members of the group.
+ * @param members the number of members added.
+ * @param salaried the number of members with a salary added.
+ * @param salarySum the sum of the salaries added.
+ */
+public record PayrollChange(String country, String currency, MemberType type, long members, long salaried, BigDecimal salarySum) {
+
+  /**
+   * The change of adding a member to its group.
+   *
+   * @param member the member, as written.
+   * @return the change.
+   */
+  public static PayrollChange added(final Member member) {
+    return added(member.getCountry(), member.getCurrency(), member.getType(), member.getSalary());
+  }
+
+  /**
+   * The change of adding a member to a group.
+   *
+   * @param country the country of the member, as stored.
+   * @param currency the currency of the member.
+   * @param type the type of the member.
+   * @param salary the salary of the member, possibly null.
+   * @return the change.
+   */
+  public static PayrollChange added(final String country, final String currency, final MemberType type, final BigDecimal salary) {
+    return new PayrollChange(country, currency, type, 1, salary == null ? 0 : 1, salary == null ? BigDecimal.ZERO : salary);
+  }
+
+  /**
+   * The change of removing a member from its group.
+   *
+   * @param member the member, as it was before its update or deletion.
+   * @return the change.
+   */
+  public static PayrollChange removed(final Member member) {
+    final BigDecimal salary = member.getSalary();
+    return new PayrollChange(member.getCountry(), member.getCurrency(), member.getType(), -1, salary == null ? 0 : -1,
+        salary == null ? BigDecimal.ZERO : salary.negate());
+  }
+
+  /**
+   * Tells whether the change belongs to a group: the members whose currency is pending or could not be resolved are
+   * in none, until their currency is resolved.
+   *
+   * @return true if the country, the currency and the type are known.
+   */
+  public boolean isCounted() {
+    return country != null && currency != null && type != null;
+  }
+
+  /**
+   * Tells whether the change leaves its group as it is, e.g. a member removed and added back with the same salary.
+   *
+   * @return true if no member nor salary is added or removed.
+   */
+  public boolean isEmpty() {
+    return members == 0 && salaried == 0 && salarySum.signum() == 0;
+  }
+
+  /**
+   * Adds up two changes of the same group.
+   *
+   * @param other the other change.
+   * @return the change of both.
+   */
+  public PayrollChange plus(final PayrollChange other) {
+    return new PayrollChange(country, currency, type, members + other.members, salaried + other.salaried, salarySum.add(other.salarySum));
+  }
+}
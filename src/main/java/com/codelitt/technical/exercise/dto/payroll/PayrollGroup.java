@@ -0,0 +1,31 @@
+package com.codelitt.technical.exercise.dto.payroll;
+
+import com.codelitt.technical.exercise.enums.MemberType;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.math.BigDecimal;
+
+/**
+ * The payroll of a group of members. The dimensions the payroll is not grouped by are null.
+ *
+ * @param country the country of the members.
+ * @param currency the currency the members are paid in.
+ * @param type the type of the members.
+ * @param members the number of members.
+ * @param salariedMembers the number of members with a salary, the ones the salary figures are computed on.
+ * @param salarySum the sum of the salaries, exact.
+ * @param salaryMin the lowest salary, null if no member has a salary.
+ * @param salaryMax the highest salary, null if no member has a salary.
+ * @param salaryMean the mean salary, rounded half even to 4 decimals, null if no member has a salary.
+ * @param salaryCurrency the currency the salary figures were converted to, null if they are in the currency the
+ *                       members are paid in.
+ */
+public record PayrollGroup(String country, String currency, MemberType type, long members, long salariedMembers,
+                           BigDecimal salarySum, BigDecimal salaryMin, BigDecimal salaryMax, BigDecimal salaryMean,
+                           @JsonInclude(JsonInclude.Include.NON_NULL) String salaryCurrency) {
+
+  public PayrollGroup(final String country, final String currency, final MemberType type, final long members, final long salariedMembers,
+                      final BigDecimal salarySum, final BigDecimal salaryMin, final BigDecimal salaryMax, final BigDecimal salaryMean) {
+    this(country, currency, type, members, salariedMembers, salarySum, salaryMin, salaryMax, salaryMean, null);
+  }
+}
@@ -0,0 +1,16 @@
+package com.codelitt.technical.exercise.dto.search;
+
+/**
+ * A member found by a name search: the few fields a type-ahead list shows, instead of the whole member.
+ *
+ * @param id the id of the member.
+ * @param firstName the first name of the member.
+ * @param lastName the last name of the member.
+ * @param role the role of the member, if any.
+ * @param country the country of the member.
+ * @param fuzzy false if the name starts with the words searched, true if it is only similar to them.
+ * @param score the relevance of the match, from 0 to 1: the share of the name typed for a prefix match, the trigram
+ *              similarity of the misspelled word for a fuzzy one.
+ */
+public record MemberNameMatch(Long id, String firstName, String lastName, String role, String country, boolean fuzzy, double score) {
+}
@@ -0,0 +1,10 @@
+package com.codelitt.technical.exercise.dto.tag;
+
+/**
+ * The number of members tagged with a tag.
+ *
+ * @param tag the normalized tag.
+ * @param members the number of members tagged with it, 0 for a tag missing from the dictionary.
+ */
+public record TagCardinality(String tag, long members) {
+}
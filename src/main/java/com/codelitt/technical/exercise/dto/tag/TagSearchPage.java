@@ -0,0 +1,16 @@
+package com.codelitt.technical.exercise.dto.tag;
+
+import java.util.List;
+
+/**
+ * A page of results of a tag search, sorted by id, with the cardinality of the tags searched.
+ *
+ * @param items the items of the page.
+ * @param size the maximum number of items requested.
+ * @param nextCursor the opaque cursor to pass to get the next page, or null if this is the last page.
+ * @param tags the tags searched with their number of members, from the rarest to the most common: the order the
+ *             posting lists were read in.
+ * @param <T> the type of the items.
+ */
+public record TagSearchPage<T>(List<T> items, int size, String nextCursor, List<TagCardinality> tags) {
+}
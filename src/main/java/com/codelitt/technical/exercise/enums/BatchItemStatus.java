@@ -0,0 +1,7 @@
+package com.codelitt.technical.exercise.enums;
+
+public enum BatchItemStatus {
+
+  CREATED,
+  FAILED
+}
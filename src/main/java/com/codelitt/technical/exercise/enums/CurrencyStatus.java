@@ -0,0 +1,12 @@
+package com.codelitt.technical.exercise.enums;
+
+/**
+ * The state of the currency of a member: resolved from its country, still to be resolved in background, or failed
+ * to be resolved and recorded in the dead-letter table.
+ */
+public enum CurrencyStatus {
+
+  RESOLVED,
+  PENDING,
+  FAILED
+}
@@ -0,0 +1,36 @@
+package com.codelitt.technical.exercise.enums;
+
+import com.codelitt.technical.exercise.exception.InvalidRequestException;
+
+import org.springframework.http.MediaType;
+
+public enum ExportFormat {
+
+  NDJSON(MediaType.APPLICATION_NDJSON, "ndjson"),
+  CSV(new MediaType("text", "csv"), "csv");
+
+  private final MediaType mediaType;
+  private final String extension;
+
+  ExportFormat(final MediaType mediaType, final String extension) {
+    this.mediaType = mediaType;
+    this.extension = extension;
+  }
+
+  public MediaType getMediaType() {
+    return mediaType;
+  }
+
+  public String getExtension() {
+    return extension;
+  }
+
+  public static ExportFormat fromValue(String value) {
+    for (final ExportFormat format : values()) {
+      if (format.extension.equalsIgnoreCase(value)) {
+        return format;
+      }
+    }
+    throw new InvalidRequestException("Unsupported export format: " + value + ". Supported values: ndjson, csv");
+  }
+}
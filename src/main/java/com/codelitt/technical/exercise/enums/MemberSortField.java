@@ -0,0 +1,28 @@
+package com.codelitt.technical.exercise.enums;
+
+import com.codelitt.technical.exercise.exception.InvalidRequestException;
+
+public enum MemberSortField {
+
+  ID("id"),
+  CREATED_AT("createdAt");
+
+  private final String property;
+
+  MemberSortField(final String property) {
+    this.property = property;
+  }
+
+  public String getProperty() {
+    return property;
+  }
+
+  public static MemberSortField fromValue(String value) {
+    for (final MemberSortField field : values()) {
+      if (field.property.equalsIgnoreCase(value) || field.name().equalsIgnoreCase(value)) {
+        return field;
+      }
+    }
+    throw new InvalidRequestException("Unsupported sort field: " + value + ". Supported values: id, createdAt");
+  }
+}
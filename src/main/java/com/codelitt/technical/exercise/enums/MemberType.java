@@ -1,11 +1,18 @@
 package com.codelitt.technical.exercise.enums;
 
+import com.codelitt.technical.exercise.exception.InvalidRequestException;
+
 public enum MemberType {
 
   EMPLOYEE,
   CONTRACTOR;
 
   public static MemberType fromValue(String value) {
-    return valueOf(value.toUpperCase());
+    for (final MemberType type : values()) {
+      if (type.name().equalsIgnoreCase(value)) {
+        return type;
+      }
+    }
+    throw new InvalidRequestException("Unsupported member type: " + value + ". Supported values: employee, contractor");
   }
 }
@@ -0,0 +1,29 @@
+package com.codelitt.technical.exercise.enums;
+
+import com.codelitt.technical.exercise.exception.InvalidRequestException;
+
+public enum PayrollDimension {
+
+  COUNTRY("country"),
+  CURRENCY("currency"),
+  TYPE("type");
+
+  private final String value;
+
+  PayrollDimension(final String value) {
+    this.value = value;
+  }
+
+  public String getValue() {
+    return value;
+  }
+
+  public static PayrollDimension fromValue(String value) {
+    for (final PayrollDimension dimension : values()) {
+      if (dimension.value.equalsIgnoreCase(value.trim())) {
+        return dimension;
+      }
+    }
+    throw new InvalidRequestException("Unsupported payroll dimension: " + value + ". Supported values: country, currency, type");
+  }
+}
@@ -0,0 +1,28 @@
+package com.codelitt.technical.exercise.enums;
+
+import com.codelitt.technical.exercise.exception.InvalidRequestException;
+
+public enum TagMatch {
+
+  ALL("all"),
+  ANY("any");
+
+  private final String value;
+
+  TagMatch(final String value) {
+    this.value = value;
+  }
+
+  public String getValue() {
+    return value;
+  }
+
+  public static TagMatch fromValue(String value) {
+    for (final TagMatch match : values()) {
+      if (match.value.equalsIgnoreCase(value)) {
+        return match;
+      }
+    }
+    throw new InvalidRequestException("Unsupported tag match: " + value + ". Supported values: all, any");
+  }
+}
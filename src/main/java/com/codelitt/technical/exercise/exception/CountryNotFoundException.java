@@ -0,0 +1,20 @@
+package com.codelitt.technical.exercise.exception;
+
+import java.io.Serial;
+
+/**
+ * Thrown when a country is unknown to the country service: looking it up again will not succeed either.
+ */
+public class CountryNotFoundException extends ServiceException {
+
+  @Serial
+  private static final long serialVersionUID = 1L;
+
+  public CountryNotFoundException(String message) {
+    super(message);
+  }
+
+  public CountryNotFoundException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
@@ -0,0 +1,21 @@
+package com.codelitt.technical.exercise.exception;
+
+import java.io.Serial;
+
+/**
+ * Thrown when a request cannot be served as it was sent, e.g. a malformed pagination cursor, an unsupported sort
+ * field or an invalid member: sending it again will not succeed either. Answered with HTTP status BAD_REQUEST.
+ */
+public class InvalidRequestException extends RuntimeException {
+
+  @Serial
+  private static final long serialVersionUID = 1L;
+
+  public InvalidRequestException(String message) {
+    super(message);
+  }
+
+  public InvalidRequestException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
@@ -0,0 +1,34 @@
+package com.codelitt.technical.exercise.exception;
+
+import java.io.Serial;
+
+/**
+ * Thrown when an entity cannot be updated because its version is not the expected one: either the version required
+ * by the caller is not the current one, or the entity was updated concurrently between its read and its write.
+ */
+public class VersionConflictException extends ServiceException {
+
+  @Serial
+  private static final long serialVersionUID = 1L;
+
+  private final Long expectedVersion;
+
+  public VersionConflictException(String message, Long expectedVersion) {
+    super(message);
+    this.expectedVersion = expectedVersion;
+  }
+
+  public VersionConflictException(String message, Long expectedVersion, Throwable cause) {
+    super(message, cause);
+    this.expectedVersion = expectedVersion;
+  }
+
+  /**
+   * Returns the version the caller required the entity to have.
+   *
+   * @return the expected version, or null if the caller did not require any (the update then lost a race).
+   */
+  public Long getExpectedVersion() {
+    return expectedVersion;
+  }
+}
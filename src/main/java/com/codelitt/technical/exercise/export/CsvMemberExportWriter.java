@@ -0,0 +1,80 @@
+package com.codelitt.technical.exercise.export;
+
+import com.codelitt.technical.exercise.cache.SalaryConverter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Writes members as RFC 4180 CSV with a header line. Tags are joined with a semicolon in a single column. With a
+ * converter, the converted salary and its currency follow in two more columns.
+ */
+public class CsvMemberExportWriter implements MemberExportWriter {
+
+  private static final String HEADER = "id,created_at,first_name,last_name,salary,type,contract_duration,role,country,currency,tags";
+  private static final String NORMALIZED_HEADER = ",normalized_salary,normalized_currency";
+
+  private final Writer writer;
+  private final SalaryConverter converter;
+
+  public CsvMemberExportWriter(final OutputStream outputStream) throws IOException {
+    this(outputStream, null);
+  }
+
+  public CsvMemberExportWriter(final OutputStream outputStream, final SalaryConverter converter) throws IOException {
+    this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+    this.converter = converter;
+    writer.write(HEADER);
+    if (converter != null) {
+      writer.write(NORMALIZED_HEADER);
+    }
+    writer.write("\r\n");
+  }
+
+  @Override
+  public void write(final MemberExportRow row) throws IOException {
+    writer.write(String.valueOf(row.id()));
+    writeField(row.createdAt());
+    writeField(row.firstName());
+    writeField(row.lastName());
+    writeField(row.salary() == null ? null : row.salary().toPlainString());
+    writeField(row.type());
+    writeField(row.contractDuration());
+    writeField(row.role());
+    writeField(row.country());
+    writeField(row.currency());
+    writeField(String.join(";", row.tags()));
+    if (converter != null) {
+      final BigDecimal normalizedSalary = converter.convert(row.currency(), row.salary());
+      writeField(normalizedSalary == null ? null : normalizedSalary.toPlainString());
+      writeField(normalizedSalary == null ? null : converter.getCurrency());
+    }
+    writer.write("\r\n");
+  }
+
+  @Override
+  public void close() throws IOException {
+    writer.flush();
+  }
+
+  private void writeField(final Object value) throws IOException {
+    writer.write(',');
+    if (value == null) {
+      return;
+    }
+    final String text = Objects.toString(value);
+    if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+      writer.write(text);
+      return;
+    }
+    writer.write('"');
+    writer.write(text.replace("\"", "\"\""));
+    writer.write('"');
+  }
+}
@@ -0,0 +1,21 @@
+package com.codelitt.technical.exercise.export;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * A member as read by the export query, written out as soon as it is read.
+ */
+public record MemberExportRow(Long id,
+                              LocalDateTime createdAt,
+                              String firstName,
+                              String lastName,
+                              BigDecimal salary,
+                              String type,
+                              Integer contractDuration,
+                              String role,
+                              String country,
+                              String currency,
+                              List<String> tags) {
+}
@@ -0,0 +1,56 @@
+package com.codelitt.technical.exercise.export;
+
+import com.codelitt.technical.exercise.cache.SalaryConverter;
+import com.codelitt.technical.exercise.enums.ExportFormat;
+import com.fasterxml.jackson.core.JsonFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes exported members one by one to an output stream, without holding more than the current row in memory.
+ * Closing the writer flushes the buffered output but leaves the underlying stream open.
+ */
+public interface MemberExportWriter extends Closeable {
+
+  /**
+   * Writes a member.
+   *
+   * @param row the member to write.
+   * @throws IOException if the member cannot be written.
+   */
+  void write(MemberExportRow row) throws IOException;
+
+  /**
+   * Creates a writer for the given format.
+   *
+   * @param format the format to write.
+   * @param outputStream the stream to write to.
+   * @param jsonFactory the factory of the JSON generator, used by the NDJSON format.
+   * @return the writer.
+   * @throws IOException if the writer cannot be created.
+   */
+  static MemberExportWriter of(final ExportFormat format, final OutputStream outputStream, final JsonFactory jsonFactory) throws IOException {
+    return of(format, outputStream, jsonFactory, null);
+  }
+
+  /**
+   * Creates a writer for the given format that also writes the salary of each member converted to one currency, as
+   * {@code normalizedSalary} and {@code normalizedCurrency}.
+   *
+   * @param format the format to write.
+   * @param outputStream the stream to write to.
+   * @param jsonFactory the factory of the JSON generator, used by the NDJSON format.
+   * @param converter the converter of the salaries, or null to write them as they are only.
+   * @return the writer.
+   * @throws IOException if the writer cannot be created.
+   */
+  static MemberExportWriter of(final ExportFormat format, final OutputStream outputStream, final JsonFactory jsonFactory,
+                               final SalaryConverter converter) throws IOException {
+    return switch (format) {
+      case NDJSON -> new NdjsonMemberExportWriter(outputStream, jsonFactory, converter);
+      case CSV -> new CsvMemberExportWriter(outputStream, converter);
+    };
+  }
+}
@@ -0,0 +1,83 @@
+package com.codelitt.technical.exercise.export;
+
+import com.codelitt.technical.exercise.cache.SalaryConverter;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+
+/**
+ * Writes members as newline-delimited JSON: one JSON object per line, with the same field names as the API,
+ * {@code normalizedSalary} and {@code normalizedCurrency} included when given a converter.
+ */
+public class NdjsonMemberExportWriter implements MemberExportWriter {
+
+  private final JsonGenerator generator;
+  private final SalaryConverter converter;
+
+  public NdjsonMemberExportWriter(final OutputStream outputStream, final JsonFactory jsonFactory) throws IOException {
+    this(outputStream, jsonFactory, null);
+  }
+
+  public NdjsonMemberExportWriter(final OutputStream outputStream, final JsonFactory jsonFactory, final SalaryConverter converter) throws IOException {
+    this.generator = jsonFactory.createGenerator(outputStream)
+        .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+        .setPrettyPrinter(new MinimalPrettyPrinter("\n"));
+    this.converter = converter;
+  }
+
+  @Override
+  public void write(final MemberExportRow row) throws IOException {
+    generator.writeStartObject();
+    generator.writeNumberField("id", row.id());
+    writeStringField("createdAt", row.createdAt() == null ? null : row.createdAt().toString());
+    writeStringField("firstName", row.firstName());
+    writeStringField("lastName", row.lastName());
+    if (row.salary() == null) {
+      generator.writeNullField("salary");
+    } else {
+      generator.writeNumberField("salary", row.salary());
+    }
+    writeStringField("type", row.type());
+    if (row.contractDuration() == null) {
+      generator.writeNullField("contractDuration");
+    } else {
+      generator.writeNumberField("contractDuration", row.contractDuration());
+    }
+    writeStringField("role", row.role());
+    writeStringField("country", row.country());
+    writeStringField("currency", row.currency());
+    generator.writeArrayFieldStart("tags");
+    for (final String tag : row.tags()) {
+      generator.writeString(tag);
+    }
+    generator.writeEndArray();
+    if (converter != null) {
+      // left out when the salary cannot be converted, as in the API
+      final BigDecimal normalizedSalary = converter.convert(row.currency(), row.salary());
+      if (normalizedSalary != null) {
+        generator.writeNumberField("normalizedSalary", normalizedSalary);
+        generator.writeStringField("normalizedCurrency", converter.getCurrency());
+      }
+    }
+    generator.writeEndObject();
+  }
+
+  @Override
+  public void close() throws IOException {
+    // terminates the last line as well
+    generator.writeRaw('\n');
+    generator.close();
+  }
+
+  private void writeStringField(final String name, final String value) throws IOException {
+    if (value == null) {
+      generator.writeNullField(name);
+    } else {
+      generator.writeStringField(name, value);
+    }
+  }
+}
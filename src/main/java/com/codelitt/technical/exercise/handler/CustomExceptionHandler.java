@@ -3,6 +3,7 @@ package com.codelitt.technical.exercise.handler;
 import jakarta.persistence.EntityNotFoundException;
 
 import com.codelitt.technical.exercise.exception.ApiException;
+import com.codelitt.technical.exercise.exception.InvalidRequestException;
 import com.codelitt.technical.exercise.exception.ServiceException;
 
 import org.springframework.http.HttpStatus;
@@ -68,4 +69,19 @@ public class CustomExceptionHandler extends ResponseEntityExceptionHandler {
 
     return ResponseEntity.status(HttpStatus.OK).contentType(MediaType.APPLICATION_JSON).body(errorResponse);
   }
-}
\ No newline at end of file
+
+  /**
+   * Handle {@link InvalidRequestException} exceptions raised by invalid request parameters or bodies (e.g. a malformed
+   * pagination cursor) and return an error response with HTTP status code 400 (BAD_REQUEST).
+   *
+   * @param ex the exception to handle
+   * @param request the current request
+   * @return an error response with HTTP status code 400 (BAD_REQUEST)
+   */
+  @ExceptionHandler(value = InvalidRequestException.class)
+  public ResponseEntity<ErrorResponse> handleInvalidRequestException(final InvalidRequestException ex, final WebRequest request) {
+    final ErrorResponse errorResponse = new ErrorResponse(HttpStatus.BAD_REQUEST.name(), ex.getMessage(), HttpStatus.BAD_REQUEST.value());
+
+    return ResponseEntity.status(HttpStatus.BAD_REQUEST).contentType(MediaType.APPLICATION_JSON).body(errorResponse);
+  }
+}
@@ -0,0 +1,78 @@
+package com.codelitt.technical.exercise.mapper;
+
+import com.codelitt.technical.exercise.dto.MemberDTO;
+import com.codelitt.technical.exercise.enums.CurrencyStatus;
+import com.codelitt.technical.exercise.model.Member;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Maps between {@link Member} entities and {@link MemberDTO} objects with plain getters and setters, field by field.
+ * The tags are always copied, so that a DTO and an entity never share the same list.
+ */
+@Component
+public class MemberMapper {
+
+  /**
+   * Creates a new entity from a DTO. The id, creation date, version, currency and currency status are left unset.
+   *
+   * @param member the DTO to map.
+   * @return the new entity.
+   */
+  public Member toEntity(final MemberDTO member) {
+    final Member entity = new Member();
+    updateEntity(member, entity);
+    return entity;
+  }
+
+  /**
+   * Creates a new DTO from an entity. The normalized salary is left unset.
+   *
+   * @param member the entity to map.
+   * @return the new DTO.
+   */
+  public MemberDTO toDto(final Member member) {
+    return MemberDTO.builder()
+        .firstName(member.getFirstName())
+        .lastName(member.getLastName())
+        .salary(member.getSalary())
+        .type(member.getType())
+        .contractDuration(member.getContractDuration())
+        .role(member.getRole())
+        .tags(copy(member.getTags()))
+        .country(member.getCountry())
+        .version(member.getVersion())
+        .currencyStatus(member.getCurrencyStatus() == null ? CurrencyStatus.RESOLVED : member.getCurrencyStatus())
+        .currency(member.getCurrency())
+        .build();
+  }
+
+  /**
+   * Copies the fields of a DTO onto an existing entity, null values included. The id, creation date, version and
+   * currency of the entity are kept, and so are its tags when the DTO has the same ones, so that an unchanged
+   * collection is not rewritten.
+   *
+   * @param member the DTO to copy from.
+   * @param entity the entity to update.
+   */
+  public void updateEntity(final MemberDTO member, final Member entity) {
+    entity.setFirstName(member.getFirstName());
+    entity.setLastName(member.getLastName());
+    entity.setSalary(member.getSalary());
+    entity.setType(member.getType());
+    entity.setContractDuration(member.getContractDuration());
+    entity.setRole(member.getRole());
+    if (!Objects.equals(copy(entity.getTags()), member.getTags())) {
+      entity.setTags(copy(member.getTags()));
+    }
+    entity.setCountry(member.getCountry());
+  }
+
+  private static List<String> copy(final List<String> tags) {
+    return tags == null ? null : new ArrayList<>(tags);
+  }
+}
@@ -0,0 +1,77 @@
+package com.codelitt.technical.exercise.mapper;
+
+import com.codelitt.technical.exercise.dto.MemberDTO;
+import com.codelitt.technical.exercise.exception.InvalidRequestException;
+import com.codelitt.technical.exercise.validation.MemberValidator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Applies JSON Merge Patch documents (RFC 7396) to members: the fields present in the patch replace those of the
+ * member, a null removes them, arrays such as the tags are replaced as a whole and absent fields are kept.
+ */
+@Component
+public class MemberPatcher {
+
+  private final ObjectMapper objectMapper;
+  private final MemberValidator memberValidator;
+
+  @Autowired
+  public MemberPatcher(final ObjectMapper objectMapper, final MemberValidator memberValidator) {
+    this.objectMapper = objectMapper;
+    this.memberValidator = memberValidator;
+  }
+
+  /**
+   * Returns a copy of the member with the patch applied, validated as a request body would be. The member itself is
+   * left untouched, and so are its version and currency status, which cannot be patched.
+   *
+   * @param member the member to patch.
+   * @param patch the JSON Merge Patch document.
+   * @return the patched copy of the member.
+   * @throws InvalidRequestException if the patch is not a JSON object, or the patched member is not valid.
+   */
+  public MemberDTO apply(final MemberDTO member, final JsonNode patch) {
+    if (patch == null || !patch.isObject()) {
+      throw new InvalidRequestException("A merge patch of a member must be a JSON object");
+    }
+
+    final MemberDTO patched;
+    try {
+      final ObjectNode target = objectMapper.valueToTree(member);
+      patched = objectMapper.treeToValue(merge(target, patch), MemberDTO.class);
+    } catch (final JsonProcessingException e) {
+      throw new InvalidRequestException("Invalid merge patch of a member: " + e.getOriginalMessage(), e);
+    }
+    patched.setVersion(member.getVersion());
+    patched.setCurrencyStatus(member.getCurrencyStatus());
+
+    memberValidator.checkConstraints(patched);
+    return patched;
+  }
+
+  private static JsonNode merge(final JsonNode target, final JsonNode patch) {
+    if (!patch.isObject()) {
+      return patch;
+    }
+    final ObjectNode result = target != null && target.isObject() ? (ObjectNode) target : JsonNodeFactory.instance.objectNode();
+    for (final Iterator<Map.Entry<String, JsonNode>> fields = patch.fields(); fields.hasNext(); ) {
+      final Map.Entry<String, JsonNode> field = fields.next();
+      if (field.getValue().isNull()) {
+        result.remove(field.getKey());
+      } else {
+        result.set(field.getKey(), merge(result.get(field.getKey()), field.getValue()));
+      }
+    }
+    return result;
+  }
+}
@@ -0,0 +1,49 @@
+package com.codelitt.technical.exercise.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import com.codelitt.technical.exercise.exception.ApiException;
+import com.codelitt.technical.exercise.exception.ServiceException;
+
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.annotation.AfterThrowing;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts the {@link ServiceException}s and {@link ApiException}s leaving the services and the controllers of the
+ * application, as the {@code application.exceptions} counter tagged by exception type and by the class and method
+ * that threw it. An exception wrapped and rethrown by a caller is counted once per layer it leaves.
+ * Most of these errors are answered with an HTTP status of 200 and the error in the body, so they do not show up as
+ * failures in {@code http.server.requests}.
+ */
+@Aspect
+@Component
+public class ExceptionMetricsAspect {
+
+  static final String METRIC_NAME = "application.exceptions";
+
+  private final MeterRegistry registry;
+
+  @Autowired
+  public ExceptionMetricsAspect(final MeterRegistry registry) {
+    this.registry = registry;
+  }
+
+  @AfterThrowing(pointcut = "within(com.codelitt.technical.exercise..*) && (@within(org.springframework.stereotype.Service) "
+      + "|| @within(org.springframework.web.bind.annotation.RestController))", throwing = "exception")
+  public void count(final JoinPoint joinPoint, final Exception exception) {
+    if (!(exception instanceof ServiceException) && !(exception instanceof ApiException)) {
+      return;
+    }
+    Counter.builder(METRIC_NAME)
+        .description("ServiceExceptions and ApiExceptions thrown by the services and controllers")
+        .tag("exception", exception.getClass().getSimpleName())
+        .tag("class", joinPoint.getSignature().getDeclaringType().getSimpleName())
+        .tag("method", joinPoint.getSignature().getName())
+        .register(registry)
+        .increment();
+  }
+}
@@ -0,0 +1,43 @@
+package com.codelitt.technical.exercise.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * A member whose currency could not be resolved in background, because its country is unknown or the lookups kept
+ * failing. The member itself is kept, with its currency status FAILED.
+ */
+@Setter
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "member_currency_dead_letter")
+public class CurrencyDeadLetter {
+
+  @Id
+  @Column(name = "member_id")
+  private Long memberId;
+
+  @Column(name = "country")
+  private String country;
+
+  @Column(name = "reason", length = 1000)
+  private String reason;
+
+  @Column(name = "attempts")
+  private Integer attempts;
+
+  @Column(name = "created_at")
+  private LocalDateTime createdAt;
+}
@@ -6,6 +6,7 @@ import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
@@ -14,13 +15,18 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
 
+import com.codelitt.technical.exercise.enums.CurrencyStatus;
 import com.codelitt.technical.exercise.enums.MemberType;
 import com.codelitt.technical.exercise.model.base.BaseModel;
 
 import org.apache.commons.lang3.StringUtils;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 
 @Setter
 @Getter
@@ -28,6 +34,8 @@ import java.util.List;
 @NoArgsConstructor
 @SuperBuilder
 @Entity
+// updates only write the columns that changed, e.g. the ones of a partial update
+@DynamicUpdate
 @Table(name = "member")
 public class Member extends BaseModel {
 
@@ -50,17 +58,39 @@ public class Member extends BaseModel {
   @Column(name = "role")
   private String role;
 
+  // initializing the tags of one member also loads those of the other members read along with it (up to a full page)
+  @BatchSize(size = 100)
   @ElementCollection
   @CollectionTable(name = "member_tags", joinColumns = @JoinColumn(name = "member_id"))
   @Column(name = "tags")
   private List<String> tags;
 
+  // the dictionary ids of the normalized tags, kept in line with the tags by the services: the posting lists of the
+  // tag searches, read in member id order through the (tag_id, member_id) index and never loaded by the reads
+  @ElementCollection
+  @CollectionTable(name = "member_tag_posting", joinColumns = @JoinColumn(name = "member_id"),
+      indexes = @Index(name = "member_tag_posting_tag_id_member_id_idx", columnList = "tag_id, member_id"))
+  @Column(name = "tag_id", nullable = false)
+  private Set<Integer> tagIds;
+
   @Column(name = "country")
   private String country;
 
   @Column(name = "currency")
   private String currency;
 
+  // null for members written before the status existed, whose currency is resolved
+  @Enumerated(EnumType.STRING)
+  @Column(name = "currency_status")
+  private CurrencyStatus currencyStatus;
+
+  // failed attempts to resolve a pending currency, and when to try again
+  @Column(name = "currency_attempts")
+  private Integer currencyAttempts;
+
+  @Column(name = "currency_retry_at")
+  private LocalDateTime currencyRetryAt;
+
   public void setCountry(String country) {
     this.country = StringUtils.capitalize(country);
   }
@@ -0,0 +1,67 @@
+package com.codelitt.technical.exercise.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import com.codelitt.technical.exercise.enums.MemberType;
+
+import java.math.BigDecimal;
+
+/**
+ * The payroll of the members of a country paid in a currency and of a type, kept up to date by the member writes
+ * (see {@link com.codelitt.technical.exercise.service.PayrollService}): the number of members, and the count, sum,
+ * minimum and maximum of their salaries. Members without a salary are counted as members only.
+ */
+@Setter
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "payroll_rollup", uniqueConstraints = @UniqueConstraint(name = "payroll_rollup_group_key",
+    columnNames = {"country", "currency", "type"}))
+public class PayrollRollup {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Column(name = "id")
+  private Integer id;
+
+  @Column(name = "country", nullable = false)
+  private String country;
+
+  @Column(name = "currency", nullable = false)
+  private String currency;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "type", nullable = false)
+  private MemberType type;
+
+  @Column(name = "members", nullable = false)
+  private long members;
+
+  @Column(name = "salaried", nullable = false)
+  private long salaried;
+
+  // unbounded numeric in db_scripts/create_payroll_rollup.sql: the sum is exact whatever the number of members
+  @Column(name = "salary_sum", nullable = false)
+  private BigDecimal salarySum;
+
+  @Column(name = "salary_min")
+  private BigDecimal salaryMin;
+
+  @Column(name = "salary_max")
+  private BigDecimal salaryMax;
+}
@@ -0,0 +1,44 @@
+package com.codelitt.technical.exercise.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import org.hibernate.annotations.ColumnDefault;
+
+/**
+ * An entry of the tag dictionary: a normalized tag name (see {@link com.codelitt.technical.exercise.util.TagNames})
+ * and the integer id the members tagged with it are indexed by, in {@code member_tag_posting}, with the number of
+ * members of its posting list. The number is kept by the member writes, in the transaction of their postings (see
+ * {@link com.codelitt.technical.exercise.repository.MemberWriteQueries#ADD_TAG_MEMBERS}), and is never written
+ * through the entity.
+ */
+@Setter
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "tag")
+public class Tag {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Column(name = "id")
+  private Integer id;
+
+  @Column(name = "name", nullable = false, unique = true)
+  private String name;
+
+  @ColumnDefault("0")
+  @Column(name = "member_count", nullable = false, insertable = false, updatable = false)
+  private long memberCount;
+}
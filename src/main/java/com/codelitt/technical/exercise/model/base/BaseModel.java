@@ -2,16 +2,20 @@ package com.codelitt.technical.exercise.model.base;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.MappedSuperclass;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
 
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+
 import java.io.Serializable;
 import java.time.LocalDateTime;
 
@@ -23,14 +27,23 @@ import java.time.LocalDateTime;
 @MappedSuperclass
 public abstract class BaseModel implements Serializable {
 
+  // ids come from member_id_seq, so that Hibernate can batch inserts (it cannot with IDENTITY),
+  // in blocks of the configured allocation size
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
-  @Column(updatable = false, insertable = false)
+  @GeneratedValue(generator = "member_id_seq")
+  @GenericGenerator(name = "member_id_seq", strategy = "com.codelitt.technical.exercise.model.base.PooledSequenceGenerator",
+      parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "member_id_seq"))
+  @Column(updatable = false)
   private Long id;
 
   @Column(name = "created_at", updatable = false)
   private LocalDateTime createdAt;
 
+  // incremented on every update, the tags included: detects concurrent updates and identifies a state of the row
+  @Version
+  @Column(name = "version")
+  private Long version;
+
   @PrePersist
   protected void prePersist() {
     if (createdAt == null) createdAt = LocalDateTime.now();
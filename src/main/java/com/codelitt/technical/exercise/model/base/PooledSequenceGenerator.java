@@ -0,0 +1,40 @@
+package com.codelitt.technical.exercise.model.base;
+
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.id.OptimizableGenerator;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.util.Properties;
+
+/**
+ * A sequence generator handing out ids from blocks of {@value #ALLOCATION_SIZE_SETTING} values, so that a single
+ * {@code nextval} call serves that many inserts. The block size is read from the Hibernate settings, where
+ * {@code MemberIdConfig} puts {@code api.members.id.allocation-size}, rather than fixed in the mapping, and must be equal
+ * to the increment of the database sequence (see {@code db_scripts/create_member.sql}). Without the setting, as in
+ * the JPA test slices, the increment of that script is used.
+ * <p>
+ * The "pooled-lo" optimizer is used: the value returned by the sequence is the first id of the block.
+ */
+public class PooledSequenceGenerator extends SequenceStyleGenerator {
+
+  public static final String ALLOCATION_SIZE_SETTING = "member.id.allocation_size";
+
+  public static final int DEFAULT_ALLOCATION_SIZE = 50;
+
+  @Override
+  public void configure(final Type type, final Properties params, final ServiceRegistry serviceRegistry) throws MappingException {
+    final int allocationSize = serviceRegistry.getService(ConfigurationService.class)
+        .getSetting(ALLOCATION_SIZE_SETTING, StandardConverters.INTEGER, DEFAULT_ALLOCATION_SIZE);
+    if (allocationSize < 1) {
+      throw new MappingException("The id allocation size must be positive: " + allocationSize);
+    }
+    params.setProperty(OptimizableGenerator.INCREMENT_PARAM, String.valueOf(allocationSize));
+    params.setProperty(OptimizableGenerator.OPT_PARAM, StandardOptimizerDescriptor.POOLED_LO.getExternalName());
+    super.configure(type, params, serviceRegistry);
+  }
+}
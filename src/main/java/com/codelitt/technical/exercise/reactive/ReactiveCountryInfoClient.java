@@ -0,0 +1,120 @@
+package com.codelitt.technical.exercise.reactive;
+
+import lombok.extern.slf4j.Slf4j;
+
+import com.codelitt.technical.exercise.cache.CountryInfoCache;
+import com.codelitt.technical.exercise.dto.country.CountryInfoDTO;
+import com.codelitt.technical.exercise.exception.CountryNotFoundException;
+import com.codelitt.technical.exercise.exception.ServiceException;
+import com.codelitt.technical.exercise.resilience.CountryApiGuard;
+import com.codelitt.technical.exercise.util.CountryNames;
+
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Non-blocking counterpart of {@link com.codelitt.technical.exercise.service.impl.CountryInfoServiceImpl}: looks the
+ * currency of a country up on the "restcountries.com" API with a {@link WebClient}, so that a slow API holds
+ * connections open but no threads. It shares the {@link CountryInfoCache} and the {@link CountryApiGuard} of the
+ * blocking lookups, and concurrent misses for the same country share a single call to the API.
+ */
+@Slf4j
+public class ReactiveCountryInfoClient {
+
+  private static final String ERROR_RETRIEVING_INFORMATION = "Error retrieving information from 'restcountries.com'. Message: ";
+  private static final String NO_INFORMATION_FOUND = "No information found for the country: ";
+
+  private final WebClient webClient;
+  private final CountryInfoCache cache;
+  private final CountryApiGuard guard;
+  private final Map<String, Mono<CountryInfoDTO>> inFlightLookups = new ConcurrentHashMap<>();
+
+  public ReactiveCountryInfoClient(final WebClient webClient, final CountryInfoCache cache, final CountryApiGuard guard) {
+    this.webClient = webClient;
+    this.cache = cache;
+    this.guard = guard;
+  }
+
+  /**
+   * Retrieves the currency of a country.
+   *
+   * @param countryName the name of the country to retrieve the currency for.
+   * @return the currency code of the country, or an error with a CountryNotFoundException if the country is unknown to
+   *         the API, or with a ServiceException if its currency is not available.
+   */
+  public Mono<String> getCurrency(final String countryName) {
+    return getCountryInfo(countryName).flatMap(countryInfo -> {
+      var currencies = countryInfo.getCurrencies();
+      if (currencies == null || currencies.isEmpty()) {
+        return Mono.error(new ServiceException("Currency information not available for the country: " + countryName));
+      }
+      return Mono.just(currencies.keySet().iterator().next());
+    });
+  }
+
+  /**
+   * Retrieves information about a country, from the cache when present.
+   *
+   * @param countryName the name of the country to retrieve information for.
+   * @return the information about the country, or an error with a CountryNotFoundException if the country is unknown to
+   *         the API, or with a ServiceException if it could not be retrieved.
+   */
+  public Mono<CountryInfoDTO> getCountryInfo(final String countryName) {
+    var cached = cache.getIfPresent(countryName);
+    if (cached != null) {
+      return fromCache(countryName, cached);
+    }
+    var key = CountryNames.normalize(countryName);
+    return inFlightLookups.computeIfAbsent(key, ignored -> fetchCountryInfo(countryName)
+        .doFinally(signal -> inFlightLookups.remove(key))
+        .cache());
+  }
+
+  private Mono<CountryInfoDTO> fetchCountryInfo(final String countryName) {
+    var call = webClient.get()
+        .uri(countryName)
+        .retrieve()
+        .bodyToMono(new ParameterizedTypeReference<List<CountryInfoDTO>>(){});
+
+    return guard.call(call)
+        .flatMap(result -> {
+          if (result.isEmpty()) {
+            cache.putMissing(countryName);
+            return Mono.<CountryInfoDTO>error(new CountryNotFoundException(ERROR_RETRIEVING_INFORMATION + NO_INFORMATION_FOUND + countryName));
+          }
+          cache.put(countryName, result.get(0));
+          return Mono.just(result.get(0));
+        })
+        .switchIfEmpty(Mono.defer(() -> {
+          cache.putMissing(countryName);
+          return Mono.error(new CountryNotFoundException(ERROR_RETRIEVING_INFORMATION + NO_INFORMATION_FOUND + countryName));
+        }))
+        .onErrorResume(e -> !(e instanceof ServiceException), e -> {
+          if (e instanceof WebClientResponseException.NotFound) {
+            cache.putMissing(countryName);
+            log.error("Country not found on 'restcountries.com': {}", countryName);
+            return Mono.error(new CountryNotFoundException(ERROR_RETRIEVING_INFORMATION + NO_INFORMATION_FOUND + countryName, e));
+          }
+          var lastKnown = cache.getLastKnown(countryName);
+          if (lastKnown != null) {
+            log.warn("Serving the last known information for the country: {}. Message: {}", countryName, e.getMessage());
+            return Mono.just(lastKnown);
+          }
+          log.error(ERROR_RETRIEVING_INFORMATION + "{}", e.getMessage(), e);
+          return Mono.error(new ServiceException(ERROR_RETRIEVING_INFORMATION + e.getMessage(), e));
+        });
+  }
+
+  private static Mono<CountryInfoDTO> fromCache(final String countryName, final CountryInfoCache.Entry cached) {
+    if (cached.isMissing()) {
+      return Mono.error(new CountryNotFoundException(ERROR_RETRIEVING_INFORMATION + NO_INFORMATION_FOUND + countryName));
+    }
+    return Mono.just(cached.countryInfo());
+  }
+}
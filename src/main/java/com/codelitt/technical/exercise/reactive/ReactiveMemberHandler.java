@@ -0,0 +1,95 @@
+package com.codelitt.technical.exercise.reactive;
+
+import lombok.extern.slf4j.Slf4j;
+
+import com.codelitt.technical.exercise.dto.MemberDTO;
+import com.codelitt.technical.exercise.exception.ServiceException;
+import com.codelitt.technical.exercise.handler.ErrorResponse;
+import com.codelitt.technical.exercise.mapper.MemberMapper;
+import com.codelitt.technical.exercise.validation.MemberValidator;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+
+/**
+ * Handles the member creations of the reactive server: the same validation and business rules as
+ * {@link com.codelitt.technical.exercise.controller.MemberController}, through {@link MemberValidator}, with a
+ * non-blocking currency lookup and insert. Unlike the servlet endpoints, errors are answered with their HTTP status.
+ */
+@Slf4j
+public class ReactiveMemberHandler {
+
+  private final ReactiveCountryInfoClient countryInfoClient;
+  private final ReactiveMemberRepository repository;
+  private final MemberMapper memberMapper;
+  private final MemberValidator memberValidator;
+
+  public ReactiveMemberHandler(final ReactiveCountryInfoClient countryInfoClient, final ReactiveMemberRepository repository,
+                               final MemberMapper memberMapper, final MemberValidator memberValidator) {
+    this.countryInfoClient = countryInfoClient;
+    this.repository = repository;
+    this.memberMapper = memberMapper;
+    this.memberValidator = memberValidator;
+  }
+
+  /**
+   * Returns the routes of the reactive server: {@code POST /api/members}.
+   *
+   * @return the routes handled.
+   */
+  public RouterFunction<ServerResponse> routes() {
+    return RouterFunctions.route()
+        .POST("/api/members", this::create)
+        .build();
+  }
+
+  /**
+   * Creates a new member: validates it, looks its currency up and inserts it.
+   *
+   * @param request the request, with the member as JSON body.
+   * @return the created member with HTTP status CREATED and its location; HTTP status BAD_REQUEST if the member is
+   *         not valid, INTERNAL_SERVER_ERROR if its currency cannot be found or it cannot be inserted.
+   */
+  public Mono<ServerResponse> create(final ServerRequest request) {
+    return request.bodyToMono(MemberDTO.class)
+        .defaultIfEmpty(new MemberDTO())
+        .flatMap(member -> {
+          var violations = memberValidator.validate(member);
+          if (violations != null) {
+            return error(HttpStatus.BAD_REQUEST, violations);
+          }
+          return countryInfoClient.getCurrency(member.getCountry())
+              .flatMap(currency -> {
+                var entity = memberMapper.toEntity(member);
+                entity.setCurrency(currency);
+                return repository.insert(entity);
+              })
+              .flatMap(created -> ServerResponse.created(URI.create("/api/members/" + created.getId()))
+                  .contentType(MediaType.APPLICATION_JSON)
+                  .bodyValue(memberMapper.toDto(created)));
+        })
+        .onErrorResume(ServerWebInputException.class, e -> error(HttpStatus.BAD_REQUEST, e.getReason()))
+        .onErrorResume(ServiceException.class, e -> {
+          log.error("Error creating Member: {}", e.getMessage());
+          return error(HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage());
+        })
+        .onErrorResume(e -> {
+          log.error("Error persisting a new Member: {}", e.getMessage(), e);
+          return error(HttpStatus.INTERNAL_SERVER_ERROR, "Error persisting a new Member");
+        });
+  }
+
+  private static Mono<ServerResponse> error(final HttpStatus status, final String message) {
+    return ServerResponse.status(status)
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(new ErrorResponse(status.name(), message, status.value()));
+  }
+}
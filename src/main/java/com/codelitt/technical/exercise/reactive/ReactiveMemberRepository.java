@@ -0,0 +1,194 @@
+package com.codelitt.technical.exercise.reactive;
+
+import io.r2dbc.spi.ConnectionFactory;
+
+import com.codelitt.technical.exercise.dto.payroll.PayrollChange;
+import com.codelitt.technical.exercise.enums.CurrencyStatus;
+import com.codelitt.technical.exercise.model.Member;
+import com.codelitt.technical.exercise.repository.MemberWriteQueries;
+import com.codelitt.technical.exercise.util.TagNames;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Inserts members with R2DBC, into the tables mapped by {@link Member}. Ids are taken from {@code member_id_seq} the
+ * way Hibernate takes them ("pooled-lo"): each {@code nextval} call reserves a block of {@code allocationSize} ids,
+ * starting with the value returned, so that the blocking and the reactive writes can share the sequence.
+ * <p>
+ * The connection factory is not a bean, as a {@code ConnectionFactory} bean would replace the {@code DataSource} of
+ * the blocking paths: this repository owns it and closes it with {@link #close()}.
+ * <p>
+ * The tag dictionary, the numbers of members of the tags and the payroll rollup of the group of a member are written
+ * with the {@link MemberWriteQueries} of the blocking writes: the rollup is locked, then incremented, with the minimum
+ * and maximum salaries read again from the members of the group, as by
+ * {@link com.codelitt.technical.exercise.service.PayrollService#apply}.
+ */
+public class ReactiveMemberRepository {
+
+  private static final String NEXT_ID = "select nextval('member_id_seq')";
+  private static final String INSERT_MEMBER = """
+      insert into member (id, created_at, contract_duration, country, currency, currency_status, first_name, last_name, role, salary, type, version)
+      values (:id, :createdAt, :contractDuration, :country, :currency, 'RESOLVED', :firstName, :lastName, :role, :salary, :type, 0)""";
+  private static final String INSERT_TAG = "insert into member_tags (member_id, tags) values (:memberId, :tag)";
+  private static final String SELECT_TAG_IDS = "select id from tag where name in (:names) order by id";
+  private static final String INSERT_TAG_POSTING = "insert into member_tag_posting (member_id, tag_id) values (:memberId, :tagId)";
+
+  private final ConnectionFactory connectionFactory;
+  private final DatabaseClient databaseClient;
+  private final TransactionalOperator transactionalOperator;
+  private final int allocationSize;
+
+  // the ids of the current block not handed out yet: [nextId, maxId)
+  private long nextId;
+  private long maxId;
+
+  public ReactiveMemberRepository(final ConnectionFactory connectionFactory, final int allocationSize) {
+    if (allocationSize < 1) {
+      throw new IllegalArgumentException("The id allocation size must be positive: " + allocationSize);
+    }
+    this.connectionFactory = connectionFactory;
+    this.databaseClient = DatabaseClient.create(connectionFactory);
+    this.transactionalOperator = TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory));
+    this.allocationSize = allocationSize;
+  }
+
+  /**
+   * Inserts a member, its tags and their postings, and adds it to the numbers of members of its tags and to the payroll
+   * rollup of its group, in one transaction.
+   * The tags missing from the tag dictionary and the missing rollup are added beforehand, each in a transaction of its
+   * own, as by the blocking writes.
+   *
+   * @param member the member to insert, without id.
+   * @return the member, with its id, creation time, version and currency status set.
+   */
+  public Mono<Member> insert(final Member member) {
+    final Set<String> names = TagNames.normalize(member.getTags());
+    final Mono<Void> addTags = Flux.fromIterable(names.stream().sorted().toList())
+        .concatMap(name -> ignoreConcurrentInsert(databaseClient.sql(MemberWriteQueries.INSERT_DICTIONARY_TAG).bind("name", name).then()))
+        .then();
+    final PayrollChange payroll = PayrollChange.added(member.getCountry(), member.getCurrency(), member.getType(), member.getSalary());
+    return addTags.then(addPayrollGroup(payroll)).then(nextId()).flatMap(id -> {
+      member.setId(id);
+      member.setCreatedAt(LocalDateTime.now());
+      member.setVersion(0L);
+      member.setCurrencyStatus(CurrencyStatus.RESOLVED);
+
+      var spec = databaseClient.sql(INSERT_MEMBER)
+          .bind("id", id)
+          .bind("createdAt", member.getCreatedAt());
+      spec = bind(spec, "contractDuration", member.getContractDuration(), Integer.class);
+      spec = bind(spec, "country", member.getCountry(), String.class);
+      spec = bind(spec, "currency", member.getCurrency(), String.class);
+      spec = bind(spec, "firstName", member.getFirstName(), String.class);
+      spec = bind(spec, "lastName", member.getLastName(), String.class);
+      spec = bind(spec, "role", member.getRole(), String.class);
+      spec = bind(spec, "salary", member.getSalary(), BigDecimal.class);
+      spec = bind(spec, "type", member.getType() == null ? null : member.getType().name(), String.class);
+
+      final List<String> tags = member.getTags() == null ? List.of() : member.getTags();
+      return spec.then()
+          .thenMany(Flux.fromIterable(tags).concatMap(tag -> databaseClient.sql(INSERT_TAG).bind("memberId", id).bind("tag", tag).then()))
+          .then(addPostings(id, names))
+          .then(addToPayroll(payroll))
+          .then(Mono.just(member))
+          .as(transactionalOperator::transactional);
+    });
+  }
+
+  /**
+   * Closes the connection factory, if it holds resources such as a connection pool.
+   */
+  public void close() {
+    if (connectionFactory instanceof Disposable disposable) {
+      disposable.dispose();
+    }
+  }
+
+  /**
+   * Adds the postings of a member and counts it in the numbers of members of its tags, in tag id order, as
+   * {@link com.codelitt.technical.exercise.service.MemberTagService#applyPostings} does.
+   */
+  private Mono<Void> addPostings(final Long memberId, final Set<String> names) {
+    if (names.isEmpty()) {
+      return Mono.empty();
+    }
+    // the ids are all read before the postings are written on the same connection
+    return databaseClient.sql(SELECT_TAG_IDS)
+        .bind("names", List.copyOf(names))
+        .map(row -> row.get(0, Integer.class))
+        .all()
+        .collectList()
+        .flatMapMany(Flux::fromIterable)
+        .concatMap(tagId -> databaseClient.sql(INSERT_TAG_POSTING).bind("memberId", memberId).bind("tagId", tagId).then()
+            .then(databaseClient.sql(MemberWriteQueries.ADD_TAG_MEMBERS).bind("id", tagId).bind("members", 1L).then()))
+        .then();
+  }
+
+  private Mono<Void> addPayrollGroup(final PayrollChange payroll) {
+    if (!payroll.isCounted()) {
+      return Mono.empty();
+    }
+    return ignoreConcurrentInsert(bindGroup(databaseClient.sql(MemberWriteQueries.INSERT_PAYROLL_GROUP), payroll).then());
+  }
+
+  private Mono<Void> addToPayroll(final PayrollChange payroll) {
+    if (!payroll.isCounted()) {
+      return Mono.empty();
+    }
+    return bindGroup(databaseClient.sql(MemberWriteQueries.LOCK_PAYROLL_GROUP), payroll)
+        .map(row -> row.get(0, Integer.class))
+        .one()
+        .flatMap(rollupId -> databaseClient.sql(MemberWriteQueries.ADD_TO_PAYROLL_GROUP)
+            .bind("id", rollupId)
+            .bind("members", payroll.members())
+            .bind("salaried", payroll.salaried())
+            .bind("salarySum", payroll.salarySum())
+            .then());
+  }
+
+  private Mono<Long> nextId() {
+    synchronized (this) {
+      if (nextId < maxId) {
+        return Mono.just(nextId++);
+      }
+    }
+    return databaseClient.sql(NEXT_ID)
+        .map(row -> row.get(0, Long.class))
+        .one()
+        .map(first -> {
+          // concurrent callers may each reserve a block: the last one is used, the rest of the others is skipped
+          synchronized (this) {
+            nextId = first + 1;
+            maxId = first + allocationSize;
+          }
+          return first;
+        });
+  }
+
+  // the row was added by a concurrent insert of the same tag or group, which is all the insert was for
+  private static Mono<Void> ignoreConcurrentInsert(final Mono<Void> insert) {
+    return insert.onErrorResume(DataIntegrityViolationException.class, e -> Mono.empty());
+  }
+
+  private static DatabaseClient.GenericExecuteSpec bindGroup(final DatabaseClient.GenericExecuteSpec spec, final PayrollChange payroll) {
+    return spec.bind("country", payroll.country())
+        .bind("currency", payroll.currency())
+        .bind("type", payroll.type().name());
+  }
+
+  private static <T> DatabaseClient.GenericExecuteSpec bind(final DatabaseClient.GenericExecuteSpec spec, final String name,
+                                                            final T value, final Class<T> type) {
+    return value == null ? spec.bindNull(name, type) : spec.bind(name, value);
+  }
+}
@@ -0,0 +1,67 @@
+package com.codelitt.technical.exercise.reactive;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+/**
+ * A Netty server running WebFlux routes on their own port, next to the servlet server of the application: the
+ * application itself stays a servlet one, and only the routes given here are served on Netty's event loops.
+ */
+@Slf4j
+public class ReactiveMemberServer implements SmartLifecycle {
+
+  private final RouterFunction<ServerResponse> routes;
+  private final HandlerStrategies strategies;
+  private final int port;
+
+  private volatile DisposableServer server;
+
+  public ReactiveMemberServer(final RouterFunction<ServerResponse> routes, final HandlerStrategies strategies, final int port) {
+    this.routes = routes;
+    this.strategies = strategies;
+    this.port = port;
+  }
+
+  @Override
+  public void start() {
+    var handler = new ReactorHttpHandlerAdapter(RouterFunctions.toHttpHandler(routes, strategies));
+    server = HttpServer.create().port(port).handle(handler).bindNow();
+    log.info("Reactive member server started on port {}", server.port());
+  }
+
+  @Override
+  public void stop() {
+    var running = server;
+    if (running != null) {
+      running.disposeNow();
+      server = null;
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return server != null;
+  }
+
+  /**
+   * Returns the port the server listens on, which is only known once started when configured as 0.
+   *
+   * @return the port of the server.
+   * @throws IllegalStateException if the server is not running.
+   */
+  public int getPort() {
+    var running = server;
+    if (running == null) {
+      throw new IllegalStateException("The reactive member server is not running");
+    }
+    return running.port();
+  }
+}
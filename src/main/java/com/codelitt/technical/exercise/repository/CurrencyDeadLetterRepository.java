@@ -0,0 +1,13 @@
+package com.codelitt.technical.exercise.repository;
+
+import com.codelitt.technical.exercise.model.CurrencyDeadLetter;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository of {@link CurrencyDeadLetter} entities, keyed by member id.
+ */
+@Repository
+public interface CurrencyDeadLetterRepository extends JpaRepository<CurrencyDeadLetter, Long> {
+}
@@ -0,0 +1,21 @@
+package com.codelitt.technical.exercise.repository;
+
+import com.codelitt.technical.exercise.model.Member;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Filtered keyset reads of members, composed from {@link Specification}s (see {@link MemberSpecifications}).
+ * <p>
+ * Like the keyset queries of {@link MemberRepository}, they return a {@link List} limited to the page size of the
+ * {@link Pageable}, without the count query of {@code JpaSpecificationExecutor#findAll(Specification, Pageable)}.
+ */
+public interface MemberFilterRepository {
+
+  List<Member> findMembers(Specification<Member> specification, Pageable pageable);
+
+  List<MemberVersion> findMemberVersions(Specification<Member> specification, Pageable pageable);
+}
@@ -0,0 +1,74 @@
+package com.codelitt.technical.exercise.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import com.codelitt.technical.exercise.enums.MemberSortField;
+import com.codelitt.technical.exercise.model.Member;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.List;
+
+/**
+ * Criteria implementation of {@link MemberFilterRepository}, merged into {@link MemberRepository}.
+ */
+class MemberFilterRepositoryImpl implements MemberFilterRepository {
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  @Override
+  public List<Member> findMembers(final Specification<Member> specification, final Pageable pageable) {
+    final CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+    final CriteriaQuery<Member> query = builder.createQuery(Member.class);
+    final Root<Member> root = query.from(Member.class);
+    query.select(root);
+    return entityManager.createQuery(filter(query, root, builder, specification, pageable))
+        .setMaxResults(pageable.getPageSize())
+        .getResultList();
+  }
+
+  @Override
+  public List<MemberVersion> findMemberVersions(final Specification<Member> specification, final Pageable pageable) {
+    final CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+    final CriteriaQuery<Tuple> query = builder.createTupleQuery();
+    final Root<Member> root = query.from(Member.class);
+    query.multiselect(root.get(MemberSortField.ID.getProperty()), root.get("version"));
+    return entityManager.createQuery(filter(query, root, builder, specification, pageable))
+        .setMaxResults(pageable.getPageSize())
+        .getResultList()
+        .stream()
+        .<MemberVersion>map(row -> new Version(row.get(0, Long.class), row.get(1, Long.class)))
+        .toList();
+  }
+
+  private static <T> CriteriaQuery<T> filter(final CriteriaQuery<T> query, final Root<Member> root, final CriteriaBuilder builder,
+                                             final Specification<Member> specification, final Pageable pageable) {
+    final Predicate predicate = specification.toPredicate(root, query, builder);
+    if (predicate != null) {
+      query.where(predicate);
+    }
+    return query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, builder));
+  }
+
+  private record Version(Long id, Long version) implements MemberVersion {
+
+    @Override
+    public Long getId() {
+      return id;
+    }
+
+    @Override
+    public Long getVersion() {
+      return version;
+    }
+  }
+}
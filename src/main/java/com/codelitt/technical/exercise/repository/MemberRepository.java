@@ -1,9 +1,104 @@
 package com.codelitt.technical.exercise.repository;
 
+import jakarta.persistence.LockModeType;
+
+import com.codelitt.technical.exercise.enums.CurrencyStatus;
 import com.codelitt.technical.exercise.model.Member;
-import org.springframework.data.repository.CrudRepository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository of {@link Member} entities.
+ * <p>
+ * The keyset queries return a {@link List} rather than a {@link org.springframework.data.domain.Page}, so that
+ * no count query is issued; the {@link Pageable} only carries the limit and the order of the rows. The tags of the
+ * members of a page are batch fetched (see {@link Member#getTags()}), since a fetch join cannot be combined with a
+ * row limit; single member lookups fetch them with a join. The keyset queries also return {@link MemberVersion}
+ * projections, to detect changes to a page without fetching it. The members found by a tag search are read by id,
+ * the search itself running on the posting lists of {@link TagRepository}. The filtered keyset queries are composed
+ * from {@link MemberSpecifications} by the {@link MemberFilterRepository} fragment.
+ * <p>
+ * The members created with a pending currency are read as {@link PendingCurrency} projections and updated in bulk,
+ * per country, by the background currency resolution.
+ */
 @Repository
-public interface MemberRepository extends CrudRepository<Member, Long> {
-}
\ No newline at end of file
+public interface MemberRepository extends JpaRepository<Member, Long>, MemberFilterRepository {
+
+  @Override
+  @EntityGraph(attributePaths = "tags")
+  Optional<Member> findById(Long id);
+
+  @Query("select m.version from Member m where m.id = :id")
+  Optional<Long> findVersionById(@Param("id") Long id);
+
+  <T> List<T> findAllBy(Pageable pageable, Class<T> type);
+
+  List<Member> findByIdIn(Collection<Long> ids, Sort sort);
+
+  <T> List<T> findByIdGreaterThan(Long id, Pageable pageable, Class<T> type);
+
+  <T> List<T> findByIdLessThan(Long id, Pageable pageable, Class<T> type);
+
+  @Query("select m from Member m where m.createdAt > :createdAt or (m.createdAt = :createdAt and m.id > :id)")
+  <T> List<T> findAfterCreatedAt(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable, Class<T> type);
+
+  @Query("select m from Member m where m.createdAt < :createdAt or (m.createdAt = :createdAt and m.id < :id)")
+  <T> List<T> findBeforeCreatedAt(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable, Class<T> type);
+
+  @Query("""
+      select m.id as id, m.country as country, m.currencyAttempts as currencyAttempts, m.createdAt as createdAt from Member m
+      where m.currencyStatus = :status and (m.currencyRetryAt is null or m.currencyRetryAt <= :now) order by m.id""")
+  List<PendingCurrency> findPendingCurrencies(@Param("status") CurrencyStatus status, @Param("now") LocalDateTime now, Pageable pageable);
+
+  long countByCurrencyStatus(CurrencyStatus status);
+
+  @Query("select min(m.createdAt) from Member m where m.currencyStatus = :status")
+  Optional<LocalDateTime> findOldestCreatedAtByCurrencyStatus(@Param("status") CurrencyStatus status);
+
+  /**
+   * Reads the members still pending among the given ones, and locks them until the end of the transaction, so that
+   * they are exactly the ones a pending currency update of the same transaction resolves.
+   *
+   * @param ids the ids of the members.
+   * @param status the pending status.
+   * @return the members still pending.
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("select m from Member m where m.id in :ids and m.currencyStatus = :status")
+  List<Member> lockPendingCurrencies(@Param("ids") Collection<Long> ids, @Param("status") CurrencyStatus status);
+
+  // the updates below only apply to members still pending: one updated or resolved in between is left as it is
+  @Modifying
+  @Query("""
+      update Member m set m.currency = :currency, m.currencyStatus = :resolved, m.currencyAttempts = null, m.currencyRetryAt = null,
+      m.version = m.version + 1 where m.id in :ids and m.currencyStatus = :pending""")
+  int resolvePendingCurrencies(@Param("ids") Collection<Long> ids, @Param("currency") String currency,
+                               @Param("pending") CurrencyStatus pending, @Param("resolved") CurrencyStatus resolved);
+
+  @Modifying
+  @Query("""
+      update Member m set m.currencyAttempts = :attempts, m.currencyRetryAt = :retryAt
+      where m.id in :ids and m.currencyStatus = :pending""")
+  int retryPendingCurrencies(@Param("ids") Collection<Long> ids, @Param("attempts") int attempts, @Param("retryAt") LocalDateTime retryAt,
+                             @Param("pending") CurrencyStatus pending);
+
+  @Modifying
+  @Query("""
+      update Member m set m.currencyStatus = :failed, m.currencyAttempts = :attempts, m.currencyRetryAt = null, m.version = m.version + 1
+      where m.id in :ids and m.currencyStatus = :pending""")
+  int failPendingCurrencies(@Param("ids") Collection<Long> ids, @Param("attempts") int attempts,
+                            @Param("pending") CurrencyStatus pending, @Param("failed") CurrencyStatus failed);
+}
@@ -0,0 +1,115 @@
+package com.codelitt.technical.exercise.repository;
+
+import com.codelitt.technical.exercise.dto.filter.MemberFilter;
+import com.codelitt.technical.exercise.dto.page.PageCursor;
+import com.codelitt.technical.exercise.enums.MemberSortField;
+import com.codelitt.technical.exercise.enums.MemberType;
+import com.codelitt.technical.exercise.model.Member;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+/**
+ * {@link Specification}s of the member filters, composed into one query by {@link #matching(MemberFilter)}: only the
+ * criteria given become predicates, so that each combination gets a query the indexes of
+ * {@code db_scripts/create_member_filter_indexes.sql} can serve.
+ */
+public final class MemberSpecifications {
+
+  private static final String ID = MemberSortField.ID.getProperty();
+  private static final String CREATED_AT = MemberSortField.CREATED_AT.getProperty();
+
+  private MemberSpecifications() {
+  }
+
+  /**
+   * Composes the criteria of a filter.
+   *
+   * @param filter the filter.
+   * @return the specification of the members matching all the criteria of the filter.
+   */
+  public static Specification<Member> matching(final MemberFilter filter) {
+    Specification<Member> specification = Specification.where(null);
+    if (filter.country() != null) {
+      specification = specification.and(hasCountry(filter.country()));
+    }
+    if (filter.type() != null) {
+      specification = specification.and(hasType(filter.type()));
+    }
+    if (filter.currency() != null) {
+      specification = specification.and(hasCurrency(filter.currency()));
+    }
+    if (filter.minSalary() != null || filter.maxSalary() != null) {
+      specification = specification.and(between("salary", filter.minSalary(), filter.maxSalary()));
+    }
+    if (filter.minContractDuration() != null || filter.maxContractDuration() != null) {
+      // only contractors have a contract duration: the type lets the partial index on contractors serve the range
+      if (filter.type() == null) {
+        specification = specification.and(hasType(MemberType.CONTRACTOR));
+      }
+      specification = specification.and(between("contractDuration", filter.minContractDuration(), filter.maxContractDuration()));
+    }
+    if (filter.createdFrom() != null || filter.createdTo() != null) {
+      specification = specification.and(between(CREATED_AT, filter.createdFrom(), filter.createdTo()));
+    }
+    return specification;
+  }
+
+  /**
+   * Members of a country, capitalized as the country of a {@link Member} is stored.
+   */
+  public static Specification<Member> hasCountry(final String country) {
+    final String value = StringUtils.capitalize(country.trim());
+    return (root, query, builder) -> builder.equal(root.get("country"), value);
+  }
+
+  public static Specification<Member> hasType(final MemberType type) {
+    return (root, query, builder) -> builder.equal(root.get("type"), type);
+  }
+
+  /**
+   * Members paid in a currency, given as an ISO 4217 code in any case.
+   */
+  public static Specification<Member> hasCurrency(final String currency) {
+    final String value = currency.trim().toUpperCase(Locale.ROOT);
+    return (root, query, builder) -> builder.equal(root.get("currency"), value);
+  }
+
+  /**
+   * Members whose attribute is within an inclusive range, open on the side of a null bound.
+   */
+  public static <T extends Comparable<? super T>> Specification<Member> between(final String attribute, final T min, final T max) {
+    return (root, query, builder) -> {
+      if (min != null && max != null) {
+        return builder.between(root.<T>get(attribute), min, max);
+      }
+      return min != null
+          ? builder.greaterThanOrEqualTo(root.<T>get(attribute), min)
+          : builder.lessThanOrEqualTo(root.<T>get(attribute), max);
+    };
+  }
+
+  /**
+   * Members after the position of a keyset cursor, in the sort order it was issued for.
+   *
+   * @param after the position of the last member of the previous page.
+   * @return the specification of the members of the next pages.
+   */
+  public static Specification<Member> after(final PageCursor after) {
+    final boolean ascending = after.direction().isAscending();
+    final Specification<Member> afterId = (root, query, builder) -> ascending
+        ? builder.greaterThan(root.<Long>get(ID), after.id())
+        : builder.lessThan(root.<Long>get(ID), after.id());
+    if (after.sort() != MemberSortField.CREATED_AT) {
+      return afterId;
+    }
+    final Specification<Member> afterCreatedAt = (root, query, builder) -> ascending
+        ? builder.greaterThan(root.<LocalDateTime>get(CREATED_AT), after.createdAt())
+        : builder.lessThan(root.<LocalDateTime>get(CREATED_AT), after.createdAt());
+    final Specification<Member> atCreatedAt = (root, query, builder) -> builder.equal(root.get(CREATED_AT), after.createdAt());
+    return afterCreatedAt.or(atCreatedAt.and(afterId));
+  }
+}
@@ -0,0 +1,11 @@
+package com.codelitt.technical.exercise.repository;
+
+/**
+ * Projection of a member on its id and version, enough to tell whether it changed without reading the whole row.
+ */
+public interface MemberVersion {
+
+  Long getId();
+
+  Long getVersion();
+}
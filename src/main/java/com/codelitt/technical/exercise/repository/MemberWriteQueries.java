@@ -0,0 +1,55 @@
+package com.codelitt.technical.exercise.repository;
+
+/**
+ * The native statements writing the tag dictionary, the numbers of members of the tags and the payroll rollups, shared by the JPA repositories and
+ * {@link com.codelitt.technical.exercise.reactive.ReactiveMemberRepository}, so that the blocking and the reactive
+ * member writes index the tags and roll the payroll up the same way.
+ * <p>
+ * The inserts skip the rows already present rather than relying on {@code on conflict}, which the in-memory databases
+ * of the tests do not all support: an insert racing with the same insert of another transaction still fails with a
+ * unique violation, after which the callers read the row again.
+ */
+public final class MemberWriteQueries {
+
+  /**
+   * Adds a normalized tag to the tag dictionary, unless it is there already. Binds {@code :name}.
+   */
+  public static final String INSERT_DICTIONARY_TAG = """
+      insert into tag (name, member_count) select :name, 0
+      where not exists (select 1 from tag where name = :name)""";
+
+  /**
+   * Adds members to the number of members of a tag, or removes them with a negative number, in the transaction that
+   * writes their postings. Binds {@code :id} and {@code :members}.
+   */
+  public static final String ADD_TAG_MEMBERS = "update tag set member_count = member_count + :members where id = :id";
+
+  /**
+   * Adds the empty rollup of a group of members, unless it is there already. Binds {@code :country},
+   * {@code :currency} and {@code :type}.
+   */
+  public static final String INSERT_PAYROLL_GROUP = """
+      insert into payroll_rollup (country, currency, type, members, salaried, salary_sum) select :country, :currency, :type, 0, 0, 0
+      where not exists (select 1 from payroll_rollup where country = :country and currency = :currency and type = :type)""";
+
+  /**
+   * Reads the id of the rollup of a group and locks it until the end of the transaction. Binds {@code :country},
+   * {@code :currency} and {@code :type}.
+   */
+  public static final String LOCK_PAYROLL_GROUP = """
+      select id from payroll_rollup where country = :country and currency = :currency and type = :type for update""";
+
+  /**
+   * Adds members and salaries to a rollup, and reads the minimum and maximum salaries of its group again, through the
+   * {@code (country, currency, type, salary)} index of {@code db_scripts/create_payroll_rollup.sql}. Binds {@code :id},
+   * {@code :members}, {@code :salaried} and {@code :salarySum}.
+   */
+  public static final String ADD_TO_PAYROLL_GROUP = """
+      update payroll_rollup r set members = r.members + :members, salaried = r.salaried + :salaried, salary_sum = r.salary_sum + :salarySum,
+      salary_min = (select min(m.salary) from member m where m.country = r.country and m.currency = r.currency and m.type = r.type),
+      salary_max = (select max(m.salary) from member m where m.country = r.country and m.currency = r.currency and m.type = r.type)
+      where r.id = :id""";
+
+  private MemberWriteQueries() {
+  }
+}
@@ -0,0 +1,63 @@
+package com.codelitt.technical.exercise.repository;
+
+import com.codelitt.technical.exercise.model.PayrollRollup;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository of the {@link PayrollRollup}s, one row per group of members. The counts and the sums are incremented in
+ * place, while the minimum and maximum salaries are read again from the members of the group. The rollups are written
+ * with the {@link MemberWriteQueries} of the reactive writes.
+ */
+@Repository
+public interface PayrollRollupRepository extends JpaRepository<PayrollRollup, Integer> {
+
+  @Query("select r from PayrollRollup r where r.members > 0 order by r.country, r.currency, r.type")
+  List<PayrollRollup> findNonEmpty();
+
+  /**
+   * Adds the empty rollup of a group, unless it is there already.
+   *
+   * @param country the country of the group.
+   * @param currency the currency of the group.
+   * @param type the type of the members of the group.
+   * @return the number of rollups added.
+   */
+  @Modifying
+  @Query(value = MemberWriteQueries.INSERT_PAYROLL_GROUP, nativeQuery = true)
+  int addGroup(@Param("country") String country, @Param("currency") String currency, @Param("type") String type);
+
+  /**
+   * Reads the id of the rollup of a group and locks the rollup until the end of the transaction.
+   *
+   * @param country the country of the group.
+   * @param currency the currency of the group.
+   * @param type the type of the members of the group.
+   * @return the id of the rollup, empty if the group has none yet.
+   */
+  @Query(value = MemberWriteQueries.LOCK_PAYROLL_GROUP, nativeQuery = true)
+  Optional<Integer> lockGroup(@Param("country") String country, @Param("currency") String currency, @Param("type") String type);
+
+  /**
+   * Adds members and salaries to a rollup, and reads the minimum and maximum salaries of its group again. The member
+   * writes of the transaction are flushed first, so that they are part of the minimum and the maximum.
+   *
+   * @param id the id of the rollup.
+   * @param members the number of members added, negative if removed.
+   * @param salaried the number of members with a salary added, negative if removed.
+   * @param salarySum the sum of the salaries added, negative if removed.
+   * @return the number of rollups updated.
+   */
+  @Modifying(flushAutomatically = true)
+  @Query(value = MemberWriteQueries.ADD_TO_PAYROLL_GROUP, nativeQuery = true)
+  int add(@Param("id") Integer id, @Param("members") long members, @Param("salaried") long salaried,
+          @Param("salarySum") BigDecimal salarySum);
+}
@@ -0,0 +1,17 @@
+package com.codelitt.technical.exercise.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of a member whose currency is pending, on what resolving it needs.
+ */
+public interface PendingCurrency {
+
+  Long getId();
+
+  String getCountry();
+
+  Integer getCurrencyAttempts();
+
+  LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,71 @@
+package com.codelitt.technical.exercise.repository;
+
+import com.codelitt.technical.exercise.model.Tag;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository of the {@link Tag} dictionary and of the posting lists of {@code member_tag_posting}, the ids of the
+ * members tagged with each tag. The posting lists are read with native queries, so that they are served by the
+ * {@code (tag_id, member_id)} index alone, without joining the members. The number of members of each posting list is
+ * kept on the tag itself, so that it is read without counting the list.
+ */
+@Repository
+public interface TagRepository extends JpaRepository<Tag, Integer> {
+
+  List<Tag> findByNameIn(Collection<String> names);
+
+  /**
+   * Adds a tag to the dictionary, unless it is there already.
+   *
+   * @param name the normalized tag.
+   * @return the number of tags added.
+   */
+  @Modifying
+  @Query(value = MemberWriteQueries.INSERT_DICTIONARY_TAG, nativeQuery = true)
+  int addTag(@Param("name") String name);
+
+  /**
+   * Adds members to the number of members of a tag, or removes them.
+   *
+   * @param id the id of the tag.
+   * @param members the number of members added, negative if removed.
+   * @return the number of tags updated.
+   */
+  @Modifying
+  @Query(value = MemberWriteQueries.ADD_TAG_MEMBERS, nativeQuery = true)
+  int addMembers(@Param("id") Integer id, @Param("members") long members);
+
+  /**
+   * Reads the posting list of a tag between two member ids.
+   *
+   * @param tagId the id of the tag.
+   * @param from the lowest member id to read.
+   * @param to the highest member id to read.
+   * @return the ids of the members tagged, in ascending order.
+   */
+  @Query(value = """
+      select member_id from member_tag_posting
+      where tag_id = :tagId and member_id between :from and :to order by member_id""", nativeQuery = true)
+  List<Long> findMemberIds(@Param("tagId") Integer tagId, @Param("from") long from, @Param("to") long to);
+
+  /**
+   * Reads the beginning of the posting list of a tag, from a member id.
+   *
+   * @param tagId the id of the tag.
+   * @param from the lowest member id to read.
+   * @param limit the maximum number of ids to read.
+   * @return the ids of the first members tagged, in ascending order.
+   */
+  @Query(value = """
+      select member_id from member_tag_posting
+      where tag_id = :tagId and member_id >= :from order by member_id limit :limit""", nativeQuery = true)
+  List<Long> findFirstMemberIds(@Param("tagId") Integer tagId, @Param("from") long from, @Param("limit") int limit);
+}
@@ -0,0 +1,125 @@
+package com.codelitt.technical.exercise.resilience;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+import com.codelitt.technical.exercise.configuration.CircuitBreakerProperties;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Guards the calls to the "restcountries.com" API with concurrency bulkheads and a circuit breaker.
+ * The bulkheads cap the calls in flight, the blocking and the non-blocking ones apart; the circuit breaker opens on a high failure or slow-call rate, rejects
+ * calls while open and lets probe calls through once half-open. Client errors (4xx, e.g. an unknown country) are
+ * answers, not failures, and are ignored by the circuit breaker.
+ */
+@Slf4j
+@Component
+public class CountryApiGuard implements MeterBinder {
+
+  private static final String NAME = "restcountries";
+  private static final String REACTIVE_NAME = NAME + "-reactive";
+
+  private final CircuitBreakerRegistry circuitBreakerRegistry;
+  private final BulkheadRegistry bulkheadRegistry;
+  private final CircuitBreaker circuitBreaker;
+  private final Bulkhead bulkhead;
+  private final Bulkhead reactiveBulkhead;
+
+  @Autowired
+  public CountryApiGuard(final CircuitBreakerProperties properties) {
+    this.circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+        .failureRateThreshold(properties.failureRateThreshold())
+        .slowCallRateThreshold(properties.slowCallRateThreshold())
+        .slowCallDurationThreshold(properties.slowCallDuration())
+        .slidingWindowSize(properties.slidingWindowSize())
+        .minimumNumberOfCalls(properties.minimumNumberOfCalls())
+        .waitDurationInOpenState(properties.waitDurationInOpenState())
+        .permittedNumberOfCallsInHalfOpenState(properties.permittedCallsInHalfOpenState())
+        .ignoreException(CountryApiGuard::isClientError)
+        .build());
+    this.bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+        .maxConcurrentCalls(properties.maxConcurrentCalls())
+        .maxWaitDuration(properties.maxWaitForPermit())
+        .build());
+    this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(NAME);
+    this.bulkhead = bulkheadRegistry.bulkhead(NAME);
+    // the non-blocking calls are subscribed to on event-loop threads, which must not wait for a permit
+    this.reactiveBulkhead = bulkheadRegistry.bulkhead(REACTIVE_NAME, BulkheadConfig.from(bulkheadRegistry.getDefaultConfig())
+        .maxWaitDuration(Duration.ZERO)
+        .build());
+
+    circuitBreaker.getEventPublisher().onStateTransition(event ->
+        log.warn("Circuit breaker '{}' changed state: {}", NAME, event.getStateTransition()));
+  }
+
+  /**
+   * Executes a call to the API through the bulkhead and the circuit breaker.
+   *
+   * @param call the call to execute.
+   * @param <T> the type of the result.
+   * @return the result of the call.
+   * @throws io.github.resilience4j.circuitbreaker.CallNotPermittedException if the circuit is open.
+   * @throws io.github.resilience4j.bulkhead.BulkheadFullException if too many calls are in flight.
+   */
+  public <T> T call(final Supplier<T> call) {
+    return Bulkhead.decorateSupplier(bulkhead, CircuitBreaker.decorateSupplier(circuitBreaker, call)).get();
+  }
+
+  /**
+   * Executes a non-blocking call to the API through the same circuit breaker, and a bulkhead of its own that does not
+   * wait for a permit: the call is subscribed to only if it is permitted, and its outcome is recorded when it
+   * completes. The non-blocking calls hold their permits for the whole exchange, without taking those of the blocking
+   * calls.
+   *
+   * @param call the call to execute.
+   * @param <T> the type of the result.
+   * @return the result of the call, or an error with a CallNotPermittedException if the circuit is open or with a
+   *         BulkheadFullException if as many non-blocking calls as the bulkhead allows are in flight.
+   */
+  public <T> Mono<T> call(final Mono<T> call) {
+    return call.transformDeferred(CircuitBreakerOperator.of(circuitBreaker)).transformDeferred(BulkheadOperator.of(reactiveBulkhead));
+  }
+
+  /**
+   * Returns the current state of the circuit breaker.
+   *
+   * @return the state of the circuit breaker.
+   */
+  public CircuitBreaker.State state() {
+    return circuitBreaker.getState();
+  }
+
+  private static boolean isClientError(final Throwable throwable) {
+    return throwable instanceof HttpClientErrorException
+        || throwable instanceof WebClientResponseException response && response.getStatusCode().is4xxClientError();
+  }
+
+  @Override
+  public void bindTo(final MeterRegistry registry) {
+    TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(registry);
+    TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(registry);
+    circuitBreaker.getEventPublisher().onStateTransition(event -> registry.counter("resilience4j.circuitbreaker.transitions",
+        "name", NAME,
+        "from", event.getStateTransition().getFromState().name(),
+        "to", event.getStateTransition().getToState().name()).increment());
+  }
+}
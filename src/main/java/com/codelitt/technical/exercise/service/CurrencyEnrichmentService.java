@@ -0,0 +1,7 @@
+package com.codelitt.technical.exercise.service;
+
+public interface CurrencyEnrichmentService {
+
+  int resolvePending();
+
+}
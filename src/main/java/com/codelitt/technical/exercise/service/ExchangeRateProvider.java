@@ -0,0 +1,15 @@
+package com.codelitt.technical.exercise.service;
+
+import com.codelitt.technical.exercise.cache.ExchangeRates;
+import com.codelitt.technical.exercise.exception.ServiceException;
+
+import java.time.LocalDate;
+
+/**
+ * A source of exchange rates, chosen with {@code api.exchange-rates.mode}. Its rates are cached per day by the
+ * {@link ExchangeRateService}.
+ */
+public interface ExchangeRateProvider {
+
+  ExchangeRates getRates(LocalDate date) throws ServiceException;
+}
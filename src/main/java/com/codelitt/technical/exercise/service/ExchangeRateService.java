@@ -0,0 +1,14 @@
+package com.codelitt.technical.exercise.service;
+
+import com.codelitt.technical.exercise.cache.ExchangeRates;
+import com.codelitt.technical.exercise.cache.SalaryConverter;
+import com.codelitt.technical.exercise.exception.ServiceException;
+
+import java.time.LocalDate;
+
+public interface ExchangeRateService {
+
+  ExchangeRates getRates(LocalDate date) throws ServiceException;
+
+  SalaryConverter converterTo(String currency) throws ServiceException;
+}
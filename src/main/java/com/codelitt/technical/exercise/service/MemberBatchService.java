@@ -0,0 +1,12 @@
+package com.codelitt.technical.exercise.service;
+
+import com.codelitt.technical.exercise.dto.MemberDTO;
+import com.codelitt.technical.exercise.dto.batch.MemberBatchResult;
+
+import java.util.List;
+
+public interface MemberBatchService {
+
+  MemberBatchResult createAll(List<MemberDTO> members);
+
+}
@@ -0,0 +1,13 @@
+package com.codelitt.technical.exercise.service;
+
+import com.codelitt.technical.exercise.cache.SalaryConverter;
+import com.codelitt.technical.exercise.enums.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface MemberExportService {
+
+  void export(ExportFormat format, SalaryConverter converter, OutputStream outputStream) throws IOException;
+
+}
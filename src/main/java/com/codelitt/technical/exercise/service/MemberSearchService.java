@@ -0,0 +1,12 @@
+package com.codelitt.technical.exercise.service;
+
+import com.codelitt.technical.exercise.dto.search.MemberNameMatch;
+import com.codelitt.technical.exercise.exception.ServiceException;
+
+import java.util.List;
+
+public interface MemberSearchService {
+
+  List<MemberNameMatch> searchByName(String query, Integer limit) throws ServiceException;
+
+}
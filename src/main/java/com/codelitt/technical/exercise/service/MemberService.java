@@ -3,11 +3,15 @@ package com.codelitt.technical.exercise.service;
 import jakarta.persistence.EntityNotFoundException;
 
 import com.codelitt.technical.exercise.dto.MemberDTO;
+import com.codelitt.technical.exercise.dto.filter.MemberFilter;
+import com.codelitt.technical.exercise.dto.page.CursorPage;
+import com.codelitt.technical.exercise.dto.page.OffsetPage;
+import com.codelitt.technical.exercise.enums.MemberSortField;
 import com.codelitt.technical.exercise.exception.ServiceException;
+import com.fasterxml.jackson.databind.JsonNode;
 
 import org.springframework.dao.DataIntegrityViolationException;
-
-import java.util.List;
+import org.springframework.data.domain.Sort;
 
 public interface MemberService {
 
@@ -15,9 +19,25 @@ public interface MemberService {
 
   MemberDTO update(Long id, MemberDTO member) throws ServiceException;
 
+  MemberDTO update(Long id, MemberDTO member, Long expectedVersion) throws ServiceException;
+
+  MemberDTO patch(Long id, JsonNode patch, Long expectedVersion) throws ServiceException;
+
   MemberDTO findById(Long id) throws EntityNotFoundException;
 
-  List<MemberDTO> findAllMembers() throws ServiceException;
+  Long findVersion(Long id) throws EntityNotFoundException;
+
+  CursorPage<MemberDTO> findMembers(String cursor, Integer size, MemberSortField sort, Sort.Direction direction) throws ServiceException;
+
+  CursorPage<MemberDTO> findMembers(MemberFilter filter, String cursor, Integer size, MemberSortField sort,
+                                    Sort.Direction direction) throws ServiceException;
+
+  String findMembersVersion(String cursor, Integer size, MemberSortField sort, Sort.Direction direction) throws ServiceException;
+
+  String findMembersVersion(MemberFilter filter, String cursor, Integer size, MemberSortField sort,
+                            Sort.Direction direction) throws ServiceException;
+
+  OffsetPage<MemberDTO> findMembersPage(int page, Integer size) throws ServiceException;
 
   void deleteById(Long id) throws EntityNotFoundException, DataIntegrityViolationException;
 
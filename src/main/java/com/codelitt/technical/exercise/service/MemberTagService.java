@@ -0,0 +1,26 @@
+package com.codelitt.technical.exercise.service;
+
+import com.codelitt.technical.exercise.dto.MemberDTO;
+import com.codelitt.technical.exercise.dto.tag.TagCardinality;
+import com.codelitt.technical.exercise.dto.tag.TagSearchPage;
+import com.codelitt.technical.exercise.enums.TagMatch;
+import com.codelitt.technical.exercise.exception.ServiceException;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public interface MemberTagService {
+
+  Map<String, Integer> resolve(Collection<String> tags) throws ServiceException;
+
+  Set<Integer> resolveIds(Collection<String> tags) throws ServiceException;
+
+  void applyPostings(Collection<Integer> addedTagIds, Collection<Integer> removedTagIds);
+
+  List<TagCardinality> findCardinalities(Collection<String> tags) throws ServiceException;
+
+  TagSearchPage<MemberDTO> findMembersByTags(Collection<String> tags, TagMatch match, String cursor, Integer size) throws ServiceException;
+
+}
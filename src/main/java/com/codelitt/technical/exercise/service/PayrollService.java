@@ -0,0 +1,21 @@
+package com.codelitt.technical.exercise.service;
+
+import com.codelitt.technical.exercise.cache.SalaryConverter;
+import com.codelitt.technical.exercise.dto.payroll.PayrollChange;
+import com.codelitt.technical.exercise.dto.payroll.PayrollGroup;
+import com.codelitt.technical.exercise.enums.PayrollDimension;
+import com.codelitt.technical.exercise.exception.ServiceException;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+public interface PayrollService {
+
+  void apply(Collection<PayrollChange> changes);
+
+  List<PayrollGroup> findPayroll(Set<PayrollDimension> groupBy) throws ServiceException;
+
+  List<PayrollGroup> findPayroll(Set<PayrollDimension> groupBy, SalaryConverter converter) throws ServiceException;
+
+}
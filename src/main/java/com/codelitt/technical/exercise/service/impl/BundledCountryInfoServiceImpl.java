@@ -0,0 +1,108 @@
+package com.codelitt.technical.exercise.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+
+import com.codelitt.technical.exercise.cache.CountryIndex;
+import com.codelitt.technical.exercise.dto.country.CountryInfoDTO;
+import com.codelitt.technical.exercise.exception.CountryNotFoundException;
+import com.codelitt.technical.exercise.exception.ServiceException;
+import com.codelitt.technical.exercise.service.CountryInfoService;
+import com.codelitt.technical.exercise.service.base.BaseService;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.List;
+
+/**
+ * A {@link CountryInfoService} backed by a country/currency snapshot bundled with the application.
+ * Lookups never leave the JVM: the snapshot is loaded into an immutable {@link CountryIndex} at startup and replaced
+ * in the background by a scheduled refresh from the "restcountries.com" API. A failed refresh keeps the current index.
+ * Enabled with {@code api.countries.mode=bundled}.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "api.countries.mode", havingValue = "bundled")
+public class BundledCountryInfoServiceImpl extends BaseService implements CountryInfoService {
+
+  private static final String ALL_COUNTRIES_PATH = "../all?fields=name,currencies,altSpellings";
+
+  private final RestTemplate restTemplate;
+  private volatile CountryIndex index;
+
+  @Autowired
+  public BundledCountryInfoServiceImpl(final RestTemplate restTemplate, final ObjectMapper objectMapper,
+                                       @Value("${api.countries.snapshot:classpath:countries/countries.json}") final Resource snapshot) throws IOException {
+    this.restTemplate = restTemplate;
+    try (InputStream inputStream = snapshot.getInputStream()) {
+      this.index = CountryIndex.of(objectMapper.readValue(inputStream, new TypeReference<List<CountryInfoDTO>>(){}));
+    }
+    log.info("Loaded {} countries from the bundled snapshot {}", index.size(), snapshot.getDescription());
+  }
+
+  /**
+   * Retrieves the currency of a country from the bundled index.
+   *
+   * @param countryName the name of the country to retrieve the currency for.
+   * @return a String representing the currency code for the country.
+   * @throws ServiceException if the country is unknown or if currency information was not available for the country.
+   */
+  @Override
+  public String getCurrency(final String countryName) throws ServiceException {
+    var currencies = getCountryInfo(countryName).getCurrencies();
+    if (currencies == null || currencies.isEmpty()) {
+      throw new ServiceException("Currency information not available for the country: " + countryName);
+    }
+    return currencies.keySet().iterator().next();
+  }
+
+  /**
+   * Retrieves information about a country from the bundled index.
+   *
+   * @param countryName the name of the country to retrieve information for, in any case and with or without accents.
+   * @return a CountryInfoDTO object with information about the country.
+   * @throws CountryNotFoundException if no information was found for the country.
+   */
+  @Override
+  public CountryInfoDTO getCountryInfo(final String countryName) throws ServiceException {
+    var countryInfo = index.find(countryName);
+    if (countryInfo == null) {
+      throw new CountryNotFoundException("No information found for the country: " + countryName);
+    }
+    return countryInfo;
+  }
+
+  /**
+   * Replaces the index with the countries currently returned by the "restcountries.com" API.
+   * Runs on the scheduler thread; lookups keep using the current index until the new one is ready.
+   */
+  @Scheduled(initialDelayString = "${api.countries.refresh.initial-delay:PT1M}", fixedDelayString = "${api.countries.refresh.interval:PT24H}")
+  public void refresh() {
+    try {
+      var url = URI.create(baseUrl).resolve(ALL_COUNTRIES_PATH).toString();
+      var result = restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(getHttpHeaders()), new ParameterizedTypeReference<List<CountryInfoDTO>>(){}).getBody();
+      if (result == null || result.isEmpty()) {
+        log.warn("Refresh from 'restcountries.com' returned no countries, keeping the current {} countries", index.size());
+        return;
+      }
+
+      index = CountryIndex.of(result);
+      log.info("Refreshed {} countries from 'restcountries.com'", index.size());
+    } catch (final Exception e) {
+      log.warn("Error refreshing countries from 'restcountries.com', keeping the current {} countries. Message: {}", index.size(), e.getMessage());
+    }
+  }
+}
@@ -1,32 +1,55 @@
 package com.codelitt.technical.exercise.service.impl;
 
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 
+import com.codelitt.technical.exercise.cache.CountryInfoCache;
 import com.codelitt.technical.exercise.dto.country.CountryInfoDTO;
+import com.codelitt.technical.exercise.exception.CountryNotFoundException;
 import com.codelitt.technical.exercise.exception.ServiceException;
+import com.codelitt.technical.exercise.resilience.CountryApiGuard;
 import com.codelitt.technical.exercise.service.CountryInfoService;
 import com.codelitt.technical.exercise.service.base.BaseService;
+import com.codelitt.technical.exercise.util.CountryNames;
+import com.codelitt.technical.exercise.util.SingleFlight;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
 import java.util.List;
-import java.util.Objects;
 
 @Slf4j
 @Service
+@ConditionalOnProperty(name = "api.countries.mode", havingValue = "remote", matchIfMissing = true)
 public class CountryInfoServiceImpl extends BaseService implements CountryInfoService {
 
+  private static final String ERROR_RETRIEVING_INFORMATION = "Error retrieving information from 'restcountries.com'. Message: ";
+  private static final String NO_INFORMATION_FOUND = "No information found for the country: ";
+  private static final String API_TIMER = "countries.api.requests";
+
   private final RestTemplate restTemplate;
+  private final CountryInfoCache cache;
+  private final CountryApiGuard guard;
+  private final MeterRegistry meterRegistry;
+  private final SingleFlight<String, CountryInfoDTO> inFlightLookups = new SingleFlight<>();
 
   @Autowired
-  public CountryInfoServiceImpl(final RestTemplate restTemplate) {
+  public CountryInfoServiceImpl(final RestTemplate restTemplate, final CountryInfoCache cache, final CountryApiGuard guard,
+                                final MeterRegistry meterRegistry) {
     this.restTemplate = restTemplate;
+    this.cache = cache;
+    this.guard = guard;
+    this.meterRegistry = meterRegistry;
   }
 
   /**
@@ -53,24 +76,103 @@ public class CountryInfoServiceImpl extends BaseService implements CountryInfoSe
 
   /**
    * Retrieves information about a country using the "restcountries.com" API.
+   * Results are served from the {@link CountryInfoCache} when present; countries unknown to the API are cached too.
+   * Concurrent misses for the same country share a single call to the API.
    *
    * @param countryName the name of the country to retrieve information for.
    * @return a CountryInfoDTO object with information about the country.
-   * @throws ServiceException in case of error or if no information was found for the country.
+   * @throws CountryNotFoundException if no information was found for the country.
+   * @throws ServiceException in case of error.
    */
   @Override
   public CountryInfoDTO getCountryInfo(final String countryName) throws ServiceException {
+    var cached = cache.getIfPresent(countryName);
+    if (cached != null) {
+      return fromCache(countryName, cached);
+    }
+    return inFlightLookups.execute(CountryNames.normalize(countryName), () -> fetchCountryInfo(countryName));
+  }
+
+  /**
+   * Calls the "restcountries.com" API, through the {@link CountryApiGuard}, and caches its answer.
+   * The cache is checked again first: a caller that missed it may arrive just after another call completed.
+   * When the call fails or is rejected by the circuit breaker or the bulkhead, the last known information for the
+   * country is served, if any.
+   *
+   * @param countryName the name of the country to retrieve information for.
+   * @return a CountryInfoDTO object with information about the country.
+   * @throws CountryNotFoundException if no information was found for the country.
+   * @throws ServiceException in case of error.
+   */
+  private CountryInfoDTO fetchCountryInfo(final String countryName) throws ServiceException {
+    var cached = cache.peek(countryName);
+    if (cached != null) {
+      return fromCache(countryName, cached);
+    }
+
     try {
-      var result = restTemplate.exchange(baseUrl + countryName, HttpMethod.GET, getCustomHeaders(), new ParameterizedTypeReference<List<CountryInfoDTO>>(){}).getBody();
+      var result = callApi(countryName);
       if (result == null || result.isEmpty()) {
-        throw new ServiceException("No information found for the country: " + countryName);
+        cache.putMissing(countryName);
+        throw new CountryNotFoundException(NO_INFORMATION_FOUND + countryName);
       }
 
-      return result.get(0);
+      var countryInfo = result.get(0);
+      cache.put(countryName, countryInfo);
+      return countryInfo;
+    } catch (final HttpClientErrorException.NotFound e) {
+      cache.putMissing(countryName);
+      log.error("Country not found on 'restcountries.com': {}", countryName);
+      throw new CountryNotFoundException(ERROR_RETRIEVING_INFORMATION + NO_INFORMATION_FOUND + countryName, e);
+    } catch (final CountryNotFoundException e) {
+      log.error(ERROR_RETRIEVING_INFORMATION + "{}", e.getMessage(), e);
+      throw new CountryNotFoundException(ERROR_RETRIEVING_INFORMATION + e.getMessage(), e);
     } catch (final Exception e) {
-      log.error("Error retrieving information from 'restcountries.com'. Message: {}", e.getMessage(), e);
-      throw new ServiceException("Error retrieving information from 'restcountries.com'. Message: " + e.getMessage(), e);
+      var lastKnown = cache.getLastKnown(countryName);
+      if (lastKnown != null) {
+        log.warn("Serving the last known information for the country: {}. Message: {}", countryName, e.getMessage());
+        return lastKnown;
+      }
+      log.error(ERROR_RETRIEVING_INFORMATION + "{}", e.getMessage(), e);
+      throw new ServiceException(ERROR_RETRIEVING_INFORMATION + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Calls the "restcountries.com" API through the {@link CountryApiGuard}, timing the call as the
+   * {@code countries.api.requests} timer tagged by outcome: SUCCESS, NOT_FOUND, REJECTED (by the circuit breaker or
+   * the bulkhead) or ERROR.
+   *
+   * @param countryName the name of the country to retrieve information for.
+   * @return the countries matching the name, as answered by the API.
+   */
+  private List<CountryInfoDTO> callApi(final String countryName) {
+    var sample = Timer.start(meterRegistry);
+    var outcome = "ERROR";
+    try {
+      var result = guard.call(() -> restTemplate.exchange(baseUrl + countryName, HttpMethod.GET, getCustomHeaders(), new ParameterizedTypeReference<List<CountryInfoDTO>>(){}).getBody());
+      outcome = result == null || result.isEmpty() ? "NOT_FOUND" : "SUCCESS";
+      return result;
+    } catch (final HttpClientErrorException.NotFound e) {
+      outcome = "NOT_FOUND";
+      throw e;
+    } catch (final CallNotPermittedException | BulkheadFullException e) {
+      outcome = "REJECTED";
+      throw e;
+    } finally {
+      sample.stop(Timer.builder(API_TIMER)
+          .description("Calls to the 'restcountries.com' API")
+          .tag("outcome", outcome)
+          .publishPercentileHistogram()
+          .register(meterRegistry));
+    }
+  }
+
+  private CountryInfoDTO fromCache(final String countryName, final CountryInfoCache.Entry cached) throws ServiceException {
+    if (cached.isMissing()) {
+      throw new CountryNotFoundException(ERROR_RETRIEVING_INFORMATION + NO_INFORMATION_FOUND + countryName);
     }
+    return cached.countryInfo();
   }
 
   /**
@@ -0,0 +1,259 @@
+package com.codelitt.technical.exercise.service.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+import com.codelitt.technical.exercise.cache.MemberCache;
+import com.codelitt.technical.exercise.configuration.CurrencyEnrichmentProperties;
+import com.codelitt.technical.exercise.dto.payroll.PayrollChange;
+import com.codelitt.technical.exercise.enums.CurrencyStatus;
+import com.codelitt.technical.exercise.exception.CountryNotFoundException;
+import com.codelitt.technical.exercise.exception.ServiceException;
+import com.codelitt.technical.exercise.model.CurrencyDeadLetter;
+import com.codelitt.technical.exercise.model.Member;
+import com.codelitt.technical.exercise.repository.CurrencyDeadLetterRepository;
+import com.codelitt.technical.exercise.repository.MemberRepository;
+import com.codelitt.technical.exercise.repository.PendingCurrency;
+import com.codelitt.technical.exercise.service.CountryInfoService;
+import com.codelitt.technical.exercise.service.CurrencyEnrichmentService;
+import com.codelitt.technical.exercise.service.PayrollService;
+import com.codelitt.technical.exercise.util.CountryNames;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Resolves in background the currencies of the members created with {@code api.members.enrichment.enabled=true}.
+ * <p>
+ * The pending state is durable: a member is created with its currency status PENDING, and only leaves it once its
+ * currency is written. A poll reads a batch of pending members, groups them by country and looks each country up
+ * once, on a bounded pool of workers; the members of a country are then updated together. A failed lookup is retried
+ * with an exponential backoff, and a member is dead-lettered once its country is unknown or it ran out of attempts.
+ * Members whose resolution was interrupted, e.g. by a restart, are still pending and resolved by the next poll.
+ * <p>
+ * Every update only applies to members still pending, so that a member updated in between, or resolved by another
+ * instance polling the same rows, is left as it is. The members resolved join the payroll rollups of their groups in
+ * the transaction resolving them.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "api.members.enrichment.enabled", havingValue = "true")
+public class CurrencyEnrichmentServiceImpl implements CurrencyEnrichmentService {
+
+  private final CountryInfoService countryInfoService;
+  private final MemberRepository repository;
+  private final CurrencyDeadLetterRepository deadLetterRepository;
+  private final MemberCache memberCache;
+  private final PayrollService payrollService;
+  private final CurrencyEnrichmentProperties properties;
+  private final TransactionTemplate transactionTemplate;
+  private final ExecutorService workers;
+
+  private final AtomicLong pendingCount = new AtomicLong();
+  private final AtomicLong oldestPendingAgeMillis = new AtomicLong();
+  private final Timer lag;
+  private final Counter retries;
+  private final Counter deadLetters;
+
+  @Autowired
+  public CurrencyEnrichmentServiceImpl(final CountryInfoService countryInfoService, final MemberRepository repository,
+                                       final CurrencyDeadLetterRepository deadLetterRepository, final MemberCache memberCache,
+                                       final PayrollService payrollService, final CurrencyEnrichmentProperties properties, final PlatformTransactionManager transactionManager,
+                                       final MeterRegistry meterRegistry) {
+    this.countryInfoService = countryInfoService;
+    this.repository = repository;
+    this.deadLetterRepository = deadLetterRepository;
+    this.memberCache = memberCache;
+    this.payrollService = payrollService;
+    this.properties = properties;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.workers = Executors.newFixedThreadPool(properties.workers(), new CustomizableThreadFactory("currency-enrichment-"));
+
+    Gauge.builder("members.currency.pending", pendingCount, AtomicLong::get)
+        .description("Members whose currency is pending")
+        .register(meterRegistry);
+    TimeGauge.builder("members.currency.pending.age", oldestPendingAgeMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+        .description("Time since the creation of the oldest member whose currency is pending")
+        .register(meterRegistry);
+    this.lag = Timer.builder("members.currency.lag")
+        .description("Time from the creation of a member to the resolution of its currency")
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+    this.retries = Counter.builder("members.currency.retries")
+        .description("Failed currency lookups of pending members, to be retried")
+        .register(meterRegistry);
+    this.deadLetters = Counter.builder("members.currency.dead.letters")
+        .description("Members whose currency could not be resolved")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Resolves the pending currencies until no batch is left, then refreshes the queue metrics. Runs on the scheduler
+   * thread, every {@code api.members.enrichment.poll-interval}; an error ends the poll, and the next one starts over.
+   */
+  @Scheduled(fixedDelayString = "${api.members.enrichment.poll-interval:PT1S}")
+  public void poll() {
+    try {
+      int read;
+      do {
+        read = resolvePending();
+      } while (read == properties.batchSize());
+    } catch (final RuntimeException e) {
+      log.error("Error resolving pending currencies: {}", e.getMessage(), e);
+    }
+
+    try {
+      refreshMetrics();
+    } catch (final RuntimeException e) {
+      log.warn("Error reading the pending currencies metrics: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * Resolves one batch of pending currencies, due for a (new) attempt: one lookup per distinct country, on the
+   * workers, and one update per country.
+   *
+   * @return the number of pending members read, at most {@code api.members.enrichment.batch-size}.
+   */
+  @Override
+  public int resolvePending() {
+    final List<PendingCurrency> batch = repository.findPendingCurrencies(CurrencyStatus.PENDING, LocalDateTime.now(),
+        PageRequest.of(0, properties.batchSize()));
+    if (batch.isEmpty()) {
+      return 0;
+    }
+
+    final Map<String, List<PendingCurrency>> byCountry = batch.stream()
+        .collect(Collectors.groupingBy(member -> CountryNames.normalize(member.getCountry()), LinkedHashMap::new, Collectors.toList()));
+    CompletableFuture.allOf(byCountry.values().stream()
+        .map(members -> CompletableFuture.runAsync(() -> resolve(members), workers))
+        .toArray(CompletableFuture[]::new)).join();
+
+    log.info("Resolved the pending currencies of {} members ({} distinct countries)", batch.size(), byCountry.size());
+    return batch.size();
+  }
+
+  @PreDestroy
+  public void shutdown() throws InterruptedException {
+    // a member whose lookup is interrupted stays pending, and is resolved after the restart
+    workers.shutdownNow();
+    workers.awaitTermination(5, TimeUnit.SECONDS);
+  }
+
+  private void resolve(final List<PendingCurrency> members) {
+    final String countryName = members.get(0).getCountry();
+    final String currency;
+    try {
+      currency = countryInfoService.getCurrency(countryName);
+    } catch (final ServiceException e) {
+      if (ExceptionUtils.indexOfType(e, CountryNotFoundException.class) >= 0) {
+        deadLetter(members, "Country not found: " + countryName);
+      } else {
+        retry(members, e.getMessage());
+      }
+      return;
+    }
+    if (StringUtils.isEmpty(currency)) {
+      deadLetter(members, "Currency not found for country: " + countryName);
+      return;
+    }
+
+    final List<Long> ids = ids(members);
+    transactionTemplate.executeWithoutResult(status -> {
+      // the members still pending are locked first: they are the ones resolved, and added to the payroll rollups
+      final List<Member> resolved = repository.lockPendingCurrencies(ids, CurrencyStatus.PENDING);
+      repository.resolvePendingCurrencies(ids, currency, CurrencyStatus.PENDING, CurrencyStatus.RESOLVED);
+      payrollService.apply(resolved.stream()
+          .map(member -> PayrollChange.added(member.getCountry(), currency, member.getType(), member.getSalary()))
+          .toList());
+    });
+    final LocalDateTime now = LocalDateTime.now();
+    for (final PendingCurrency member : members) {
+      memberCache.invalidate(member.getId());
+      if (member.getCreatedAt() != null) {
+        lag.record(Duration.between(member.getCreatedAt(), now));
+      }
+    }
+  }
+
+  private void retry(final List<PendingCurrency> members, final String reason) {
+    final LocalDateTime now = LocalDateTime.now();
+    transactionTemplate.executeWithoutResult(status -> byNextAttempt(members).forEach((attempt, group) -> {
+      if (attempt >= properties.maxAttempts()) {
+        fail(group, attempt, reason);
+      } else {
+        repository.retryPendingCurrencies(ids(group), attempt, now.plus(backoff(attempt)), CurrencyStatus.PENDING);
+        retries.increment(group.size());
+      }
+    }));
+    log.warn("Error resolving the currency of {} members of {}, retrying. Message: {}", members.size(), members.get(0).getCountry(), reason);
+  }
+
+  private void deadLetter(final List<PendingCurrency> members, final String reason) {
+    transactionTemplate.executeWithoutResult(status -> byNextAttempt(members).forEach((attempt, group) -> fail(group, attempt, reason)));
+    log.error("Could not resolve the currency of {} members of {}: {}", members.size(), members.get(0).getCountry(), reason);
+  }
+
+  private void fail(final List<PendingCurrency> members, final int attempts, final String reason) {
+    repository.failPendingCurrencies(ids(members), attempts, CurrencyStatus.PENDING, CurrencyStatus.FAILED);
+    final LocalDateTime now = LocalDateTime.now();
+    deadLetterRepository.saveAll(members.stream()
+        .map(member -> new CurrencyDeadLetter(member.getId(), member.getCountry(), StringUtils.abbreviate(reason, 1000), attempts, now))
+        .toList());
+    members.forEach(member -> memberCache.invalidate(member.getId()));
+    deadLetters.increment(members.size());
+  }
+
+  /**
+   * Returns the delay before the given attempt: the initial backoff, doubled for each attempt after the first one,
+   * up to the maximum backoff.
+   *
+   * @param attempt the number of the failed attempt, from 1.
+   * @return the delay before the next attempt.
+   */
+  private Duration backoff(final int attempt) {
+    final Duration backoff = properties.initialBackoff().multipliedBy(1L << Math.min(attempt - 1, 30));
+    return backoff.compareTo(properties.maxBackoff()) > 0 ? properties.maxBackoff() : backoff;
+  }
+
+  private void refreshMetrics() {
+    pendingCount.set(repository.countByCurrencyStatus(CurrencyStatus.PENDING));
+    oldestPendingAgeMillis.set(repository.findOldestCreatedAtByCurrencyStatus(CurrencyStatus.PENDING)
+        .map(createdAt -> Math.max(0, Duration.between(createdAt, LocalDateTime.now()).toMillis()))
+        .orElse(0L));
+  }
+
+  private static Map<Integer, List<PendingCurrency>> byNextAttempt(final List<PendingCurrency> members) {
+    return members.stream().collect(Collectors.groupingBy(
+        member -> (member.getCurrencyAttempts() == null ? 0 : member.getCurrencyAttempts()) + 1, LinkedHashMap::new, Collectors.toList()));
+  }
+
+  private static List<Long> ids(final List<PendingCurrency> members) {
+    return members.stream().map(PendingCurrency::getId).toList();
+  }
+}
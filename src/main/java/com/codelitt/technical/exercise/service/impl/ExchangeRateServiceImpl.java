@@ -0,0 +1,102 @@
+package com.codelitt.technical.exercise.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+
+import com.codelitt.technical.exercise.cache.ExchangeRates;
+import com.codelitt.technical.exercise.cache.SalaryConverter;
+import com.codelitt.technical.exercise.exception.InvalidRequestException;
+import com.codelitt.technical.exercise.exception.ServiceException;
+import com.codelitt.technical.exercise.service.ExchangeRateProvider;
+import com.codelitt.technical.exercise.service.ExchangeRateService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+
+/**
+ * Serves the exchange rates of the configured {@link ExchangeRateProvider}, cached per day: the rates of a day are
+ * retrieved once and kept as a compact {@link ExchangeRates} table for {@code api.exchange-rates.cache.ttl}, for
+ * the last {@code api.exchange-rates.cache.max-days} days asked for.
+ */
+@Slf4j
+@Service
+public class ExchangeRateServiceImpl implements ExchangeRateService, MeterBinder {
+
+  private static final String CACHE_NAME = "exchange-rates";
+
+  private final ExchangeRateProvider provider;
+  private final Clock clock;
+  private final Cache<LocalDate, ExchangeRates> cache;
+
+  @Autowired
+  public ExchangeRateServiceImpl(final ExchangeRateProvider provider,
+                                 @Value("${api.exchange-rates.cache.ttl:1h}") final Duration ttl,
+                                 @Value("${api.exchange-rates.cache.max-days:31}") final long maxDays) {
+    this(provider, ttl, maxDays, Clock.systemUTC());
+  }
+
+  public ExchangeRateServiceImpl(final ExchangeRateProvider provider, final Duration ttl, final long maxDays, final Clock clock) {
+    this.provider = provider;
+    this.clock = clock;
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maxDays)
+        .expireAfterWrite(ttl)
+        .executor(Runnable::run)
+        .recordStats()
+        .build();
+  }
+
+  /**
+   * Retrieves the exchange rates of a day, from the cache or else from the provider.
+   *
+   * @param date the day to retrieve the rates of.
+   * @return the rates of the day, as the provider gives them for it.
+   * @throws ServiceException if the provider has no rates for the day or cannot be reached.
+   */
+  @Override
+  public ExchangeRates getRates(final LocalDate date) throws ServiceException {
+    final ExchangeRates cached = cache.getIfPresent(date);
+    if (cached != null) {
+      return cached;
+    }
+    final ExchangeRates rates;
+    try {
+      rates = provider.getRates(date);
+    } catch (final ServiceException e) {
+      throw e;
+    } catch (final RuntimeException e) {
+      log.error("Error retrieving the exchange rates of {}: {}", date, e.getMessage(), e);
+      throw new ServiceException("Error retrieving the exchange rates of " + date, e);
+    }
+    cache.put(date, rates);
+    log.debug("Cached the exchange rates of {} ({} currencies, rates of {})", date, rates.size(), rates.getDate());
+    return rates;
+  }
+
+  /**
+   * Creates a converter to a currency at the rates of the current day (UTC).
+   *
+   * @param currency the ISO 4217 code of the currency to convert to, in any case.
+   * @return the converter.
+   * @throws InvalidRequestException if the currency has no rate.
+   * @throws ServiceException if the rates of the day cannot be retrieved.
+   */
+  @Override
+  public SalaryConverter converterTo(final String currency) throws ServiceException {
+    return getRates(LocalDate.now(clock)).converterTo(currency.trim());
+  }
+
+  @Override
+  public void bindTo(final MeterRegistry registry) {
+    CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+  }
+}
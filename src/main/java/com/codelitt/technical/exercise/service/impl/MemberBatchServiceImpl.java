@@ -0,0 +1,188 @@
+package com.codelitt.technical.exercise.service.impl;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+
+import com.codelitt.technical.exercise.dto.MemberDTO;
+import com.codelitt.technical.exercise.dto.batch.MemberBatchItemResult;
+import com.codelitt.technical.exercise.dto.batch.MemberBatchResult;
+import com.codelitt.technical.exercise.dto.payroll.PayrollChange;
+import com.codelitt.technical.exercise.enums.BatchItemStatus;
+import com.codelitt.technical.exercise.enums.CurrencyStatus;
+import com.codelitt.technical.exercise.exception.InvalidRequestException;
+import com.codelitt.technical.exercise.exception.ServiceException;
+import com.codelitt.technical.exercise.mapper.MemberMapper;
+import com.codelitt.technical.exercise.model.Member;
+import com.codelitt.technical.exercise.repository.MemberRepository;
+import com.codelitt.technical.exercise.service.CountryInfoService;
+import com.codelitt.technical.exercise.service.MemberBatchService;
+import com.codelitt.technical.exercise.service.MemberTagService;
+import com.codelitt.technical.exercise.service.PayrollService;
+import com.codelitt.technical.exercise.util.CountryNames;
+import com.codelitt.technical.exercise.util.TagNames;
+import com.codelitt.technical.exercise.validation.MemberValidator;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+public class MemberBatchServiceImpl implements MemberBatchService {
+
+  private final CountryInfoService countryInfoService;
+  private final MemberTagService memberTagService;
+  private final PayrollService payrollService;
+  private final MemberRepository repository;
+  private final MemberMapper memberMapper;
+  private final MemberValidator memberValidator;
+  private final EntityManager entityManager;
+  private final TransactionTemplate transactionTemplate;
+  private final int maxSize;
+  private final int chunkSize;
+
+  @Autowired
+  public MemberBatchServiceImpl(final CountryInfoService countryInfoService, final MemberTagService memberTagService,
+                                final PayrollService payrollService, final MemberRepository repository, final MemberMapper memberMapper, final MemberValidator memberValidator, final EntityManager entityManager,
+                                final PlatformTransactionManager transactionManager,
+                                @Value("${api.members.batch.max-size:1000}") final int maxSize,
+                                @Value("${api.members.batch.chunk-size:500}") final int chunkSize) {
+    this.countryInfoService = countryInfoService;
+    this.memberTagService = memberTagService;
+    this.payrollService = payrollService;
+    this.repository = repository;
+    this.memberMapper = memberMapper;
+    this.memberValidator = memberValidator;
+    this.entityManager = entityManager;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.maxSize = maxSize;
+    this.chunkSize = chunkSize;
+  }
+
+  /**
+   * Creates a batch of members. Every member is validated before anything is written, and the currency of each
+   * distinct country is looked up once, as are the dictionary ids of the distinct tags. The valid members are then inserted in chunks, one transaction per chunk, with
+   * JDBC batching: a failing chunk is rolled back on its own and its members are reported as failed. Each chunk
+   * updates the numbers of members of its tags once per tag, and the payroll rollups once per group of its members, in
+   * its transaction.
+   *
+   * @param members the members to create.
+   * @return the outcome of each member, in the order of the request.
+   * @throws InvalidRequestException if the batch is empty or larger than the configured maximum size.
+   */
+  @Override
+  public MemberBatchResult createAll(final List<MemberDTO> members) {
+    if (members == null || members.isEmpty()) {
+      throw new InvalidRequestException("The batch must contain at least one member");
+    }
+    if (members.size() > maxSize) {
+      throw new InvalidRequestException("The batch must not contain more than " + maxSize + " members: " + members.size());
+    }
+
+    final MemberBatchItemResult[] results = new MemberBatchItemResult[members.size()];
+    final Map<String, String> currencies = new HashMap<>();
+    final Map<String, String> currencyErrors = new HashMap<>();
+    final List<Integer> indexes = new ArrayList<>();
+    final List<Member> entities = new ArrayList<>();
+
+    for (int index = 0; index < members.size(); index++) {
+      final MemberDTO member = members.get(index);
+      final String error = memberValidator.validate(member);
+      if (error != null) {
+        results[index] = MemberBatchItemResult.failed(index, error);
+        continue;
+      }
+
+      final String country = CountryNames.normalize(member.getCountry());
+      if (!currencies.containsKey(country) && !currencyErrors.containsKey(country)) {
+        resolveCurrency(member.getCountry(), country, currencies, currencyErrors);
+      }
+      if (currencyErrors.containsKey(country)) {
+        results[index] = MemberBatchItemResult.failed(index, currencyErrors.get(country));
+        continue;
+      }
+
+      final Member entity = memberMapper.toEntity(member);
+      entity.setCurrency(currencies.get(country));
+      entity.setCurrencyStatus(CurrencyStatus.RESOLVED);
+      indexes.add(index);
+      entities.add(entity);
+    }
+
+    indexTags(indexes, entities, results);
+
+    for (int from = 0; from < entities.size(); from += chunkSize) {
+      final int to = Math.min(from + chunkSize, entities.size());
+      insert(indexes.subList(from, to), entities.subList(from, to), results);
+    }
+
+    final List<MemberBatchItemResult> items = Arrays.asList(results);
+    final int created = (int) items.stream().filter(item -> item.status() == BatchItemStatus.CREATED).count();
+    log.info("Created {} of {} members in batch ({} distinct countries)", created, members.size(), currencies.size() + currencyErrors.size());
+    return new MemberBatchResult(created, items.size() - created, items);
+  }
+
+  private void insert(final List<Integer> indexes, final List<Member> entities, final MemberBatchItemResult[] results) {
+    try {
+      transactionTemplate.executeWithoutResult(status -> {
+        repository.saveAll(entities);
+        entityManager.flush();
+        memberTagService.applyPostings(entities.stream().flatMap(entity -> entity.getTagIds().stream()).toList(), List.of());
+        payrollService.apply(entities.stream().map(PayrollChange::added).toList());
+        // the persistence context may outlive the transaction (open session in view): do not accumulate the chunks
+        entityManager.clear();
+      });
+      for (int i = 0; i < entities.size(); i++) {
+        results[indexes.get(i)] = MemberBatchItemResult.created(indexes.get(i), entities.get(i).getId());
+      }
+    } catch (final RuntimeException e) {
+      log.error("Error persisting a chunk of {} members: {}", entities.size(), e.getMessage(), e);
+      for (final Integer index : indexes) {
+        results[index] = MemberBatchItemResult.failed(index, "Error persisting the member: " + e.getMessage());
+      }
+    }
+  }
+
+  private void indexTags(final List<Integer> indexes, final List<Member> entities, final MemberBatchItemResult[] results) {
+    try {
+      final Map<String, Integer> tagIds = memberTagService.resolve(entities.stream()
+          .map(Member::getTags)
+          .filter(Objects::nonNull)
+          .flatMap(List::stream)
+          .toList());
+      for (final Member entity : entities) {
+        entity.setTagIds(TagNames.normalize(entity.getTags()).stream().map(tagIds::get).collect(Collectors.toSet()));
+      }
+    } catch (final ServiceException e) {
+      for (final Integer index : indexes) {
+        results[index] = MemberBatchItemResult.failed(index, "Error resolving the tags of the member: " + e.getMessage());
+      }
+      indexes.clear();
+      entities.clear();
+    }
+  }
+
+  private void resolveCurrency(final String countryName, final String country, final Map<String, String> currencies,
+                               final Map<String, String> currencyErrors) {
+    try {
+      final String currency = countryInfoService.getCurrency(countryName);
+      if (currency == null) {
+        currencyErrors.put(country, "Currency not found for country: " + countryName);
+      } else {
+        currencies.put(country, currency);
+      }
+    } catch (final ServiceException e) {
+      currencyErrors.put(country, "Currency not found for country: " + countryName + " - " + e.getMessage());
+    }
+  }
+}
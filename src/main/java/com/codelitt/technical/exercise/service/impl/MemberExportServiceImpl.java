@@ -0,0 +1,124 @@
+package com.codelitt.technical.exercise.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+
+import com.codelitt.technical.exercise.cache.SalaryConverter;
+import com.codelitt.technical.exercise.enums.ExportFormat;
+import com.codelitt.technical.exercise.export.MemberExportRow;
+import com.codelitt.technical.exercise.export.MemberExportWriter;
+import com.codelitt.technical.exercise.service.MemberExportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+@Slf4j
+@Service
+public class MemberExportServiceImpl implements MemberExportService {
+
+  /**
+   * Tags are aggregated per member with a correlated sub-query instead of a join and group by, so that rows are
+   * produced in id order as the cursor advances, without sorting or aggregating the whole table first.
+   */
+  static final String EXPORT_QUERY = """
+      select m.id, m.created_at, m.first_name, m.last_name, m.salary, m.type, m.contract_duration, m.role,
+             m.country, m.currency,
+             array(select t.tags from member_tags t where t.member_id = m.id) as tags
+        from member m
+       order by m.id""";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final ObjectMapper objectMapper;
+  private final int fetchSize;
+
+  @Autowired
+  public MemberExportServiceImpl(final JdbcTemplate jdbcTemplate, final PlatformTransactionManager transactionManager,
+                                 final ObjectMapper objectMapper, @Value("${api.members.export.fetch-size:1000}") final int fetchSize) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    // the PostgreSQL driver only streams rows with a fetch size inside a transaction; otherwise it reads all of them
+    this.transactionTemplate.setReadOnly(true);
+    this.objectMapper = objectMapper;
+    this.fetchSize = fetchSize;
+  }
+
+  /**
+   * Streams all the members to the given output stream, reading them through a server-side cursor, so that memory
+   * usage does not depend on the number of members. With a converter, the salary of each member is also written
+   * converted to its currency, at factors computed once for the whole export.
+   *
+   * @param format the format to write.
+   * @param converter the converter of the salaries, or null to write them as they are only.
+   * @param outputStream the stream to write to; it is flushed but not closed.
+   * @throws IOException if the members cannot be written to the stream.
+   */
+  @Override
+  public void export(final ExportFormat format, final SalaryConverter converter, final OutputStream outputStream) throws IOException {
+    final long start = System.nanoTime();
+    final long[] rows = {0};
+    try (MemberExportWriter writer = MemberExportWriter.of(format, outputStream, objectMapper.getFactory(), converter)) {
+      final RowCallbackHandler handler = resultSet -> {
+        try {
+          writer.write(toRow(resultSet));
+          rows[0]++;
+        } catch (final IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      };
+      transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+        final PreparedStatement statement = connection.prepareStatement(EXPORT_QUERY, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        statement.setFetchSize(fetchSize);
+        return statement;
+      }, handler));
+    } catch (final UncheckedIOException e) {
+      log.error("Error writing the members export after {} rows: {}", rows[0], e.getMessage(), e);
+      throw e.getCause();
+    }
+    log.info("Exported {} members as {} in {} ms", rows[0], format, (System.nanoTime() - start) / 1_000_000);
+  }
+
+  static MemberExportRow toRow(final ResultSet resultSet) throws SQLException {
+    final Timestamp createdAt = resultSet.getTimestamp("created_at");
+    return new MemberExportRow(
+        resultSet.getLong("id"),
+        createdAt == null ? null : createdAt.toLocalDateTime(),
+        resultSet.getString("first_name"),
+        resultSet.getString("last_name"),
+        resultSet.getBigDecimal("salary"),
+        resultSet.getString("type"),
+        resultSet.getObject("contract_duration", Integer.class),
+        resultSet.getString("role"),
+        resultSet.getString("country"),
+        resultSet.getString("currency"),
+        tags(resultSet.getArray("tags")));
+  }
+
+  private static List<String> tags(final Array array) throws SQLException {
+    if (array == null) {
+      return List.of();
+    }
+    try {
+      return Arrays.stream((Object[]) array.getArray()).filter(Objects::nonNull).map(String::valueOf).toList();
+    } finally {
+      array.free();
+    }
+  }
+}
@@ -0,0 +1,209 @@
+package com.codelitt.technical.exercise.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+
+import com.codelitt.technical.exercise.dto.search.MemberNameMatch;
+import com.codelitt.technical.exercise.exception.InvalidRequestException;
+import com.codelitt.technical.exercise.exception.ServiceException;
+import com.codelitt.technical.exercise.service.MemberSearchService;
+import com.codelitt.technical.exercise.util.MemberNames;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Service
+public class MemberSearchServiceImpl implements MemberSearchService {
+
+  /**
+   * The similarity threshold applies to the trigram operator of the fuzzy query; generic plans are disabled because
+   * the plan of a LIKE pattern or of a trigram search depends on the value searched, and a generic plan, chosen by
+   * PostgreSQL once a statement was run a few times, scans the indexes whole.
+   */
+  static final String SETTINGS_QUERY = """
+      select set_config('pg_trgm.similarity_threshold', ?, true),
+             set_config('plan_cache_mode', 'force_custom_plan', true)""";
+
+  /**
+   * The members whose first name starts with the first words searched and last name with the last word, then the
+   * reverse, each read in name order from the name indexes of {@code db_scripts/create_member_name_search.sql} and
+   * stopped after the limit. First and last names are required, so a pattern of '%' matches any of them.
+   */
+  static final String PREFIX_QUERY = """
+      (select m.id, m.first_name, m.last_name, m.role, m.country, true as first_name_first
+         from member m
+        where lower(m.first_name) collate "C" like ? and lower(m.last_name) collate "C" like ?
+        order by lower(m.first_name) collate "C", lower(m.last_name) collate "C", m.id
+        limit ?)
+      union all
+      (select m.id, m.first_name, m.last_name, m.role, m.country, false
+         from member m
+        where lower(m.last_name) collate "C" like ? and lower(m.first_name) collate "C" like ?
+        order by lower(m.last_name) collate "C", lower(m.first_name) collate "C", m.id
+        limit ?)""";
+
+  /**
+   * The names most similar to a misspelled word, from the trigram index of the dictionary of names, then the members
+   * having one of them as first or last name and whose other name starts with the last word, from the name indexes.
+   */
+  static final String FUZZY_QUERY = """
+      with words as (
+        select w.word, similarity(w.word, ?) as score
+          from member_name_word w
+         where w.word % ?
+         order by score desc, w.word
+         limit ?)
+      select m.id, m.first_name, m.last_name, m.role, m.country, words.score
+        from words
+       cross join lateral (
+        (select m.id, m.first_name, m.last_name, m.role, m.country
+           from member m
+          where lower(m.first_name) collate "C" = words.word and lower(m.last_name) collate "C" like ?
+          order by lower(m.last_name) collate "C", m.id
+          limit ?)
+        union all
+        (select m.id, m.first_name, m.last_name, m.role, m.country
+           from member m
+          where lower(m.last_name) collate "C" = words.word and lower(m.first_name) collate "C" like ?
+          order by lower(m.first_name) collate "C", m.id
+          limit ?)) m
+       order by words.score desc, m.id
+       limit ?""";
+
+  // similar names looked up per misspelled word: the members of the closest ones fill the results first
+  private static final int FUZZY_WORDS = 20;
+
+  // shorter words have too few trigrams for their similarity to mean anything
+  private static final int MIN_FUZZY_LENGTH = 3;
+
+  private static final String ANY_NAME = "%";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final int defaultLimit;
+  private final int maxLimit;
+  private final int maxQueryLength;
+  private final double similarityThreshold;
+
+  @Autowired
+  public MemberSearchServiceImpl(final JdbcTemplate jdbcTemplate, final PlatformTransactionManager transactionManager,
+                                 @Value("${api.members.search.default-limit:10}") final int defaultLimit,
+                                 @Value("${api.members.search.max-limit:50}") final int maxLimit,
+                                 @Value("${api.members.search.max-query-length:100}") final int maxQueryLength,
+                                 @Value("${api.members.search.similarity-threshold:0.3}") final double similarityThreshold) {
+    this.jdbcTemplate = jdbcTemplate;
+    // the settings are local to the transaction, so that they do not leak to the next user of the connection
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setReadOnly(true);
+    this.defaultLimit = defaultLimit;
+    this.maxLimit = maxLimit;
+    this.maxQueryLength = maxQueryLength;
+    this.similarityThreshold = similarityThreshold;
+  }
+
+  /**
+   * Searches the members by name as it is typed: the last word is taken as the start of a first or last name, the
+   * words before it as the start of the other name. The members whose names start with the words come first, the
+   * closest to the whole name first; when there are fewer of them than the limit, the words before the last one, or
+   * the only word, are taken as misspelled and the members having a similar name follow, the most similar first.
+   *
+   * @param query the name searched, in any case; words are separated by whitespace.
+   * @param limit the maximum number of members to return, capped to the configured maximum, or null for the default.
+   * @return the members found, ranked, or an empty list if the query is blank.
+   * @throws InvalidRequestException if the limit is not positive or the query is longer than the configured maximum.
+   * @throws ServiceException if the members cannot be searched.
+   */
+  @Override
+  public List<MemberNameMatch> searchByName(final String query, final Integer limit) throws ServiceException {
+    final String name = MemberNames.normalize(query);
+    if (name.length() > maxQueryLength) {
+      throw new InvalidRequestException("The query must not be longer than " + maxQueryLength + " characters");
+    }
+    final int size = limitOf(limit);
+    if (name.isEmpty()) {
+      return List.of();
+    }
+    final int space = name.lastIndexOf(' ');
+    final String leading = space < 0 ? name : name.substring(0, space);
+    final String last = space < 0 ? "" : name.substring(space + 1);
+    try {
+      return transactionTemplate.execute(status -> {
+        jdbcTemplate.queryForMap(SETTINGS_QUERY, String.valueOf(similarityThreshold));
+        final Map<Long, MemberNameMatch> matches = new LinkedHashMap<>();
+        addPrefixMatches(matches, leading, last, size);
+        if (matches.size() < size && leading.length() >= MIN_FUZZY_LENGTH) {
+          addFuzzyMatches(matches, leading, last, size);
+        }
+        final List<MemberNameMatch> ranked = new ArrayList<>(matches.values());
+        // stable: equal matches keep the name order they were read in
+        ranked.sort(Comparator.comparing(MemberNameMatch::fuzzy).thenComparing(MemberNameMatch::score, Comparator.reverseOrder()));
+        return ranked.size() > size ? List.copyOf(ranked.subList(0, size)) : ranked;
+      });
+    } catch (final RuntimeException e) {
+      log.error("Error searching the members named {}: {}", name, e.getMessage(), e);
+      throw new ServiceException("Error searching the members named " + name, e);
+    }
+  }
+
+  private void addPrefixMatches(final Map<Long, MemberNameMatch> matches, final String leading, final String last, final int size) {
+    final String leadingPattern = MemberNames.likePrefix(leading);
+    final String lastPattern = last.isEmpty() ? ANY_NAME : MemberNames.likePrefix(last);
+    final int typed = leading.length() + last.length();
+    jdbcTemplate.query(PREFIX_QUERY, resultSet -> {
+      final boolean firstNameFirst = resultSet.getBoolean("first_name_first");
+      final String firstName = resultSet.getString("first_name");
+      final String lastName = resultSet.getString("last_name");
+      // the share of the names matched that was typed: 1 when they were typed whole
+      final String matched = firstNameFirst ? firstName : lastName;
+      final String other = firstNameFirst ? lastName : firstName;
+      final int length = MemberNames.normalize(matched).length() + (last.isEmpty() ? 0 : MemberNames.normalize(other).length());
+      final double score = length == 0 ? 1 : Math.min(1, (double) typed / length);
+      final MemberNameMatch match = toMatch(resultSet, false, score);
+      // a member matching both ways is kept with its best score
+      matches.merge(match.id(), match, (found, next) -> next.score() > found.score() ? next : found);
+    }, leadingPattern, lastPattern, size, leadingPattern, lastPattern, size);
+  }
+
+  private void addFuzzyMatches(final Map<Long, MemberNameMatch> matches, final String leading, final String last, final int size) {
+    final String lastPattern = last.isEmpty() ? ANY_NAME : MemberNames.likePrefix(last);
+    // the members found by prefix are returned again: enough rows are read to fill the results without them
+    final int rows = size + matches.size();
+    jdbcTemplate.query(FUZZY_QUERY, resultSet -> {
+      final MemberNameMatch match = toMatch(resultSet, true, resultSet.getDouble("score"));
+      matches.putIfAbsent(match.id(), match);
+    }, leading, leading, FUZZY_WORDS, lastPattern, rows, lastPattern, rows, rows);
+  }
+
+  private static MemberNameMatch toMatch(final ResultSet resultSet, final boolean fuzzy, final double score) throws SQLException {
+    return new MemberNameMatch(
+        resultSet.getLong("id"),
+        resultSet.getString("first_name"),
+        resultSet.getString("last_name"),
+        resultSet.getString("role"),
+        resultSet.getString("country"),
+        fuzzy,
+        Math.round(score * 1000) / 1000d);
+  }
+
+  private int limitOf(final Integer limit) {
+    if (limit == null) {
+      return defaultLimit;
+    }
+    if (limit < 1) {
+      throw new InvalidRequestException("The limit must be positive: " + limit);
+    }
+    return Math.min(limit, maxLimit);
+  }
+}
@@ -1,70 +1,138 @@
 package com.codelitt.technical.exercise.service.impl;
 
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
 
+import com.codelitt.technical.exercise.cache.MemberCache;
 import com.codelitt.technical.exercise.dto.MemberDTO;
-import com.codelitt.technical.exercise.enums.MemberType;
+import com.codelitt.technical.exercise.dto.filter.MemberFilter;
+import com.codelitt.technical.exercise.dto.page.CursorPage;
+import com.codelitt.technical.exercise.dto.page.OffsetPage;
+import com.codelitt.technical.exercise.dto.page.PageCursor;
+import com.codelitt.technical.exercise.dto.payroll.PayrollChange;
+import com.codelitt.technical.exercise.enums.CurrencyStatus;
+import com.codelitt.technical.exercise.enums.MemberSortField;
+import com.codelitt.technical.exercise.exception.InvalidRequestException;
 import com.codelitt.technical.exercise.exception.ServiceException;
+import com.codelitt.technical.exercise.exception.VersionConflictException;
+import com.codelitt.technical.exercise.mapper.MemberMapper;
+import com.codelitt.technical.exercise.mapper.MemberPatcher;
 import com.codelitt.technical.exercise.model.Member;
 import com.codelitt.technical.exercise.repository.MemberRepository;
+import com.codelitt.technical.exercise.repository.MemberSpecifications;
+import com.codelitt.technical.exercise.repository.MemberVersion;
 import com.codelitt.technical.exercise.service.CountryInfoService;
 import com.codelitt.technical.exercise.service.MemberService;
+import com.codelitt.technical.exercise.service.MemberTagService;
+import com.codelitt.technical.exercise.service.PayrollService;
 import com.codelitt.technical.exercise.service.base.BaseService;
+import com.codelitt.technical.exercise.util.CountryNames;
+import com.codelitt.technical.exercise.util.TagNames;
+import com.codelitt.technical.exercise.validation.MemberValidator;
+import com.fasterxml.jackson.databind.JsonNode;
 
-import org.modelmapper.ModelMapper;
+import org.apache.commons.lang3.ObjectUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.data.util.Streamable;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.DigestUtils;
 
-import java.util.ArrayList;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 
 @Slf4j
 @Service
+@Timed(value = "members.service", description = "Time spent in the member service methods", histogram = true)
 public class MemberServiceImpl extends BaseService implements MemberService {
 
   private static final String NO_MEMBER_FOUND_WITH_ID = "There is no member found with id: ";
 
   private final CountryInfoService countryInfoService;
+  private final MemberTagService memberTagService;
+  private final PayrollService payrollService;
 
   private final MemberRepository repository;
-  private final ModelMapper modelMapper;
+  private final MemberMapper memberMapper;
+  private final MemberCache memberCache;
+  private final MemberPatcher memberPatcher;
+  private final MemberValidator memberValidator;
+  private final TransactionTemplate transactionTemplate;
+
+  @Value("${api.members.page.default-size:20}")
+  private int defaultPageSize;
+
+  @Value("${api.members.page.max-size:100}")
+  private int maxPageSize;
+
+  @Value("${api.members.enrichment.enabled:false}")
+  private boolean resolveCurrencyInBackground;
 
   @Autowired
-  public MemberServiceImpl(final CountryInfoService countryInfoService, final MemberRepository repository, final ModelMapper modelMapper) {
+  public MemberServiceImpl(final CountryInfoService countryInfoService, final MemberTagService memberTagService,
+                           final PayrollService payrollService, final MemberRepository repository, final MemberMapper memberMapper, final MemberCache memberCache,
+                           final MemberPatcher memberPatcher, final MemberValidator memberValidator,
+                           final PlatformTransactionManager transactionManager) {
     this.countryInfoService = countryInfoService;
+    this.memberTagService = memberTagService;
+    this.payrollService = payrollService;
     this.repository = repository;
-    this.modelMapper = modelMapper;
+    this.memberMapper = memberMapper;
+    this.memberCache = memberCache;
+    this.memberPatcher = memberPatcher;
+    this.memberValidator = memberValidator;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
   }
 
   /**
-   * Create a new member using a MemberDTO object.
+   * Create a new member using a MemberDTO object. With {@code api.members.enrichment.enabled=true}, the member is
+   * written without looking its currency up: it is created with a pending currency, resolved in background by the
+   * {@link com.codelitt.technical.exercise.service.CurrencyEnrichmentService}. The member is added to the numbers of
+   * members of its tags, and to the payroll rollup of its group unless its currency is pending, in the transaction
+   * inserting it.
    *
    * @param member The MemberDTO object containing the information for the new member.
-   * @return A MemberDTO object representing the created member.
+   * @return A MemberDTO object representing the created member, with its currency status.
    * @throws ServiceException If there is an error while creating the member, or if the currency information is not found.
    */
   @Override
   public MemberDTO create(final MemberDTO member) throws ServiceException {
-    var currency = countryInfoService.getCurrency(member.getCountry());
-    if (currency == null) {
-      throw new ServiceException("Currency not found for country: " + member.getCountry());
+    String currency = null;
+    if (!resolveCurrencyInBackground) {
+      currency = countryInfoService.getCurrency(member.getCountry());
+      if (currency == null) {
+        throw new ServiceException("Currency not found for country: " + member.getCountry());
+      }
     }
 
-    var type = member.getType();
-    if ((type == MemberType.EMPLOYEE && (member.getRole() == null || member.getRole().equals("")))) {
-      throw new ServiceException("If the member type is Employee, then we need to set their role before persist!");
-    }
+    memberValidator.checkRules(member, MemberValidator.EMPLOYEE_ROLE_REQUIRED_ON_CREATE);
 
-    var entity = this.modelMapper.map(member, Member.class);
+    var entity = this.memberMapper.toEntity(member);
+    entity.setTagIds(memberTagService.resolveIds(member.getTags()));
     entity.setCurrency(currency);
+    entity.setCurrencyStatus(currency == null ? CurrencyStatus.PENDING : CurrencyStatus.RESOLVED);
 
     try {
-      var result = repository.save(entity);
-      return this.modelMapper.map(result, MemberDTO.class);
+      return transactionTemplate.execute(status -> {
+        var result = repository.save(entity);
+        memberTagService.applyPostings(result.getTagIds(), List.of());
+        payrollService.apply(List.of(PayrollChange.added(result)));
+        return this.memberMapper.toDto(result);
+      });
     } catch (final Exception e) {
       log.error("Error persisting a new Member: {}", e.getMessage(), e);
       throw new ServiceException("Error persisting a new Member", e);
@@ -72,77 +140,321 @@ public class MemberServiceImpl extends BaseService implements MemberService {
   }
 
   /**
-   * Update an existing member with a given id using a MemberDTO object.
+   * Update an existing member with a given id using a MemberDTO object, whatever its current version.
    *
    * @param id The id of the member to be updated.
    * @param member The MemberDTO object containing the updated information.
    * @return A MemberDTO object representing the updated member.
    * @throws EntityNotFoundException If a member with the given id is not found.
+   * @throws VersionConflictException If the member is updated concurrently, between its read and its write.
    * @throws ServiceException If there is an error while updating the member, or if the currency information is not found.
    */
   @Override
   public MemberDTO update(final Long id, final MemberDTO member) throws ServiceException {
-    var entity = repository.findById(id).orElseThrow(() -> new EntityNotFoundException("Member not found with id: " + id));
+    return update(id, member, null);
+  }
+
+  /**
+   * Update an existing member with a given id using a MemberDTO object, provided it still has the expected version.
+   * The currency and the tag dictionary ids are resolved before the member is read, so that the transaction reading,
+   * checking and writing the member does not wait for the country service; the write only succeeds if the version read is still the current
+   * one (optimistic locking).
+   *
+   * @param id The id of the member to be updated.
+   * @param member The MemberDTO object containing the updated information.
+   * @param expectedVersion The version the member must have, or null to update it whatever its version.
+   * @return A MemberDTO object representing the updated member, with its new version.
+   * @throws EntityNotFoundException If a member with the given id is not found.
+   * @throws VersionConflictException If the member does not have the expected version, or is updated concurrently.
+   * @throws ServiceException If there is an error while updating the member, or if the currency information is not found.
+   */
+  @Override
+  public MemberDTO update(final Long id, final MemberDTO member, final Long expectedVersion) throws ServiceException {
+    // cheap checks first, so that a missing or outdated member fails before calling the country service
+    var currentVersion = repository.findVersionById(id).orElseThrow(() -> new EntityNotFoundException("Member not found with id: " + id));
+    if (expectedVersion != null && !expectedVersion.equals(currentVersion)) {
+      throw new VersionConflictException("Member with id " + id + " is at version " + currentVersion + ", not " + expectedVersion,
+          expectedVersion);
+    }
+
     var currency = countryInfoService.getCurrency(member.getCountry());
     if (currency == null) {
       throw new ServiceException("Currency not found for country: " + member.getCountry());
     }
 
-    var type = member.getType();
-    if ((type == MemberType.EMPLOYEE && (member.getRole() == null || member.getRole().equals("")))) {
-      throw new ServiceException("If the member type is Employee, then we need to set their role before updating");
+    memberValidator.checkRules(member, MemberValidator.EMPLOYEE_ROLE_REQUIRED_ON_UPDATE);
+
+    return write(id, member, currency, memberTagService.resolveIds(member.getTags()), expectedVersion, expectedVersion);
+  }
+
+  /**
+   * Partially update an existing member with a JSON Merge Patch document: only the fields present in the patch are
+   * changed. The currency is only resolved again if the patch changes the country, and the tags are only rewritten
+   * (and looked up in the tag dictionary) if the patch changes them. The patch is applied to the member as read before the country service is called, and
+   * written only if the member did not change in between (optimistic locking).
+   *
+   * @param id The id of the member to be updated.
+   * @param patch The JSON Merge Patch document.
+   * @param expectedVersion The version the member must have, or null to patch it whatever its version.
+   * @return A MemberDTO object representing the updated member, with its new version.
+   * @throws EntityNotFoundException If a member with the given id is not found.
+   * @throws InvalidRequestException If the patch is not a JSON object, or the patched member is not valid.
+   * @throws VersionConflictException If the member does not have the expected version, or is updated concurrently.
+   * @throws ServiceException If there is an error while updating the member, or if the currency information is not found.
+   */
+  @Override
+  public MemberDTO patch(final Long id, final JsonNode patch, final Long expectedVersion) throws ServiceException {
+    var current = repository.findById(id).map(this.memberMapper::toDto)
+        .orElseThrow(() -> new EntityNotFoundException("Member not found with id: " + id));
+    if (expectedVersion != null && !expectedVersion.equals(current.getVersion())) {
+      throw new VersionConflictException("Member with id " + id + " is at version " + current.getVersion() + ", not " + expectedVersion,
+          expectedVersion);
+    }
+
+    var member = memberPatcher.apply(current, patch);
+    memberValidator.checkRules(member, MemberValidator.EMPLOYEE_ROLE_REQUIRED_ON_UPDATE);
+
+    String currency = null;
+    if (!CountryNames.normalize(member.getCountry()).equals(CountryNames.normalize(current.getCountry()))) {
+      currency = countryInfoService.getCurrency(member.getCountry());
+      if (currency == null) {
+        throw new ServiceException("Currency not found for country: " + member.getCountry());
+      }
     }
 
-    modelMapper.map(member, entity);
-    entity.setCurrency(currency);
+    Set<Integer> tagIds = null;
+    if (!TagNames.normalize(member.getTags()).equals(TagNames.normalize(current.getTags()))) {
+      tagIds = memberTagService.resolveIds(member.getTags());
+    }
+
+    return write(id, member, currency, tagIds, current.getVersion(), expectedVersion);
+  }
 
+  /**
+   * Writes a member in a transaction of its own, provided it is still at the given version, moves it from the payroll
+   * rollup of its former group to the one of its new group, and applies the postings its new tags add and remove to
+   * the numbers of members of the tags.
+   *
+   * @param id the id of the member.
+   * @param member the new state of the member.
+   * @param currency the currency of the member, or null to keep the current one.
+   * @param tagIds the dictionary ids of the tags of the member, or null to keep the current ones.
+   * @param requiredVersion the version the member must still have, or null to write it whatever its version.
+   * @param expectedVersion the version required by the caller, reported in case of conflict.
+   * @return the member written, with its new version.
+   */
+  private MemberDTO write(final Long id, final MemberDTO member, final String currency, final Set<Integer> tagIds,
+                          final Long requiredVersion, final Long expectedVersion) throws ServiceException {
     try {
-      entity = this.repository.save(entity);
-      return this.modelMapper.map(entity, MemberDTO.class);
+      return transactionTemplate.execute(status -> {
+        var entity = repository.findById(id).orElseThrow(() -> new EntityNotFoundException("Member not found with id: " + id));
+        if (requiredVersion != null && !requiredVersion.equals(entity.getVersion())) {
+          throw new ObjectOptimisticLockingFailureException(Member.class, id);
+        }
+        final PayrollChange removed = PayrollChange.removed(entity);
+        final Set<Integer> previousTagIds = tagIds == null || entity.getTagIds() == null ? Set.of() : new HashSet<>(entity.getTagIds());
+        memberMapper.updateEntity(member, entity);
+        if (currency != null) {
+          entity.setCurrency(currency);
+          entity.setCurrencyStatus(CurrencyStatus.RESOLVED);
+          entity.setCurrencyAttempts(null);
+          entity.setCurrencyRetryAt(null);
+        }
+        if (tagIds != null) {
+          updateTagIds(entity, tagIds);
+        }
+        var result = this.repository.saveAndFlush(entity);
+        if (tagIds != null) {
+          memberTagService.applyPostings(tagIds, previousTagIds);
+        }
+        payrollService.apply(List.of(removed, PayrollChange.added(result)));
+        return this.memberMapper.toDto(result);
+      });
+    } catch (final OptimisticLockingFailureException e) {
+      log.warn("Member with id {} was updated concurrently", id);
+      throw new VersionConflictException("Member with id " + id + " was updated concurrently", expectedVersion, e);
+    } catch (final EntityNotFoundException e) {
+      throw e;
     } catch (final Exception e) {
       log.error("Error updating an existed Member: {}", e.getMessage(), e);
       throw new ServiceException("Error updating an existed Member", e);
+    } finally {
+      memberCache.invalidate(id);
     }
   }
 
   /**
-   * Retrieve a {@link MemberDTO} object with the given id.
+   * Retrieve a {@link MemberDTO} object with the given id, from the {@link MemberCache} when possible.
    *
    * @param id The id of the member to be retrieved.
-   * @return The {@link MemberDTO} object corresponding to the id.
+   * @return The {@link MemberDTO} object corresponding to the id, shared with the cache: it must not be modified.
    * @throws EntityNotFoundException if no member is found with the given id.
    */
   @Override
   public MemberDTO findById(final Long id) throws EntityNotFoundException {
-    return repository.findById(id)
-          .map(member -> this.modelMapper.map(member, MemberDTO.class))
-          .orElseThrow(() -> new EntityNotFoundException(NO_MEMBER_FOUND_WITH_ID + id));
+    var member = memberCache.get(id, key -> repository.findById(key).map(this.memberMapper::toDto).orElse(null));
+    if (member == null) {
+      throw new EntityNotFoundException(NO_MEMBER_FOUND_WITH_ID + id);
+    }
+    return member;
+  }
+
+  /**
+   * Retrieve the version of the member with the given id, which changes on every update, without reading the member
+   * itself: from the {@link MemberCache} when the member is cached, from its version column otherwise.
+   *
+   * @param id The id of the member.
+   * @return The current version of the member.
+   * @throws EntityNotFoundException if no member is found with the given id.
+   */
+  @Override
+  public Long findVersion(final Long id) throws EntityNotFoundException {
+    var cached = memberCache.peek(id);
+    if (cached != null) {
+      return cached.getVersion();
+    }
+    return repository.findVersionById(id).orElseThrow(() -> new EntityNotFoundException(NO_MEMBER_FOUND_WITH_ID + id));
+  }
+
+  /**
+   * Retrieves a page of members using keyset (seek) pagination: the next page is read from the position of the last
+   * member of the previous one, so that the cost of a page does not grow with its depth.
+   *
+   * @param cursor the cursor returned with the previous page, or null for the first page.
+   * @param size the maximum number of members of the page, capped to the configured maximum page size.
+   * @param sort the field to sort on, or null to use the one of the cursor (id by default).
+   * @param direction the direction of the sort, or null to use the one of the cursor (ascending by default).
+   * @return the page of members and the cursor of the next page, if any.
+   * @throws InvalidRequestException if the cursor is invalid, was issued for another sort order, or the size is not positive.
+   * @throws ServiceException if there is an error retrieving the members from the repository.
+   */
+  @Override
+  public CursorPage<MemberDTO> findMembers(final String cursor, final Integer size, final MemberSortField sort,
+                                           final Sort.Direction direction) throws ServiceException {
+    return findMembers(MemberFilter.NONE, cursor, size, sort, direction);
+  }
+
+  /**
+   * Retrieves a page of the members matching a filter using keyset (seek) pagination. The criteria of the filter are
+   * composed into a single query (see {@link MemberSpecifications}), served by the indexes of
+   * {@code db_scripts/create_member_filter_indexes.sql}.
+   *
+   * @param filter the criteria the members must match, {@link MemberFilter#NONE} for all the members.
+   * @param cursor the cursor returned with the previous page, or null for the first page.
+   * @param size the maximum number of members of the page, capped to the configured maximum page size.
+   * @param sort the field to sort on, or null to use the one of the cursor (id by default).
+   * @param direction the direction of the sort, or null to use the one of the cursor (ascending by default).
+   * @return the page of members, the cursor of the next page, if any, and the version of the page, digested from the
+   *         members read as {@link #findMembersVersion(MemberFilter, String, Integer, MemberSortField, Sort.Direction)}
+   *         does, without reading them again.
+   * @throws InvalidRequestException if the cursor is invalid, was issued for another sort order, or the size is not positive.
+   * @throws ServiceException if there is an error retrieving the members from the repository.
+   */
+  @Override
+  public CursorPage<MemberDTO> findMembers(final MemberFilter filter, final String cursor, final Integer size,
+                                           final MemberSortField sort, final Sort.Direction direction) throws ServiceException {
+    final Seek seek = seek(filter, cursor, size, sort, direction);
+
+    try {
+      final List<Member> members = seek.filter().isEmpty()
+          ? findAfter(seek, Member.class)
+          : repository.findMembers(specificationOf(seek), limitOf(seek));
+      final List<Member> page = members.subList(0, Math.min(seek.pageSize(), members.size()));
+
+      String nextCursor = null;
+      if (members.size() > seek.pageSize()) {
+        final Member last = page.get(page.size() - 1);
+        nextCursor = new PageCursor(seek.sort(), seek.direction(), seek.sort() == MemberSortField.CREATED_AT ? last.getCreatedAt() : null,
+            last.getId()).encode();
+      }
+      return new CursorPage<>(page.stream().map(this.memberMapper::toDto).toList(), seek.pageSize(), nextCursor,
+          versionOf(members, Member::getId, Member::getVersion));
+    } catch (final Exception e) {
+      log.error("Error retrieving a page of members: {}", e.getMessage(), e);
+      throw new ServiceException("Error retrieving a page of members", e);
+    }
+  }
+
+  /**
+   * Returns the version of the page of members {@link #findMembers(String, Integer, MemberSortField, Sort.Direction)}
+   * would return for the same arguments: a digest of the ids and versions of its members, and of the first member of
+   * the next page, read without fetching nor mapping the members themselves. The version changes whenever a member
+   * of the page is added, updated or deleted.
+   *
+   * @param cursor the cursor returned with the previous page, or null for the first page.
+   * @param size the maximum number of members of the page, capped to the configured maximum page size.
+   * @param sort the field to sort on, or null to use the one of the cursor (id by default).
+   * @param direction the direction of the sort, or null to use the one of the cursor (ascending by default).
+   * @return the version of the page.
+   * @throws InvalidRequestException if the cursor is invalid, was issued for another sort order, or the size is not positive.
+   * @throws ServiceException if there is an error retrieving the versions from the repository.
+   */
+  @Override
+  public String findMembersVersion(final String cursor, final Integer size, final MemberSortField sort,
+                                   final Sort.Direction direction) throws ServiceException {
+    return findMembersVersion(MemberFilter.NONE, cursor, size, sort, direction);
   }
 
   /**
-   * Retrieves a list of all members and maps them to MemberDTO objects.
+   * Returns the version of the page of members
+   * {@link #findMembers(MemberFilter, String, Integer, MemberSortField, Sort.Direction)} would return for the same
+   * arguments, read as {@link #findMembersVersion(String, Integer, MemberSortField, Sort.Direction)} does.
    *
-   * @return a list of MemberDTO objects representing all members
-   * @throws ServiceException if there is an error retrieving the members from the repository
+   * @param filter the criteria the members must match, {@link MemberFilter#NONE} for all the members.
+   * @param cursor the cursor returned with the previous page, or null for the first page.
+   * @param size the maximum number of members of the page, capped to the configured maximum page size.
+   * @param sort the field to sort on, or null to use the one of the cursor (id by default).
+   * @param direction the direction of the sort, or null to use the one of the cursor (ascending by default).
+   * @return the version of the page.
+   * @throws InvalidRequestException if the cursor is invalid, was issued for another sort order, or the size is not positive.
+   * @throws ServiceException if there is an error retrieving the versions from the repository.
    */
   @Override
-  public List<MemberDTO> findAllMembers() throws ServiceException {
+  public String findMembersVersion(final MemberFilter filter, final String cursor, final Integer size,
+                                   final MemberSortField sort, final Sort.Direction direction) throws ServiceException {
+    final Seek seek = seek(filter, cursor, size, sort, direction);
+
     try {
-      final List<MemberDTO> membersDTO = new ArrayList<>();
-      var members = repository.findAll();
-      var memberList = Streamable.of(members).toList();
+      final List<MemberVersion> members = seek.filter().isEmpty()
+          ? findAfter(seek, MemberVersion.class)
+          : repository.findMemberVersions(specificationOf(seek), limitOf(seek));
+      return versionOf(members, MemberVersion::getId, MemberVersion::getVersion);
+    } catch (final Exception e) {
+      log.error("Error retrieving the version of a page of members: {}", e.getMessage(), e);
+      throw new ServiceException("Error retrieving the version of a page of members", e);
+    }
+  }
 
-      memberList.forEach(member -> membersDTO.add(this.modelMapper.map(member, MemberDTO.class)));
+  /**
+   * Retrieves a page of members by its index, sorted by id. Intended for administration screens that jump to
+   * arbitrary pages; deep pages are slower than with {@link #findMembers(String, Integer, MemberSortField, Sort.Direction)}.
+   *
+   * @param page the zero-based index of the page.
+   * @param size the maximum number of members of the page, capped to the configured maximum page size.
+   * @return the page of members with the total number of members and pages.
+   * @throws InvalidRequestException if the page index is negative or the size is not positive.
+   * @throws ServiceException if there is an error retrieving the members from the repository.
+   */
+  @Override
+  public OffsetPage<MemberDTO> findMembersPage(final int page, final Integer size) throws ServiceException {
+    if (page < 0) {
+      throw new InvalidRequestException("The page index must not be negative: " + page);
+    }
+    final int pageSize = pageSize(size);
 
-      return membersDTO;
+    try {
+      final Page<Member> members = repository.findAll(PageRequest.of(page, pageSize, Sort.by(MemberSortField.ID.getProperty())));
+      return new OffsetPage<>(members.map(this.memberMapper::toDto).getContent(),
+          page, pageSize, members.getTotalElements(), members.getTotalPages());
     } catch (final Exception e) {
-      log.error("Error retrieving all existing members: {}", e.getMessage(), e);
-      throw new ServiceException("Error retrieving all existing members", e);
+      log.error("Error retrieving the page {} of members: {}", page, e.getMessage(), e);
+      throw new ServiceException("Error retrieving the page " + page + " of members", e);
     }
   }
 
   /**
-   * Deletes a Member by its id.
+   * Deletes a Member by its id, and removes it from the payroll rollup of its group and from the numbers of members of
+   * its tags in the same transaction.
    *
    * @param id the id of the Member to be deleted.
    * @throws EntityNotFoundException if no Member is found with the given id.
@@ -150,12 +462,102 @@ public class MemberServiceImpl extends BaseService implements MemberService {
    */
   @Override
   public void deleteById(final Long id) throws EntityNotFoundException, DataIntegrityViolationException {
-    repository.findById(id).orElseThrow(() -> new EntityNotFoundException(NO_MEMBER_FOUND_WITH_ID + id));
     try {
-      repository.deleteById(id);
+      transactionTemplate.executeWithoutResult(status -> {
+        var entity = repository.findById(id).orElseThrow(() -> new EntityNotFoundException(NO_MEMBER_FOUND_WITH_ID + id));
+        final Set<Integer> tagIds = entity.getTagIds() == null ? Set.of() : new HashSet<>(entity.getTagIds());
+        repository.deleteById(id);
+        memberTagService.applyPostings(List.of(), tagIds);
+        payrollService.apply(List.of(PayrollChange.removed(entity)));
+      });
     } catch (final DataIntegrityViolationException e) {
       log.error("Error deleting Member with id: " + id + " - " + e.getMessage(), e);
       throw new DataIntegrityViolationException("Error deleting Member with id: " + id + " - " + e.getMessage(), e);
+    } finally {
+      memberCache.invalidate(id);
+    }
+  }
+
+  /**
+   * Updates the tag postings of a member in place, so that only the postings added or removed are written.
+   */
+  private static void updateTagIds(final Member entity, final Set<Integer> tagIds) {
+    if (entity.getTagIds() == null) {
+      entity.setTagIds(new HashSet<>(tagIds));
+    } else if (!entity.getTagIds().equals(tagIds)) {
+      entity.getTagIds().retainAll(tagIds);
+      entity.getTagIds().addAll(tagIds);
+    }
+  }
+
+  /**
+   * Digests the ids and versions of the members read for a page, including the first member of the next page.
+   */
+  private static <T> String versionOf(final List<T> members, final Function<T, Long> id, final Function<T, Long> version) {
+    final StringBuilder versions = new StringBuilder();
+    for (final T member : members) {
+      versions.append(id.apply(member)).append(':').append(version.apply(member)).append(';');
+    }
+    return DigestUtils.md5DigestAsHex(versions.toString().getBytes(StandardCharsets.UTF_8));
+  }
+
+  private Seek seek(final MemberFilter filter, final String cursor, final Integer size, final MemberSortField sort,
+                    final Sort.Direction direction) {
+    final PageCursor after = StringUtils.isBlank(cursor) ? null : PageCursor.decode(cursor);
+    if (after != null && ((sort != null && sort != after.sort()) || (direction != null && direction != after.direction()))) {
+      throw new InvalidRequestException("The cursor was issued for another sort order: " + after.sort() + " " + after.direction());
+    }
+    return new Seek(ObjectUtils.defaultIfNull(filter, MemberFilter.NONE), after,
+        after != null ? after.sort() : ObjectUtils.defaultIfNull(sort, MemberSortField.ID),
+        after != null ? after.direction() : ObjectUtils.defaultIfNull(direction, Sort.Direction.ASC),
+        pageSize(size));
+  }
+
+  private <T> List<T> findAfter(final Seek seek, final Class<T> type) {
+    final Pageable limit = limitOf(seek);
+    final PageCursor after = seek.after();
+    if (after == null) {
+      return repository.findAllBy(limit, type);
+    }
+    if (seek.sort() == MemberSortField.CREATED_AT) {
+      return seek.direction().isAscending()
+          ? repository.findAfterCreatedAt(after.createdAt(), after.id(), limit, type)
+          : repository.findBeforeCreatedAt(after.createdAt(), after.id(), limit, type);
     }
+    return seek.direction().isAscending()
+        ? repository.findByIdGreaterThan(after.id(), limit, type)
+        : repository.findByIdLessThan(after.id(), limit, type);
+  }
+
+  private static Specification<Member> specificationOf(final Seek seek) {
+    final Specification<Member> specification = MemberSpecifications.matching(seek.filter());
+    return seek.after() == null ? specification : specification.and(MemberSpecifications.after(seek.after()));
+  }
+
+  private static Pageable limitOf(final Seek seek) {
+    // one extra row tells whether there is a next page without a count query
+    return PageRequest.of(0, seek.pageSize() + 1, sortOf(seek.sort(), seek.direction()));
+  }
+
+  private static Sort sortOf(final MemberSortField sort, final Sort.Direction direction) {
+    return sort == MemberSortField.CREATED_AT
+        ? Sort.by(direction, MemberSortField.CREATED_AT.getProperty(), MemberSortField.ID.getProperty())
+        : Sort.by(direction, MemberSortField.ID.getProperty());
+  }
+
+  private int pageSize(final Integer size) {
+    if (size == null) {
+      return defaultPageSize;
+    }
+    if (size < 1) {
+      throw new InvalidRequestException("The page size must be positive: " + size);
+    }
+    return Math.min(size, maxPageSize);
+  }
+
+  /**
+   * The filter, position and order a keyset page is read from.
+   */
+  private record Seek(MemberFilter filter, PageCursor after, MemberSortField sort, Sort.Direction direction, int pageSize) {
   }
 }
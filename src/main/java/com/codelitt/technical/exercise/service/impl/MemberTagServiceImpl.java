@@ -0,0 +1,313 @@
+package com.codelitt.technical.exercise.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+
+import com.codelitt.technical.exercise.dto.MemberDTO;
+import com.codelitt.technical.exercise.dto.page.PageCursor;
+import com.codelitt.technical.exercise.dto.tag.TagCardinality;
+import com.codelitt.technical.exercise.dto.tag.TagSearchPage;
+import com.codelitt.technical.exercise.enums.MemberSortField;
+import com.codelitt.technical.exercise.enums.TagMatch;
+import com.codelitt.technical.exercise.exception.InvalidRequestException;
+import com.codelitt.technical.exercise.exception.ServiceException;
+import com.codelitt.technical.exercise.mapper.MemberMapper;
+import com.codelitt.technical.exercise.model.Member;
+import com.codelitt.technical.exercise.model.Tag;
+import com.codelitt.technical.exercise.repository.MemberRepository;
+import com.codelitt.technical.exercise.repository.TagRepository;
+import com.codelitt.technical.exercise.service.MemberTagService;
+import com.codelitt.technical.exercise.util.PostingLists;
+import com.codelitt.technical.exercise.util.TagNames;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+@Slf4j
+@Service
+public class MemberTagServiceImpl implements MemberTagService {
+
+  // the missing tags are inserted then read again; a tag created concurrently makes the insert fail: it is retried
+  private static final int MAX_RESOLVE_ATTEMPTS = 3;
+
+  private final TagRepository tagRepository;
+  private final MemberRepository memberRepository;
+  private final MemberMapper memberMapper;
+  private final TransactionTemplate newTransactionTemplate;
+  private final TransactionTemplate mandatoryTransactionTemplate;
+  private final TransactionTemplate readOnlyTransactionTemplate;
+
+  @Value("${api.members.page.default-size:20}")
+  private int defaultPageSize;
+
+  @Value("${api.members.page.max-size:100}")
+  private int maxPageSize;
+
+  @Value("${api.members.tags.max-search-tags:10}")
+  private int maxSearchTags;
+
+  @Autowired
+  public MemberTagServiceImpl(final TagRepository tagRepository, final MemberRepository memberRepository, final MemberMapper memberMapper,
+                              final PlatformTransactionManager transactionManager) {
+    this.tagRepository = tagRepository;
+    this.memberRepository = memberRepository;
+    this.memberMapper = memberMapper;
+    this.newTransactionTemplate = new TransactionTemplate(transactionManager);
+    this.newTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.mandatoryTransactionTemplate = new TransactionTemplate(transactionManager);
+    this.mandatoryTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_MANDATORY);
+    // the posting lists and the members of a page are read in one transaction, which also loads the tags of the members
+    this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+    this.readOnlyTransactionTemplate.setReadOnly(true);
+  }
+
+  /**
+   * Returns the dictionary ids of tags, adding the tags missing from the dictionary. The missing tags are inserted
+   * in a transaction of their own, committed whatever becomes of the caller's one, so that the dictionary rows are
+   * only locked for the time of their insert and not for the time of the member writes.
+   *
+   * @param tags the tags, as written on the members.
+   * @return the id of each distinct normalized tag, by normalized tag.
+   * @throws ServiceException if the tags cannot be read or added to the dictionary.
+   */
+  @Override
+  public Map<String, Integer> resolve(final Collection<String> tags) throws ServiceException {
+    final Set<String> names = TagNames.normalize(tags);
+    final Map<String, Integer> ids = new HashMap<>();
+    if (names.isEmpty()) {
+      return ids;
+    }
+
+    try {
+      for (int attempt = 1; ; attempt++) {
+        tagRepository.findByNameIn(names).forEach(tag -> ids.put(tag.getName(), tag.getId()));
+        // inserted in name order, so that concurrent inserts of the same tags wait for each other instead of deadlocking
+        final List<String> missing = names.stream()
+            .filter(name -> !ids.containsKey(name))
+            .sorted()
+            .toList();
+        if (missing.isEmpty()) {
+          return ids;
+        }
+        try {
+          newTransactionTemplate.executeWithoutResult(status -> missing.forEach(tagRepository::addTag));
+        } catch (final DataIntegrityViolationException e) {
+          if (attempt == MAX_RESOLVE_ATTEMPTS) {
+            throw e;
+          }
+          log.debug("Tags created concurrently, reading them again: {}", e.getMessage());
+        }
+      }
+    } catch (final RuntimeException e) {
+      log.error("Error resolving the tags {}: {}", names, e.getMessage(), e);
+      throw new ServiceException("Error resolving the tags " + names, e);
+    }
+  }
+
+  /**
+   * Returns the set of dictionary ids of tags, adding the tags missing from the dictionary.
+   *
+   * @param tags the tags, as written on a member, possibly null.
+   * @return the ids of the distinct normalized tags, empty if there are none.
+   * @throws ServiceException if the tags cannot be read or added to the dictionary.
+   */
+  @Override
+  public Set<Integer> resolveIds(final Collection<String> tags) throws ServiceException {
+    return new HashSet<>(resolve(tags).values());
+  }
+
+  /**
+   * Applies the postings added and removed by member writes to the numbers of members of the tags, in the transaction
+   * of the writes, so that the numbers are committed or rolled back along with the postings. The changes of each tag
+   * are added up first, and the tags are then updated once each, in id order, so that concurrent writes of the same
+   * tags wait for each other instead of deadlocking.
+   *
+   * @param addedTagIds the ids of the tags of the postings added, once per posting.
+   * @param removedTagIds the ids of the tags of the postings removed, once per posting.
+   * @throws org.springframework.transaction.IllegalTransactionStateException if no transaction is in progress.
+   */
+  @Override
+  public void applyPostings(final Collection<Integer> addedTagIds, final Collection<Integer> removedTagIds) {
+    final Map<Integer, Long> changes = new TreeMap<>();
+    addedTagIds.forEach(id -> changes.merge(id, 1L, Long::sum));
+    removedTagIds.forEach(id -> changes.merge(id, -1L, Long::sum));
+    mandatoryTransactionTemplate.executeWithoutResult(status -> changes.forEach((id, members) -> {
+      if (members != 0) {
+        tagRepository.addMembers(id, members);
+      }
+    }));
+  }
+
+  /**
+   * Reads the number of members tagged with each of the given tags, as kept on the tags.
+   *
+   * @param tags the tags, normalized or not.
+   * @return the cardinality of each distinct normalized tag, from the rarest to the most common.
+   * @throws InvalidRequestException if no tag is given.
+   * @throws ServiceException if the cardinalities cannot be read.
+   */
+  @Override
+  public List<TagCardinality> findCardinalities(final Collection<String> tags) throws ServiceException {
+    final Set<String> names = searchedTags(tags);
+    try {
+      return cardinalities(names).stream().map(PostingList::cardinality).toList();
+    } catch (final Exception e) {
+      log.error("Error counting the members of the tags {}: {}", names, e.getMessage(), e);
+      throw new ServiceException("Error counting the members of the tags " + names, e);
+    }
+  }
+
+  /**
+   * Retrieves a page of the members tagged with all or any of the given tags, sorted by id.
+   * <p>
+   * The search runs on the posting lists of the tags, read in member id order from the {@code (tag_id, member_id)}
+   * index, from the rarest tag to the most common. To match all the tags, the posting list of the rarest tag is
+   * intersected with the others in turn, each of them only read between the first and the last id still matching,
+   * and the search stops as soon as no id is left: an unknown tag matches no member without reading any posting
+   * list. To match any of them, the posting lists are merged; as the page only needs the first ids of the merged
+   * list, only the first ids of each posting list are read. Only the members of the page are then read.
+   *
+   * @param tags the tags, normalized or not.
+   * @param match whether the members must be tagged with all the tags or any of them.
+   * @param cursor the cursor returned with the previous page, or null for the first page.
+   * @param size the maximum number of members of the page, capped to the configured maximum page size.
+   * @return the page of members, the cursor of the next page, if any, and the cardinality of the tags.
+   * @throws InvalidRequestException if no tag or too many tags are given, the cursor is invalid or the size is not positive.
+   * @throws ServiceException if there is an error retrieving the members.
+   */
+  @Override
+  public TagSearchPage<MemberDTO> findMembersByTags(final Collection<String> tags, final TagMatch match, final String cursor,
+                                                    final Integer size) throws ServiceException {
+    final Set<String> names = searchedTags(tags);
+    final PageCursor after = StringUtils.isBlank(cursor) ? null : PageCursor.decode(cursor);
+    if (after != null && (after.sort() != MemberSortField.ID || after.direction() != Sort.Direction.ASC)) {
+      throw new InvalidRequestException("The cursor was not issued by a tag search: " + after.sort() + " " + after.direction());
+    }
+    final int pageSize = pageSize(size);
+    final long from = after == null ? Long.MIN_VALUE : after.id() + 1;
+
+    try {
+      return readOnlyTransactionTemplate.execute(status -> {
+        final List<PostingList> postingLists = cardinalities(names);
+        // one extra id tells whether there is a next page
+        final long[] ids = match == TagMatch.ANY ? union(postingLists, from, pageSize + 1) : intersection(postingLists, from);
+
+        final List<Long> pageIds = new ArrayList<>();
+        for (int i = 0; i < Math.min(pageSize, ids.length); i++) {
+          pageIds.add(ids[i]);
+        }
+        final List<Member> members = pageIds.isEmpty()
+            ? List.of()
+            : memberRepository.findByIdIn(pageIds, Sort.by(MemberSortField.ID.getProperty()));
+
+        String nextCursor = null;
+        if (ids.length > pageSize) {
+          nextCursor = new PageCursor(MemberSortField.ID, Sort.Direction.ASC, null, pageIds.get(pageIds.size() - 1)).encode();
+        }
+        return new TagSearchPage<>(members.stream().map(memberMapper::toDto).toList(), pageSize, nextCursor,
+            postingLists.stream().map(PostingList::cardinality).toList());
+      });
+    } catch (final Exception e) {
+      log.error("Error searching the members tagged with {} of {}: {}", match, names, e.getMessage(), e);
+      throw new ServiceException("Error searching the members tagged with " + match + " of " + names, e);
+    }
+  }
+
+  private long[] intersection(final List<PostingList> postingLists, final long from) {
+    long[] ids = null;
+    for (final PostingList postingList : postingLists) {
+      if (postingList.cardinality().members() == 0 || (ids != null && ids.length == 0)) {
+        return new long[0];
+      }
+      final long[] memberIds = ids == null
+          ? toArray(tagRepository.findMemberIds(postingList.id(), from, Long.MAX_VALUE))
+          : toArray(tagRepository.findMemberIds(postingList.id(), ids[0], ids[ids.length - 1]));
+      ids = ids == null ? memberIds : PostingLists.intersect(ids, memberIds);
+    }
+    return ids;
+  }
+
+  private long[] union(final List<PostingList> postingLists, final long from, final int limit) {
+    long[] ids = new long[0];
+    for (final PostingList postingList : postingLists) {
+      if (postingList.id() != null && postingList.cardinality().members() > 0) {
+        ids = PostingLists.union(ids, toArray(tagRepository.findFirstMemberIds(postingList.id(), from, limit)));
+      }
+    }
+    return ids.length > limit ? Arrays.copyOf(ids, limit) : ids;
+  }
+
+  /**
+   * Reads the dictionary ids of tags and their number of members, as kept on the tags, without adding the unknown ones
+   * and without counting their posting lists.
+   *
+   * @return the posting list of each tag, from the rarest to the most common.
+   */
+  private List<PostingList> cardinalities(final Set<String> names) {
+    final Map<String, Tag> tags = new HashMap<>();
+    tagRepository.findByNameIn(names).forEach(tag -> tags.put(tag.getName(), tag));
+
+    return names.stream()
+        .map(name -> {
+          final Tag tag = tags.get(name);
+          return tag == null
+              ? new PostingList(null, new TagCardinality(name, 0))
+              : new PostingList(tag.getId(), new TagCardinality(name, tag.getMemberCount()));
+        })
+        .sorted(Comparator.comparingLong((PostingList postingList) -> postingList.cardinality().members())
+            .thenComparing(postingList -> postingList.cardinality().tag()))
+        .toList();
+  }
+
+  private Set<String> searchedTags(final Collection<String> tags) {
+    final Set<String> names = TagNames.normalize(tags);
+    if (names.isEmpty()) {
+      throw new InvalidRequestException("At least one tag must be given");
+    }
+    if (names.size() > maxSearchTags) {
+      throw new InvalidRequestException("No more than " + maxSearchTags + " tags can be searched: " + names.size());
+    }
+    return names;
+  }
+
+  private int pageSize(final Integer size) {
+    if (size == null) {
+      return defaultPageSize;
+    }
+    if (size < 1) {
+      throw new InvalidRequestException("The page size must be positive: " + size);
+    }
+    return Math.min(size, maxPageSize);
+  }
+
+  private static long[] toArray(final List<Long> ids) {
+    final long[] array = new long[ids.size()];
+    for (int i = 0; i < array.length; i++) {
+      array[i] = ids.get(i);
+    }
+    return array;
+  }
+
+  /**
+   * The posting list of a tag: its dictionary id, null for a tag missing from the dictionary, and its cardinality.
+   */
+  private record PostingList(Integer id, TagCardinality cardinality) {
+  }
+}
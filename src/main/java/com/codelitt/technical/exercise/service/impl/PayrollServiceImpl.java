@@ -0,0 +1,199 @@
+package com.codelitt.technical.exercise.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+
+import com.codelitt.technical.exercise.cache.SalaryConverter;
+import com.codelitt.technical.exercise.dto.payroll.PayrollChange;
+import com.codelitt.technical.exercise.dto.payroll.PayrollGroup;
+import com.codelitt.technical.exercise.enums.MemberType;
+import com.codelitt.technical.exercise.enums.PayrollDimension;
+import com.codelitt.technical.exercise.exception.ServiceException;
+import com.codelitt.technical.exercise.model.PayrollRollup;
+import com.codelitt.technical.exercise.repository.PayrollRollupRepository;
+import com.codelitt.technical.exercise.service.PayrollService;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+@Slf4j
+@Service
+public class PayrollServiceImpl implements PayrollService {
+
+  private static final int MEAN_SCALE = 4;
+
+  // the order the groups are locked in, so that concurrent writes of the same groups wait for each other instead of deadlocking
+  private static final Comparator<PayrollChange> GROUP_ORDER = Comparator.comparing(PayrollChange::country)
+      .thenComparing(PayrollChange::currency)
+      .thenComparing(PayrollChange::type);
+
+  private static final Comparator<PayrollGroup> REPORT_ORDER = Comparator
+      .comparing(PayrollGroup::country, Comparator.nullsFirst(Comparator.<String>naturalOrder()))
+      .thenComparing(PayrollGroup::currency, Comparator.nullsFirst(Comparator.<String>naturalOrder()))
+      .thenComparing(PayrollGroup::type, Comparator.nullsFirst(Comparator.<MemberType>naturalOrder()));
+
+  private final PayrollRollupRepository repository;
+  private final TransactionTemplate mandatoryTransactionTemplate;
+  private final TransactionTemplate newTransactionTemplate;
+
+  @Autowired
+  public PayrollServiceImpl(final PayrollRollupRepository repository, final PlatformTransactionManager transactionManager) {
+    this.repository = repository;
+    this.mandatoryTransactionTemplate = new TransactionTemplate(transactionManager);
+    this.mandatoryTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_MANDATORY);
+    this.newTransactionTemplate = new TransactionTemplate(transactionManager);
+    this.newTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+  }
+
+  /**
+   * Applies changes to the payroll rollups, in the transaction of the member writes they come from, so that the
+   * rollups are committed or rolled back along with the members. The changes of each group are added up first, and
+   * the groups are then locked in key order and updated once each. A group without a rollup yet gets one in a
+   * transaction of its own, committed whatever becomes of the caller's one, as the entries of the tag dictionary.
+   * The changes of members whose currency is not resolved are ignored: they are counted once it is.
+   *
+   * @param changes the changes, of any groups.
+   * @throws org.springframework.transaction.IllegalTransactionStateException if no transaction is in progress.
+   */
+  @Override
+  public void apply(final Collection<PayrollChange> changes) {
+    final Map<PayrollChange, PayrollChange> byGroup = new TreeMap<>(GROUP_ORDER);
+    changes.stream()
+        .filter(PayrollChange::isCounted)
+        .forEach(change -> byGroup.merge(change, change, PayrollChange::plus));
+    mandatoryTransactionTemplate.executeWithoutResult(status -> byGroup.values().stream()
+        .filter(change -> !change.isEmpty())
+        .forEach(this::applyToGroup));
+  }
+
+  /**
+   * Reads the payroll, from the rollups only: the cost depends on the number of groups, not on the number of members.
+   *
+   * @param groupBy the dimensions to group the payroll by, all of them (country, currency and type) if empty. The
+   *                payroll is grouped by currency too, as salaries of different currencies are not added up.
+   * @return the payroll of each group with members, sorted by country, currency and type.
+   * @throws ServiceException if the rollups cannot be read.
+   */
+  @Override
+  public List<PayrollGroup> findPayroll(final Set<PayrollDimension> groupBy) throws ServiceException {
+    return findPayroll(groupBy, null);
+  }
+
+  /**
+   * Reads the payroll, from the rollups only, with the salary figures converted to one currency. Each rollup is
+   * converted before the rollups of a group are added up, so that the groups may span several currencies.
+   *
+   * @param groupBy the dimensions to group the payroll by, all of them (country, currency and type) if empty.
+   * @param converter the converter to the currency of the salary figures, or null to keep the currency the members
+   *                  are paid in: the payroll is then grouped by currency too, whatever {@code groupBy}, as salaries
+   *                  of different currencies are not added up.
+   * @return the payroll of each group with members, sorted by country, currency and type, with the sums, minimums
+   *         and maximums of each rollup rounded to cents when converted.
+   * @throws ServiceException if the rollups cannot be read, or if the currency of a rollup has no exchange rate.
+   */
+  @Override
+  public List<PayrollGroup> findPayroll(final Set<PayrollDimension> groupBy, final SalaryConverter converter) throws ServiceException {
+    final Set<PayrollDimension> dimensions = groupBy == null || groupBy.isEmpty() ? EnumSet.allOf(PayrollDimension.class) : EnumSet.copyOf(groupBy);
+    if (converter == null) {
+      dimensions.add(PayrollDimension.CURRENCY);
+    }
+    final List<PayrollRollup> rollups;
+    try {
+      rollups = repository.findNonEmpty();
+    } catch (final RuntimeException e) {
+      log.error("Error reading the payroll rollups: {}", e.getMessage(), e);
+      throw new ServiceException("Error reading the payroll rollups", e);
+    }
+
+    final Map<List<Object>, Totals> totals = new LinkedHashMap<>();
+    for (final PayrollRollup rollup : rollups) {
+      if (converter != null && !converter.canConvert(rollup.getCurrency())) {
+        throw new ServiceException("No exchange rate from " + rollup.getCurrency() + " to " + converter.getCurrency() + " on " + converter.getDate());
+      }
+      final String country = dimensions.contains(PayrollDimension.COUNTRY) ? rollup.getCountry() : null;
+      final String currency = dimensions.contains(PayrollDimension.CURRENCY) ? rollup.getCurrency() : null;
+      final MemberType type = dimensions.contains(PayrollDimension.TYPE) ? rollup.getType() : null;
+      totals.computeIfAbsent(Arrays.asList(country, currency, type), key -> new Totals(country, currency, type, converter)).add(rollup);
+    }
+    return totals.values().stream().map(Totals::toGroup).sorted(REPORT_ORDER).toList();
+  }
+
+  private void applyToGroup(final PayrollChange change) {
+    final Integer rollupId = repository.lockGroup(change.country(), change.currency(), change.type().name())
+        .orElseGet(() -> {
+          addGroup(change);
+          return repository.lockGroup(change.country(), change.currency(), change.type().name()).orElseThrow();
+        });
+    repository.add(rollupId, change.members(), change.salaried(), change.salarySum());
+  }
+
+  private void addGroup(final PayrollChange change) {
+    try {
+      newTransactionTemplate.executeWithoutResult(status -> repository.addGroup(change.country(), change.currency(), change.type().name()));
+    } catch (final DataIntegrityViolationException e) {
+      log.debug("Payroll group added concurrently, reading it again: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * The payroll of the rollups of a group, added up, converted first if a converter is given.
+   */
+  private static final class Totals {
+
+    private final String country;
+    private final String currency;
+    private final MemberType type;
+    private final SalaryConverter converter;
+    private long members;
+    private long salaried;
+    private BigDecimal salarySum = BigDecimal.ZERO;
+    private BigDecimal salaryMin;
+    private BigDecimal salaryMax;
+
+    private Totals(final String country, final String currency, final MemberType type, final SalaryConverter converter) {
+      this.country = country;
+      this.currency = currency;
+      this.type = type;
+      this.converter = converter;
+    }
+
+    private void add(final PayrollRollup rollup) {
+      members += rollup.getMembers();
+      salaried += rollup.getSalaried();
+      salarySum = salarySum.add(convert(rollup, rollup.getSalarySum()));
+      final BigDecimal min = convert(rollup, rollup.getSalaryMin());
+      if (min != null && (salaryMin == null || min.compareTo(salaryMin) < 0)) {
+        salaryMin = min;
+      }
+      final BigDecimal max = convert(rollup, rollup.getSalaryMax());
+      if (max != null && (salaryMax == null || max.compareTo(salaryMax) > 0)) {
+        salaryMax = max;
+      }
+    }
+
+    private BigDecimal convert(final PayrollRollup rollup, final BigDecimal amount) {
+      return converter == null ? amount : converter.convert(rollup.getCurrency(), amount);
+    }
+
+    private PayrollGroup toGroup() {
+      final BigDecimal salaryMean = salaried == 0 ? null : salarySum.divide(BigDecimal.valueOf(salaried), MEAN_SCALE, RoundingMode.HALF_EVEN);
+      return new PayrollGroup(country, currency, type, members, salaried, salarySum, salaryMin, salaryMax, salaryMean,
+          converter == null ? null : converter.getCurrency());
+    }
+  }
+}
@@ -0,0 +1,81 @@
+package com.codelitt.technical.exercise.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+
+import com.codelitt.technical.exercise.cache.ExchangeRates;
+import com.codelitt.technical.exercise.exception.ServiceException;
+import com.codelitt.technical.exercise.service.ExchangeRateProvider;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * An {@link ExchangeRateProvider} backed by a table of rates bundled with the application, a CSV file of
+ * {@code date,currency,rate} lines against a single base currency. A day without rates of its own gets the rates of
+ * the latest day before it. Enabled with {@code api.exchange-rates.mode=seeded}, the default.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "api.exchange-rates.mode", havingValue = "seeded", matchIfMissing = true)
+public class SeededExchangeRateProviderImpl implements ExchangeRateProvider {
+
+  private static final String HEADER = "date,currency,rate";
+
+  private final NavigableMap<LocalDate, ExchangeRates> ratesByDate;
+
+  @Autowired
+  public SeededExchangeRateProviderImpl(@Value("${api.exchange-rates.seed:classpath:exchange-rates/exchange-rates.csv}") final Resource seed,
+                                        @Value("${api.exchange-rates.base:EUR}") final String base) throws IOException {
+    final Map<LocalDate, Map<String, BigDecimal>> rows = new TreeMap<>();
+    try (BufferedReader reader = new BufferedReader(new InputStreamReader(seed.getInputStream(), StandardCharsets.UTF_8))) {
+      String line;
+      int number = 0;
+      while ((line = reader.readLine()) != null) {
+        number++;
+        line = line.trim();
+        if (line.isEmpty() || line.startsWith("#") || line.equalsIgnoreCase(HEADER)) {
+          continue;
+        }
+        final String[] fields = line.split(",");
+        if (fields.length != 3) {
+          throw new IllegalArgumentException("Line " + number + " of " + seed.getDescription() + " is not " + HEADER + ": " + line);
+        }
+        rows.computeIfAbsent(LocalDate.parse(fields[0].trim()), date -> new LinkedHashMap<>())
+            .put(fields[1].trim(), new BigDecimal(fields[2].trim()));
+      }
+    }
+    this.ratesByDate = new TreeMap<>();
+    rows.forEach((date, rates) -> ratesByDate.put(date, ExchangeRates.of(date, base, rates)));
+    log.info("Loaded the exchange rates of {} days from {}", ratesByDate.size(), seed.getDescription());
+  }
+
+  /**
+   * Retrieves the rates of a day from the seeded table.
+   *
+   * @param date the day to retrieve the rates of.
+   * @return the rates of the day, or of the latest day before it with rates.
+   * @throws ServiceException if the table has no rates on or before the day.
+   */
+  @Override
+  public ExchangeRates getRates(final LocalDate date) throws ServiceException {
+    final Map.Entry<LocalDate, ExchangeRates> rates = ratesByDate.floorEntry(date);
+    if (rates == null) {
+      throw new ServiceException("No exchange rates on or before " + date);
+    }
+    return rates.getValue();
+  }
+}
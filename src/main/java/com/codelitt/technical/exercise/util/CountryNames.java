@@ -0,0 +1,23 @@
+package com.codelitt.technical.exercise.util;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Locale;
+
+public final class CountryNames {
+
+  private CountryNames() {
+  }
+
+  /**
+   * Normalizes a country name so that every spelling the API accepts for the same country resolves to the same key.
+   * The names arrive either raw from the request or already capitalized by {@code Member.setCountry}, so the
+   * comparison has to ignore case, accents and surrounding whitespace ("brasil", "Brasil" and " BRASÍL" are equal).
+   *
+   * @param countryName the country name as received.
+   * @return the normalized key, or an empty String if the name is null.
+   */
+  public static String normalize(final String countryName) {
+    return StringUtils.stripAccents(StringUtils.defaultString(StringUtils.trim(countryName))).toLowerCase(Locale.ROOT);
+  }
+}
@@ -0,0 +1,40 @@
+package com.codelitt.technical.exercise.util;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Locale;
+
+public final class MemberNames {
+
+  private MemberNames() {
+  }
+
+  /**
+   * Normalizes a name searched: lower case, without surrounding whitespace and with one space between words. Must
+   * match the lower case names of {@code db_scripts/create_member_name_search.sql}.
+   *
+   * @param name the name as received.
+   * @return the normalized name, or an empty String if the name is null or blank.
+   */
+  public static String normalize(final String name) {
+    return StringUtils.normalizeSpace(StringUtils.defaultString(name)).toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * Creates the LIKE pattern of the names starting with a text, the wildcards of the text being matched literally.
+   *
+   * @param text the text the names start with.
+   * @return the pattern, escaped with the default escape character of PostgreSQL.
+   */
+  public static String likePrefix(final String text) {
+    final StringBuilder pattern = new StringBuilder(text.length() + 2);
+    for (int i = 0; i < text.length(); i++) {
+      final char c = text.charAt(i);
+      if (c == '%' || c == '_' || c == '\\') {
+        pattern.append('\\');
+      }
+      pattern.append(c);
+    }
+    return pattern.append('%').toString();
+  }
+}
@@ -0,0 +1,85 @@
+package com.codelitt.technical.exercise.util;
+
+import java.util.Arrays;
+
+/**
+ * Operations on posting lists: arrays of distinct ids sorted in ascending order.
+ */
+public final class PostingLists {
+
+  private PostingLists() {
+  }
+
+  /**
+   * Intersects two posting lists. Every id of the shorter list is searched for in the longer one by galloping
+   * (exponential then binary search) from the position of the previous match, so that the cost depends on the
+   * length of the shorter list far more than on the one of the longer list.
+   *
+   * @param first a posting list.
+   * @param second another posting list.
+   * @return the ids present in both lists, in ascending order.
+   */
+  public static long[] intersect(final long[] first, final long[] second) {
+    final long[] shorter = first.length <= second.length ? first : second;
+    final long[] longer = shorter == first ? second : first;
+    final long[] result = new long[shorter.length];
+    int size = 0;
+    int from = 0;
+    for (int i = 0; i < shorter.length && from < longer.length; i++) {
+      final int position = gallop(longer, from, shorter[i]);
+      if (position >= 0) {
+        result[size++] = shorter[i];
+        from = position + 1;
+      } else {
+        from = -position - 1;
+      }
+    }
+    return Arrays.copyOf(result, size);
+  }
+
+  /**
+   * Merges two posting lists.
+   *
+   * @param first a posting list.
+   * @param second another posting list.
+   * @return the ids present in either list, in ascending order.
+   */
+  public static long[] union(final long[] first, final long[] second) {
+    final long[] result = new long[first.length + second.length];
+    int size = 0;
+    int i = 0;
+    int j = 0;
+    while (i < first.length && j < second.length) {
+      if (first[i] < second[j]) {
+        result[size++] = first[i++];
+      } else if (first[i] > second[j]) {
+        result[size++] = second[j++];
+      } else {
+        result[size++] = first[i++];
+        j++;
+      }
+    }
+    while (i < first.length) {
+      result[size++] = first[i++];
+    }
+    while (j < second.length) {
+      result[size++] = second[j++];
+    }
+    return Arrays.copyOf(result, size);
+  }
+
+  /**
+   * Searches an id in a posting list from a position, probing positions at doubling distances before searching the
+   * range found.
+   *
+   * @return the position of the id, or (-(insertion point) - 1) if it is not present, as
+   *         {@link Arrays#binarySearch(long[], int, int, long)}.
+   */
+  private static int gallop(final long[] list, final int from, final long id) {
+    int bound = 1;
+    while (from + bound < list.length && list[from + bound - 1] < id) {
+      bound <<= 1;
+    }
+    return Arrays.binarySearch(list, from + (bound >> 1), Math.min(from + bound, list.length), id);
+  }
+}
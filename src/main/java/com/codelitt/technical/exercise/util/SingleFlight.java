@@ -0,0 +1,89 @@
+package com.codelitt.technical.exercise.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Coalesces concurrent calls for the same key into a single execution.
+ * The first caller for a key runs the loader; every caller that arrives while it is still running waits for it and
+ * receives the same result, or the same exception. Nothing is retained once the call completes, so this is not a
+ * cache: a caller arriving after completion triggers a new execution.
+ *
+ * @param <K> the type of the keys.
+ * @param <V> the type of the values returned by the loader.
+ */
+public class SingleFlight<K, V> {
+
+  private final ConcurrentMap<K, CompletableFuture<V>> calls = new ConcurrentHashMap<>();
+
+  /**
+   * Executes the loader for the given key, unless an execution for the same key is already in flight, in which
+   * case its outcome is shared.
+   *
+   * @param key the key identifying the call.
+   * @param loader the loader to execute.
+   * @param <E> the type of the exception thrown by the loader.
+   * @return the value returned by the loader.
+   * @throws E if the loader fails.
+   */
+  public <E extends Exception> V execute(final K key, final Loader<V, E> loader) throws E {
+    final CompletableFuture<V> call = new CompletableFuture<>();
+    final CompletableFuture<V> inFlight = calls.putIfAbsent(key, call);
+    if (inFlight != null) {
+      return await(inFlight);
+    }
+
+    try {
+      final V value = loader.load();
+      call.complete(value);
+      return value;
+    } catch (final Exception | Error e) {
+      call.completeExceptionally(e);
+      throw e;
+    } finally {
+      calls.remove(key, call);
+    }
+  }
+
+  /**
+   * Returns the number of calls currently in flight.
+   *
+   * @return the number of keys being loaded.
+   */
+  public int inFlight() {
+    return calls.size();
+  }
+
+  @SuppressWarnings("unchecked")
+  private <E extends Exception> V await(final CompletableFuture<V> inFlight) throws E {
+    try {
+      return inFlight.get();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for an in-flight call", e);
+    } catch (final ExecutionException e) {
+      final Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      if (cause instanceof Error error) {
+        throw error;
+      }
+      throw (E) cause;
+    }
+  }
+
+  /**
+   * The function executed once per key.
+   *
+   * @param <V> the type of the value returned.
+   * @param <E> the type of the exception thrown.
+   */
+  @FunctionalInterface
+  public interface Loader<V, E extends Exception> {
+
+    V load() throws E;
+  }
+}
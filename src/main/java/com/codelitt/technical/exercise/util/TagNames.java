@@ -0,0 +1,45 @@
+package com.codelitt.technical.exercise.util;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+public final class TagNames {
+
+  private TagNames() {
+  }
+
+  /**
+   * Normalizes a tag so that the same tag written with another case or surrounding whitespace gets the same entry of
+   * the tag dictionary ("Java", "java" and " JAVA " are equal). Must match the normalization of
+   * {@code db_scripts/create_member_tag_posting.sql}.
+   *
+   * @param tag the tag as received.
+   * @return the normalized tag, or an empty String if the tag is null or blank.
+   */
+  public static String normalize(final String tag) {
+    return StringUtils.defaultString(StringUtils.trim(tag)).toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * Normalizes tags, dropping the blank ones and the duplicates.
+   *
+   * @param tags the tags as received, possibly null.
+   * @return the distinct normalized tags, in the order of their first occurrence.
+   */
+  public static Set<String> normalize(final Collection<String> tags) {
+    final Set<String> names = new LinkedHashSet<>();
+    if (tags != null) {
+      for (final String tag : tags) {
+        final String name = normalize(tag);
+        if (!name.isEmpty()) {
+          names.add(name);
+        }
+      }
+    }
+    return names;
+  }
+}
@@ -0,0 +1,91 @@
+package com.codelitt.technical.exercise.validation;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+import com.codelitt.technical.exercise.dto.MemberDTO;
+import com.codelitt.technical.exercise.enums.MemberType;
+import com.codelitt.technical.exercise.exception.InvalidRequestException;
+import com.codelitt.technical.exercise.exception.ServiceException;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.stream.Collectors;
+
+/**
+ * The validation of members shared by every write path (single, batch, partial and reactive): the constraints declared
+ * on {@link MemberDTO}, checked as they are on a request body, and the business rules that depend on several fields.
+ */
+@Component
+public class MemberValidator {
+
+  public static final String EMPLOYEE_ROLE_REQUIRED_ON_CREATE = "If the member type is Employee, then we need to set their role before persist!";
+  public static final String EMPLOYEE_ROLE_REQUIRED_ON_UPDATE = "If the member type is Employee, then we need to set their role before updating";
+
+  private final Validator validator;
+
+  @Autowired
+  public MemberValidator(final Validator validator) {
+    this.validator = validator;
+  }
+
+  /**
+   * Validates a new member against its constraints and the business rules.
+   *
+   * @param member the member to validate.
+   * @return the reasons the member is not valid, or null if it is.
+   */
+  public String validate(final MemberDTO member) {
+    if (member == null) {
+      return "The member must not be null";
+    }
+    final String violations = constraintViolations(member);
+    return violations != null ? violations : ruleViolation(member, EMPLOYEE_ROLE_REQUIRED_ON_CREATE);
+  }
+
+  /**
+   * Checks the constraints declared on the member.
+   *
+   * @param member the member to validate.
+   * @throws InvalidRequestException with the violated constraints, ordered by field, if any.
+   */
+  public void checkConstraints(final MemberDTO member) {
+    final String violations = constraintViolations(member);
+    if (violations != null) {
+      throw new InvalidRequestException(violations);
+    }
+  }
+
+  /**
+   * Checks the business rules, e.g. that an employee has a role.
+   *
+   * @param member the member to validate.
+   * @param employeeRoleRequired the message of the violation of an employee without a role, which names the operation:
+   *                             {@link #EMPLOYEE_ROLE_REQUIRED_ON_CREATE} or {@link #EMPLOYEE_ROLE_REQUIRED_ON_UPDATE}.
+   * @throws ServiceException with the violated rule, if any.
+   */
+  public void checkRules(final MemberDTO member, final String employeeRoleRequired) throws ServiceException {
+    final String violation = ruleViolation(member, employeeRoleRequired);
+    if (violation != null) {
+      throw new ServiceException(violation);
+    }
+  }
+
+  private String constraintViolations(final MemberDTO member) {
+    final String violations = validator.validate(member).stream()
+        .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+        .map(ConstraintViolation::getMessage)
+        .collect(Collectors.joining("; "));
+    return violations.isEmpty() ? null : violations;
+  }
+
+  private static String ruleViolation(final MemberDTO member, final String employeeRoleRequired) {
+    if (member.getType() == MemberType.EMPLOYEE && StringUtils.isEmpty(member.getRole())) {
+      return employeeRoleRequired;
+    }
+    return null;
+  }
+}
@@ -0,0 +1,122 @@
+package com.codelitt.technical.exercise.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.codelitt.technical.exercise.dto.country.CountryInfoDTO;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+class CountryInfoCacheTest {
+
+  private final AtomicLong nanos = new AtomicLong();
+  private CountryInfoCache cache;
+
+  @BeforeEach
+  void setup() {
+    cache = new CountryInfoCache(Duration.ofHours(1), Duration.ofMinutes(1), 2, 4, nanos::get);
+  }
+
+  @Test
+  void getIfPresent_ShouldIgnoreCaseAndWhitespace() {
+    // given
+    final CountryInfoDTO countryInfo = new CountryInfoDTO();
+    cache.put("brazil", countryInfo);
+
+    // then verify
+    assertSame(countryInfo, cache.getIfPresent(" Brazil").countryInfo());
+  }
+
+  @Test
+  void getIfPresent_WhenTtlIsExceeded_ShouldReturnNull() {
+    // given
+    cache.put("Brazil", new CountryInfoDTO());
+
+    // when
+    nanos.addAndGet(Duration.ofMinutes(61).toNanos());
+
+    // then verify
+    assertNull(cache.getIfPresent("Brazil"));
+  }
+
+  @Test
+  void putMissing_ShouldExpireBeforePositiveEntries() {
+    // given
+    cache.put("Brazil", new CountryInfoDTO());
+    cache.putMissing("Atlantis");
+    assertTrue(cache.getIfPresent("Atlantis").isMissing());
+
+    // when
+    nanos.addAndGet(Duration.ofMinutes(2).toNanos());
+
+    // then verify
+    assertNull(cache.getIfPresent("Atlantis"));
+    assertNotNull(cache.getIfPresent("Brazil"));
+  }
+
+  @Test
+  void stats_ShouldCountHitsAndMisses() {
+    // given
+    cache.put("Brazil", new CountryInfoDTO());
+
+    // when
+    cache.getIfPresent("Brazil");
+    cache.getIfPresent("Spain");
+
+    // then verify
+    assertEquals(1, cache.stats().hitCount());
+    assertEquals(1, cache.stats().missCount());
+  }
+
+  @Test
+  void stats_WhenMaximumSizeIsExceeded_ShouldCountEvictions() {
+    // given
+    cache.put("Brazil", new CountryInfoDTO());
+    cache.put("France", new CountryInfoDTO());
+    cache.put("Italy", new CountryInfoDTO());
+
+    // when
+    cache.cleanUp();
+
+    // then verify
+    assertEquals(1, cache.stats().evictionCount());
+  }
+
+  @Test
+  void getLastKnown_WhenTheCacheIsDisabled_ShouldStillServeTheLastInformation() {
+    // given
+    final CountryInfoCache uncached = new CountryInfoCache(Duration.ofHours(1), Duration.ofMinutes(1), 0, 4, nanos::get);
+    final CountryInfoDTO countryInfo = new CountryInfoDTO();
+
+    // when
+    uncached.put("Brazil", countryInfo);
+    uncached.cleanUp();
+
+    // then verify
+    assertNull(uncached.getIfPresent("Brazil"));
+    assertSame(countryInfo, uncached.getLastKnown("brazil"));
+  }
+
+  @Test
+  void getLastKnown_ShouldKeepMoreCountriesThanTheCache() {
+    // given
+    cache.put("Brazil", new CountryInfoDTO());
+    cache.put("France", new CountryInfoDTO());
+    cache.put("Italy", new CountryInfoDTO());
+
+    // when
+    cache.cleanUp();
+
+    // then verify
+    assertNotNull(cache.getLastKnown("Brazil"));
+    assertNotNull(cache.getLastKnown("France"));
+    assertNotNull(cache.getLastKnown("Italy"));
+  }
+}
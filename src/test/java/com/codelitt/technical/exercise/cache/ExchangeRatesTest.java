@@ -0,0 +1,71 @@
+package com.codelitt.technical.exercise.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.codelitt.technical.exercise.exception.InvalidRequestException;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+
+class ExchangeRatesTest {
+
+  private static final LocalDate DATE = LocalDate.of(2023, 7, 3);
+
+  private final ExchangeRates rates = ExchangeRates.of(DATE, "EUR",
+      Map.of("USD", new BigDecimal("1.0899"), "BRL", new BigDecimal("5.2336"), "JPY", new BigDecimal("157.07")));
+
+  @Test
+  void of_ShouldAddTheBaseCurrency() {
+    assertEquals(4, rates.size());
+    assertEquals(BigDecimal.ONE, rates.getRate("EUR"));
+    assertEquals(new BigDecimal("5.2336"), rates.getRate("brl"));
+    assertNull(rates.getRate("GBP"));
+    assertNull(rates.getRate("EURO"));
+    assertNull(rates.getRate(null));
+  }
+
+  @Test
+  void of_WhenARateIsNotPositive_ShouldThrowIllegalArgumentException() {
+    assertThrows(IllegalArgumentException.class, () -> ExchangeRates.of(DATE, "EUR", Map.of("USD", BigDecimal.ZERO)));
+    assertThrows(IllegalArgumentException.class, () -> ExchangeRates.of(DATE, "EUR", Map.of("US$", BigDecimal.ONE)));
+  }
+
+  @Test
+  void converterTo_ShouldConvertFromAnyCurrencyRoundedToCents() {
+    // when
+    final SalaryConverter converter = rates.converterTo("usd");
+
+    // then verify
+    assertEquals("USD", converter.getCurrency());
+    assertEquals(DATE, converter.getDate());
+    assertEquals(new BigDecimal("1089.90"), converter.convert("EUR", new BigDecimal("1000")));
+    assertEquals(new BigDecimal("208.35"), converter.convert("BRL", new BigDecimal("1000.50")));
+    assertEquals(new BigDecimal("6.94"), converter.convert("JPY", new BigDecimal("1000")));
+    assertEquals(new BigDecimal("1000.00"), converter.convert("USD", new BigDecimal("1000")));
+  }
+
+  @Test
+  void convert_WhenTheCurrencyOrTheAmountIsUnknown_ShouldReturnNull() {
+    // given
+    final SalaryConverter converter = rates.converterTo("EUR");
+
+    // then verify
+    assertNull(converter.convert("GBP", new BigDecimal("1000")));
+    assertNull(converter.convert(null, new BigDecimal("1000")));
+    assertNull(converter.convert("BRL", null));
+    assertTrue(converter.canConvert("brl"));
+    assertFalse(converter.canConvert("GBP"));
+  }
+
+  @Test
+  void converterTo_WhenTheCurrencyHasNoRate_ShouldThrowInvalidRequestException() {
+    assertThrows(InvalidRequestException.class, () -> rates.converterTo("GBP"));
+  }
+}
@@ -0,0 +1,112 @@
+package com.codelitt.technical.exercise.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.codelitt.technical.exercise.dto.MemberDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+class MemberCacheTest {
+
+  private final AtomicLong nanos = new AtomicLong();
+  private final AtomicInteger loads = new AtomicInteger();
+  private final MemberInvalidationBus bus = new LocalMemberInvalidationBus();
+  private MemberCache cache;
+
+  @BeforeEach
+  void setup() {
+    cache = new MemberCache(Duration.ofMinutes(10), 2, bus, nanos::get);
+  }
+
+  @Test
+  void get_ShouldLoadOnceAndServeFromTheCache() {
+    // when
+    final MemberDTO first = cache.get(1L, this::load);
+    final MemberDTO second = cache.get(1L, this::load);
+
+    // then verify
+    assertSame(first, second);
+    assertEquals(1, loads.get());
+    assertEquals(1, cache.stats().hitCount());
+    assertEquals(1, cache.stats().missCount());
+  }
+
+  @Test
+  void get_WhenMemberIsMissing_ShouldNotCacheIt() {
+    // when
+    assertNull(cache.get(1L, id -> null));
+
+    // then verify
+    assertSame(cache.get(1L, this::load), cache.get(1L, this::load));
+    assertEquals(1, loads.get());
+  }
+
+  @Test
+  void get_WhenTtlIsExceeded_ShouldReload() {
+    // given
+    cache.get(1L, this::load);
+
+    // when
+    nanos.addAndGet(Duration.ofMinutes(11).toNanos());
+    cache.get(1L, this::load);
+
+    // then verify
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  void get_WhenMaximumSizeIsExceeded_ShouldEvict() {
+    // when
+    for (long id = 1; id <= 3; id++) {
+      cache.get(id, this::load);
+    }
+
+    // then verify
+    assertEquals(1, cache.stats().evictionCount());
+  }
+
+  @Test
+  void invalidate_ShouldEvictTheMemberFromEveryCacheOnTheBus() {
+    // given
+    final MemberCache otherInstance = new MemberCache(Duration.ofMinutes(10), 2, bus, nanos::get);
+    cache.get(1L, this::load);
+    otherInstance.get(1L, this::load);
+
+    // when
+    cache.invalidate(1L);
+    cache.get(1L, this::load);
+    otherInstance.get(1L, this::load);
+
+    // then verify
+    assertEquals(4, loads.get());
+  }
+
+  @Test
+  void bindTo_ShouldExposeTheHitRatio() {
+    // given
+    final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    cache.bindTo(registry);
+
+    // when
+    for (int i = 0; i < 4; i++) {
+      cache.get(1L, this::load);
+    }
+
+    // then verify
+    assertEquals(0.75, registry.get("cache.hit.ratio").tag("cache", "members").gauge().value());
+    assertEquals(3, registry.get("cache.gets").tag("cache", "members").tag("result", "hit").functionCounter().count());
+  }
+
+  private MemberDTO load(final Long id) {
+    loads.incrementAndGet();
+    return MemberDTO.builder().firstName("Member" + id).build();
+  }
+}
@@ -0,0 +1,112 @@
+package com.codelitt.technical.exercise.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+class HttpClientConfigTest {
+
+  private final HttpClientConfig config = new HttpClientConfig();
+  private final HttpClientProperties properties = new HttpClientProperties(10, 5, Duration.ofSeconds(1), Duration.ofSeconds(1),
+      Duration.ofMillis(300), Duration.ofMinutes(5), Duration.ofSeconds(30));
+  private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+
+  private HttpServer server;
+  private PoolingHttpClientConnectionManager connectionManager;
+  private CloseableHttpClient httpClient;
+  private RestTemplate restTemplate;
+
+  @BeforeEach
+  void setup() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext("/fast", exchange -> respond(exchange, 0));
+    server.createContext("/slow", exchange -> respond(exchange, 2_000));
+    server.start();
+
+    connectionManager = config.connectionManager(properties);
+    httpClient = config.httpClient(connectionManager, properties);
+    restTemplate = config.restTemplate(httpClient);
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    httpClient.close();
+    server.stop(0);
+  }
+
+  @Test
+  void restTemplate_ShouldReuseKeepAliveConnections() {
+    // when
+    for (int i = 0; i < 5; i++) {
+      assertEquals("ok", restTemplate.getForObject(url("/fast"), String.class));
+    }
+
+    // then verify
+    assertEquals(1, clientPorts.size());
+  }
+
+  @Test
+  void restTemplate_WhenUpstreamIsSlow_ShouldTimeOut() {
+    // given
+    var start = System.nanoTime();
+
+    // when
+    assertThrows(ResourceAccessException.class, () -> restTemplate.getForObject(url("/slow"), String.class));
+
+    // then verify
+    assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofMillis(1_500)) < 0);
+  }
+
+  @Test
+  void connectionPoolMetrics_ShouldExposePoolState() {
+    // given
+    var registry = new SimpleMeterRegistry();
+    config.connectionPoolMetrics(connectionManager).bindTo(registry);
+
+    // when
+    restTemplate.getForObject(url("/fast"), String.class);
+
+    // then verify
+    assertEquals(0, registry.get("http.client.pool.leased").gauge().value());
+    assertEquals(0, registry.get("http.client.pool.pending").gauge().value());
+    assertEquals(1, registry.get("http.client.pool.available").gauge().value());
+    assertEquals(10, registry.get("http.client.pool.max").gauge().value());
+  }
+
+  private String url(final String path) {
+    return "http://localhost:" + server.getAddress().getPort() + path;
+  }
+
+  private void respond(final HttpExchange exchange, final long delayMillis) throws IOException {
+    clientPorts.add(exchange.getRemoteAddress().getPort());
+    try {
+      Thread.sleep(delayMillis);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    final byte[] body = "ok".getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().add("Content-Type", "text/plain");
+    exchange.sendResponseHeaders(200, body.length);
+    exchange.getResponseBody().write(body);
+    exchange.close();
+  }
+}
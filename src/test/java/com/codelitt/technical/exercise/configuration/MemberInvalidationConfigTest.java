@@ -0,0 +1,36 @@
+package com.codelitt.technical.exercise.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+
+import com.codelitt.technical.exercise.cache.LocalMemberInvalidationBus;
+import com.codelitt.technical.exercise.cache.MemberInvalidationBus;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+class MemberInvalidationConfigTest {
+
+  private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+      .withUserConfiguration(MemberInvalidationConfig.class);
+
+  @Test
+  void invalidationBus_ShouldBeLocalByDefault() {
+    contextRunner.run(context -> {
+      // then verify
+      assertInstanceOf(LocalMemberInvalidationBus.class, context.getBean(MemberInvalidationBus.class));
+    });
+  }
+
+  @Test
+  void invalidationBus_WhenAnotherBusIsDeclared_ShouldNotDeclareTheLocalOne() {
+    // given
+    final MemberInvalidationBus sharedBus = mock(MemberInvalidationBus.class);
+
+    contextRunner.withBean("sharedMemberInvalidationBus", MemberInvalidationBus.class, () -> sharedBus).run(context -> {
+      // then verify
+      assertSame(sharedBus, context.getBean(MemberInvalidationBus.class));
+    });
+  }
+}
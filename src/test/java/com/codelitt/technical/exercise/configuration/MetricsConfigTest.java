@@ -0,0 +1,58 @@
+package com.codelitt.technical.exercise.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.autoconfigure.metrics.JvmMetricsAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.export.prometheus.PrometheusMetricsExportAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.jdbc.DataSourcePoolMetricsAutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.sql.SQLException;
+import javax.sql.DataSource;
+
+/**
+ * Checks that the Prometheus registry, the Hikari pool gauges and the JVM GC gauges are registered alongside the
+ * {@link MetricsConfig}, on an in-memory database.
+ */
+class MetricsConfigTest {
+
+  private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+      .withConfiguration(AutoConfigurations.of(MetricsAutoConfiguration.class, PrometheusMetricsExportAutoConfiguration.class,
+          JvmMetricsAutoConfiguration.class, DataSourceAutoConfiguration.class, DataSourcePoolMetricsAutoConfiguration.class))
+      .withUserConfiguration(MetricsConfig.class)
+      .withPropertyValues("spring.datasource.url=jdbc:h2:mem:metrics", "spring.datasource.hikari.pool-name=members",
+          "spring.datasource.hikari.maximum-pool-size=5");
+
+  @Test
+  void metrics_ShouldExposeHikariAndJvmGcGaugesToPrometheus() {
+    contextRunner.run(context -> {
+      // given
+      var registry = context.getBean(MeterRegistry.class);
+      try (var connection = context.getBean(DataSource.class).getConnection()) {
+        assertTrue(connection.isValid(1));
+      } catch (final SQLException e) {
+        throw new IllegalStateException(e);
+      }
+
+      // when
+      var scrape = context.getBean(PrometheusMeterRegistry.class).scrape();
+
+      // then verify
+      assertNotNull(context.getBean(TimedAspect.class));
+      assertEquals(5, registry.get("hikaricp.connections.max").tag("pool", "members").gauge().value());
+      assertNotNull(registry.get("jvm.gc.max.data.size").gauge());
+      assertTrue(scrape.contains("hikaricp_connections_active"));
+      assertTrue(scrape.contains("jvm_gc_"));
+    });
+  }
+}
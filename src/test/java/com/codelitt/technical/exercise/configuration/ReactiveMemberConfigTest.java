@@ -0,0 +1,75 @@
+package com.codelitt.technical.exercise.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.codelitt.technical.exercise.cache.CountryInfoCache;
+import com.codelitt.technical.exercise.mapper.MemberMapper;
+import com.codelitt.technical.exercise.reactive.ReactiveMemberServer;
+import com.codelitt.technical.exercise.resilience.CountryApiGuard;
+import com.codelitt.technical.exercise.validation.MemberValidator;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.http.codec.CodecsAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.reactive.function.client.WebClientAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.Duration;
+
+class ReactiveMemberConfigTest {
+
+  private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+      .withConfiguration(AutoConfigurations.of(JacksonAutoConfiguration.class, CodecsAutoConfiguration.class,
+          WebClientAutoConfiguration.class, ValidationAutoConfiguration.class))
+      .withUserConfiguration(Properties.class, ReactiveMemberConfig.class)
+      .withBean(CountryInfoCache.class, () -> new CountryInfoCache(Duration.ofHours(1), Duration.ofMinutes(1), 512))
+      .withBean(CountryApiGuard.class)
+      .withBean(MemberMapper.class)
+      .withBean(MemberValidator.class)
+      .withPropertyValues("api.countries.url=http://localhost:1/v3.1/name/");
+
+  @Test
+  void reactiveServer_ShouldBeDisabledByDefault() {
+    contextRunner.run(context -> {
+      // then verify
+      assertFalse(context.containsBean("reactiveMemberServer"));
+      assertFalse(context.containsBean("reactiveMemberRepository"));
+    });
+  }
+
+  @Test
+  void reactiveServer_WhenEnabled_ShouldServeMemberCreations() {
+    contextRunner.withPropertyValues(
+        "api.members.reactive.enabled=true",
+        "api.members.reactive.port=0",
+        "api.members.reactive.url=r2dbc:h2:mem:///reactive-config;DB_CLOSE_DELAY=-1",
+        "api.members.reactive.username=sa",
+        "api.members.reactive.password=").run(context -> {
+      // given
+      var server = context.getBean(ReactiveMemberServer.class);
+      var client = WebTestClient.bindToServer().baseUrl("http://localhost:" + server.getPort()).build();
+
+      // when
+      var response = client.post().uri("/api/members")
+          .contentType(MediaType.APPLICATION_JSON)
+          .bodyValue("{\"firstName\":\"John\",\"lastName\":\"Doe\",\"type\":\"EMPLOYEE\",\"country\":\"Brazil\"}")
+          .exchange();
+
+      // then verify
+      assertTrue(server.isRunning());
+      response.expectStatus().isBadRequest()
+          .expectBody()
+          .jsonPath("$.message").isEqualTo(MemberValidator.EMPLOYEE_ROLE_REQUIRED_ON_CREATE);
+    });
+  }
+
+  @EnableConfigurationProperties({HttpClientProperties.class, ReactiveMemberProperties.class, CircuitBreakerProperties.class})
+  static class Properties {
+  }
+}
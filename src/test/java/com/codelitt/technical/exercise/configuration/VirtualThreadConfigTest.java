@@ -0,0 +1,66 @@
+package com.codelitt.technical.exercise.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import org.apache.coyote.ProtocolHandler;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.core.task.AsyncTaskExecutor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+class VirtualThreadConfigTest {
+
+  private static final int RUNTIME_VERSION = Runtime.version().feature();
+
+  private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+      .withUserConfiguration(VirtualThreadConfig.class);
+
+  @Test
+  void virtualThreads_ShouldBeDisabledByDefault() {
+    contextRunner.run(context -> {
+      // then verify
+      assertFalse(context.containsBean("virtualThreadExecutor"));
+      assertFalse(context.containsBean("virtualThreadProtocolHandlerCustomizer"));
+    });
+  }
+
+  @Test
+  void virtualThreads_WhenRuntimeIsOlderThanJava21_ShouldFailToStart() {
+    assumeTrue(RUNTIME_VERSION < 21);
+
+    contextRunner.withPropertyValues("spring.threads.virtual.enabled=true").run(context -> {
+      // then verify
+      assertNotNull(context.getStartupFailure());
+      assertTrue(context.getStartupFailure().getMessage().contains("Virtual threads require a Java 21 runtime"));
+    });
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void virtualThreads_WhenEnabled_ShouldRunTomcatAndAsyncRequestsOnVirtualThreads() {
+    assumeTrue(RUNTIME_VERSION >= 21);
+
+    contextRunner.withPropertyValues("spring.threads.virtual.enabled=true").run(context -> {
+      // given
+      var executor = context.getBean("virtualThreadExecutor", ExecutorService.class);
+      var protocolHandler = mock(ProtocolHandler.class);
+
+      // when
+      context.getBean(TomcatProtocolHandlerCustomizer.class).customize(protocolHandler);
+      var thread = CompletableFuture.supplyAsync(() -> Thread.currentThread().toString(),
+          context.getBean("applicationTaskExecutor", AsyncTaskExecutor.class)).join();
+
+      // then verify
+      verify(protocolHandler).setExecutor(executor);
+      assertTrue(thread.startsWith("VirtualThread"));
+    });
+  }
+}
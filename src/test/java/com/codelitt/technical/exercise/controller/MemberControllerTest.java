@@ -1,17 +1,55 @@
 package com.codelitt.technical.exercise.controller;
 
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import jakarta.servlet.ServletException;
+
+import com.codelitt.technical.exercise.cache.ExchangeRates;
+import com.codelitt.technical.exercise.cache.SalaryConverter;
 import com.codelitt.technical.exercise.dto.MemberDTO;
+import com.codelitt.technical.exercise.dto.batch.MemberBatchItemResult;
+import com.codelitt.technical.exercise.dto.batch.MemberBatchResult;
+import com.codelitt.technical.exercise.dto.filter.MemberFilter;
+import com.codelitt.technical.exercise.dto.page.CursorPage;
+import com.codelitt.technical.exercise.dto.page.OffsetPage;
+import com.codelitt.technical.exercise.dto.payroll.PayrollGroup;
+import com.codelitt.technical.exercise.dto.search.MemberNameMatch;
+import com.codelitt.technical.exercise.dto.tag.TagCardinality;
+import com.codelitt.technical.exercise.dto.tag.TagSearchPage;
+import com.codelitt.technical.exercise.enums.ExportFormat;
+import com.codelitt.technical.exercise.enums.MemberSortField;
+import com.codelitt.technical.exercise.enums.CurrencyStatus;
 import com.codelitt.technical.exercise.enums.MemberType;
+import com.codelitt.technical.exercise.enums.PayrollDimension;
+import com.codelitt.technical.exercise.enums.TagMatch;
+import com.codelitt.technical.exercise.exception.InvalidRequestException;
+import com.codelitt.technical.exercise.exception.VersionConflictException;
+import com.codelitt.technical.exercise.service.ExchangeRateService;
+import com.codelitt.technical.exercise.service.MemberBatchService;
+import com.codelitt.technical.exercise.service.MemberExportService;
+import com.codelitt.technical.exercise.service.MemberSearchService;
 import com.codelitt.technical.exercise.service.MemberService;
+import com.codelitt.technical.exercise.service.MemberTagService;
+import com.codelitt.technical.exercise.service.PayrollService;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import org.junit.jupiter.api.Test;
@@ -19,12 +57,20 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
 
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -36,6 +82,24 @@ class MemberControllerTest {
   @MockBean
   private MemberService memberService;
 
+  @MockBean
+  private MemberExportService memberExportService;
+
+  @MockBean
+  private MemberBatchService memberBatchService;
+
+  @MockBean
+  private MemberTagService memberTagService;
+
+  @MockBean
+  private PayrollService payrollService;
+
+  @MockBean
+  private ExchangeRateService exchangeRateService;
+
+  @MockBean
+  private MemberSearchService memberSearchService;
+
   @Test
   void testCreateMember() throws Exception {
     final MemberDTO member = new MemberDTO();
@@ -46,7 +110,7 @@ class MemberControllerTest {
     member.setType(MemberType.CONTRACTOR);
     member.setSalary(BigDecimal.valueOf(1000));
 
-    when(memberService.create(member)).thenReturn(member);
+    when(memberService.create(any(MemberDTO.class))).thenReturn(member);
 
     mockMvc.perform(post("/api/members")
            .contentType(MediaType.APPLICATION_JSON)
@@ -55,6 +119,35 @@ class MemberControllerTest {
 
   }
 
+  @Test
+  void testCreateMemberWithPendingCurrency() throws Exception {
+    final MemberDTO member = MemberDTO.builder().firstName("John").lastName("Doe").country("brasil").type(MemberType.CONTRACTOR).build();
+    final MemberDTO created = MemberDTO.builder().firstName("John").lastName("Doe").country("Brasil").type(MemberType.CONTRACTOR)
+        .currencyStatus(CurrencyStatus.PENDING).build();
+
+    when(memberService.create(any(MemberDTO.class))).thenReturn(created);
+
+    mockMvc.perform(post("/api/members")
+           .contentType(MediaType.APPLICATION_JSON)
+           .content(new ObjectMapper().writeValueAsString(member)))
+           .andExpect(status().isAccepted())
+           .andExpect(jsonPath("$.currencyStatus").value("PENDING"));
+  }
+
+  @Test
+  void testCreateMembersInBatch() throws Exception {
+    final MemberDTO member = MemberDTO.builder().firstName("John").lastName("Doe").country("brasil").type(MemberType.CONTRACTOR).build();
+
+    when(memberBatchService.createAll(any())).thenReturn(new MemberBatchResult(1, 1,
+        List.of(MemberBatchItemResult.created(0, 1L), MemberBatchItemResult.failed(1, "First name must not be blank"))));
+
+    mockMvc.perform(post("/api/members/batch")
+           .contentType(MediaType.APPLICATION_JSON)
+           .content(new ObjectMapper().writeValueAsString(List.of(member, new MemberDTO()))))
+           .andExpect(status().isMultiStatus())
+           .andExpect(jsonPath("$.items[1].status").value("FAILED"));
+  }
+
   @Test
   void testUpdateMember() throws Exception {
     Long id = 1L;
@@ -66,30 +159,338 @@ class MemberControllerTest {
     member.setType(MemberType.EMPLOYEE);
     member.setRole("Software Engineer");
     member.setSalary(BigDecimal.valueOf(1200));
+    member.setVersion(2L);
 
-    when(memberService.update(id, member)).thenReturn(member);
+    when(memberService.update(eq(id), any(MemberDTO.class), isNull())).thenReturn(member);
 
     mockMvc.perform(put("/api/members/" + id)
            .contentType(MediaType.APPLICATION_JSON)
            .content(new ObjectMapper().writeValueAsString(member)))
-           .andExpect(status().isOk());
+           .andExpect(status().isOk())
+           .andExpect(header().string(HttpHeaders.ETAG, "\"2\""));
+  }
+
+  @Test
+  void testUpdateMemberWhenIfMatchIsOutdated() throws Exception {
+    Long id = 1L;
+
+    when(memberService.update(eq(id), any(MemberDTO.class), eq(2L)))
+        .thenThrow(new VersionConflictException("Member with id 1 is at version 3, not 2", 2L));
+
+    mockMvc.perform(put("/api/members/" + id)
+           .header(HttpHeaders.IF_MATCH, "\"2\"")
+           .contentType(MediaType.APPLICATION_JSON)
+           .content(new ObjectMapper().writeValueAsString(validMember())))
+           .andExpect(status().isPreconditionFailed());
+  }
+
+  @Test
+  void testUpdateMemberWhenUpdatedConcurrently() throws Exception {
+    Long id = 1L;
+
+    when(memberService.update(eq(id), any(MemberDTO.class), isNull()))
+        .thenThrow(new VersionConflictException("Member with id 1 was updated concurrently", null));
+
+    mockMvc.perform(put("/api/members/" + id)
+           .contentType(MediaType.APPLICATION_JSON)
+           .content(new ObjectMapper().writeValueAsString(validMember())))
+           .andExpect(status().isConflict());
+  }
+
+  @Test
+  void testPatchMember() throws Exception {
+    Long id = 1L;
+    final MemberDTO member = validMember();
+    member.setVersion(4L);
+
+    when(memberService.patch(eq(id), any(JsonNode.class), eq(3L))).thenReturn(member);
+
+    mockMvc.perform(patch("/api/members/" + id)
+           .header(HttpHeaders.IF_MATCH, "\"3\"")
+           .contentType("application/merge-patch+json")
+           .content("{\"firstName\":\"Sam\"}"))
+           .andExpect(status().isOk())
+           .andExpect(header().string(HttpHeaders.ETAG, "\"4\""));
+  }
+
+  @Test
+  void testPatchMemberWhenIfMatchIsOutdated() throws Exception {
+    Long id = 1L;
+
+    when(memberService.patch(eq(id), any(JsonNode.class), eq(3L)))
+        .thenThrow(new VersionConflictException("Member with id 1 is at version 4, not 3", 3L));
+
+    mockMvc.perform(patch("/api/members/" + id)
+           .header(HttpHeaders.IF_MATCH, "\"3\"")
+           .contentType("application/merge-patch+json")
+           .content("{\"firstName\":\"Sam\"}"))
+           .andExpect(status().isPreconditionFailed());
+  }
+
+  @Test
+  void testUpdateMemberWhenIfMatchIsInvalid() throws Exception {
+    mockMvc.perform(put("/api/members/1")
+           .header(HttpHeaders.IF_MATCH, "W/\"2\"")
+           .contentType(MediaType.APPLICATION_JSON)
+           .content(new ObjectMapper().writeValueAsString(validMember())))
+           .andExpect(status().isBadRequest());
   }
 
   @Test
   void testFindMemberById() throws Exception {
     Long id = 1L;
     final MemberDTO member = new MemberDTO();
+    member.setVersion(3L);
 
     when(memberService.findById(id)).thenReturn(member);
 
     mockMvc.perform(get("/api/members/" + id))
-           .andExpect(status().isOk());
+           .andExpect(status().isOk())
+           .andExpect(header().stringValues(HttpHeaders.ETAG, "\"3\""))
+           .andExpect(jsonPath("$.version").value(3));
+  }
+
+  @Test
+  void testFindMemberByIdWhenNotModified() throws Exception {
+    Long id = 1L;
+
+    when(memberService.findVersion(id)).thenReturn(3L);
+
+    mockMvc.perform(get("/api/members/" + id).header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+           .andExpect(status().isNotModified())
+           .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+           .andExpect(content().string(""));
+    verify(memberService, never()).findById(id);
+  }
+
+  @Test
+  void testFindMemberByIdWhenModified() throws Exception {
+    Long id = 1L;
+    final MemberDTO member = new MemberDTO();
+    member.setVersion(4L);
+
+    when(memberService.findVersion(id)).thenReturn(4L);
+    when(memberService.findById(id)).thenReturn(member);
+
+    mockMvc.perform(get("/api/members/" + id).header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+           .andExpect(status().isOk())
+           .andExpect(header().stringValues(HttpHeaders.ETAG, "\"4\""));
   }
 
   @Test
-  void findAllMembers() throws Exception {
-    mockMvc.perform(MockMvcRequestBuilders.get("/api/members"))
+  void findMembers() throws Exception {
+    when(memberService.findMembers(MemberFilter.NONE, null, 2, MemberSortField.CREATED_AT, Sort.Direction.DESC))
+        .thenReturn(new CursorPage<>(List.of(new MemberDTO()), 2, "next", "abc"));
+
+    mockMvc.perform(MockMvcRequestBuilders.get("/api/members?size=2&sort=createdAt&direction=desc"))
+           .andExpect(status().isOk())
+           .andExpect(header().stringValues(HttpHeaders.ETAG, "\"abc\""))
+           .andExpect(jsonPath("$.items.length()").value(1))
+           .andExpect(jsonPath("$.nextCursor").value("next"))
+           .andExpect(jsonPath("$.version").doesNotExist());
+    // without If-None-Match, the version is the one of the page read
+    verify(memberService, never()).findMembersVersion(any(), any(), any(), any(), any());
+  }
+
+  @Test
+  void findMembersWhenNotModified() throws Exception {
+    when(memberService.findMembersVersion(MemberFilter.NONE, null, 2, null, null)).thenReturn("abc");
+
+    mockMvc.perform(MockMvcRequestBuilders.get("/api/members?size=2").header(HttpHeaders.IF_NONE_MATCH, "\"abc\""))
+           .andExpect(status().isNotModified());
+    verify(memberService, never()).findMembers(any(), any(), any(), any(), any());
+  }
+
+  @Test
+  void findMembersWhenModified() throws Exception {
+    when(memberService.findMembersVersion(MemberFilter.NONE, null, 2, null, null)).thenReturn("def");
+    when(memberService.findMembers(MemberFilter.NONE, null, 2, null, null)).thenReturn(new CursorPage<>(List.of(new MemberDTO()), 2, null, "def"));
+
+    mockMvc.perform(MockMvcRequestBuilders.get("/api/members?size=2").header(HttpHeaders.IF_NONE_MATCH, "\"abc\""))
+           .andExpect(status().isOk())
+           .andExpect(header().stringValues(HttpHeaders.ETAG, "\"def\""))
+           .andExpect(jsonPath("$.items.length()").value(1));
+  }
+
+  @Test
+  void findMembersWithInvalidCursor() throws Exception {
+    when(memberService.findMembers(MemberFilter.NONE, "invalid", null, null, null)).thenThrow(new InvalidRequestException("Invalid cursor: invalid"));
+
+    mockMvc.perform(MockMvcRequestBuilders.get("/api/members?cursor=invalid"))
+           .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  void findMembersWithUnsupportedSortDirection() throws Exception {
+    mockMvc.perform(MockMvcRequestBuilders.get("/api/members?direction=sideways"))
+           .andExpect(status().isBadRequest())
+           .andExpect(jsonPath("$.message").value("Unsupported sort direction: sideways. Supported values: asc, desc"));
+    verify(memberService, never()).findMembers(any(), any(), any(), any(), any());
+  }
+
+  @Test
+  void findMembersPageWhenTheServiceFailsWithIllegalArgumentException() throws Exception {
+    when(memberService.findMembersPage(0, null)).thenThrow(new IllegalArgumentException("bug"));
+
+    // not a request error: left to the container, which answers it with an error status of the server
+    assertThrows(ServletException.class, () -> mockMvc.perform(MockMvcRequestBuilders.get("/api/members/page")));
+  }
+
+  @Test
+  void findMembersWithFilters() throws Exception {
+    final MemberFilter filter = new MemberFilter("Brazil", MemberType.CONTRACTOR, "BRL", new BigDecimal("1000"), new BigDecimal("5000.50"),
+        6, null, LocalDateTime.of(2023, 1, 1, 0, 0), null);
+    when(memberService.findMembers(filter, null, null, null, null)).thenReturn(new CursorPage<>(List.of(new MemberDTO()), 20, null, "abc"));
+
+    mockMvc.perform(MockMvcRequestBuilders.get("/api/members?country=Brazil&type=contractor&currency=BRL&minSalary=1000"
+               + "&maxSalary=5000.50&minContractDuration=6&createdFrom=2023-01-01T00:00:00"))
+           .andExpect(status().isOk())
+           .andExpect(jsonPath("$.items.length()").value(1));
+  }
+
+  @Test
+  void findMembersWithInvalidFilters() throws Exception {
+    mockMvc.perform(MockMvcRequestBuilders.get("/api/members?minSalary=5000&maxSalary=1000"))
+           .andExpect(status().isBadRequest());
+    mockMvc.perform(MockMvcRequestBuilders.get("/api/members?type=freelancer"))
+           .andExpect(status().isBadRequest());
+    verify(memberService, never()).findMembers(any(), any(), any(), any(), any());
+  }
+
+  @Test
+  void findMembersWithSalaryCurrency() throws Exception {
+    final MemberDTO member = MemberDTO.builder().firstName("John").salary(new BigDecimal("1000.00")).currency("EUR").build();
+    final MemberDTO pending = MemberDTO.builder().firstName("Jane").salary(new BigDecimal("2000.00")).build();
+    when(exchangeRateService.converterTo("usd")).thenReturn(usdConverter());
+    when(memberService.findMembers(MemberFilter.NONE, null, null, null, null)).thenReturn(new CursorPage<>(List.of(member, pending), 20, null, "abc"));
+
+    mockMvc.perform(MockMvcRequestBuilders.get("/api/members?salaryCurrency=usd"))
+           .andExpect(status().isOk())
+           .andExpect(header().stringValues(HttpHeaders.ETAG, "\"abc-USD-2023-07-03\""))
+           .andExpect(jsonPath("$.items[0].salary").value(1000.00))
+           .andExpect(jsonPath("$.items[0].normalizedSalary").value(1089.90))
+           .andExpect(jsonPath("$.items[0].normalizedCurrency").value("USD"))
+           .andExpect(jsonPath("$.items[1].normalizedSalary").doesNotExist());
+  }
+
+  @Test
+  void findMembersWithUnsupportedSalaryCurrency() throws Exception {
+    when(exchangeRateService.converterTo("XYZ")).thenThrow(new InvalidRequestException("No exchange rate for the currency XYZ"));
+
+    mockMvc.perform(MockMvcRequestBuilders.get("/api/members?salaryCurrency=XYZ"))
+           .andExpect(status().isBadRequest());
+    verify(memberService, never()).findMembers(any(), any(), any(), any(), any());
+  }
+
+  @Test
+  void findMembersByTags() throws Exception {
+    when(memberTagService.findMembersByTags(List.of("java", "backend"), TagMatch.ANY, null, 2))
+        .thenReturn(new TagSearchPage<>(List.of(new MemberDTO()), 2, "next",
+            List.of(new TagCardinality("backend", 5), new TagCardinality("java", 12))));
+
+    mockMvc.perform(MockMvcRequestBuilders.get("/api/members?tags=java,backend&match=any&size=2"))
+           .andExpect(status().isOk())
+           .andExpect(jsonPath("$.items.length()").value(1))
+           .andExpect(jsonPath("$.nextCursor").value("next"))
+           .andExpect(jsonPath("$.tags[0].tag").value("backend"))
+           .andExpect(jsonPath("$.tags[0].members").value(5));
+    verify(memberService, never()).findMembers(any(), any(), any(), any(), any());
+  }
+
+  @Test
+  void searchByName() throws Exception {
+    when(memberSearchService.searchByName("jhon d", 5)).thenReturn(List.of(
+        new MemberNameMatch(1L, "John", "Doe", "Developer", "Brazil", true, 0.375)));
+
+    mockMvc.perform(MockMvcRequestBuilders.get("/api/members/search?q=jhon d&limit=5"))
+           .andExpect(status().isOk())
+           .andExpect(jsonPath("$.length()").value(1))
+           .andExpect(jsonPath("$[0].id").value(1))
+           .andExpect(jsonPath("$[0].lastName").value("Doe"))
+           .andExpect(jsonPath("$[0].fuzzy").value(true))
+           .andExpect(jsonPath("$[0].score").value(0.375))
+           .andExpect(jsonPath("$[0].salary").doesNotExist());
+    verify(memberService, never()).findById(any());
+  }
+
+  @Test
+  void searchByNameWithTooLongQuery() throws Exception {
+    when(memberSearchService.searchByName(any(), isNull()))
+        .thenThrow(new InvalidRequestException("The query must not be longer than 100 characters"));
+
+    mockMvc.perform(MockMvcRequestBuilders.get("/api/members/search?q=" + "a".repeat(101)))
+           .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  void findMembersPage() throws Exception {
+    when(memberService.findMembersPage(1, 10)).thenReturn(new OffsetPage<>(List.of(), 1, 10, 0, 0));
+
+    mockMvc.perform(MockMvcRequestBuilders.get("/api/members/page?page=1&size=10"))
+           .andExpect(status().isOk())
+           .andExpect(jsonPath("$.page").value(1));
+  }
+
+  @Test
+  void findPayroll() throws Exception {
+    when(payrollService.findPayroll(EnumSet.of(PayrollDimension.CURRENCY, PayrollDimension.TYPE), null))
+        .thenReturn(List.of(new PayrollGroup(null, "EUR", MemberType.EMPLOYEE, 3, 2, new BigDecimal("5000.50"), new BigDecimal("2000.50"),
+            new BigDecimal("3000.00"), new BigDecimal("2500.2500"))));
+
+    mockMvc.perform(MockMvcRequestBuilders.get("/api/members/payroll?groupBy=currency,TYPE"))
+           .andExpect(status().isOk())
+           .andExpect(jsonPath("$.length()").value(1))
+           .andExpect(jsonPath("$[0].currency").value("EUR"))
+           .andExpect(jsonPath("$[0].members").value(3))
+           .andExpect(jsonPath("$[0].salarySum").value(5000.50))
+           .andExpect(jsonPath("$[0].salaryMean").value(2500.25));
+  }
+
+  @Test
+  void findPayrollWithSalaryCurrency() throws Exception {
+    final SalaryConverter converter = usdConverter();
+    when(exchangeRateService.converterTo("USD")).thenReturn(converter);
+    when(payrollService.findPayroll(EnumSet.of(PayrollDimension.TYPE), converter))
+        .thenReturn(List.of(new PayrollGroup(null, null, MemberType.EMPLOYEE, 2, 2, new BigDecimal("3179.90"), new BigDecimal("1089.90"),
+            new BigDecimal("2090.00"), new BigDecimal("1589.9500"), "USD")));
+
+    mockMvc.perform(MockMvcRequestBuilders.get("/api/members/payroll?groupBy=type&salaryCurrency=USD"))
+           .andExpect(status().isOk())
+           .andExpect(jsonPath("$[0].salarySum").value(3179.90))
+           .andExpect(jsonPath("$[0].salaryCurrency").value("USD"));
+  }
+
+  @Test
+  void findPayrollWithUnsupportedDimension() throws Exception {
+    mockMvc.perform(MockMvcRequestBuilders.get("/api/members/payroll?groupBy=role"))
+           .andExpect(status().isBadRequest());
+    verify(payrollService, never()).findPayroll(any(), any());
+  }
+
+  @Test
+  void exportMembers() throws Exception {
+    final MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/api/members/export?format=csv"))
+           .andExpect(request().asyncStarted())
+           .andReturn();
+
+    mockMvc.perform(asyncDispatch(result))
+           .andExpect(status().isOk())
+           .andExpect(content().contentType("text/csv"));
+    verify(memberExportService).export(eq(ExportFormat.CSV), isNull(), any());
+  }
+
+  @Test
+  void exportMembersWithSalaryCurrency() throws Exception {
+    final SalaryConverter converter = usdConverter();
+    when(exchangeRateService.converterTo("USD")).thenReturn(converter);
+
+    final MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/api/members/export?salaryCurrency=USD"))
+           .andExpect(request().asyncStarted())
+           .andReturn();
+
+    mockMvc.perform(asyncDispatch(result))
            .andExpect(status().isOk());
+    verify(memberExportService).export(eq(ExportFormat.NDJSON), eq(converter), any());
   }
 
   @Test
@@ -100,4 +501,21 @@ class MemberControllerTest {
     mockMvc.perform(delete("/api/members/" + id))
            .andExpect(status().isNoContent());
   }
+
+  private static MemberDTO validMember() {
+    return MemberDTO.builder()
+        .firstName("Sam")
+        .lastName("Catalano")
+        .country("france")
+        .tags(List.of("DevOps"))
+        .type(MemberType.CONTRACTOR)
+        .contractDuration(12)
+        .salary(BigDecimal.valueOf(1200))
+        .build();
+  }
+
+  private static SalaryConverter usdConverter() {
+    return ExchangeRates.of(LocalDate.of(2023, 7, 3), "EUR", Map.of("USD", new BigDecimal("1.0899"), "BRL", new BigDecimal("5.2336")))
+        .converterTo("USD");
+  }
 }
@@ -0,0 +1,115 @@
+package com.codelitt.technical.exercise.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.codelitt.technical.exercise.cache.ExchangeRates;
+import com.codelitt.technical.exercise.cache.SalaryConverter;
+import com.codelitt.technical.exercise.enums.ExportFormat;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+class MemberExportWriterTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Test
+  void ndjson_ShouldWriteOneJsonObjectPerLine() throws IOException {
+    // given
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    // when
+    try (MemberExportWriter writer = MemberExportWriter.of(ExportFormat.NDJSON, output, objectMapper.getFactory())) {
+      writer.write(row(1L, "John", List.of("Backend", "Frontend")));
+      writer.write(new MemberExportRow(2L, null, "Jane", null, null, "CONTRACTOR", 12, null, "France", "EUR", List.of()));
+    }
+
+    // then verify
+    final String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+    assertEquals(2, lines.length);
+    final JsonNode first = objectMapper.readTree(lines[0]);
+    assertEquals(1, first.get("id").asLong());
+    assertEquals("2023-02-01T10:30", first.get("createdAt").asText());
+    assertTrue(lines[0].contains("\"salary\":1000.50"));
+    assertEquals("Frontend", first.get("tags").get(1).asText());
+    final JsonNode second = objectMapper.readTree(lines[1]);
+    assertTrue(second.get("lastName").isNull());
+    assertEquals(12, second.get("contractDuration").asInt());
+    assertEquals(0, second.get("tags").size());
+  }
+
+  @Test
+  void csv_ShouldWriteHeaderAndQuoteFieldsWhenNeeded() throws IOException {
+    // given
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    // when
+    try (MemberExportWriter writer = MemberExportWriter.of(ExportFormat.CSV, output, objectMapper.getFactory())) {
+      writer.write(row(1L, "John \"JD\", Jr.", List.of("Backend", "Frontend")));
+    }
+
+    // then verify
+    final String[] lines = output.toString(StandardCharsets.UTF_8).split("\r\n");
+    assertEquals("id,created_at,first_name,last_name,salary,type,contract_duration,role,country,currency,tags", lines[0]);
+    assertEquals("1,2023-02-01T10:30,\"John \"\"JD\"\", Jr.\",Doe,1000.50,EMPLOYEE,,Developer,Brazil,BRL,Backend;Frontend", lines[1]);
+  }
+
+  @Test
+  void ndjson_WithConverter_ShouldAlsoWriteTheConvertedSalary() throws IOException {
+    // given
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    // when
+    try (MemberExportWriter writer = MemberExportWriter.of(ExportFormat.NDJSON, output, objectMapper.getFactory(), usdConverter())) {
+      writer.write(row(1L, "John", List.of("Backend")));
+      writer.write(new MemberExportRow(2L, null, "Jane", "Doe", new BigDecimal("2000.00"), "CONTRACTOR", 12, null, "France", null, List.of()));
+    }
+
+    // then verify
+    final String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+    assertTrue(lines[0].contains("\"salary\":1000.50"));
+    assertTrue(lines[0].contains("\"normalizedSalary\":208.35,\"normalizedCurrency\":\"USD\""));
+    assertFalse(lines[1].contains("normalizedSalary"));
+  }
+
+  @Test
+  void csv_WithConverter_ShouldAddTheConvertedSalaryColumns() throws IOException {
+    // given
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    // when
+    try (MemberExportWriter writer = MemberExportWriter.of(ExportFormat.CSV, output, objectMapper.getFactory(), usdConverter())) {
+      writer.write(row(1L, "John", List.of("Backend")));
+      writer.write(new MemberExportRow(2L, null, "Jane", "Doe", null, "CONTRACTOR", 12, null, "France", "EUR", List.of()));
+    }
+
+    // then verify
+    final String[] lines = output.toString(StandardCharsets.UTF_8).split("\r\n");
+    assertEquals("id,created_at,first_name,last_name,salary,type,contract_duration,role,country,currency,tags,normalized_salary,normalized_currency",
+        lines[0]);
+    assertEquals("1,2023-02-01T10:30,John,Doe,1000.50,EMPLOYEE,,Developer,Brazil,BRL,Backend,208.35,USD", lines[1]);
+    assertEquals("2,,Jane,Doe,,CONTRACTOR,12,,France,EUR,,,", lines[2]);
+  }
+
+  private static SalaryConverter usdConverter() {
+    return ExchangeRates.of(LocalDate.of(2023, 7, 3), "EUR", Map.of("USD", new BigDecimal("1.0899"), "BRL", new BigDecimal("5.2336")))
+        .converterTo("USD");
+  }
+
+  private static MemberExportRow row(final Long id, final String firstName, final List<String> tags) {
+    return new MemberExportRow(id, LocalDateTime.of(2023, 2, 1, 10, 30), firstName, "Doe", new BigDecimal("1000.50"), "EMPLOYEE",
+        null, "Developer", "Brazil", "BRL", tags);
+  }
+}
@@ -0,0 +1,183 @@
+package com.codelitt.technical.exercise.mapper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.codelitt.technical.exercise.dto.MemberDTO;
+import com.codelitt.technical.exercise.enums.CurrencyStatus;
+import com.codelitt.technical.exercise.enums.MemberType;
+import com.codelitt.technical.exercise.model.Member;
+
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Checks that {@link MemberMapper} maps exactly like the {@link ModelMapper} it replaces.
+ */
+class MemberMapperTest {
+
+  private final MemberMapper mapper = new MemberMapper();
+  private final ModelMapper modelMapper = modelMapper();
+
+  @Test
+  void toEntity_ShouldMapLikeModelMapper() {
+    // given
+    final MemberDTO member = dto();
+
+    // when
+    final Member result = mapper.toEntity(member);
+
+    // then verify
+    assertEntityEquals(modelMapper.map(member, Member.class), result);
+    assertEquals("Brazil", result.getCountry());
+    assertNotSame(member.getTags(), result.getTags());
+  }
+
+  @Test
+  void toDto_ShouldMapLikeModelMapper() {
+    // given
+    final Member member = entity();
+
+    // when
+    final MemberDTO result = mapper.toDto(member);
+
+    // then verify
+    assertDtoEquals(modelMapper.map(member, MemberDTO.class), result);
+    assertNotSame(member.getTags(), result.getTags());
+    assertEquals("EUR", result.getCurrency());
+  }
+
+  @Test
+  void updateEntity_ShouldUpdateInPlaceLikeModelMapper() {
+    // given
+    final MemberDTO member = dto();
+    final Member expected = entity();
+    final Member entity = entity();
+    modelMapper.map(member, expected);
+    // ModelMapper merges lists element by element, which kept the tags beyond the length of the new list
+    expected.setTags(member.getTags());
+
+    // when
+    mapper.updateEntity(member, entity);
+
+    // then verify
+    assertEntityEquals(expected, entity);
+    assertEquals(7L, entity.getId());
+    assertEquals("EUR", entity.getCurrency());
+    assertEquals(List.of("Backend", "Frontend"), entity.getTags());
+  }
+
+  @Test
+  void updateEntity_WhenTagsAreUnchanged_ShouldKeepTheCollection() {
+    // given
+    final Member entity = entity();
+    final List<String> tags = entity.getTags();
+    final MemberDTO member = dto();
+    member.setTags(List.of("Design", "UX", "Research"));
+
+    // when
+    mapper.updateEntity(member, entity);
+
+    // then verify
+    assertSame(tags, entity.getTags());
+  }
+
+  @Test
+  void updateEntity_WhenFieldsAreNull_ShouldMapLikeModelMapper() {
+    // given
+    final MemberDTO member = MemberDTO.builder().firstName("Jane").type(MemberType.EMPLOYEE).build();
+    final Member expected = entity();
+    final Member entity = entity();
+    modelMapper.map(member, expected);
+
+    // when
+    mapper.updateEntity(member, entity);
+
+    // then verify
+    assertEntityEquals(expected, entity);
+  }
+
+  @Test
+  void toDto_WhenFieldsAreNull_ShouldMapLikeModelMapper() {
+    // given
+    final Member member = new Member();
+
+    // when
+    final MemberDTO result = mapper.toDto(member);
+
+    // then verify
+    assertDtoEquals(modelMapper.map(member, MemberDTO.class), result);
+    assertNull(result.getTags());
+    // members written before the currency status existed have their currency
+    assertEquals(CurrencyStatus.RESOLVED, result.getCurrencyStatus());
+  }
+
+  private static ModelMapper modelMapper() {
+    final ModelMapper modelMapper = new ModelMapper();
+    // the currency status of the DTO came later, and ModelMapper would match it with the currency of the entity
+    modelMapper.typeMap(MemberDTO.class, Member.class).addMappings(mapping -> mapping.skip(Member::setCurrency));
+    return modelMapper;
+  }
+
+  private static MemberDTO dto() {
+    return MemberDTO.builder()
+        .firstName("John")
+        .lastName("Doe")
+        .salary(BigDecimal.valueOf(5000))
+        .type(MemberType.CONTRACTOR)
+        .contractDuration(24)
+        .role("Developer")
+        .tags(List.of("Backend", "Frontend"))
+        .country("brazil")
+        .build();
+  }
+
+  private static Member entity() {
+    final Member member = Member.builder()
+        .firstName("Sam")
+        .lastName("Smith")
+        .salary(BigDecimal.valueOf(1200))
+        .type(MemberType.EMPLOYEE)
+        .contractDuration(6)
+        .role("Designer")
+        .tags(new ArrayList<>(List.of("Design", "UX", "Research")))
+        .currency("EUR")
+        .build();
+    member.setCountry("france");
+    member.setId(7L);
+    member.setCreatedAt(LocalDateTime.of(2023, 2, 1, 10, 30));
+    return member;
+  }
+
+  private static void assertEntityEquals(final Member expected, final Member actual) {
+    assertEquals(expected.getId(), actual.getId());
+    assertEquals(expected.getCreatedAt(), actual.getCreatedAt());
+    assertEquals(expected.getFirstName(), actual.getFirstName());
+    assertEquals(expected.getLastName(), actual.getLastName());
+    assertEquals(expected.getSalary(), actual.getSalary());
+    assertEquals(expected.getType(), actual.getType());
+    assertEquals(expected.getContractDuration(), actual.getContractDuration());
+    assertEquals(expected.getRole(), actual.getRole());
+    assertEquals(expected.getTags(), actual.getTags());
+    assertEquals(expected.getCountry(), actual.getCountry());
+    assertEquals(expected.getCurrency(), actual.getCurrency());
+  }
+
+  private static void assertDtoEquals(final MemberDTO expected, final MemberDTO actual) {
+    assertEquals(expected.getFirstName(), actual.getFirstName());
+    assertEquals(expected.getLastName(), actual.getLastName());
+    assertEquals(expected.getSalary(), actual.getSalary());
+    assertEquals(expected.getType(), actual.getType());
+    assertEquals(expected.getContractDuration(), actual.getContractDuration());
+    assertEquals(expected.getRole(), actual.getRole());
+    assertEquals(expected.getTags(), actual.getTags());
+    assertEquals(expected.getCountry(), actual.getCountry());
+  }
+}
@@ -0,0 +1,107 @@
+package com.codelitt.technical.exercise.mapper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import jakarta.validation.Validation;
+
+import com.codelitt.technical.exercise.dto.MemberDTO;
+import com.codelitt.technical.exercise.enums.MemberType;
+import com.codelitt.technical.exercise.exception.InvalidRequestException;
+import com.codelitt.technical.exercise.validation.MemberValidator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+class MemberPatcherTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final MemberPatcher patcher = new MemberPatcher(objectMapper, new MemberValidator(Validation.buildDefaultValidatorFactory().getValidator()));
+
+  @Test
+  void apply_ShouldOnlyChangeTheFieldsOfThePatch() throws JsonProcessingException {
+    // given
+    final MemberDTO member = member();
+
+    // when
+    final MemberDTO result = patcher.apply(member, json("{\"firstName\":\"Jane\",\"salary\":2000}"));
+
+    // then verify
+    assertEquals("Jane", result.getFirstName());
+    assertEquals(new BigDecimal("2000"), result.getSalary());
+    assertEquals("Doe", result.getLastName());
+    assertEquals(List.of("Backend", "Frontend"), result.getTags());
+    assertEquals("Brazil", result.getCountry());
+    assertEquals("John", member.getFirstName());
+  }
+
+  @Test
+  void apply_WhenValueIsNull_ShouldClearTheField() throws JsonProcessingException {
+    // when
+    final MemberDTO result = patcher.apply(member(), json("{\"role\":null}"));
+
+    // then verify
+    assertNull(result.getRole());
+  }
+
+  @Test
+  void apply_ShouldReplaceTheTags() throws JsonProcessingException {
+    // when
+    final MemberDTO result = patcher.apply(member(), json("{\"tags\":[\"DevOps\"]}"));
+
+    // then verify
+    assertEquals(List.of("DevOps"), result.getTags());
+  }
+
+  @Test
+  void apply_ShouldKeepTheVersion() throws JsonProcessingException {
+    // when
+    final MemberDTO result = patcher.apply(member(), json("{\"version\":99}"));
+
+    // then verify
+    assertEquals(3L, result.getVersion());
+  }
+
+  @Test
+  void apply_WhenPatchedMemberIsInvalid_ShouldThrowInvalidRequestException() throws JsonProcessingException {
+    // when
+    final InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+        () -> patcher.apply(member(), json("{\"firstName\":null,\"salary\":-1}")));
+
+    // then verify
+    assertEquals("First name must not be blank; Salary must not be negative", exception.getMessage());
+  }
+
+  @Test
+  void apply_WhenPatchIsNotAnObject_ShouldThrowInvalidRequestException() throws JsonProcessingException {
+    // given
+    final JsonNode patch = json("[{\"firstName\":\"Jane\"}]");
+
+    // then verify
+    assertThrows(InvalidRequestException.class, () -> patcher.apply(member(), patch));
+    assertThrows(InvalidRequestException.class, () -> patcher.apply(member(), json("{\"type\":\"UNKNOWN\"}")));
+  }
+
+  private JsonNode json(final String json) throws JsonProcessingException {
+    return objectMapper.readTree(json);
+  }
+
+  private static MemberDTO member() {
+    return MemberDTO.builder()
+        .firstName("John")
+        .lastName("Doe")
+        .salary(BigDecimal.valueOf(1000))
+        .type(MemberType.EMPLOYEE)
+        .role("Developer")
+        .tags(List.of("Backend", "Frontend"))
+        .country("Brazil")
+        .version(3L)
+        .build();
+  }
+}
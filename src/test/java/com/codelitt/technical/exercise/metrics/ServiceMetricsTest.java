@@ -0,0 +1,108 @@
+package com.codelitt.technical.exercise.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import jakarta.validation.Validation;
+
+import com.codelitt.technical.exercise.cache.LocalMemberInvalidationBus;
+import com.codelitt.technical.exercise.cache.MemberCache;
+import com.codelitt.technical.exercise.dto.MemberDTO;
+import com.codelitt.technical.exercise.exception.ServiceException;
+import com.codelitt.technical.exercise.mapper.MemberMapper;
+import com.codelitt.technical.exercise.mapper.MemberPatcher;
+import com.codelitt.technical.exercise.repository.MemberRepository;
+import com.codelitt.technical.exercise.service.CountryInfoService;
+import com.codelitt.technical.exercise.service.MemberService;
+import com.codelitt.technical.exercise.service.MemberTagService;
+import com.codelitt.technical.exercise.service.PayrollService;
+import com.codelitt.technical.exercise.service.impl.MemberServiceImpl;
+import com.codelitt.technical.exercise.validation.MemberValidator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Checks the metrics recorded around {@link MemberServiceImpl} by the {@link TimedAspect} and the
+ * {@link ExceptionMetricsAspect}, applied the way the application context applies them.
+ */
+@ExtendWith(MockitoExtension.class)
+class ServiceMetricsTest {
+
+  private static final String SERVICE_CLASS = MemberServiceImpl.class.getName();
+
+  @Mock
+  private CountryInfoService countryInfoService;
+
+  @Mock
+  private MemberRepository repository;
+
+  @Mock
+  private MemberTagService memberTagService;
+
+  @Mock
+  private PayrollService payrollService;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  private final PrometheusMeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+  private MemberService service;
+
+  @BeforeEach
+  void setup() {
+    var validator = new MemberValidator(Validation.buildDefaultValidatorFactory().getValidator());
+    var target = new MemberServiceImpl(countryInfoService, memberTagService, payrollService, repository, new MemberMapper(),
+        new MemberCache(Duration.ofMinutes(10), 100, new LocalMemberInvalidationBus()), new MemberPatcher(new ObjectMapper(), validator),
+        validator, transactionManager);
+    var factory = new AspectJProxyFactory(target);
+    factory.setProxyTargetClass(true);
+    factory.addAspect(new TimedAspect(registry));
+    factory.addAspect(new ExceptionMetricsAspect(registry));
+    service = factory.getProxy();
+  }
+
+  @Test
+  void serviceMethods_ShouldBeTimedWithAHistogram() {
+    // given
+    when(repository.findVersionById(1L)).thenReturn(Optional.of(3L));
+
+    // when
+    assertEquals(3L, service.findVersion(1L));
+
+    // then verify
+    var timer = registry.get("members.service").tag("class", SERVICE_CLASS).tag("method", "findVersion").tag("exception", "none").timer();
+    assertEquals(1, timer.count());
+    assertTrue(registry.scrape().contains("members_service_seconds_bucket{"));
+  }
+
+  @Test
+  void serviceExceptions_ShouldBeCountedByType() throws ServiceException {
+    // given
+    var member = new MemberDTO();
+    member.setCountry("Atlantis");
+    when(countryInfoService.getCurrency("Atlantis")).thenReturn(null);
+
+    // when
+    assertThrows(ServiceException.class, () -> service.create(member));
+
+    // then verify
+    assertEquals(1, registry.get("application.exceptions").tag("exception", "ServiceException").tag("class", "MemberServiceImpl")
+        .tag("method", "create").counter().count());
+    assertEquals(1, registry.get("members.service").tag("method", "create").tag("exception", "ServiceException").timer().count());
+  }
+}
@@ -0,0 +1,148 @@
+package com.codelitt.technical.exercise.reactive;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import com.codelitt.technical.exercise.cache.CountryInfoCache;
+import com.codelitt.technical.exercise.configuration.CircuitBreakerProperties;
+import com.codelitt.technical.exercise.dto.country.CountryInfoDTO;
+import com.codelitt.technical.exercise.exception.CountryNotFoundException;
+import com.codelitt.technical.exercise.exception.ServiceException;
+import com.codelitt.technical.exercise.resilience.CountryApiGuard;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the reactive lookups against a local stub of "restcountries.com" that answers slowly.
+ */
+class ReactiveCountryInfoClientTest {
+
+  private static final Duration UPSTREAM_DELAY = Duration.ofMillis(300);
+
+  private final Map<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+  private DisposableServer upstream;
+  private ReactiveCountryInfoClient client;
+
+  @BeforeEach
+  void setUp() {
+    upstream = HttpServer.create()
+        .port(0)
+        .route(routes -> routes.get("/v3.1/name/{country}", (request, response) -> {
+          final String country = request.param("country");
+          calls.computeIfAbsent(country, key -> new AtomicInteger()).incrementAndGet();
+          if ("Atlantis".equals(country)) {
+            return response.status(404).sendString(Mono.just("{\"status\":404,\"message\":\"Not Found\"}"));
+          }
+          if ("Failing".equals(country)) {
+            return response.status(500).send();
+          }
+          return response.header("Content-Type", "application/json")
+              .sendString(Mono.delay(UPSTREAM_DELAY).thenReturn("[{\"currencies\":{\"BRL\":{\"name\":\"Brazilian real\"}}}]"));
+        }))
+        .bindNow();
+    client = newClient(new CountryInfoCache(Duration.ofHours(1), Duration.ofMinutes(1), 512));
+  }
+
+  @AfterEach
+  void tearDown() {
+    upstream.disposeNow();
+  }
+
+  @Test
+  void getCurrency_WhenCalledConcurrently_ShouldCallTheApiOnce() {
+    // when
+    final List<String> currencies = Flux.range(0, 1000)
+        .flatMap(i -> client.getCurrency("Brazil"), 1000)
+        .collectList()
+        .block(Duration.ofSeconds(10));
+
+    // then verify
+    assertNotNull(currencies);
+    assertEquals(1000, currencies.size());
+    assertEquals(List.of("BRL"), currencies.stream().distinct().toList());
+    assertEquals(1, calls.get("Brazil").get());
+  }
+
+  @Test
+  void getCurrency_WhenCached_ShouldNotCallTheApi() {
+    // given
+    client.getCurrency("Brazil").block();
+
+    // when
+    final String currency = client.getCurrency("Brazil").block();
+
+    // then verify
+    assertEquals("BRL", currency);
+    assertEquals(1, calls.get("Brazil").get());
+  }
+
+  @Test
+  void getCurrency_WhenCountryIsNotFound_ShouldCacheTheMiss() {
+    // when
+    final Throwable error = errorOf(client.getCurrency("Atlantis"));
+    final Throwable cachedError = errorOf(client.getCurrency("Atlantis"));
+
+    // then verify
+    assertInstanceOf(CountryNotFoundException.class, error);
+    assertInstanceOf(CountryNotFoundException.class, cachedError);
+    assertEquals("Error retrieving information from 'restcountries.com'. Message: No information found for the country: Atlantis",
+        error.getMessage());
+    assertEquals(1, calls.get("Atlantis").get());
+  }
+
+  @Test
+  void getCurrency_WhenApiFails_ShouldServeTheLastKnownInformation() {
+    // given
+    final CountryInfoDTO lastKnown = new CountryInfoDTO();
+    final LinkedHashMap<String, Object> currencies = new LinkedHashMap<>();
+    currencies.put("XXX", "Currency");
+    lastKnown.setCurrencies(currencies);
+    final CountryInfoCache expiringCache = new CountryInfoCache(Duration.ofNanos(1), Duration.ofNanos(1), 512);
+    expiringCache.put("Failing", lastKnown);
+    final ReactiveCountryInfoClient expiringClient = newClient(expiringCache);
+
+    // when
+    final String currency = expiringClient.getCurrency("Failing").block();
+
+    // then verify
+    assertEquals("XXX", currency);
+    assertEquals(1, calls.get("Failing").get());
+  }
+
+  @Test
+  void getCurrency_WhenApiFailsWithoutLastKnownInformation_ShouldFail() {
+    // when
+    final Throwable error = errorOf(client.getCurrency("Failing"));
+
+    // then verify
+    assertInstanceOf(ServiceException.class, error);
+    assertFalse(error instanceof CountryNotFoundException);
+    assertInstanceOf(WebClientResponseException.InternalServerError.class, error.getCause());
+  }
+
+  private static Throwable errorOf(final Mono<?> result) {
+    return result.then(Mono.<Throwable>empty()).onErrorResume(Mono::just).block();
+  }
+
+  private ReactiveCountryInfoClient newClient(final CountryInfoCache cache) {
+    var guard = new CountryApiGuard(new CircuitBreakerProperties(50, 50, Duration.ofSeconds(2), 20, 10, Duration.ofSeconds(30), 1, 10, Duration.ofMillis(100)));
+    return new ReactiveCountryInfoClient(WebClient.create("http://localhost:" + upstream.port() + "/v3.1/name/"), cache, guard);
+  }
+}
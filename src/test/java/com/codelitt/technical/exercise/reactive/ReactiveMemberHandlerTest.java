@@ -0,0 +1,151 @@
+package com.codelitt.technical.exercise.reactive;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.validation.Validation;
+
+import com.codelitt.technical.exercise.dto.MemberDTO;
+import com.codelitt.technical.exercise.enums.MemberType;
+import com.codelitt.technical.exercise.exception.ServiceException;
+import com.codelitt.technical.exercise.mapper.MemberMapper;
+import com.codelitt.technical.exercise.model.Member;
+import com.codelitt.technical.exercise.validation.MemberValidator;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveMemberHandlerTest {
+
+  @Mock
+  private ReactiveCountryInfoClient countryInfoClient;
+
+  @Mock
+  private ReactiveMemberRepository repository;
+
+  private WebTestClient client;
+
+  @BeforeEach
+  void setUp() {
+    var handler = new ReactiveMemberHandler(countryInfoClient, repository, new MemberMapper(),
+        new MemberValidator(Validation.buildDefaultValidatorFactory().getValidator()));
+    client = WebTestClient.bindToRouterFunction(handler.routes()).build();
+  }
+
+  @Test
+  void create_ShouldInsertTheMemberWithItsCurrency() {
+    // given
+    when(countryInfoClient.getCurrency("Brazil")).thenReturn(Mono.just("BRL"));
+    when(repository.insert(any(Member.class))).thenAnswer(invocation -> {
+      final Member member = invocation.getArgument(0);
+      member.setId(7L);
+      member.setVersion(0L);
+      return Mono.just(member);
+    });
+
+    // when
+    final WebTestClient.ResponseSpec response = post(member());
+
+    // then verify
+    response.expectStatus().isCreated()
+        .expectHeader().location("/api/members/7")
+        .expectBody()
+        .jsonPath("$.firstName").isEqualTo("John")
+        .jsonPath("$.version").isEqualTo(0);
+    verify(repository).insert(argThat(member -> "BRL".equals(member.getCurrency())));
+  }
+
+  @Test
+  void create_WhenEmployeeHasNoRole_ShouldAnswerBadRequest() {
+    // given
+    final MemberDTO member = member();
+    member.setType(MemberType.EMPLOYEE);
+
+    // when
+    final WebTestClient.ResponseSpec response = post(member);
+
+    // then verify
+    response.expectStatus().isBadRequest()
+        .expectBody()
+        .jsonPath("$.message").isEqualTo(MemberValidator.EMPLOYEE_ROLE_REQUIRED_ON_CREATE);
+    verify(countryInfoClient, never()).getCurrency(anyString());
+  }
+
+  @Test
+  void create_WhenConstraintsAreViolated_ShouldAnswerBadRequest() {
+    // given
+    final MemberDTO member = member();
+    member.setLastName(" ");
+
+    // when
+    final WebTestClient.ResponseSpec response = post(member);
+
+    // then verify
+    response.expectStatus().isBadRequest()
+        .expectBody()
+        .jsonPath("$.message").isEqualTo("Last name must not be blank");
+  }
+
+  @Test
+  void create_WhenCurrencyIsNotFound_ShouldAnswerInternalServerError() {
+    // given
+    when(countryInfoClient.getCurrency("Brazil")).thenReturn(Mono.error(new ServiceException("No information found for the country: Brazil")));
+
+    // when
+    final WebTestClient.ResponseSpec response = post(member());
+
+    // then verify
+    response.expectStatus().is5xxServerError()
+        .expectBody()
+        .jsonPath("$.message").isEqualTo("No information found for the country: Brazil");
+    verify(repository, never()).insert(any(Member.class));
+  }
+
+  @Test
+  void create_WhenInsertFails_ShouldAnswerInternalServerError() {
+    // given
+    when(countryInfoClient.getCurrency("Brazil")).thenReturn(Mono.just("BRL"));
+    when(repository.insert(any(Member.class))).thenReturn(Mono.error(new IllegalStateException("Connection refused")));
+
+    // when
+    final WebTestClient.ResponseSpec response = post(member());
+
+    // then verify
+    response.expectStatus().is5xxServerError()
+        .expectBody()
+        .jsonPath("$.message").isEqualTo("Error persisting a new Member");
+  }
+
+  private WebTestClient.ResponseSpec post(final MemberDTO member) {
+    return client.post().uri("/api/members")
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(member)
+        .exchange();
+  }
+
+  private static MemberDTO member() {
+    return MemberDTO.builder()
+        .firstName("John")
+        .lastName("Doe")
+        .salary(new BigDecimal("1000"))
+        .type(MemberType.CONTRACTOR)
+        .contractDuration(12)
+        .tags(List.of("Backend"))
+        .country("Brazil")
+        .build();
+  }
+}
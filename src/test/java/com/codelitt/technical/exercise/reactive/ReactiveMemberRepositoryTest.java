@@ -0,0 +1,192 @@
+package com.codelitt.technical.exercise.reactive;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+
+import com.codelitt.technical.exercise.enums.MemberType;
+import com.codelitt.technical.exercise.model.Member;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Runs the reactive inserts against an in-memory H2 database in PostgreSQL mode, with the schema of {@code db_scripts}.
+ */
+class ReactiveMemberRepositoryTest {
+
+  private static final int ALLOCATION_SIZE = 50;
+
+  private ConnectionFactory connectionFactory;
+  private DatabaseClient databaseClient;
+  private ReactiveMemberRepository repository;
+
+  @BeforeEach
+  void setUp() {
+    connectionFactory = ConnectionFactories.get("r2dbc:h2:mem:///" + UUID.randomUUID() + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1");
+    databaseClient = DatabaseClient.create(connectionFactory);
+    Flux.just(
+        "create sequence member_id_seq start with 1 increment by " + ALLOCATION_SIZE,
+        """
+        create table member (id bigint primary key, created_at timestamp(6), contract_duration integer, country varchar(255),
+          currency varchar(255), currency_status varchar(255), currency_attempts integer, currency_retry_at timestamp(6), first_name varchar(255), last_name varchar(255), role varchar(255), salary numeric(38, 2),
+          type varchar(255), version bigint not null default 0)""",
+        "create table member_tags (member_id bigint not null references member (id), tags varchar(255))",
+        "create table tag (id integer generated by default as identity primary key, name varchar(255) not null unique, member_count bigint not null default 0)",
+        """
+        create table member_tag_posting (member_id bigint not null references member (id), tag_id integer not null references tag (id),
+          primary key (member_id, tag_id))""",
+        """
+        create table payroll_rollup (id integer generated by default as identity primary key, country varchar(255) not null,
+          currency varchar(255) not null, type varchar(255) not null, members bigint not null, salaried bigint not null,
+          salary_sum numeric not null, salary_min numeric(38, 2), salary_max numeric(38, 2), unique (country, currency, type))""")
+        .concatMap(sql -> databaseClient.sql(sql).then())
+        .blockLast();
+    repository = new ReactiveMemberRepository(connectionFactory, ALLOCATION_SIZE);
+  }
+
+  @AfterEach
+  void tearDown() {
+    databaseClient.sql("shutdown").then().block();
+  }
+
+  @Test
+  void insert_ShouldWriteTheMemberAndItsTags() {
+    // given
+    final Member member = member("John", List.of("Backend", "Frontend"));
+
+    // when
+    final Member result = repository.insert(member).block();
+
+    // then verify
+    assertNotNull(result);
+    assertNotNull(result.getId());
+    assertNotNull(result.getCreatedAt());
+    assertEquals(0L, result.getVersion());
+
+    final Map<String, Object> row = databaseClient.sql("select first_name, currency, type, role from member where id = :id")
+        .bind("id", result.getId())
+        .fetch()
+        .one()
+        .block();
+    assertNotNull(row);
+    assertEquals("John", row.get("FIRST_NAME"));
+    assertEquals("BRL", row.get("CURRENCY"));
+    assertEquals("CONTRACTOR", row.get("TYPE"));
+    assertNull(row.get("ROLE"));
+    assertEquals(List.of("Backend", "Frontend"), tags(result.getId()));
+    assertEquals(List.of("backend", "frontend"), postedTags(result.getId()));
+  }
+
+  @Test
+  void insert_ShouldShareTheDictionaryEntriesOfTheTags() {
+    // given
+    final Member first = repository.insert(member("John", List.of("Backend", "Java"))).block();
+
+    // when
+    final Member second = repository.insert(member("Jane", List.of(" java ", "Kotlin", "JAVA"))).block();
+
+    // then verify
+    assertNotNull(first);
+    assertNotNull(second);
+    assertEquals(List.of("java", "kotlin"), postedTags(second.getId()));
+    final Long dictionarySize = databaseClient.sql("select count(*) from tag")
+        .map(row -> row.get(0, Long.class))
+        .one()
+        .block();
+    assertEquals(3L, dictionarySize);
+    final List<Long> memberCounts = databaseClient.sql("select member_count from tag order by name")
+        .map(row -> row.get(0, Long.class))
+        .all()
+        .collectList()
+        .block();
+    assertEquals(List.of(1L, 2L, 1L), memberCounts);
+  }
+
+  @Test
+  void insert_ShouldAddTheMembersToThePayrollRollupOfTheirGroup() {
+    // given
+    final Member unpaid = member("Jane", List.of());
+    unpaid.setSalary(null);
+    final Member paid = member("Jack", List.of());
+    paid.setSalary(new BigDecimal("3000.50"));
+
+    // when
+    Flux.just(member("John", List.of()), unpaid, paid).concatMap(repository::insert).blockLast();
+
+    // then verify
+    final Map<String, Object> rollup = databaseClient.sql("select * from payroll_rollup where country = 'Brazil' and currency = 'BRL' and type = 'CONTRACTOR'")
+        .fetch()
+        .one()
+        .block();
+    assertNotNull(rollup);
+    assertEquals(3L, ((Number) rollup.get("MEMBERS")).longValue());
+    assertEquals(2L, ((Number) rollup.get("SALARIED")).longValue());
+    assertEquals(0, new BigDecimal("4000.50").compareTo((BigDecimal) rollup.get("SALARY_SUM")));
+    assertEquals(new BigDecimal("1000.00"), rollup.get("SALARY_MIN"));
+    assertEquals(new BigDecimal("3000.50"), rollup.get("SALARY_MAX"));
+  }
+
+  @Test
+  void insert_ShouldTakeIdsFromTheSequenceInBlocks() {
+    // when
+    final List<Long> ids = Flux.range(0, ALLOCATION_SIZE + 1)
+        .concatMap(i -> repository.insert(member("Member" + i, List.of())))
+        .map(Member::getId)
+        .collectList()
+        .block();
+
+    // then verify
+    assertNotNull(ids);
+    for (int i = 0; i < ids.size(); i++) {
+      assertEquals(i + 1L, ids.get(i));
+    }
+    final Long sequenceValue = databaseClient.sql("select nextval('member_id_seq')")
+        .map(row -> row.get(0, Long.class))
+        .one()
+        .block();
+    assertEquals(1L + 2 * ALLOCATION_SIZE, sequenceValue);
+  }
+
+  private List<String> tags(final Long memberId) {
+    return databaseClient.sql("select tags from member_tags where member_id = :id order by tags")
+        .bind("id", memberId)
+        .map(row -> row.get(0, String.class))
+        .all()
+        .collectList()
+        .block();
+  }
+
+  private List<String> postedTags(final Long memberId) {
+    return databaseClient.sql("select t.name from member_tag_posting p join tag t on t.id = p.tag_id where p.member_id = :id order by t.name")
+        .bind("id", memberId)
+        .map(row -> row.get(0, String.class))
+        .all()
+        .collectList()
+        .block();
+  }
+
+  private static Member member(final String firstName, final List<String> tags) {
+    return Member.builder()
+        .firstName(firstName)
+        .lastName("Doe")
+        .salary(new BigDecimal("1000.00"))
+        .type(MemberType.CONTRACTOR)
+        .contractDuration(12)
+        .tags(tags)
+        .country("Brazil")
+        .currency("BRL")
+        .build();
+  }
+}
@@ -0,0 +1,154 @@
+package com.codelitt.technical.exercise.reactive;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+import io.r2dbc.spi.ConnectionFactories;
+
+import com.codelitt.technical.exercise.cache.MemberCache;
+import com.codelitt.technical.exercise.configuration.MemberInvalidationConfig;
+import com.codelitt.technical.exercise.dto.MemberDTO;
+import com.codelitt.technical.exercise.enums.MemberType;
+import com.codelitt.technical.exercise.exception.ServiceException;
+import com.codelitt.technical.exercise.mapper.MemberMapper;
+import com.codelitt.technical.exercise.mapper.MemberPatcher;
+import com.codelitt.technical.exercise.model.Member;
+import com.codelitt.technical.exercise.service.CountryInfoService;
+import com.codelitt.technical.exercise.service.MemberService;
+import com.codelitt.technical.exercise.service.impl.MemberServiceImpl;
+import com.codelitt.technical.exercise.service.impl.MemberTagServiceImpl;
+import com.codelitt.technical.exercise.service.impl.PayrollServiceImpl;
+import com.codelitt.technical.exercise.validation.MemberValidator;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Creates the same members through the blocking services and through the reactive repository, each into an in-memory
+ * database with the schema of the JPA mapping, and checks that both write the same tag dictionary, numbers of members
+ * of the tags, posting lists and payroll rollups.
+ */
+@DataJpaTest(properties = {
+    // a database of its own, so that the ids and the rows are not those left by the other tests
+    "spring.test.database.replace=none",
+    "spring.datasource.url=jdbc:h2:mem:reactive-member-writes;DB_CLOSE_DELAY=-1",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.database=h2",
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect"
+})
+@Import({MemberServiceImpl.class, MemberTagServiceImpl.class, PayrollServiceImpl.class, MemberMapper.class, MemberPatcher.class,
+    MemberValidator.class, MemberCache.class, MemberInvalidationConfig.class})
+@ImportAutoConfiguration({JacksonAutoConfiguration.class, ValidationAutoConfiguration.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReactiveMemberWritesTest {
+
+  private static final String PAYROLL_ROLLUPS = """
+      select country, currency, type, members, salaried, salary_sum, salary_min, salary_max
+      from payroll_rollup order by country, currency, type""";
+  private static final String TAG_POSTINGS = """
+      select p.member_id, t.name from member_tag_posting p join tag t on t.id = p.tag_id order by p.member_id, t.name""";
+  private static final String TAGS = "select name, member_count from tag order by name";
+
+  @MockBean
+  private CountryInfoService countryInfoService;
+
+  @Autowired
+  private MemberService memberService;
+
+  @Autowired
+  private MemberMapper memberMapper;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  private DatabaseClient databaseClient;
+  private ReactiveMemberRepository reactiveRepository;
+
+  @BeforeEach
+  void setup() throws ServiceException {
+    when(countryInfoService.getCurrency(anyString())).thenReturn("BRL");
+    final var connectionFactory = ConnectionFactories.get("r2dbc:h2:mem:///" + UUID.randomUUID() + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1");
+    databaseClient = DatabaseClient.create(connectionFactory);
+    // the reactive database gets the schema Hibernate created for the blocking one
+    Flux.fromIterable(jdbcTemplate.queryForList("script nodata", String.class))
+        .filter(sql -> !sql.startsWith("CREATE USER"))
+        .concatMap(sql -> databaseClient.sql(sql).then())
+        .blockLast();
+    reactiveRepository = new ReactiveMemberRepository(connectionFactory, 50);
+  }
+
+  @AfterEach
+  void tearDown() {
+    databaseClient.sql("shutdown").then().block();
+    reactiveRepository.close();
+  }
+
+  @Test
+  void insert_ShouldWriteTheTagsAndThePayrollAsTheBlockingWrites() throws ServiceException {
+    // given
+    final List<MemberDTO> members = List.of(
+        contractor("John", "1000.00", List.of("Backend", " backend ", "Java")),
+        contractor("Jane", null, List.of("Java", "Kotlin")),
+        contractor("Joe", "2500.50", List.of()));
+
+    // when
+    for (final MemberDTO member : members) {
+      memberService.create(member);
+      final Member entity = memberMapper.toEntity(member);
+      entity.setCurrency("BRL");
+      reactiveRepository.insert(entity).block();
+    }
+
+    // then verify
+    final List<List<Object>> rollups = blockingRows(PAYROLL_ROLLUPS);
+    final List<List<Object>> postings = blockingRows(TAG_POSTINGS);
+    assertEquals(1, rollups.size());
+    assertEquals(3L, rollups.get(0).get(3));
+    assertEquals(4, postings.size());
+    assertEquals(List.of(List.of("backend", 1L), List.of("java", 2L), List.of("kotlin", 1L)), blockingRows(TAGS));
+    assertEquals(rollups, reactiveRows(PAYROLL_ROLLUPS));
+    assertEquals(postings, reactiveRows(TAG_POSTINGS));
+    assertEquals(blockingRows(TAGS), reactiveRows(TAGS));
+  }
+
+  private List<List<Object>> blockingRows(final String sql) {
+    return jdbcTemplate.queryForList(sql).stream().map(row -> (List<Object>) new ArrayList<>(row.values())).toList();
+  }
+
+  private List<List<Object>> reactiveRows(final String sql) {
+    return databaseClient.sql(sql).fetch().all().map(row -> (List<Object>) new ArrayList<>(row.values())).collectList().block();
+  }
+
+  private static MemberDTO contractor(final String firstName, final String salary, final List<String> tags) {
+    return MemberDTO.builder()
+        .firstName(firstName)
+        .lastName("Doe")
+        .salary(salary == null ? null : new BigDecimal(salary))
+        .type(MemberType.CONTRACTOR)
+        .contractDuration(12)
+        .tags(tags)
+        .country("Brazil")
+        .build();
+  }
+}
@@ -0,0 +1,103 @@
+package com.codelitt.technical.exercise.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+import com.codelitt.technical.exercise.configuration.MemberIdConfig;
+import com.codelitt.technical.exercise.dto.MemberDTO;
+import com.codelitt.technical.exercise.dto.batch.MemberBatchResult;
+import com.codelitt.technical.exercise.enums.MemberType;
+import com.codelitt.technical.exercise.exception.ServiceException;
+import com.codelitt.technical.exercise.mapper.MemberMapper;
+import com.codelitt.technical.exercise.model.Tag;
+import com.codelitt.technical.exercise.service.CountryInfoService;
+import com.codelitt.technical.exercise.service.MemberBatchService;
+import com.codelitt.technical.exercise.service.impl.MemberBatchServiceImpl;
+import com.codelitt.technical.exercise.service.impl.MemberTagServiceImpl;
+import com.codelitt.technical.exercise.service.impl.PayrollServiceImpl;
+import com.codelitt.technical.exercise.validation.MemberValidator;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Checks that a batch of members is written with JDBC batch inserts, for the members, their tags and their tag
+ * postings, with the numbers of members of the tags updated once per chunk, and with ids allocated in blocks.
+ */
+@DataJpaTest(properties = {
+    "spring.jpa.database=h2",
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.codelitt.technical.exercise.repository.StatementCounter",
+    "api.members.batch.chunk-size=100"
+})
+@Import({MemberIdConfig.class, MemberBatchServiceImpl.class, MemberTagServiceImpl.class, PayrollServiceImpl.class, MemberMapper.class, MemberValidator.class})
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MemberBatchInsertTest {
+
+  @MockBean
+  private CountryInfoService countryInfoService;
+
+  @Autowired
+  private MemberBatchService batchService;
+
+  @Autowired
+  private MemberRepository repository;
+
+  @Autowired
+  private TagRepository tagRepository;
+
+  @AfterEach
+  void tearDown() {
+    repository.deleteAll();
+    tagRepository.deleteAll();
+  }
+
+  @Test
+  void createAll_ShouldInsertMembersAndTagsInJdbcBatches() throws ServiceException {
+    // given
+    when(countryInfoService.getCurrency(anyString())).thenReturn("BRL");
+    final List<MemberDTO> members = new ArrayList<>();
+    for (int i = 0; i < 200; i++) {
+      members.add(MemberDTO.builder()
+          .firstName("Member" + i)
+          .lastName("Doe")
+          .salary(BigDecimal.valueOf(1000))
+          .type(MemberType.CONTRACTOR)
+          .contractDuration(12)
+          .tags(List.of("Backend", "Frontend"))
+          .country("Brazil")
+          .build());
+    }
+    StatementCounter.reset();
+
+    // when
+    final MemberBatchResult result = batchService.createAll(members);
+
+    // then verify
+    assertEquals(200, result.created());
+    assertEquals(200, repository.count());
+    // one insert statement prepared per chunk of 100 members, executed in JDBC batches of 50 rows (400 without batching)
+    assertEquals(2, StatementCounter.count("insert into member"));
+    assertEquals(2, StatementCounter.count("insert into member_tags"));
+    assertEquals(2, StatementCounter.count("insert into member_tag_posting"));
+    // the numbers of members of the tags are updated once per tag and chunk
+    assertEquals(4, StatementCounter.count("update tag set"));
+    assertEquals(List.of(200L, 200L), tagRepository.findByNameIn(List.of("backend", "frontend")).stream().map(Tag::getMemberCount).toList());
+    // ids are allocated in blocks of 50 (api.members.id.allocation-size)
+    assertEquals(4, StatementCounter.count("select next value"));
+  }
+}
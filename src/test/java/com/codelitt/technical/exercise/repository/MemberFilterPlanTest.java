@@ -0,0 +1,176 @@
+package com.codelitt.technical.exercise.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.codelitt.technical.exercise.dto.filter.MemberFilter;
+import com.codelitt.technical.exercise.enums.MemberType;
+import com.codelitt.technical.exercise.model.Member;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Explains the filtered member queries against PostgreSQL, on the schema and indexes of {@code db_scripts} and
+ * 100,000 members, to check that a selective filter is served by its index rather than by a scan of the table or of
+ * the primary key. Skipped when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = {
+    "spring.jpa.hibernate.ddl-auto=none",
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.codelitt.technical.exercise.repository.StatementRecorder"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class MemberFilterPlanTest {
+
+  private static final int MEMBERS = 100_000;
+  private static final int PAGE = 21;
+
+  @Container
+  private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine").withUsername("postgres");
+
+  @Autowired
+  private MemberRepository repository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @DynamicPropertySource
+  static void datasource(final DynamicPropertyRegistry registry) {
+    registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+    registry.add("spring.datasource.username", POSTGRES::getUsername);
+    registry.add("spring.datasource.password", POSTGRES::getPassword);
+  }
+
+  @BeforeAll
+  static void schema() throws SQLException {
+    try (Connection connection = DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())) {
+      execute(connection, "create_member.sql", "add_member_currency_status.sql");
+      try (Statement statement = connection.createStatement()) {
+        // one member every 10 minutes, half of them contractors of 1 to 24 months; one in a thousand is from Portugal,
+        // paid in euros and, if a contractor, has a 48 months contract
+        statement.execute("""
+            insert into member (id, created_at, contract_duration, country, currency, currency_status, first_name, last_name,
+              role, salary, type)
+            select nextval('member_id_seq'), timestamp '2022-01-01' + i * interval '10 minutes',
+              case when i %% 2 = 0 then case when i %% 1000 = 0 then 48 else 1 + (i / 2) %% 24 end end,
+              case when i %% 1000 = 0 then 'Portugal' else 'Country' || i %% 50 end,
+              case when i %% 1000 = 0 then 'EUR' else 'CU' || i %% 20 end,
+              'RESOLVED', 'Member' || i, 'Doe',
+              case when i %% 2 = 1 then 'Developer' end,
+              1000 + (i * 7919) %% 100000,
+              case when i %% 2 = 0 then 'CONTRACTOR' else 'EMPLOYEE' end
+            from generate_series(1, %d) i""".formatted(MEMBERS));
+      }
+      execute(connection, "create_member_created_at_index.sql", "create_member_filter_indexes.sql");
+      try (Statement statement = connection.createStatement()) {
+        statement.execute("analyze member");
+      }
+    }
+  }
+
+  private static void execute(final Connection connection, final String... scripts) {
+    for (final String script : scripts) {
+      ScriptUtils.executeSqlScript(connection, new FileSystemResource("db_scripts/" + script));
+    }
+  }
+
+  @Test
+  void country_ShouldBeReadInIdOrderFromTheCountryIndex() {
+    // when
+    final List<Member> members = find(filter("portugal", null, null, null, null, null, null));
+
+    // then verify
+    assertEquals(PAGE, members.size());
+    assertIndexScan("member_country_id_idx", "Portugal");
+  }
+
+  @Test
+  void currency_ShouldBeReadInIdOrderFromTheCurrencyIndex() {
+    // when
+    final List<Member> members = find(filter(null, null, "eur", null, null, null, null));
+
+    // then verify
+    assertEquals(PAGE, members.size());
+    assertIndexScan("member_currency_id_idx", "EUR");
+  }
+
+  @Test
+  void salaryRange_ShouldBeReadFromTheSalaryIndex() {
+    // when
+    find(filter(null, null, null, new BigDecimal("50000"), new BigDecimal("50100"), null, null));
+
+    // then verify
+    assertIndexScan("member_salary_idx", new BigDecimal("50000"), new BigDecimal("50100"));
+  }
+
+  @Test
+  void contractDurationRange_ShouldBeReadFromThePartialIndexOfTheContractors() {
+    // when
+    final List<Member> members = find(filter(null, null, null, null, null, 36, null));
+
+    // then verify
+    assertEquals(PAGE, members.size());
+    assertTrue(members.stream().allMatch(member -> member.getType() == MemberType.CONTRACTOR));
+    assertIndexScan("member_contractor_contract_duration_idx", MemberType.CONTRACTOR.name(), 36);
+  }
+
+  @Test
+  void creationDateRange_ShouldBeReadInOrderFromTheCreationDateIndex() {
+    // given
+    final LocalDateTime from = LocalDateTime.of(2022, 6, 1, 0, 0);
+    final LocalDateTime to = from.plusDays(1);
+
+    // when
+    final List<Member> members = repository.findMembers(
+        MemberSpecifications.matching(new MemberFilter(null, null, null, null, null, null, null, from, to)),
+        PageRequest.of(0, PAGE, Sort.by("createdAt", "id")));
+
+    // then verify
+    assertEquals(PAGE, members.size());
+    assertIndexScan("member_created_at_id_idx", from, to);
+  }
+
+  private List<Member> find(final MemberFilter filter) {
+    return repository.findMembers(MemberSpecifications.matching(filter), PageRequest.of(0, PAGE, Sort.by("id")));
+  }
+
+  private static MemberFilter filter(final String country, final MemberType type, final String currency, final BigDecimal minSalary,
+                                     final BigDecimal maxSalary, final Integer minContractDuration, final Integer maxContractDuration) {
+    return new MemberFilter(country, type, currency, minSalary, maxSalary, minContractDuration, maxContractDuration, null, null);
+  }
+
+  /**
+   * Explains the last query run, with the values of its criteria followed by the page size.
+   */
+  private void assertIndexScan(final String index, final Object... criteria) {
+    final Object[] parameters = new Object[criteria.length + 1];
+    System.arraycopy(criteria, 0, parameters, 0, criteria.length);
+    parameters[criteria.length] = PAGE;
+    final String plan = String.join("\n", jdbcTemplate.queryForList("explain " + StatementRecorder.lastQuery(), String.class, parameters));
+    assertTrue(plan.contains(index), plan);
+    assertFalse(plan.contains("Seq Scan"), plan);
+  }
+}
@@ -0,0 +1,151 @@
+package com.codelitt.technical.exercise.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.codelitt.technical.exercise.dto.search.MemberNameMatch;
+import com.codelitt.technical.exercise.exception.ServiceException;
+import com.codelitt.technical.exercise.service.MemberSearchService;
+import com.codelitt.technical.exercise.service.impl.MemberSearchServiceImpl;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * Searches the members by name against PostgreSQL, on the schema, indexes and name dictionary of {@code db_scripts}
+ * and 100,000 members. Skipped when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@JdbcTest
+@Import(MemberSearchServiceImpl.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class MemberNameSearchTest {
+
+  private static final int MEMBERS = 100_000;
+
+  @Container
+  private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine").withUsername("postgres");
+
+  @Autowired
+  private MemberSearchService memberSearchService;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @DynamicPropertySource
+  static void datasource(final DynamicPropertyRegistry registry) {
+    registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+    registry.add("spring.datasource.username", POSTGRES::getUsername);
+    registry.add("spring.datasource.password", POSTGRES::getPassword);
+  }
+
+  @BeforeAll
+  static void schema() throws SQLException, IOException {
+    try (Connection connection = DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())) {
+      ScriptUtils.executeSqlScript(connection, new FileSystemResource("db_scripts/create_member.sql"));
+      try (Statement statement = connection.createStatement()) {
+        // 5,000 first names and 20,000 last names, none of them starting like the names searched below
+        statement.execute("""
+            insert into member (id, first_name, last_name, country, role)
+            select nextval('member_id_seq'), 'Name' || i %% 5000, 'Surname' || i %% 20000, 'Country' || i %% 50, 'Developer'
+            from generate_series(1, %d) i""".formatted(MEMBERS));
+        statement.execute("""
+            insert into member (id, first_name, last_name, country, role)
+            select nextval('member_id_seq'), first_name, last_name, country, role
+            from (values ('John', 'Doe', 'Brazil', 'Developer'), ('Johnny', 'Doerr', 'Italy', 'Designer'),
+                         ('Jane', 'Doe', 'Brazil', null), ('Joan', 'Doe', 'Spain', null), ('Jon', 'Snow', 'Norway', null),
+                         ('Mary Ann', 'Smith', 'Ireland', null)) names (first_name, last_name, country, role)""");
+        // the function of the script is dollar quoted: the script is run as one statement rather than split by ScriptUtils
+        statement.execute(Files.readString(Path.of("db_scripts/create_member_name_search.sql")));
+        statement.execute("analyze member");
+        statement.execute("analyze member_name_word");
+      }
+    }
+  }
+
+  @Test
+  void searchByName_ShouldRankTheFirstAndLastNamesStartingWithTheWordsTyped() throws ServiceException {
+    // when
+    final List<MemberNameMatch> firstLast = memberSearchService.searchByName("John D", null);
+    final List<MemberNameMatch> lastFirst = memberSearchService.searchByName("  doe   J ", null);
+
+    // then verify
+    assertEquals(List.of("John Doe", "Johnny Doerr"), names(firstLast).subList(0, 2));
+    assertFalse(firstLast.get(0).fuzzy());
+    assertEquals(0.714, firstLast.get(0).score());
+    assertEquals(List.of("Jane Doe", "Joan Doe", "John Doe", "Johnny Doerr"), names(lastFirst).subList(0, 4));
+    assertTrue(lastFirst.subList(0, 4).stream().noneMatch(MemberNameMatch::fuzzy));
+  }
+
+  @Test
+  void searchByName_ShouldFindTheExactNameFirst() throws ServiceException {
+    // when
+    final List<MemberNameMatch> matches = memberSearchService.searchByName("Mary Ann Smith", 3);
+
+    // then verify
+    assertEquals("Mary Ann Smith", names(matches).get(0));
+    assertEquals(1.0, matches.get(0).score());
+    assertEquals("Ireland", matches.get(0).country());
+  }
+
+  @Test
+  void searchByName_WhenTheNameIsMisspelled_ShouldFindTheSimilarNames() throws ServiceException {
+    // when
+    final List<MemberNameMatch> matches = memberSearchService.searchByName("johm d", 5);
+
+    // then verify
+    assertEquals("John Doe", names(matches).get(0));
+    assertTrue(matches.get(0).fuzzy());
+    assertEquals(0.429, matches.get(0).score());
+  }
+
+  @Test
+  void searchByName_ShouldFindTheNamesOfTheMembersWrittenAfterTheDictionaryWasBuilt() throws ServiceException {
+    // given
+    jdbcTemplate.update("insert into member (id, first_name, last_name, country) values (nextval('member_id_seq'), 'Zebulon', 'Quartermaine', 'Chile')");
+
+    // when
+    final List<MemberNameMatch> matches = memberSearchService.searchByName("zebulom", null);
+
+    // then verify
+    assertEquals(List.of("Zebulon Quartermaine"), names(matches));
+    assertTrue(matches.get(0).fuzzy());
+  }
+
+  @Test
+  void searchByName_ShouldReturnAtMostTheLimit() throws ServiceException {
+    // when
+    final List<MemberNameMatch> matches = memberSearchService.searchByName("name1", 7);
+
+    // then verify
+    assertEquals(7, matches.size());
+    assertTrue(matches.stream().noneMatch(MemberNameMatch::fuzzy));
+    assertEquals(List.of(), memberSearchService.searchByName(" ", 7));
+  }
+
+  private static List<String> names(final List<MemberNameMatch> matches) {
+    return matches.stream().map(match -> match.firstName() + " " + match.lastName()).toList();
+  }
+}
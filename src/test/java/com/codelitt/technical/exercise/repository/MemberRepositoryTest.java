@@ -0,0 +1,250 @@
+package com.codelitt.technical.exercise.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+import com.codelitt.technical.exercise.cache.MemberCache;
+import com.codelitt.technical.exercise.configuration.MemberInvalidationConfig;
+import com.codelitt.technical.exercise.dto.MemberDTO;
+import com.codelitt.technical.exercise.dto.filter.MemberFilter;
+import com.codelitt.technical.exercise.dto.page.CursorPage;
+import com.codelitt.technical.exercise.enums.MemberSortField;
+import com.codelitt.technical.exercise.enums.MemberType;
+import com.codelitt.technical.exercise.exception.ServiceException;
+import com.codelitt.technical.exercise.exception.VersionConflictException;
+import com.codelitt.technical.exercise.mapper.MemberMapper;
+import com.codelitt.technical.exercise.mapper.MemberPatcher;
+import com.codelitt.technical.exercise.model.Member;
+import com.codelitt.technical.exercise.service.CountryInfoService;
+import com.codelitt.technical.exercise.service.MemberService;
+import com.codelitt.technical.exercise.service.impl.MemberServiceImpl;
+import com.codelitt.technical.exercise.service.impl.MemberTagServiceImpl;
+import com.codelitt.technical.exercise.service.impl.PayrollServiceImpl;
+import com.codelitt.technical.exercise.validation.MemberValidator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Counts the SQL statements issued by the read paths of {@link MemberServiceImpl}, which must not depend on the
+ * number of members read, and checks the filters and the versioning of the members.
+ */
+@DataJpaTest(properties = {
+    "spring.jpa.database=h2",
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({MemberServiceImpl.class, MemberTagServiceImpl.class, PayrollServiceImpl.class, MemberMapper.class, MemberPatcher.class, MemberValidator.class, MemberCache.class, MemberInvalidationConfig.class})
+@ImportAutoConfiguration({JacksonAutoConfiguration.class, ValidationAutoConfiguration.class})
+class MemberRepositoryTest {
+
+  @MockBean
+  private CountryInfoService countryInfoService;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @Autowired
+  private MemberService memberService;
+
+  private Statistics statistics;
+
+  @BeforeEach
+  void setup() {
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 10, 100})
+  void findMembers_ShouldLoadMembersAndTagsInTwoStatements(final int members) throws ServiceException {
+    // given
+    persistMembers(members);
+
+    // when
+    final List<MemberDTO> result = memberService.findMembers(null, members, MemberSortField.ID, null).items();
+
+    // then verify
+    assertEquals(members, result.size());
+    assertEquals(List.of("Backend", "Frontend"), result.get(members - 1).getTags());
+    assertEquals(2, statistics.getPrepareStatementCount());
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {10, 100})
+  void findMembersPage_ShouldLoadMembersAndTagsInThreeStatements(final int members) throws ServiceException {
+    // given
+    persistMembers(members);
+
+    // when
+    final List<MemberDTO> result = memberService.findMembersPage(0, members).items();
+
+    // then verify
+    assertEquals(members, result.size());
+    assertEquals(List.of("Backend", "Frontend"), result.get(0).getTags());
+    assertEquals(3, statistics.getPrepareStatementCount());
+  }
+
+  @Test
+  void findMembers_WhenFiltered_ShouldReadTheMatchingMembersPageByPage() throws ServiceException {
+    // given
+    final List<Member> members = persistMembers(12);
+    for (int i = 0; i < members.size(); i++) {
+      final Member member = entityManager.find(Member.class, members.get(i).getId());
+      member.setCountry(i % 3 == 0 ? "France" : "Brazil");
+      member.setCurrency(i % 3 == 0 ? "EUR" : "BRL");
+      member.setSalary(BigDecimal.valueOf(1000L * (i + 1)));
+      if (i % 2 == 1) {
+        member.setType(MemberType.EMPLOYEE);
+        member.setRole("Developer");
+        member.setContractDuration(null);
+      }
+    }
+    entityManager.flush();
+    entityManager.clear();
+    statistics.clear();
+    final MemberFilter filter = new MemberFilter("brazil", null, "brl", BigDecimal.valueOf(2000), BigDecimal.valueOf(10000),
+        null, null, null, null);
+
+    // when
+    final CursorPage<MemberDTO> first = memberService.findMembers(filter, null, 3, MemberSortField.ID, null);
+    final long firstPageStatements = statistics.getPrepareStatementCount();
+    final CursorPage<MemberDTO> second = memberService.findMembers(filter, first.nextCursor(), 3, null, null);
+    final List<MemberDTO> contractors = memberService.findMembers(new MemberFilter(null, null, null, null, null, 0, 12, null, null),
+        null, 20, null, null).items();
+
+    // then verify
+    assertEquals(List.of("Member1", "Member2", "Member4"), first.items().stream().map(MemberDTO::getFirstName).toList());
+    assertEquals(List.of("Member5", "Member7", "Member8"), second.items().stream().map(MemberDTO::getFirstName).toList());
+    assertNull(second.nextCursor());
+    assertEquals(List.of("Member0", "Member2", "Member4", "Member6", "Member8", "Member10"),
+        contractors.stream().map(MemberDTO::getFirstName).toList());
+    assertEquals(2, firstPageStatements);
+  }
+
+  @Test
+  void findById_ShouldLoadMemberAndTagsInOneStatement() {
+    // given
+    final Long id = persistMembers(1).get(0).getId();
+
+    // when
+    final MemberDTO result = memberService.findById(id);
+
+    // then verify
+    assertEquals(List.of("Backend", "Frontend"), result.getTags());
+    assertEquals(1, statistics.getPrepareStatementCount());
+  }
+
+  @Test
+  void findMembersVersion_ShouldReadIdsAndVersionsInOneStatement() throws ServiceException {
+    // given
+    persistMembers(10);
+
+    // when
+    memberService.findMembersVersion(null, 10, MemberSortField.ID, null);
+
+    // then verify
+    assertEquals(1, statistics.getPrepareStatementCount());
+    assertEquals(0, statistics.getEntityLoadCount());
+    assertEquals(0, statistics.getCollectionLoadCount());
+  }
+
+  @Test
+  void findVersion_ShouldIncreaseWhenTheMemberIsUpdated() {
+    // given
+    final Long id = persistMembers(1).get(0).getId();
+    final Long version = memberService.findVersion(id);
+
+    // when
+    final Member member = entityManager.find(Member.class, id);
+    member.setTags(List.of("Backend"));
+    entityManager.flush();
+
+    // then verify
+    assertEquals(version + 1, memberService.findVersion(id));
+  }
+
+  @Test
+  void update_ShouldRequireTheCurrentVersion() throws ServiceException {
+    // given
+    final Long id = persistMembers(1).get(0).getId();
+    final MemberDTO member = MemberDTO.builder()
+        .firstName("Jane")
+        .lastName("Doe")
+        .type(MemberType.CONTRACTOR)
+        .tags(List.of("Backend"))
+        .country("Brazil")
+        .build();
+    when(countryInfoService.getCurrency("Brazil")).thenReturn("BRL");
+
+    // when
+    final MemberDTO updated = memberService.update(id, member, 0L);
+
+    // then verify
+    assertEquals(1L, updated.getVersion());
+    assertThrows(VersionConflictException.class, () -> memberService.update(id, member, 0L));
+  }
+
+  @Test
+  void patch_ShouldOnlyWriteTheChangedColumns() throws Exception {
+    // given
+    final Long id = persistMembers(1).get(0).getId();
+
+    // when
+    final MemberDTO result = memberService.patch(id, new ObjectMapper().readTree("{\"firstName\":\"Jane\",\"tags\":[\"Backend\",\"Frontend\"]}"), 0L);
+
+    // then verify
+    assertEquals("Jane", result.getFirstName());
+    assertEquals(1L, result.getVersion());
+    assertEquals(1, statistics.getEntityUpdateCount());
+    assertEquals(0, statistics.getCollectionRecreateCount());
+    assertEquals(0, statistics.getCollectionUpdateCount());
+    verifyNoInteractions(countryInfoService);
+  }
+
+  private List<Member> persistMembers(final int count) {
+    final List<Member> members = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      final Member member = Member.builder()
+          .firstName("Member" + i)
+          .lastName("Doe")
+          .salary(BigDecimal.valueOf(1000))
+          .type(MemberType.CONTRACTOR)
+          .contractDuration(12)
+          .tags(List.of("Backend", "Frontend"))
+          .country("Brazil")
+          .currency("BRL")
+          .build();
+      entityManager.persist(member);
+      members.add(member);
+    }
+    entityManager.flush();
+    entityManager.clear();
+    statistics.clear();
+    return members;
+  }
+}
@@ -0,0 +1,246 @@
+package com.codelitt.technical.exercise.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+import com.codelitt.technical.exercise.cache.MemberCache;
+import com.codelitt.technical.exercise.configuration.MemberInvalidationConfig;
+import com.codelitt.technical.exercise.dto.MemberDTO;
+import com.codelitt.technical.exercise.dto.tag.TagCardinality;
+import com.codelitt.technical.exercise.dto.tag.TagSearchPage;
+import com.codelitt.technical.exercise.enums.MemberType;
+import com.codelitt.technical.exercise.enums.TagMatch;
+import com.codelitt.technical.exercise.exception.InvalidRequestException;
+import com.codelitt.technical.exercise.exception.ServiceException;
+import com.codelitt.technical.exercise.mapper.MemberMapper;
+import com.codelitt.technical.exercise.mapper.MemberPatcher;
+import com.codelitt.technical.exercise.service.CountryInfoService;
+import com.codelitt.technical.exercise.service.MemberService;
+import com.codelitt.technical.exercise.service.MemberTagService;
+import com.codelitt.technical.exercise.service.impl.MemberServiceImpl;
+import com.codelitt.technical.exercise.service.impl.MemberTagServiceImpl;
+import com.codelitt.technical.exercise.service.impl.PayrollServiceImpl;
+import com.codelitt.technical.exercise.validation.MemberValidator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Writes members through {@link MemberServiceImpl} and searches them by tags, on the posting lists kept along with
+ * the members in an in-memory database.
+ */
+@DataJpaTest(properties = {
+    "spring.jpa.database=h2",
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect"
+})
+@Import({MemberServiceImpl.class, MemberTagServiceImpl.class, PayrollServiceImpl.class, MemberMapper.class, MemberPatcher.class, MemberValidator.class,
+    MemberCache.class, MemberInvalidationConfig.class})
+@ImportAutoConfiguration({JacksonAutoConfiguration.class, ValidationAutoConfiguration.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MemberTagSearchTest {
+
+  @MockBean
+  private CountryInfoService countryInfoService;
+
+  @Autowired
+  private MemberService memberService;
+
+  @Autowired
+  private MemberTagService memberTagService;
+
+  @Autowired
+  private MemberRepository repository;
+
+  @Autowired
+  private TagRepository tagRepository;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @BeforeEach
+  void setup() throws ServiceException {
+    when(countryInfoService.getCurrency(anyString())).thenReturn("BRL");
+  }
+
+  @AfterEach
+  void tearDown() {
+    repository.deleteAll();
+    tagRepository.deleteAll();
+  }
+
+  @Test
+  void findMembersByTags_ShouldMatchAllOrAnyOfTheTagsIgnoringCase() throws ServiceException {
+    // given
+    create("John", "Java", "Backend");
+    create("Jane", "JavaScript", "Frontend");
+    create("Joe", "java", "javascript", "BACKEND");
+    create("Jim", "DevOps");
+
+    // when
+    final TagSearchPage<MemberDTO> all = memberTagService.findMembersByTags(List.of("Java", " backend "), TagMatch.ALL, null, null);
+    final TagSearchPage<MemberDTO> any = memberTagService.findMembersByTags(List.of("java", "javascript"), TagMatch.ANY, null, null);
+
+    // then verify
+    assertEquals(List.of("John", "Joe"), names(all));
+    assertEquals(List.of("John", "Jane", "Joe"), names(any));
+    assertNull(any.nextCursor());
+    // the members are mapped with their tags as written
+    assertEquals(List.of("java", "javascript", "BACKEND"), all.items().get(1).getTags());
+  }
+
+  @Test
+  void findMembersByTags_ShouldReturnTheCardinalityOfTheTagsFromTheRarest() throws ServiceException {
+    // given
+    create("John", "Java", "Backend");
+    create("Jane", "Java");
+    create("Joe", "Java", "Backend", "Kotlin");
+
+    // when
+    final TagSearchPage<MemberDTO> result = memberTagService.findMembersByTags(List.of("java", "backend", "kotlin", "cobol"),
+        TagMatch.ALL, null, null);
+
+    // then verify
+    assertEquals(List.of(new TagCardinality("cobol", 0), new TagCardinality("kotlin", 1), new TagCardinality("backend", 2),
+        new TagCardinality("java", 3)), result.tags());
+    // an unknown tag matches no member
+    assertEquals(List.of(), result.items());
+    assertEquals(result.tags(), memberTagService.findCardinalities(List.of("Java", "Backend", "Kotlin", "Cobol")));
+  }
+
+  @Test
+  void findMembersByTags_ShouldPageThroughTheMembersWithTheCursor() throws ServiceException {
+    // given
+    final List<String> expected = new ArrayList<>();
+    for (int i = 0; i < 7; i++) {
+      if (i % 2 == 0) {
+        create("Member" + i, "Java", "Backend");
+        expected.add("Member" + i);
+      } else {
+        create("Member" + i, "Java");
+      }
+    }
+
+    // when
+    final List<String> all = new ArrayList<>();
+    final List<String> any = new ArrayList<>();
+    String allCursor = null;
+    String anyCursor = null;
+    int pages = 0;
+    do {
+      final TagSearchPage<MemberDTO> allPage = memberTagService.findMembersByTags(List.of("java", "backend"), TagMatch.ALL, allCursor, 3);
+      all.addAll(names(allPage));
+      allCursor = allPage.nextCursor();
+      pages++;
+    } while (allCursor != null);
+    do {
+      final TagSearchPage<MemberDTO> anyPage = memberTagService.findMembersByTags(List.of("backend", "kotlin"), TagMatch.ANY, anyCursor, 3);
+      any.addAll(names(anyPage));
+      anyCursor = anyPage.nextCursor();
+    } while (anyCursor != null);
+
+    // then verify
+    assertEquals(expected, all);
+    assertEquals(expected, any);
+    assertEquals(2, pages);
+  }
+
+  @Test
+  void writes_ShouldKeepThePostingListsInLineWithTheTags() throws ServiceException {
+    // given
+    final MemberDTO created = create("John", "Java", "Backend");
+    final Long id = repository.findAll().get(0).getId();
+
+    // when
+    created.setTags(List.of("Kotlin", "Backend"));
+    memberService.update(id, created);
+    final List<TagCardinality> updated = memberTagService.findCardinalities(List.of("java", "backend", "kotlin"));
+    final MemberDTO patched = memberService.patch(id, objectMapper.valueToTree(Map.of("tags", List.of("Kotlin", "Android"))), null);
+
+    // then verify
+    assertEquals(List.of(new TagCardinality("java", 0), new TagCardinality("backend", 1), new TagCardinality("kotlin", 1)), updated);
+    assertEquals(List.of("Kotlin", "Android"), patched.getTags());
+    assertEquals(List.of(), names(memberTagService.findMembersByTags(List.of("java"), TagMatch.ANY, null, null)));
+    assertEquals(List.of(), names(memberTagService.findMembersByTags(List.of("backend"), TagMatch.ANY, null, null)));
+    assertEquals(List.of("John"), names(memberTagService.findMembersByTags(List.of("kotlin", "android"), TagMatch.ALL, null, null)));
+
+    // and when deleted
+    assertEquals(List.of(new TagCardinality("backend", 0), new TagCardinality("android", 1), new TagCardinality("kotlin", 1)),
+        memberTagService.findCardinalities(List.of("kotlin", "android", "backend")));
+    memberService.deleteById(id);
+    assertEquals(List.of(new TagCardinality("android", 0), new TagCardinality("kotlin", 0)),
+        memberTagService.findCardinalities(List.of("kotlin", "android")));
+  }
+
+  @Test
+  void resolve_WhenTheSameTagsAreAddedConcurrently_ShouldCreateOneEntryPerTag() throws Exception {
+    // given
+    final var executor = Executors.newFixedThreadPool(8);
+    final List<Callable<Set<Integer>>> calls = new ArrayList<>();
+    for (int i = 0; i < 16; i++) {
+      calls.add(() -> memberTagService.resolveIds(List.of("Java", "Kotlin", "Scala")));
+    }
+
+    // when
+    final List<Set<Integer>> results = new ArrayList<>();
+    try {
+      for (final Future<Set<Integer>> result : executor.invokeAll(calls)) {
+        results.add(result.get());
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    // then verify
+    assertEquals(3, tagRepository.count());
+    for (final Set<Integer> result : results) {
+      assertEquals(results.get(0), result);
+    }
+  }
+
+  @Test
+  void findMembersByTags_WhenTagsAreMissingOrTheCursorIsNotOfATagSearch_ShouldThrowInvalidRequestException() {
+    // then verify
+    assertThrows(InvalidRequestException.class, () -> memberTagService.findMembersByTags(List.of(" ", ""), TagMatch.ALL, null, null));
+    assertThrows(InvalidRequestException.class, () -> memberTagService.findMembersByTags(List.of("java"), TagMatch.ALL, "not-a-cursor", null));
+    assertThrows(InvalidRequestException.class, () -> memberTagService.findMembersByTags(List.of("java"), TagMatch.ALL, null, 0));
+  }
+
+  private MemberDTO create(final String firstName, final String... tags) throws ServiceException {
+    return memberService.create(MemberDTO.builder()
+        .firstName(firstName)
+        .lastName("Doe")
+        .salary(new BigDecimal("1000"))
+        .type(MemberType.CONTRACTOR)
+        .contractDuration(12)
+        .tags(List.of(tags))
+        .country("Brazil")
+        .build());
+  }
+
+  private static List<String> names(final TagSearchPage<MemberDTO> page) {
+    return page.items().stream().map(MemberDTO::getFirstName).toList();
+  }
+}
@@ -0,0 +1,221 @@
+package com.codelitt.technical.exercise.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+import com.codelitt.technical.exercise.cache.MemberCache;
+import com.codelitt.technical.exercise.configuration.MemberInvalidationConfig;
+import com.codelitt.technical.exercise.dto.MemberDTO;
+import com.codelitt.technical.exercise.dto.payroll.PayrollGroup;
+import com.codelitt.technical.exercise.enums.MemberType;
+import com.codelitt.technical.exercise.enums.PayrollDimension;
+import com.codelitt.technical.exercise.exception.ServiceException;
+import com.codelitt.technical.exercise.mapper.MemberMapper;
+import com.codelitt.technical.exercise.mapper.MemberPatcher;
+import com.codelitt.technical.exercise.model.Member;
+import com.codelitt.technical.exercise.service.CountryInfoService;
+import com.codelitt.technical.exercise.service.MemberBatchService;
+import com.codelitt.technical.exercise.service.MemberService;
+import com.codelitt.technical.exercise.service.PayrollService;
+import com.codelitt.technical.exercise.service.impl.MemberBatchServiceImpl;
+import com.codelitt.technical.exercise.service.impl.MemberServiceImpl;
+import com.codelitt.technical.exercise.service.impl.MemberTagServiceImpl;
+import com.codelitt.technical.exercise.service.impl.PayrollServiceImpl;
+import com.codelitt.technical.exercise.validation.MemberValidator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Writes members through the services into an in-memory database, and checks that the payroll rollups stay equal to
+ * the payroll computed from the members themselves.
+ */
+@DataJpaTest(properties = {
+    "spring.jpa.database=h2",
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect"
+})
+@Import({MemberServiceImpl.class, MemberBatchServiceImpl.class, MemberTagServiceImpl.class, PayrollServiceImpl.class, MemberMapper.class,
+    MemberPatcher.class, MemberValidator.class, MemberCache.class, MemberInvalidationConfig.class})
+@ImportAutoConfiguration({JacksonAutoConfiguration.class, ValidationAutoConfiguration.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PayrollRollupTest {
+
+  private static final Map<String, String> CURRENCIES = Map.of("Brazil", "BRL", "Portugal", "EUR", "France", "EUR");
+
+  @MockBean
+  private CountryInfoService countryInfoService;
+
+  @Autowired
+  private MemberService memberService;
+
+  @Autowired
+  private MemberBatchService memberBatchService;
+
+  @Autowired
+  private PayrollService payrollService;
+
+  @Autowired
+  private MemberRepository repository;
+
+  @Autowired
+  private PayrollRollupRepository rollupRepository;
+
+  @Autowired
+  private TagRepository tagRepository;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @BeforeEach
+  void setup() throws ServiceException {
+    when(countryInfoService.getCurrency(anyString())).thenAnswer(invocation -> CURRENCIES.get(invocation.getArgument(0, String.class)));
+  }
+
+  @AfterEach
+  void tearDown() {
+    repository.deleteAll();
+    rollupRepository.deleteAll();
+    tagRepository.deleteAll();
+  }
+
+  @Test
+  void writes_ShouldKeepTheRollupsEqualToThePayrollOfTheMembers() throws Exception {
+    // given
+    memberService.create(contractor("John", "Brazil", "1000.00"));
+    memberService.create(contractor("Jane", "Brazil", null));
+    memberService.create(employee("Joe", "Portugal", "2500.50"));
+    memberBatchService.createAll(List.of(contractor("Jim", "Brazil", "500.25"), employee("Jill", "France", "4000.00"),
+        contractor("Jack", "Portugal", "1200.00")));
+
+    // when
+    final MemberDTO moved = contractor("John", "Portugal", "900.00");
+    memberService.update(idOf("John"), moved);
+    memberService.patch(idOf("Jane"), objectMapper.readTree("{\"salary\": 750.75}"), null);
+    memberService.patch(idOf("Jill"), objectMapper.readTree("{\"salary\": 3000.00}"), null);
+    memberService.deleteById(idOf("Jim"));
+
+    // then verify
+    assertEquals(payrollOfTheMembers(), payrollService.findPayroll(Set.of()));
+  }
+
+  @Test
+  void deleteById_ShouldReadTheSalaryRangeOfTheGroupAgain() throws ServiceException {
+    // given
+    memberService.create(contractor("John", "Brazil", "1000.00"));
+    memberService.create(contractor("Jane", "Brazil", "3000.00"));
+    memberService.create(contractor("Joe", "Brazil", "2000.00"));
+
+    // when
+    memberService.deleteById(idOf("Jane"));
+    memberService.deleteById(idOf("John"));
+
+    // then verify
+    final PayrollGroup group = payrollService.findPayroll(Set.of()).get(0);
+    assertEquals(1, group.members());
+    assertEquals(new BigDecimal("2000.00"), group.salaryMin());
+    assertEquals(new BigDecimal("2000.00"), group.salaryMax());
+  }
+
+  @Test
+  void findPayroll_ShouldAddUpTheGroupsOfTheDimensionsGiven() throws ServiceException {
+    // given
+    memberService.create(contractor("John", "Brazil", "1000.00"));
+    memberService.create(contractor("Jane", "Portugal", "3000.00"));
+    memberService.create(employee("Joe", "France", "2000.50"));
+    memberService.create(contractor("Jim", "France", null));
+
+    // when
+    final List<PayrollGroup> payroll = payrollService.findPayroll(EnumSet.of(PayrollDimension.CURRENCY));
+
+    // then verify
+    assertEquals(List.of(
+        new PayrollGroup(null, "BRL", null, 1, 1, new BigDecimal("1000.00"), new BigDecimal("1000.00"), new BigDecimal("1000.00"),
+            new BigDecimal("1000.0000")),
+        new PayrollGroup(null, "EUR", null, 3, 2, new BigDecimal("5000.50"), new BigDecimal("2000.50"), new BigDecimal("3000.00"),
+            new BigDecimal("2500.2500"))), payroll);
+  }
+
+  @Test
+  void findPayroll_ShouldKeepTheSumOfTheSalariesExact() throws ServiceException {
+    // given
+    memberService.create(contractor("John", "Brazil", "0.10"));
+    memberService.create(contractor("Jane", "Brazil", "0.20"));
+    memberService.create(contractor("Joe", "Brazil", "12345678901234567890.12"));
+
+    // when
+    final PayrollGroup group = payrollService.findPayroll(EnumSet.of(PayrollDimension.TYPE)).get(0);
+
+    // then verify
+    assertNull(group.country());
+    assertEquals(MemberType.CONTRACTOR, group.type());
+    assertEquals(new BigDecimal("12345678901234567890.42"), group.salarySum());
+    assertEquals(new BigDecimal("4115226300411522630.1400"), group.salaryMean());
+  }
+
+  /**
+   * The payroll of each country, currency and type, computed from all the members.
+   */
+  private List<PayrollGroup> payrollOfTheMembers() {
+    final Map<List<Object>, List<Member>> groups = repository.findAll().stream()
+        .collect(Collectors.groupingBy(member -> List.of(member.getCountry(), member.getCurrency(), member.getType())));
+    return groups.values().stream().map(members -> {
+      final List<BigDecimal> salaries = members.stream().map(Member::getSalary).filter(Objects::nonNull).toList();
+      final BigDecimal sum = salaries.stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+      final Member first = members.get(0);
+      return new PayrollGroup(first.getCountry(), first.getCurrency(), first.getType(), members.size(), salaries.size(), sum,
+          salaries.stream().min(Comparator.naturalOrder()).orElse(null), salaries.stream().max(Comparator.naturalOrder()).orElse(null),
+          salaries.isEmpty() ? null : sum.divide(BigDecimal.valueOf(salaries.size()), 4, RoundingMode.HALF_EVEN));
+    }).sorted(Comparator.comparing(PayrollGroup::country).thenComparing(PayrollGroup::currency).thenComparing(PayrollGroup::type)).toList();
+  }
+
+  private Long idOf(final String firstName) {
+    return repository.findAll().stream().filter(member -> firstName.equals(member.getFirstName())).findFirst().orElseThrow().getId();
+  }
+
+  private static MemberDTO contractor(final String firstName, final String country, final String salary) {
+    return MemberDTO.builder()
+        .firstName(firstName)
+        .lastName("Doe")
+        .salary(salary == null ? null : new BigDecimal(salary))
+        .type(MemberType.CONTRACTOR)
+        .contractDuration(12)
+        .tags(List.of("Backend"))
+        .country(country)
+        .build();
+  }
+
+  private static MemberDTO employee(final String firstName, final String country, final String salary) {
+    return MemberDTO.builder()
+        .firstName(firstName)
+        .lastName("Doe")
+        .salary(new BigDecimal(salary))
+        .type(MemberType.EMPLOYEE)
+        .role("Developer")
+        .tags(List.of("Backend"))
+        .country(country)
+        .build();
+  }
+}
@@ -0,0 +1,34 @@
+package com.codelitt.technical.exercise.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Counts the statements prepared by Hibernate per SQL prefix (e.g. "insert into member_tags"). A JDBC batch is
+ * prepared once, however many rows it carries. Registered with
+ * {@code spring.jpa.properties.hibernate.session_factory.statement_inspector}.
+ */
+public class StatementCounter implements StatementInspector {
+
+  private static final Map<String, AtomicInteger> COUNTS = new ConcurrentHashMap<>();
+
+  @Override
+  public String inspect(final String sql) {
+    final String[] words = sql.trim().toLowerCase(Locale.ROOT).split("\\s+");
+    final String key = words.length >= 3 ? words[0] + " " + words[1] + " " + words[2] : words[0];
+    COUNTS.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet();
+    return sql;
+  }
+
+  public static int count(final String prefix) {
+    return COUNTS.getOrDefault(prefix, new AtomicInteger()).get();
+  }
+
+  public static void reset() {
+    COUNTS.clear();
+  }
+}
@@ -0,0 +1,27 @@
+package com.codelitt.technical.exercise.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Records the last query prepared by Hibernate, so that its plan can be explained. Registered with
+ * {@code spring.jpa.properties.hibernate.session_factory.statement_inspector}.
+ */
+public class StatementRecorder implements StatementInspector {
+
+  private static final AtomicReference<String> LAST_QUERY = new AtomicReference<>();
+
+  @Override
+  public String inspect(final String sql) {
+    if (sql.trim().toLowerCase(Locale.ROOT).startsWith("select")) {
+      LAST_QUERY.set(sql);
+    }
+    return sql;
+  }
+
+  public static String lastQuery() {
+    return LAST_QUERY.get();
+  }
+}
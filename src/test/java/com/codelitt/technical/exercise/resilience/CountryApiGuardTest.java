@@ -0,0 +1,77 @@
+package com.codelitt.technical.exercise.resilience;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+
+import com.codelitt.technical.exercise.configuration.CircuitBreakerProperties;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+class CountryApiGuardTest {
+
+  // one call in flight per bulkhead, waiting up to 5 seconds for a permit on the blocking path
+  private final CountryApiGuard guard = new CountryApiGuard(new CircuitBreakerProperties(50, 50, Duration.ofSeconds(2), 20, 10,
+      Duration.ofSeconds(30), 1, 1, Duration.ofSeconds(5)));
+
+  private final CountDownLatch release = new CountDownLatch(1);
+
+  @AfterEach
+  void tearDown() {
+    release.countDown();
+  }
+
+  @Test
+  void call_WhenTheReactiveBulkheadIsFull_ShouldRejectTheCallWithoutWaiting() {
+    // given
+    final Disposable inFlight = guard.call(Mono.never()).subscribe();
+
+    // when
+    final long start = System.nanoTime();
+    final Throwable error = guard.call(Mono.just("BRL")).then(Mono.<Throwable>empty()).onErrorResume(Mono::just).block();
+    final long elapsed = System.nanoTime() - start;
+    inFlight.dispose();
+
+    // then verify
+    assertInstanceOf(BulkheadFullException.class, error);
+    assertTrue(elapsed < TimeUnit.SECONDS.toNanos(1), "waited " + Duration.ofNanos(elapsed));
+  }
+
+  @Test
+  void call_WhenTheBlockingBulkheadIsFull_ShouldStillLetTheReactiveCallsThrough() throws Exception {
+    // given
+    final CountDownLatch started = new CountDownLatch(1);
+    final CompletableFuture<String> blocking = CompletableFuture.supplyAsync(() -> guard.call(() -> {
+      started.countDown();
+      await(release);
+      return "EUR";
+    }));
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+
+    // when
+    final String currency = guard.call(Mono.just("BRL")).block(Duration.ofSeconds(1));
+
+    // then verify
+    assertEquals("BRL", currency);
+    release.countDown();
+    assertEquals("EUR", blocking.get(5, TimeUnit.SECONDS));
+  }
+
+  private static void await(final CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
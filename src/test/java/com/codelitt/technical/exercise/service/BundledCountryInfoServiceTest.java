@@ -0,0 +1,109 @@
+package com.codelitt.technical.exercise.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.codelitt.technical.exercise.dto.country.CountryInfoDTO;
+import com.codelitt.technical.exercise.dto.country.CountryName;
+import com.codelitt.technical.exercise.exception.ServiceException;
+import com.codelitt.technical.exercise.service.impl.BundledCountryInfoServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+
+class BundledCountryInfoServiceTest {
+
+  private static final String ALL_COUNTRIES_URL = "https://restcountries.com/v3.1/all?fields=name,currencies,altSpellings";
+
+  private final RestTemplate restTemplate = mock(RestTemplate.class);
+  private BundledCountryInfoServiceImpl service;
+
+  @BeforeEach
+  void setup() throws Exception {
+    service = new BundledCountryInfoServiceImpl(restTemplate, new ObjectMapper(), new ClassPathResource("countries/countries.json"));
+    ReflectionTestUtils.setField(service, "baseUrl", "https://restcountries.com/v3.1/name/");
+  }
+
+  @Test
+  void getCurrency_ShouldIgnoreCaseAndAccents() throws ServiceException {
+    assertEquals("BRL", service.getCurrency("brazil"));
+    assertEquals("BRL", service.getCurrency("Brasil"));
+    assertEquals("BRL", service.getCurrency(" BRASÍL "));
+    assertEquals("EUR", service.getCurrency("Italy"));
+    assertEquals("XOF", service.getCurrency("cote d'ivoire"));
+    assertEquals("MXN", service.getCurrency("México"));
+    assertEquals("USD", service.getCurrency("United States of America"));
+  }
+
+  @Test
+  void getCountryInfo_ShouldReturnTheCountryBuiltWhenTheSnapshotWasLoaded() throws ServiceException {
+    // when
+    var countryInfo = service.getCountryInfo("Brazil");
+
+    // then verify
+    assertEquals("Brazil", countryInfo.getName().getCommon());
+    assertSame(countryInfo, service.getCountryInfo("brasil"));
+    assertSame(countryInfo, service.getCountryInfo("Federative Republic of Brazil"));
+  }
+
+  @Test
+  void getCountryInfo_WhenCountryIsUnknown_ShouldThrowServiceException() {
+    var exception = assertThrows(ServiceException.class, () -> service.getCountryInfo("Atlantis"));
+    assertEquals("No information found for the country: Atlantis", exception.getMessage());
+  }
+
+  @Test
+  void getCurrency_WhenCountryHasNoCurrency_ShouldThrowServiceException() {
+    var exception = assertThrows(ServiceException.class, () -> service.getCurrency("Antarctica"));
+    assertEquals("Currency information not available for the country: Antarctica", exception.getMessage());
+  }
+
+  @Test
+  void refresh_ShouldReplaceTheIndex() throws ServiceException {
+    // given
+    final LinkedHashMap<String, Object> currencies = new LinkedHashMap<>();
+    currencies.put("ATL", "Atlantean drachma");
+    var atlantis = CountryInfoDTO.builder().name(new CountryName("Atlantis", "Kingdom of Atlantis")).currencies(currencies).build();
+
+    when(restTemplate.exchange(eq(ALL_COUNTRIES_URL), eq(HttpMethod.GET), any(HttpEntity.class), any(ParameterizedTypeReference.class)))
+        .thenReturn(new ResponseEntity<>(List.of(atlantis), HttpStatus.OK));
+
+    // when
+    service.refresh();
+
+    // then verify
+    assertEquals("ATL", service.getCurrency("kingdom of atlantis"));
+    assertThrows(ServiceException.class, () -> service.getCurrency("Brazil"));
+  }
+
+  @Test
+  void refresh_WhenTheApiFails_ShouldKeepTheCurrentIndex() throws ServiceException {
+    // given
+    when(restTemplate.exchange(eq(ALL_COUNTRIES_URL), eq(HttpMethod.GET), any(HttpEntity.class), any(ParameterizedTypeReference.class)))
+        .thenThrow(new ResourceAccessException("I/O error on GET request"));
+
+    // when
+    service.refresh();
+
+    // then verify
+    assertEquals("BRL", service.getCurrency("Brazil"));
+  }
+}
@@ -0,0 +1,182 @@
+package com.codelitt.technical.exercise.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.codelitt.technical.exercise.cache.CountryInfoCache;
+import com.codelitt.technical.exercise.configuration.CircuitBreakerProperties;
+import com.codelitt.technical.exercise.dto.country.CountryInfoDTO;
+import com.codelitt.technical.exercise.exception.ServiceException;
+import com.codelitt.technical.exercise.resilience.CountryApiGuard;
+import com.codelitt.technical.exercise.service.impl.CountryInfoServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class CountryInfoServiceConcurrencyTest {
+
+  private static final int CALLERS_PER_COUNTRY = 50;
+  private static final String BASE_URL = "https://restcountries.com/v3.1/name/";
+
+  @Test
+  void getCurrency_WhenCalledConcurrently_ShouldCallTheApiOncePerCountry() throws Exception {
+    // given
+    var restTemplate = new BlockingRestTemplate(false);
+    var service = newService(restTemplate, 512);
+
+    // when
+    var results = callConcurrently(service, restTemplate, List.of("Brazil", "brazil ", "France"));
+
+    // then verify
+    for (var result : results) {
+      assertTrue(List.of("BRL", "EUR").contains(result.get(5, TimeUnit.SECONDS)));
+    }
+    assertEquals(Map.of("brazil", 1, "france", 1), restTemplate.callsPerCountry());
+  }
+
+  @Test
+  void getCurrency_WhenCalledConcurrentlyWithoutCache_ShouldStillCoalesceCalls() throws Exception {
+    // given
+    var restTemplate = new BlockingRestTemplate(false);
+    var service = newService(restTemplate, 0);
+
+    // when
+    var results = callConcurrently(service, restTemplate, List.of("Brazil"));
+
+    // then verify
+    for (var result : results) {
+      assertEquals("BRL", result.get(5, TimeUnit.SECONDS));
+    }
+    assertEquals(Map.of("brazil", 1), restTemplate.callsPerCountry());
+  }
+
+  @Test
+  void getCurrency_WhenSharedCallFails_ShouldPropagateTheErrorToEveryCaller() throws Exception {
+    // given
+    var restTemplate = new BlockingRestTemplate(true);
+    var service = newService(restTemplate, 512);
+
+    // when
+    var results = callConcurrently(service, restTemplate, List.of("Brazil"));
+
+    // then verify
+    for (var result : results) {
+      var exception = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+      assertInstanceOf(ServiceException.class, exception.getCause());
+    }
+    assertEquals(Map.of("brazil", 1), restTemplate.callsPerCountry());
+  }
+
+  private CountryInfoService newService(final RestTemplate restTemplate, final long cacheSize) {
+    var guard = new CountryApiGuard(new CircuitBreakerProperties(50, 50, Duration.ofSeconds(2), 20, 10, Duration.ofSeconds(30), 1, 10, Duration.ofMillis(100)));
+    var service = new CountryInfoServiceImpl(restTemplate, new CountryInfoCache(Duration.ofHours(1), Duration.ofMinutes(1), cacheSize), guard,
+        new SimpleMeterRegistry());
+    ReflectionTestUtils.setField(service, "baseUrl", BASE_URL);
+    return service;
+  }
+
+  /**
+   * Starts {@link #CALLERS_PER_COUNTRY} callers per country name and releases the upstream calls only once every
+   * caller is either blocked in the API call or waiting for a call in flight.
+   */
+  private List<Future<String>> callConcurrently(final CountryInfoService service, final BlockingRestTemplate restTemplate,
+                                                final List<String> countryNames) throws InterruptedException {
+    final int callers = CALLERS_PER_COUNTRY * countryNames.size();
+    final ExecutorService executor = Executors.newFixedThreadPool(callers);
+    final CountDownLatch started = new CountDownLatch(callers);
+    final List<Thread> threads = new CopyOnWriteArrayList<>();
+    final List<Future<String>> results = new ArrayList<>();
+
+    for (int i = 0; i < callers; i++) {
+      final String countryName = countryNames.get(i % countryNames.size());
+      results.add(executor.submit(() -> {
+        threads.add(Thread.currentThread());
+        started.countDown();
+        return service.getCurrency(countryName);
+      }));
+    }
+
+    started.await(5, TimeUnit.SECONDS);
+    final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (!threads.stream().allMatch(thread -> thread.getState() == Thread.State.WAITING) && System.nanoTime() < deadline) {
+      Thread.onSpinWait();
+    }
+
+    restTemplate.release();
+    executor.shutdown();
+    return results;
+  }
+
+  /**
+   * A RestTemplate stub that counts calls per country and blocks them until released.
+   */
+  private static class BlockingRestTemplate extends RestTemplate {
+
+    private final Map<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+    private final CountDownLatch released = new CountDownLatch(1);
+    private final boolean failing;
+
+    BlockingRestTemplate(final boolean failing) {
+      this.failing = failing;
+    }
+
+    void release() {
+      released.countDown();
+    }
+
+    Map<String, Integer> callsPerCountry() {
+      final Map<String, Integer> result = new HashMap<>();
+      calls.forEach((country, count) -> result.put(country, count.get()));
+      return result;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> ResponseEntity<T> exchange(final String url, final HttpMethod method, final HttpEntity<?> requestEntity,
+                                          final ParameterizedTypeReference<T> responseType, final Object... uriVariables) {
+      final String country = url.substring(BASE_URL.length()).trim().toLowerCase();
+      calls.computeIfAbsent(country, key -> new AtomicInteger()).incrementAndGet();
+      try {
+        released.await();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+
+      if (failing) {
+        throw new ResourceAccessException("I/O error on GET request");
+      }
+
+      final CountryInfoDTO countryInfo = new CountryInfoDTO();
+      final LinkedHashMap<String, Object> currencies = new LinkedHashMap<>();
+      currencies.put(country.equals("brazil") ? "BRL" : "EUR", "Currency");
+      countryInfo.setCurrencies(currencies);
+      return (ResponseEntity<T>) new ResponseEntity<>(List.of(countryInfo), HttpStatus.OK);
+    }
+  }
+}
@@ -0,0 +1,179 @@
+package com.codelitt.technical.exercise.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.codelitt.technical.exercise.cache.CountryInfoCache;
+import com.codelitt.technical.exercise.configuration.CircuitBreakerProperties;
+import com.codelitt.technical.exercise.configuration.HttpClientConfig;
+import com.codelitt.technical.exercise.configuration.HttpClientProperties;
+import com.codelitt.technical.exercise.exception.ServiceException;
+import com.codelitt.technical.exercise.resilience.CountryApiGuard;
+import com.codelitt.technical.exercise.service.impl.CountryInfoServiceImpl;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Exercises the circuit breaker, the bulkhead and the stale-on-error fallback of {@link CountryInfoServiceImpl}
+ * against a local stub of the "restcountries.com" API that can be switched to answer slowly or with errors.
+ */
+class CountryInfoServiceResilienceTest {
+
+  private static final Map<String, String> CURRENCIES = Map.of("brazil", "BRL", "france", "EUR");
+  private static final long SLOW_RESPONSE_MILLIS = 300;
+
+  private enum Mode { OK, ERROR, SLOW }
+
+  private final AtomicInteger requests = new AtomicInteger();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private volatile Mode mode = Mode.OK;
+
+  private HttpServer server;
+  private CloseableHttpClient httpClient;
+  private CountryApiGuard guard;
+  private CountryInfoService service;
+
+  @BeforeEach
+  void setup() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext("/v3.1/name/", this::respond);
+    server.setExecutor(Executors.newCachedThreadPool());
+    server.start();
+
+    var httpClientConfig = new HttpClientConfig();
+    var httpClientProperties = new HttpClientProperties(10, 10, Duration.ofSeconds(1), Duration.ofSeconds(1), Duration.ofSeconds(1),
+        Duration.ofMinutes(5), Duration.ofSeconds(30));
+    httpClient = httpClientConfig.httpClient(httpClientConfig.connectionManager(httpClientProperties), httpClientProperties);
+
+    guard = new CountryApiGuard(new CircuitBreakerProperties(50, 50, Duration.ofMillis(200), 4, 4, Duration.ofMillis(300), 1, 1, Duration.ZERO));
+    // entries expire immediately, so that every lookup reaches the API while the last known values are kept
+    var cache = new CountryInfoCache(Duration.ofNanos(1), Duration.ofNanos(1), 512);
+    service = new CountryInfoServiceImpl(httpClientConfig.restTemplate(httpClient), cache, guard, meterRegistry);
+    ReflectionTestUtils.setField(service, "baseUrl", "http://localhost:" + server.getAddress().getPort() + "/v3.1/name/");
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    httpClient.close();
+    server.stop(0);
+  }
+
+  @Test
+  void getCurrency_WhenUpstreamFails_ShouldOpenTheCircuitAndServeTheLastKnownCurrency() throws ServiceException {
+    // given
+    assertEquals("BRL", service.getCurrency("Brazil"));
+    mode = Mode.ERROR;
+
+    // when
+    for (int i = 0; i < 4; i++) {
+      assertEquals("BRL", service.getCurrency("Brazil"));
+    }
+    var requestsWhenOpened = requests.get();
+
+    // then verify
+    assertEquals(CircuitBreaker.State.OPEN, guard.state());
+    assertEquals("BRL", service.getCurrency("brazil"));
+    assertEquals(requestsWhenOpened, requests.get());
+    assertThrows(ServiceException.class, () -> service.getCurrency("France"));
+    assertEquals(1, meterRegistry.get("countries.api.requests").tag("outcome", "SUCCESS").timer().count());
+    assertEquals(3, meterRegistry.get("countries.api.requests").tag("outcome", "ERROR").timer().count());
+    assertEquals(3, meterRegistry.get("countries.api.requests").tag("outcome", "REJECTED").timer().count());
+  }
+
+  @Test
+  void getCurrency_WhenUpstreamRecovers_ShouldCloseTheCircuitAfterTheProbe() throws Exception {
+    // given
+    mode = Mode.ERROR;
+    for (int i = 0; i < 4; i++) {
+      assertThrows(ServiceException.class, () -> service.getCurrency("France"));
+    }
+    assertEquals(CircuitBreaker.State.OPEN, guard.state());
+
+    // when
+    mode = Mode.OK;
+    TimeUnit.MILLISECONDS.sleep(400);
+
+    // then verify
+    assertEquals("EUR", service.getCurrency("France"));
+    assertEquals(CircuitBreaker.State.CLOSED, guard.state());
+  }
+
+  @Test
+  void getCurrency_WhenUpstreamIsSlow_ShouldOpenTheCircuit() throws ServiceException {
+    // given
+    mode = Mode.SLOW;
+
+    // when
+    for (int i = 0; i < 4; i++) {
+      assertEquals("BRL", service.getCurrency("Brazil"));
+    }
+
+    // then verify
+    assertEquals(CircuitBreaker.State.OPEN, guard.state());
+  }
+
+  @Test
+  void getCurrency_WhenTooManyCallsAreInFlight_ShouldRejectTheCall() {
+    // given
+    mode = Mode.SLOW;
+    var inFlight = CompletableFuture.runAsync(() -> {
+      try {
+        service.getCurrency("Brazil");
+      } catch (final ServiceException e) {
+        throw new IllegalStateException(e);
+      }
+    });
+    while (requests.get() == 0) {
+      Thread.onSpinWait();
+    }
+
+    // when
+    var exception = assertThrows(ServiceException.class, () -> service.getCurrency("France"));
+
+    // then verify
+    assertInstanceOf(BulkheadFullException.class, exception.getCause().getCause());
+    inFlight.join();
+    assertEquals(1, requests.get());
+  }
+
+  private void respond(final HttpExchange exchange) throws IOException {
+    requests.incrementAndGet();
+    final String country = exchange.getRequestURI().getPath().substring("/v3.1/name/".length()).toLowerCase();
+    if (mode == Mode.SLOW) {
+      try {
+        Thread.sleep(SLOW_RESPONSE_MILLIS);
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    final int status = mode == Mode.ERROR ? 503 : 200;
+    final String body = mode == Mode.ERROR ? "{\"message\":\"Service Unavailable\"}"
+        : "[{\"name\":{\"common\":\"" + country + "\"},\"currencies\":{\"" + CURRENCIES.get(country) + "\":{\"name\":\"Currency\"}}}]";
+    final byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().add("Content-Type", "application/json");
+    exchange.sendResponseHeaders(status, bytes.length);
+    exchange.getResponseBody().write(bytes);
+    exchange.close();
+  }
+}
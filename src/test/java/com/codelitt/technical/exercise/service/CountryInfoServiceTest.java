@@ -1,28 +1,39 @@
 package com.codelitt.technical.exercise.service;
 
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.codelitt.technical.exercise.cache.CountryInfoCache;
+import com.codelitt.technical.exercise.configuration.CircuitBreakerProperties;
 import com.codelitt.technical.exercise.dto.country.CountryInfoDTO;
 import com.codelitt.technical.exercise.exception.ServiceException;
+import com.codelitt.technical.exercise.resilience.CountryApiGuard;
 import com.codelitt.technical.exercise.service.impl.CountryInfoServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
 import java.util.LinkedHashMap;
 import java.util.List;
 
@@ -32,6 +43,16 @@ class CountryInfoServiceTest {
   @Mock
   private RestTemplate restTemplate;
 
+  @Spy
+  private CountryInfoCache cache = new CountryInfoCache(Duration.ofHours(24), Duration.ofMinutes(10), 512);
+
+  @Spy
+  private CountryApiGuard guard = new CountryApiGuard(new CircuitBreakerProperties(50, 50, Duration.ofSeconds(2), 20, 10,
+      Duration.ofSeconds(30), 1, 10, Duration.ofMillis(100)));
+
+  @Spy
+  private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
   @InjectMocks
   private CountryInfoServiceImpl service;
 
@@ -134,4 +155,75 @@ class CountryInfoServiceTest {
     assertThrows(ServiceException.class, () -> service.getCountryInfo("Spain"));
   }
 
+  @Test
+  void getCurrency_WhenCalledTwice_ShouldCallTheApiOnce() throws ServiceException {
+    // given
+    var countryInfo = new CountryInfoDTO();
+    final LinkedHashMap<String, Object> currencies = new LinkedHashMap<>();
+    currencies.put("EUR", "Euro");
+    countryInfo.setCurrencies(currencies);
+
+    when(restTemplate.exchange(
+        anyString(),
+        any(HttpMethod.class),
+        any(HttpEntity.class),
+        any(ParameterizedTypeReference.class)
+    )).
+    thenReturn(new ResponseEntity<>(List.of(countryInfo), HttpStatus.OK));
+
+    // when
+    assertEquals("EUR", service.getCurrency("france"));
+    assertEquals("EUR", service.getCurrency(" France "));
+
+    // then verify
+    verify(restTemplate, times(1)).exchange(anyString(), any(HttpMethod.class), any(HttpEntity.class), any(ParameterizedTypeReference.class));
+    assertEquals(1, cache.stats().hitCount());
+    assertEquals(1, cache.stats().missCount());
+  }
+
+  @Test
+  void getCountryInfo_WhenCountryIsUnknown_ShouldCacheTheMiss() {
+    // given
+    var countryName = "Atlantis";
+
+    when(restTemplate.exchange(
+        anyString(),
+        any(HttpMethod.class),
+        any(HttpEntity.class),
+        any(ParameterizedTypeReference.class)
+    )).
+    thenThrow(HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null));
+
+    // when
+    var first = assertThrows(ServiceException.class, () -> service.getCountryInfo(countryName));
+    var second = assertThrows(ServiceException.class, () -> service.getCountryInfo(countryName));
+
+    // then verify
+    assertEquals(first.getMessage(), second.getMessage());
+    verify(restTemplate, times(1)).exchange(anyString(), any(HttpMethod.class), any(HttpEntity.class), any(ParameterizedTypeReference.class));
+  }
+
+  @Test
+  void getCountryInfo_ShouldTimeTheApiCallsByOutcome() {
+    // given
+    when(restTemplate.exchange(
+        anyString(),
+        any(HttpMethod.class),
+        any(HttpEntity.class),
+        any(ParameterizedTypeReference.class)
+    )).
+    thenReturn(new ResponseEntity<>(List.of(new CountryInfoDTO()), HttpStatus.OK)).
+    thenThrow(HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null)).
+    thenThrow(new RuntimeException("Error during the call to restcountries.com"));
+
+    // when
+    assertDoesNotThrow(() -> service.getCountryInfo("Italy"));
+    assertThrows(ServiceException.class, () -> service.getCountryInfo("Atlantis"));
+    assertThrows(ServiceException.class, () -> service.getCountryInfo("Spain"));
+
+    // then verify
+    assertEquals(1, meterRegistry.get("countries.api.requests").tag("outcome", "SUCCESS").timer().count());
+    assertEquals(1, meterRegistry.get("countries.api.requests").tag("outcome", "NOT_FOUND").timer().count());
+    assertEquals(1, meterRegistry.get("countries.api.requests").tag("outcome", "ERROR").timer().count());
+  }
 }
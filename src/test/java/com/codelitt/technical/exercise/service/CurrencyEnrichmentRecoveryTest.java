@@ -0,0 +1,244 @@
+package com.codelitt.technical.exercise.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.codelitt.technical.exercise.cache.MemberCache;
+import com.codelitt.technical.exercise.configuration.CurrencyEnrichmentProperties;
+import com.codelitt.technical.exercise.configuration.MemberInvalidationConfig;
+import com.codelitt.technical.exercise.dto.MemberDTO;
+import com.codelitt.technical.exercise.dto.payroll.PayrollGroup;
+import com.codelitt.technical.exercise.enums.CurrencyStatus;
+import com.codelitt.technical.exercise.enums.MemberType;
+import com.codelitt.technical.exercise.exception.CountryNotFoundException;
+import com.codelitt.technical.exercise.exception.ServiceException;
+import com.codelitt.technical.exercise.mapper.MemberMapper;
+import com.codelitt.technical.exercise.mapper.MemberPatcher;
+import com.codelitt.technical.exercise.model.CurrencyDeadLetter;
+import com.codelitt.technical.exercise.model.Member;
+import com.codelitt.technical.exercise.repository.CurrencyDeadLetterRepository;
+import com.codelitt.technical.exercise.repository.MemberRepository;
+import com.codelitt.technical.exercise.repository.PayrollRollupRepository;
+import com.codelitt.technical.exercise.service.impl.CurrencyEnrichmentServiceImpl;
+import com.codelitt.technical.exercise.service.impl.MemberServiceImpl;
+import com.codelitt.technical.exercise.service.impl.MemberTagServiceImpl;
+import com.codelitt.technical.exercise.service.impl.PayrollServiceImpl;
+import com.codelitt.technical.exercise.validation.MemberValidator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Creates members with a pending currency and resolves them against an in-memory database, across simulated
+ * restarts: every {@link CurrencyEnrichmentServiceImpl} instance starts from the durable pending state alone.
+ */
+@DataJpaTest(properties = {
+    "spring.jpa.database=h2",
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "api.members.enrichment.enabled=true"
+})
+@Import({MemberServiceImpl.class, MemberTagServiceImpl.class, PayrollServiceImpl.class, MemberMapper.class, MemberPatcher.class, MemberValidator.class, MemberCache.class, MemberInvalidationConfig.class})
+@ImportAutoConfiguration({JacksonAutoConfiguration.class, ValidationAutoConfiguration.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CurrencyEnrichmentRecoveryTest {
+
+  @MockBean
+  private CountryInfoService countryInfoService;
+
+  @Autowired
+  private MemberService memberService;
+
+  @Autowired
+  private MemberRepository repository;
+
+  @Autowired
+  private CurrencyDeadLetterRepository deadLetterRepository;
+
+  @Autowired
+  private MemberCache memberCache;
+
+  @Autowired
+  private PayrollService payrollService;
+
+  @Autowired
+  private PayrollRollupRepository rollupRepository;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  private final List<CurrencyEnrichmentServiceImpl> instances = new ArrayList<>();
+
+  @AfterEach
+  void tearDown() throws InterruptedException {
+    for (final CurrencyEnrichmentServiceImpl instance : instances) {
+      instance.shutdown();
+    }
+    deadLetterRepository.deleteAll();
+    repository.deleteAll();
+    rollupRepository.deleteAll();
+  }
+
+  @Test
+  void create_ShouldPersistThePendingMemberWithoutLookup() throws ServiceException {
+    // when
+    final MemberDTO created = memberService.create(member("Brazil"));
+
+    // then verify
+    assertEquals(CurrencyStatus.PENDING, created.getCurrencyStatus());
+    final Member member = repository.findAll().get(0);
+    assertEquals(CurrencyStatus.PENDING, member.getCurrencyStatus());
+    assertNull(member.getCurrency());
+    verify(countryInfoService, never()).getCurrency("Brazil");
+  }
+
+  @Test
+  void resolvePending_ShouldAddTheMembersToThePayrollOnceResolved() throws ServiceException {
+    // given
+    memberService.create(member("Brazil"));
+    memberService.create(member("brazil"));
+    when(countryInfoService.getCurrency("Brazil")).thenReturn("BRL");
+    assertTrue(payrollService.findPayroll(Set.of()).isEmpty());
+
+    // when
+    newInstance().resolvePending();
+
+    // then verify
+    assertEquals(List.of(new PayrollGroup("Brazil", "BRL", MemberType.CONTRACTOR, 2, 2, new BigDecimal("2000.00"),
+        new BigDecimal("1000.00"), new BigDecimal("1000.00"), new BigDecimal("1000.0000"))), payrollService.findPayroll(Set.of()));
+  }
+
+  @Test
+  void resolvePending_AfterACrashInTheMiddleOfABatch_ShouldResolveTheMembersLeftPending() throws ServiceException {
+    // given
+    memberService.create(member("Brazil"));
+    final Long brazil = idOf("Brazil");
+    memberService.create(member("France"));
+    memberService.create(member("france"));
+    when(countryInfoService.getCurrency("Brazil")).thenReturn("BRL");
+    // the instance dies while the members of France are in flight: nothing is recorded for them
+    when(countryInfoService.getCurrency("France")).thenThrow(new IllegalStateException("Killed"));
+    newInstance().poll();
+
+    // when
+    reset(countryInfoService);
+    when(countryInfoService.getCurrency("France")).thenReturn("EUR");
+    final int read = newInstance().resolvePending();
+
+    // then verify
+    assertEquals(2, read);
+    verify(countryInfoService, times(1)).getCurrency("France");
+    verify(countryInfoService, never()).getCurrency("Brazil");
+    for (final Member member : repository.findAll()) {
+      assertEquals(CurrencyStatus.RESOLVED, member.getCurrencyStatus());
+      assertEquals(member.getId().equals(brazil) ? "BRL" : "EUR", member.getCurrency());
+      assertEquals(1L, member.getVersion());
+    }
+  }
+
+  @Test
+  void resolvePending_AfterARestartDuringTheBackoff_ShouldKeepTheAttemptsAndWaitForTheRetry() throws ServiceException {
+    // given
+    memberService.create(member("Brazil"));
+    when(countryInfoService.getCurrency("Brazil")).thenThrow(new ServiceException("Read timed out"));
+    newInstance().resolvePending();
+
+    // when
+    final int read = newInstance().resolvePending();
+
+    // then verify
+    assertEquals(0, read);
+    final Member member = repository.findAll().get(0);
+    assertEquals(CurrencyStatus.PENDING, member.getCurrencyStatus());
+    assertEquals(1, member.getCurrencyAttempts());
+    assertNotNull(member.getCurrencyRetryAt());
+    assertTrue(member.getCurrencyRetryAt().isAfter(LocalDateTime.now().plusMinutes(59)));
+  }
+
+  @Test
+  void resolvePending_WhenCountryIsUnknown_ShouldDeadLetterTheMember() throws ServiceException {
+    // given
+    final MemberDTO created = memberService.create(member("Atlantis"));
+    when(countryInfoService.getCurrency("Atlantis")).thenThrow(new CountryNotFoundException("No information found for the country: Atlantis"));
+
+    // when
+    newInstance().resolvePending();
+
+    // then verify
+    final Member member = repository.findAll().get(0);
+    assertEquals(CurrencyStatus.FAILED, member.getCurrencyStatus());
+    assertEquals(created.getVersion() + 1, member.getVersion());
+    final CurrencyDeadLetter deadLetter = deadLetterRepository.findById(member.getId()).orElseThrow();
+    assertEquals("Atlantis", deadLetter.getCountry());
+    assertEquals(1, deadLetter.getAttempts());
+    assertEquals(0, newInstance().resolvePending());
+  }
+
+  @Test
+  void resolvePending_WhenMemberWasUpdatedMeanwhile_ShouldKeepItsCurrency() throws ServiceException {
+    // given
+    memberService.create(member("Brazil"));
+    final Long id = idOf("Brazil");
+    when(countryInfoService.getCurrency("Portugal")).thenReturn("EUR");
+    final MemberDTO update = member("Portugal");
+    memberService.update(id, update);
+    when(countryInfoService.getCurrency("Brazil")).thenReturn("BRL");
+
+    // when
+    final int read = newInstance().resolvePending();
+
+    // then verify
+    assertEquals(0, read);
+    final Member member = repository.findById(id).orElseThrow();
+    assertEquals(CurrencyStatus.RESOLVED, member.getCurrencyStatus());
+    assertEquals("EUR", member.getCurrency());
+  }
+
+  private CurrencyEnrichmentServiceImpl newInstance() {
+    final var properties = new CurrencyEnrichmentProperties(true, Duration.ofSeconds(1), 500, 2, 3, Duration.ofHours(1), Duration.ofHours(1));
+    final var instance = new CurrencyEnrichmentServiceImpl(countryInfoService, repository, deadLetterRepository, memberCache, payrollService, properties,
+        transactionManager, new SimpleMeterRegistry());
+    instances.add(instance);
+    return instance;
+  }
+
+  private Long idOf(final String country) {
+    return repository.findAll().stream().filter(member -> country.equals(member.getCountry())).findFirst().orElseThrow().getId();
+  }
+
+  private static MemberDTO member(final String country) {
+    return MemberDTO.builder()
+        .firstName("John")
+        .lastName("Doe")
+        .salary(new BigDecimal("1000"))
+        .type(MemberType.CONTRACTOR)
+        .contractDuration(12)
+        .tags(List.of("Backend"))
+        .country(country)
+        .build();
+  }
+}
@@ -0,0 +1,225 @@
+package com.codelitt.technical.exercise.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.codelitt.technical.exercise.cache.MemberCache;
+import com.codelitt.technical.exercise.configuration.CurrencyEnrichmentProperties;
+import com.codelitt.technical.exercise.dto.payroll.PayrollChange;
+import com.codelitt.technical.exercise.enums.CurrencyStatus;
+import com.codelitt.technical.exercise.enums.MemberType;
+import com.codelitt.technical.exercise.exception.CountryNotFoundException;
+import com.codelitt.technical.exercise.exception.ServiceException;
+import com.codelitt.technical.exercise.model.CurrencyDeadLetter;
+import com.codelitt.technical.exercise.model.Member;
+import com.codelitt.technical.exercise.repository.CurrencyDeadLetterRepository;
+import com.codelitt.technical.exercise.repository.MemberRepository;
+import com.codelitt.technical.exercise.repository.PendingCurrency;
+import com.codelitt.technical.exercise.service.impl.CurrencyEnrichmentServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@ExtendWith(MockitoExtension.class)
+class CurrencyEnrichmentServiceTest {
+
+  private static final int MAX_ATTEMPTS = 3;
+
+  @Mock
+  private CountryInfoService countryInfoService;
+
+  @Mock
+  private MemberRepository repository;
+
+  @Mock
+  private CurrencyDeadLetterRepository deadLetterRepository;
+
+  @Mock
+  private MemberCache memberCache;
+
+  @Mock
+  private PayrollService payrollService;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private CurrencyEnrichmentServiceImpl service;
+
+  @BeforeEach
+  void setUp() {
+    var properties = new CurrencyEnrichmentProperties(true, Duration.ofSeconds(1), 500, 2, MAX_ATTEMPTS, Duration.ofSeconds(10), Duration.ofSeconds(15));
+    service = new CurrencyEnrichmentServiceImpl(countryInfoService, repository, deadLetterRepository, memberCache, payrollService, properties,
+        transactionManager, meterRegistry);
+  }
+
+  @AfterEach
+  void tearDown() throws InterruptedException {
+    service.shutdown();
+  }
+
+  @Test
+  void resolvePending_ShouldLookEachCountryUpOnceAndUpdateItsMembersTogether() throws ServiceException {
+    // given
+    pending(member(1L, "Brazil", null), member(2L, "France", null), member(3L, "brazil ", null));
+    when(countryInfoService.getCurrency("Brazil")).thenReturn("BRL");
+    when(countryInfoService.getCurrency("France")).thenReturn("EUR");
+
+    // when
+    final int read = service.resolvePending();
+
+    // then verify
+    assertEquals(3, read);
+    verify(countryInfoService, times(2)).getCurrency(anyString());
+    verify(repository).resolvePendingCurrencies(List.of(1L, 3L), "BRL", CurrencyStatus.PENDING, CurrencyStatus.RESOLVED);
+    verify(repository).resolvePendingCurrencies(List.of(2L), "EUR", CurrencyStatus.PENDING, CurrencyStatus.RESOLVED);
+    verify(memberCache).invalidate(1L);
+    verify(memberCache).invalidate(2L);
+    verify(memberCache).invalidate(3L);
+    assertEquals(3, meterRegistry.get("members.currency.lag").timer().count());
+  }
+
+  @Test
+  void resolvePending_ShouldAddTheMembersStillPendingToThePayroll() throws ServiceException {
+    // given
+    pending(member(1L, "Brazil", null), member(2L, "Brazil", null));
+    when(countryInfoService.getCurrency("Brazil")).thenReturn("BRL");
+    final Member stillPending = Member.builder().id(1L).country("Brazil").type(MemberType.EMPLOYEE).salary(new BigDecimal("1000.00")).build();
+    when(repository.lockPendingCurrencies(List.of(1L, 2L), CurrencyStatus.PENDING)).thenReturn(List.of(stillPending));
+
+    // when
+    service.resolvePending();
+
+    // then verify
+    verify(repository).resolvePendingCurrencies(List.of(1L, 2L), "BRL", CurrencyStatus.PENDING, CurrencyStatus.RESOLVED);
+    verify(payrollService).apply(List.of(PayrollChange.added("Brazil", "BRL", MemberType.EMPLOYEE, new BigDecimal("1000.00"))));
+  }
+
+  @Test
+  void resolvePending_WhenNothingIsPending_ShouldNotLookAnythingUp() throws ServiceException {
+    // given
+    pending();
+
+    // when
+    final int read = service.resolvePending();
+
+    // then verify
+    assertEquals(0, read);
+    verify(countryInfoService, never()).getCurrency(anyString());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void resolvePending_WhenCountryIsUnknown_ShouldDeadLetterItsMembers() throws ServiceException {
+    // given
+    pending(member(1L, "Atlantis", null));
+    when(countryInfoService.getCurrency("Atlantis"))
+        .thenThrow(new ServiceException("Error retrieving currency information!", new CountryNotFoundException("No information found")));
+
+    // when
+    service.resolvePending();
+
+    // then verify
+    verify(repository).failPendingCurrencies(List.of(1L), 1, CurrencyStatus.PENDING, CurrencyStatus.FAILED);
+    verify(repository, never()).retryPendingCurrencies(anyCollection(), anyInt(), any(), any());
+    final ArgumentCaptor<List<CurrencyDeadLetter>> deadLetters = ArgumentCaptor.forClass(List.class);
+    verify(deadLetterRepository).saveAll(deadLetters.capture());
+    assertEquals(1L, deadLetters.getValue().get(0).getMemberId());
+    assertEquals("Country not found: Atlantis", deadLetters.getValue().get(0).getReason());
+    assertEquals(1.0, meterRegistry.get("members.currency.dead.letters").counter().count());
+  }
+
+  @Test
+  void resolvePending_WhenLookupFails_ShouldRetryWithAnExponentialBackoff() throws ServiceException {
+    // given
+    pending(member(1L, "Brazil", null), member(2L, "Brazil", 1));
+    when(countryInfoService.getCurrency("Brazil")).thenThrow(new ServiceException("Read timed out"));
+    final LocalDateTime before = LocalDateTime.now();
+
+    // when
+    service.resolvePending();
+
+    // then verify
+    final ArgumentCaptor<LocalDateTime> firstRetry = ArgumentCaptor.forClass(LocalDateTime.class);
+    final ArgumentCaptor<LocalDateTime> secondRetry = ArgumentCaptor.forClass(LocalDateTime.class);
+    verify(repository).retryPendingCurrencies(eq(List.of(1L)), eq(1), firstRetry.capture(), eq(CurrencyStatus.PENDING));
+    verify(repository).retryPendingCurrencies(eq(List.of(2L)), eq(2), secondRetry.capture(), eq(CurrencyStatus.PENDING));
+    assertBetween(before.plusSeconds(10), firstRetry.getValue(), Duration.ofSeconds(5));
+    // 20 seconds, capped to the maximum backoff
+    assertBetween(before.plusSeconds(15), secondRetry.getValue(), Duration.ofSeconds(5));
+    verify(repository, never()).failPendingCurrencies(anyCollection(), anyInt(), any(), any());
+    assertEquals(2.0, meterRegistry.get("members.currency.retries").counter().count());
+  }
+
+  @Test
+  void resolvePending_WhenLastAttemptFails_ShouldDeadLetterTheMember() throws ServiceException {
+    // given
+    pending(member(1L, "Brazil", MAX_ATTEMPTS - 1));
+    when(countryInfoService.getCurrency("Brazil")).thenThrow(new ServiceException("Read timed out"));
+
+    // when
+    service.resolvePending();
+
+    // then verify
+    verify(repository).failPendingCurrencies(List.of(1L), MAX_ATTEMPTS, CurrencyStatus.PENDING, CurrencyStatus.FAILED);
+    verify(repository, never()).retryPendingCurrencies(anyCollection(), anyInt(), any(), any());
+    verify(memberCache).invalidate(1L);
+  }
+
+  @Test
+  void poll_ShouldPublishTheQueueDepthAndAge() {
+    // given
+    pending();
+    when(repository.countByCurrencyStatus(CurrencyStatus.PENDING)).thenReturn(42L);
+    when(repository.findOldestCreatedAtByCurrencyStatus(CurrencyStatus.PENDING))
+        .thenReturn(Optional.of(LocalDateTime.now().minusMinutes(5)));
+
+    // when
+    service.poll();
+
+    // then verify
+    assertEquals(42.0, meterRegistry.get("members.currency.pending").gauge().value());
+    final double age = meterRegistry.get("members.currency.pending.age").timeGauge().value(TimeUnit.SECONDS);
+    assertTrue(age >= 300 && age < 310, "age: " + age);
+  }
+
+  private void pending(final PendingCurrency... members) {
+    when(repository.findPendingCurrencies(eq(CurrencyStatus.PENDING), any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of(members));
+  }
+
+  private static void assertBetween(final LocalDateTime from, final LocalDateTime actual, final Duration tolerance) {
+    assertTrue(!actual.isBefore(from) && actual.isBefore(from.plus(tolerance)), "expected about " + from + " but was " + actual);
+  }
+
+  private static PendingCurrency member(final Long id, final String country, final Integer attempts) {
+    return new PendingMember(id, country, attempts, LocalDateTime.now().minusSeconds(1));
+  }
+
+  private record PendingMember(Long getId, String getCountry, Integer getCurrencyAttempts, LocalDateTime getCreatedAt)
+      implements PendingCurrency {
+  }
+}
@@ -0,0 +1,107 @@
+package com.codelitt.technical.exercise.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.codelitt.technical.exercise.cache.ExchangeRates;
+import com.codelitt.technical.exercise.cache.SalaryConverter;
+import com.codelitt.technical.exercise.exception.ServiceException;
+import com.codelitt.technical.exercise.service.impl.ExchangeRateServiceImpl;
+import com.codelitt.technical.exercise.service.impl.SeededExchangeRateProviderImpl;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+class ExchangeRateServiceTest {
+
+  private static final LocalDate TODAY = LocalDate.of(2023, 7, 10);
+
+  private final Clock clock = Clock.fixed(TODAY.atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+
+  @Test
+  void seeded_ShouldServeTheRatesOfTheLatestDayOnOrBeforeTheOneAsked() throws Exception {
+    // given
+    final ExchangeRateProvider provider = new SeededExchangeRateProviderImpl(csv("""
+        # rates per euro
+        date,currency,rate
+        2023-01-02,USD,1.0666
+        2023-07-03,USD,1.0899
+        2023-07-03,BRL,5.2336
+        """), "EUR");
+
+    // then verify
+    assertEquals(new BigDecimal("1.0666"), provider.getRates(LocalDate.of(2023, 1, 2)).getRate("USD"));
+    assertEquals(LocalDate.of(2023, 1, 2), provider.getRates(LocalDate.of(2023, 7, 2)).getDate());
+    assertEquals(new BigDecimal("5.2336"), provider.getRates(TODAY).getRate("BRL"));
+    assertThrows(ServiceException.class, () -> provider.getRates(LocalDate.of(2022, 12, 31)));
+  }
+
+  @Test
+  void seeded_ShouldLoadTheBundledRates() throws Exception {
+    // given
+    final ExchangeRateProvider provider = new SeededExchangeRateProviderImpl(new ClassPathResource("exchange-rates/exchange-rates.csv"), "EUR");
+
+    // when
+    final ExchangeRates rates = provider.getRates(TODAY);
+
+    // then verify
+    assertEquals(LocalDate.of(2023, 7, 3), rates.getDate());
+    assertEquals("EUR", rates.getBase());
+    assertEquals(BigDecimal.ONE, rates.getRate("EUR"));
+    assertEquals(new BigDecimal("1.0899"), rates.getRate("USD"));
+  }
+
+  @Test
+  void seeded_WhenALineIsMalformed_ShouldFailToStart() {
+    assertThrows(IllegalArgumentException.class, () -> new SeededExchangeRateProviderImpl(csv("2023-01-02,USD\n"), "EUR"));
+  }
+
+  @Test
+  void getRates_ShouldRetrieveTheRatesOfADayOnce() throws ServiceException {
+    // given
+    final ExchangeRateProvider provider = mock(ExchangeRateProvider.class);
+    final ExchangeRates rates = ExchangeRates.of(TODAY, "EUR", Map.of("USD", new BigDecimal("1.0899")));
+    when(provider.getRates(TODAY)).thenReturn(rates);
+    final ExchangeRateService service = new ExchangeRateServiceImpl(provider, Duration.ofHours(1), 31, clock);
+
+    // when
+    final SalaryConverter converter = service.converterTo(" usd ");
+    service.converterTo("EUR");
+
+    // then verify
+    assertSame(rates, service.getRates(TODAY));
+    assertEquals("USD", converter.getCurrency());
+    assertEquals(new BigDecimal("1089.90"), converter.convert("EUR", new BigDecimal("1000")));
+    verify(provider, times(1)).getRates(TODAY);
+  }
+
+  @Test
+  void converterTo_WhenTheProviderFails_ShouldThrowServiceException() throws ServiceException {
+    // given
+    final ExchangeRateProvider provider = mock(ExchangeRateProvider.class);
+    when(provider.getRates(TODAY)).thenThrow(new IllegalStateException("unavailable"));
+    final ExchangeRateService service = new ExchangeRateServiceImpl(provider, Duration.ofHours(1), 31, clock);
+
+    // when & then
+    assertThrows(ServiceException.class, () -> service.converterTo("USD"));
+  }
+
+  private static ByteArrayResource csv(final String content) throws IOException {
+    return new ByteArrayResource(content.getBytes(StandardCharsets.UTF_8));
+  }
+}
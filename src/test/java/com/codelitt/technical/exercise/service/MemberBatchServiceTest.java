@@ -0,0 +1,208 @@
+package com.codelitt.technical.exercise.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+
+import com.codelitt.technical.exercise.dto.MemberDTO;
+import com.codelitt.technical.exercise.dto.batch.MemberBatchResult;
+import com.codelitt.technical.exercise.enums.BatchItemStatus;
+import com.codelitt.technical.exercise.enums.MemberType;
+import com.codelitt.technical.exercise.exception.InvalidRequestException;
+import com.codelitt.technical.exercise.exception.ServiceException;
+import com.codelitt.technical.exercise.mapper.MemberMapper;
+import com.codelitt.technical.exercise.model.Member;
+import com.codelitt.technical.exercise.repository.MemberRepository;
+import com.codelitt.technical.exercise.service.impl.MemberBatchServiceImpl;
+import com.codelitt.technical.exercise.util.TagNames;
+import com.codelitt.technical.exercise.validation.MemberValidator;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+@ExtendWith(MockitoExtension.class)
+class MemberBatchServiceTest {
+
+  @Mock
+  private CountryInfoService countryInfoService;
+
+  @Mock
+  private MemberTagService memberTagService;
+
+  @Mock
+  private PayrollService payrollService;
+
+  @Mock
+  private MemberRepository repository;
+
+  @Mock
+  private EntityManager entityManager;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  private final AtomicLong sequence = new AtomicLong();
+
+  private MemberBatchService batchService;
+
+  @BeforeEach
+  void setup() throws ServiceException {
+    lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+    lenient().when(repository.saveAll(anyList())).thenAnswer(invocation -> {
+      final List<Member> members = invocation.getArgument(0);
+      members.forEach(member -> member.setId(sequence.incrementAndGet()));
+      return members;
+    });
+    lenient().when(memberTagService.resolve(anyCollection())).thenAnswer(invocation -> {
+      final Map<String, Integer> ids = new HashMap<>();
+      TagNames.normalize(invocation.<Collection<String>>getArgument(0)).forEach(name -> ids.put(name, name.hashCode()));
+      return ids;
+    });
+    batchService = new MemberBatchServiceImpl(countryInfoService, memberTagService, payrollService, repository, new MemberMapper(),
+        new MemberValidator(Validation.buildDefaultValidatorFactory().getValidator()), entityManager, transactionManager, 10, 2);
+  }
+
+  @Test
+  void createAll_ShouldLookUpEachDistinctCountryOnceAndInsertInChunks() throws ServiceException {
+    // given
+    final List<MemberDTO> members = List.of(member("brazil"), member("Brazil"), member("France"), member("BRAZIL"), member("france"));
+    when(countryInfoService.getCurrency(anyString())).thenAnswer(invocation ->
+        invocation.getArgument(0, String.class).equalsIgnoreCase("brazil") ? "BRL" : "EUR");
+
+    // when
+    final MemberBatchResult result = batchService.createAll(members);
+
+    // then verify
+    assertEquals(5, result.created());
+    assertEquals(0, result.failed());
+    assertEquals(List.of(1L, 2L, 3L, 4L, 5L), result.items().stream().map(item -> item.id()).toList());
+    verify(countryInfoService, times(2)).getCurrency(anyString());
+    verify(repository, times(3)).saveAll(anyList());
+    verify(transactionManager, times(3)).commit(any());
+  }
+
+  @Test
+  void createAll_ShouldResolveTheTagsOfTheBatchOnceAndIndexEachMember() throws ServiceException {
+    // given
+    final MemberDTO backend = member("Brazil");
+    final MemberDTO fullStack = member("Brazil");
+    fullStack.setTags(List.of("backend", "Frontend "));
+    when(countryInfoService.getCurrency("Brazil")).thenReturn("BRL");
+    final List<Member> saved = new ArrayList<>();
+    when(repository.saveAll(anyList())).thenAnswer(invocation -> {
+      final List<Member> chunk = invocation.getArgument(0);
+      saved.addAll(chunk);
+      return chunk;
+    });
+
+    // when
+    final MemberBatchResult result = batchService.createAll(List.of(backend, fullStack));
+
+    // then verify
+    assertEquals(2, result.created());
+    verify(memberTagService, times(1)).resolve(anyCollection());
+    assertEquals(Set.of("backend".hashCode()), saved.get(0).getTagIds());
+    assertEquals(Set.of("backend".hashCode(), "frontend".hashCode()), saved.get(1).getTagIds());
+  }
+
+  @Test
+  void createAll_ShouldReportInvalidMembersWithoutPersistingThem() throws ServiceException {
+    // given
+    final MemberDTO noRole = member("Brazil");
+    noRole.setType(MemberType.EMPLOYEE);
+    final MemberDTO noName = member("Brazil");
+    noName.setFirstName("");
+    final MemberDTO unknownCountry = member("Atlantis");
+    when(countryInfoService.getCurrency("Brazil")).thenReturn("BRL");
+    when(countryInfoService.getCurrency("Atlantis")).thenThrow(new ServiceException("No information found for the country: Atlantis"));
+
+    // when
+    final MemberBatchResult result = batchService.createAll(List.of(noRole, member("Brazil"), noName, unknownCountry));
+
+    // then verify
+    assertEquals(1, result.created());
+    assertEquals(3, result.failed());
+    assertEquals(MemberValidator.EMPLOYEE_ROLE_REQUIRED_ON_CREATE, result.items().get(0).error());
+    assertEquals(BatchItemStatus.CREATED, result.items().get(1).status());
+    assertEquals("First name must not be blank", result.items().get(2).error());
+    assertTrue(result.items().get(3).error().startsWith("Currency not found for country: Atlantis"));
+    assertNull(result.items().get(3).id());
+  }
+
+  @Test
+  void createAll_WhenAChunkFails_ShouldOnlyFailTheMembersOfThatChunk() throws ServiceException {
+    // given
+    when(countryInfoService.getCurrency("Brazil")).thenReturn("BRL");
+    when(repository.saveAll(anyList()))
+        .thenAnswer(invocation -> invocation.getArgument(0))
+        .thenThrow(new DataIntegrityViolationException("value too long"))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+    final List<MemberDTO> members = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      members.add(member("Brazil"));
+    }
+
+    // when
+    final MemberBatchResult result = batchService.createAll(members);
+
+    // then verify
+    assertEquals(3, result.created());
+    assertEquals(List.of(BatchItemStatus.CREATED, BatchItemStatus.CREATED, BatchItemStatus.FAILED, BatchItemStatus.FAILED, BatchItemStatus.CREATED),
+        result.items().stream().map(item -> item.status()).toList());
+    verify(transactionManager).rollback(any());
+  }
+
+  @Test
+  void createAll_WhenBatchIsEmptyOrTooLarge_ShouldThrowInvalidRequestException() {
+    // given
+    final List<MemberDTO> tooLarge = new ArrayList<>();
+    for (int i = 0; i < 11; i++) {
+      tooLarge.add(member("Brazil"));
+    }
+
+    // then verify
+    assertThrows(InvalidRequestException.class, () -> batchService.createAll(List.of()));
+    assertThrows(InvalidRequestException.class, () -> batchService.createAll(tooLarge));
+    verify(repository, never()).saveAll(anyList());
+  }
+
+  private static MemberDTO member(final String country) {
+    return MemberDTO.builder()
+        .firstName("John")
+        .lastName("Doe")
+        .salary(BigDecimal.valueOf(1000))
+        .type(MemberType.CONTRACTOR)
+        .contractDuration(12)
+        .tags(List.of("Backend"))
+        .country(country)
+        .build();
+  }
+}
@@ -0,0 +1,166 @@
+package com.codelitt.technical.exercise.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.codelitt.technical.exercise.enums.ExportFormat;
+import com.codelitt.technical.exercise.service.impl.MemberExportServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+@ExtendWith(MockitoExtension.class)
+class MemberExportServiceTest {
+
+  private static final int FETCH_SIZE = 500;
+  private static final long HEAP_GROWTH_LIMIT = 16L * 1024 * 1024;
+
+  @Mock
+  private JdbcTemplate jdbcTemplate;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  private MemberExportService exportService;
+
+  @BeforeEach
+  void setup() {
+    when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+    exportService = new MemberExportServiceImpl(jdbcTemplate, transactionManager, new ObjectMapper(), FETCH_SIZE);
+  }
+
+  @Test
+  void export_ShouldStreamRowsThroughACursorInsideAReadOnlyTransaction() throws IOException, SQLException {
+    // given
+    final Connection connection = mock(Connection.class);
+    final PreparedStatement statement = mock(PreparedStatement.class);
+    when(connection.prepareStatement(anyString(), anyInt(), anyInt())).thenReturn(statement);
+    doAnswer(invocation -> {
+      invocation.getArgument(0, PreparedStatementCreator.class).createPreparedStatement(connection);
+      final RowCallbackHandler handler = invocation.getArgument(1);
+      for (long id = 1; id <= 3; id++) {
+        handler.processRow(syntheticRow(id));
+      }
+      return null;
+    }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    // when
+    exportService.export(ExportFormat.NDJSON, null, output);
+
+    // then verify
+    verify(statement).setFetchSize(FETCH_SIZE);
+    verify(transactionManager).getTransaction(any());
+    verify(transactionManager).commit(any());
+    final String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+    assertEquals(3, lines.length);
+    assertEquals("Member3", new ObjectMapper().readTree(lines[2]).get("firstName").asText());
+  }
+
+  @Test
+  void export_WhenExportingOneMillionRows_ShouldKeepHeapUsageBounded() throws IOException {
+    // given
+    final long rows = 1_000_000;
+    final long[] heapAtWarmup = {0};
+    final long[] heapAtEnd = {0};
+    doAnswer(invocation -> {
+      final RowCallbackHandler handler = invocation.getArgument(1);
+      for (long id = 1; id <= rows; id++) {
+        handler.processRow(syntheticRow(id));
+        if (id == rows / 10) {
+          heapAtWarmup[0] = usedHeap();
+        }
+      }
+      heapAtEnd[0] = usedHeap();
+      return null;
+    }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+    final LineCountingOutputStream output = new LineCountingOutputStream();
+
+    // when
+    exportService.export(ExportFormat.NDJSON, null, output);
+
+    // then verify
+    assertEquals(rows, output.lines);
+    assertTrue(heapAtEnd[0] - heapAtWarmup[0] < HEAP_GROWTH_LIMIT,
+        "Heap grew by " + (heapAtEnd[0] - heapAtWarmup[0]) + " bytes while exporting");
+  }
+
+  private static long usedHeap() {
+    System.gc();
+    final Runtime runtime = Runtime.getRuntime();
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+
+  /**
+   * A result set positioned on a generated member, so that no rows are held in memory by the test itself.
+   */
+  private static ResultSet syntheticRow(final long id) {
+    final Array tags = (Array) Proxy.newProxyInstance(Array.class.getClassLoader(), new Class<?>[] {Array.class},
+        (proxy, method, args) -> "getArray".equals(method.getName()) ? new String[] {"Backend", "Tag" + id % 7} : null);
+    return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[] {ResultSet.class},
+        (proxy, method, args) -> switch (method.getName()) {
+          case "getLong" -> id;
+          case "getTimestamp" -> Timestamp.valueOf(LocalDateTime.of(2023, 1, 1, 0, 0).plusSeconds(id));
+          case "getBigDecimal" -> BigDecimal.valueOf(id % 10_000, 2);
+          case "getObject" -> (int) (id % 24);
+          case "getArray" -> tags;
+          case "getString" -> switch ((String) args[0]) {
+            case "first_name" -> "Member" + id;
+            case "type" -> id % 2 == 0 ? "EMPLOYEE" : "CONTRACTOR";
+            case "country" -> "Brazil";
+            case "currency" -> "BRL";
+            default -> "value";
+          };
+          default -> null;
+        });
+  }
+
+  private static final class LineCountingOutputStream extends OutputStream {
+
+    private long lines;
+
+    @Override
+    public void write(final int b) {
+      if (b == '\n') {
+        lines++;
+      }
+    }
+
+    @Override
+    public void write(final byte[] bytes, final int offset, final int length) {
+      for (int i = offset; i < offset + length; i++) {
+        write(bytes[i]);
+      }
+    }
+  }
+}
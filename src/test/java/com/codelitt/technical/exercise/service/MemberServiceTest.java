@@ -2,38 +2,75 @@ package com.codelitt.technical.exercise.service;
 
 import static org.assertj.core.api.AssertionsForClassTypes.fail;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.validation.Validation;
 
+import com.codelitt.technical.exercise.cache.LocalMemberInvalidationBus;
+import com.codelitt.technical.exercise.cache.MemberCache;
 import com.codelitt.technical.exercise.dto.MemberDTO;
+import com.codelitt.technical.exercise.dto.filter.MemberFilter;
+import com.codelitt.technical.exercise.dto.page.CursorPage;
+import com.codelitt.technical.exercise.dto.page.OffsetPage;
+import com.codelitt.technical.exercise.dto.page.PageCursor;
+import com.codelitt.technical.exercise.dto.payroll.PayrollChange;
+import com.codelitt.technical.exercise.enums.CurrencyStatus;
+import com.codelitt.technical.exercise.enums.MemberSortField;
 import com.codelitt.technical.exercise.enums.MemberType;
+import com.codelitt.technical.exercise.exception.InvalidRequestException;
 import com.codelitt.technical.exercise.exception.ServiceException;
+import com.codelitt.technical.exercise.exception.VersionConflictException;
+import com.codelitt.technical.exercise.mapper.MemberMapper;
+import com.codelitt.technical.exercise.mapper.MemberPatcher;
 import com.codelitt.technical.exercise.model.Member;
 import com.codelitt.technical.exercise.repository.MemberRepository;
+import com.codelitt.technical.exercise.repository.MemberVersion;
 import com.codelitt.technical.exercise.service.impl.MemberServiceImpl;
+import com.codelitt.technical.exercise.validation.MemberValidator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
 import org.springframework.dao.DataIntegrityViolationException;
-
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @ExtendWith(MockitoExtension.class)
 class MemberServiceTest {
@@ -41,15 +78,39 @@ class MemberServiceTest {
   @Mock
   private CountryInfoService countryInfoService;
 
+  @Mock
+  private MemberTagService memberTagService;
+
+  @Mock
+  private PayrollService payrollService;
+
   @Mock
   private MemberRepository repository;
 
   @Mock
-  private ModelMapper modelMapper;
+  private MemberMapper memberMapper;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  @Spy
+  private MemberValidator memberValidator = new MemberValidator(Validation.buildDefaultValidatorFactory().getValidator());
+
+  @Spy
+  private MemberPatcher memberPatcher = new MemberPatcher(new ObjectMapper(), memberValidator);
+
+  @Spy
+  private MemberCache memberCache = new MemberCache(Duration.ofMinutes(10), 100, new LocalMemberInvalidationBus());
 
   @InjectMocks
   private MemberServiceImpl memberService;
 
+  @BeforeEach
+  void setup() {
+    ReflectionTestUtils.setField(memberService, "defaultPageSize", 20);
+    ReflectionTestUtils.setField(memberService, "maxPageSize", 100);
+  }
+
   @Test
   void create_whenInputIsValid_thenReturnNewMemberDTO() throws ServiceException {
     // given
@@ -70,10 +131,10 @@ class MemberServiceTest {
     entity.setCurrency("USD");
 
     // when
-    when(modelMapper.map(member, Member.class)).thenReturn(entity);
+    when(memberMapper.toEntity(member)).thenReturn(entity);
     when(countryInfoService.getCurrency("US")).thenReturn("USD");
     when(repository.save(entity)).thenReturn(entity);
-    when(modelMapper.map(entity, MemberDTO.class)).thenReturn(member);
+    when(memberMapper.toDto(entity)).thenReturn(member);
 
     // then verify
     final MemberDTO result = memberService.create(member);
@@ -87,22 +148,44 @@ class MemberServiceTest {
     member.setCountry("country");
 
     final Member entity = new Member();
-    when(modelMapper.map(member, Member.class)).thenReturn(entity);
+    when(memberMapper.toEntity(member)).thenReturn(entity);
     when(countryInfoService.getCurrency("country")).thenReturn("currency");
     when(repository.save(entity)).thenReturn(entity);
-    when(modelMapper.map(entity, MemberDTO.class)).thenReturn(member);
+    when(memberMapper.toDto(entity)).thenReturn(member);
 
     // when
     final MemberDTO result = memberService.create(member);
 
     // then verify
-    verify(modelMapper, times(1)).map(member, Member.class);
+    verify(memberMapper, times(1)).toEntity(member);
     verify(countryInfoService, times(1)).getCurrency("country");
     verify(repository, times(1)).save(entity);
-    verify(modelMapper, times(1)).map(entity, MemberDTO.class);
+    verify(memberMapper, times(1)).toDto(entity);
     assertSame(member, result);
   }
 
+  @Test
+  void create_WhenCurrencyIsResolvedInBackground_ShouldSaveThePendingMemberWithoutLookup() throws Exception {
+    // given
+    ReflectionTestUtils.setField(memberService, "resolveCurrencyInBackground", true);
+    final MemberDTO member = new MemberDTO();
+    member.setType(MemberType.CONTRACTOR);
+    member.setCountry("Brazil");
+
+    final Member entity = new Member();
+    when(memberMapper.toEntity(member)).thenReturn(entity);
+    when(repository.save(entity)).thenReturn(entity);
+    when(memberMapper.toDto(entity)).thenReturn(member);
+
+    // when
+    memberService.create(member);
+
+    // then verify
+    verify(countryInfoService, never()).getCurrency(anyString());
+    assertNull(entity.getCurrency());
+    assertEquals(CurrencyStatus.PENDING, entity.getCurrencyStatus());
+  }
+
   @Test
   void create_whenCurrencyNotFound_thenThrowServiceException() {
     // given
@@ -126,18 +209,229 @@ class MemberServiceTest {
     assertEquals("Currency not found for country: UKE", exception.getMessage());
   }
 
+  @Test
+  void update_whenMemberIsCached_shouldEvictIt() throws ServiceException {
+    // given
+    final Member entity = member(1L);
+    final MemberDTO cached = new MemberDTO();
+    final MemberDTO updated = new MemberDTO();
+    updated.setType(MemberType.CONTRACTOR);
+    updated.setCountry("Brazil");
+    when(repository.findById(1L)).thenReturn(Optional.of(entity));
+    when(repository.findVersionById(1L)).thenReturn(Optional.of(0L));
+    when(memberMapper.toDto(entity)).thenReturn(cached, updated, updated);
+    when(countryInfoService.getCurrency("Brazil")).thenReturn("BRL");
+    when(repository.saveAndFlush(entity)).thenReturn(entity);
+    memberService.findById(1L);
+
+    // when
+    memberService.update(1L, updated);
+
+    // then verify
+    verify(memberCache, times(1)).invalidate(1L);
+    assertSame(updated, memberService.findById(1L));
+  }
+
   @Test
   void testUpdate_whenIdIsInvalid_thenEntityNotFoundExceptionIsThrown() {
     // given
     final MemberDTO member = new MemberDTO();
 
     // when
-    when(repository.findById(anyLong())).thenReturn(Optional.empty());
+    when(repository.findVersionById(anyLong())).thenReturn(Optional.empty());
 
     // then verify
     assertThrows(EntityNotFoundException.class, () -> memberService.update(1L, member));
   }
 
+  @Test
+  void update_ShouldResolveTheCurrencyBeforeReadingTheMember() throws ServiceException {
+    // given
+    final Member entity = member(1L);
+    entity.setVersion(0L);
+    final MemberDTO member = MemberDTO.builder().type(MemberType.CONTRACTOR).country("Brazil").build();
+    when(repository.findVersionById(1L)).thenReturn(Optional.of(0L));
+    when(countryInfoService.getCurrency("Brazil")).thenReturn("BRL");
+    when(repository.findById(1L)).thenReturn(Optional.of(entity));
+    when(repository.saveAndFlush(entity)).thenReturn(entity);
+
+    // when
+    memberService.update(1L, member, 0L);
+
+    // then verify
+    final InOrder inOrder = inOrder(countryInfoService, transactionManager, repository);
+    inOrder.verify(countryInfoService).getCurrency("Brazil");
+    inOrder.verify(transactionManager).getTransaction(any());
+    inOrder.verify(repository).findById(1L);
+    inOrder.verify(repository).saveAndFlush(entity);
+    inOrder.verify(transactionManager).commit(any());
+    assertEquals("BRL", entity.getCurrency());
+  }
+
+  @Test
+  void update_ShouldMoveTheMemberToThePayrollOfItsNewGroup() throws ServiceException {
+    // given
+    final Member entity = member(1L);
+    entity.setVersion(0L);
+    entity.setCountry("Portugal");
+    entity.setCurrency("EUR");
+    entity.setType(MemberType.CONTRACTOR);
+    entity.setSalary(new BigDecimal("1000.00"));
+    final MemberDTO member = MemberDTO.builder().type(MemberType.CONTRACTOR).country("Brazil").build();
+    when(repository.findVersionById(1L)).thenReturn(Optional.of(0L));
+    when(countryInfoService.getCurrency("Brazil")).thenReturn("BRL");
+    when(repository.findById(1L)).thenReturn(Optional.of(entity));
+    when(repository.saveAndFlush(entity)).thenReturn(entity);
+
+    // when
+    memberService.update(1L, member, 0L);
+
+    // then verify
+    final InOrder inOrder = inOrder(repository, payrollService, transactionManager);
+    inOrder.verify(repository).saveAndFlush(entity);
+    inOrder.verify(payrollService).apply(List.of(
+        new PayrollChange("Portugal", "EUR", MemberType.CONTRACTOR, -1, -1, new BigDecimal("-1000.00")),
+        new PayrollChange("Portugal", "BRL", MemberType.CONTRACTOR, 1, 1, new BigDecimal("1000.00"))));
+    inOrder.verify(transactionManager).commit(any());
+  }
+
+  @Test
+  void update_ShouldMoveTheMemberFromTheCountsOfItsFormerTagsToTheCountsOfItsNewTags() throws ServiceException {
+    // given
+    final Member entity = member(1L);
+    entity.setVersion(0L);
+    entity.setTagIds(new HashSet<>(Set.of(1, 2)));
+    final MemberDTO member = MemberDTO.builder().type(MemberType.CONTRACTOR).country("Brazil").tags(List.of("Java", "Kotlin")).build();
+    when(repository.findVersionById(1L)).thenReturn(Optional.of(0L));
+    when(countryInfoService.getCurrency("Brazil")).thenReturn("BRL");
+    when(memberTagService.resolveIds(List.of("Java", "Kotlin"))).thenReturn(Set.of(2, 3));
+    when(repository.findById(1L)).thenReturn(Optional.of(entity));
+    when(repository.saveAndFlush(entity)).thenReturn(entity);
+
+    // when
+    memberService.update(1L, member, 0L);
+
+    // then verify
+    assertEquals(Set.of(2, 3), entity.getTagIds());
+    final InOrder inOrder = inOrder(repository, memberTagService, transactionManager);
+    inOrder.verify(repository).saveAndFlush(entity);
+    inOrder.verify(memberTagService).applyPostings(Set.of(2, 3), Set.of(1, 2));
+    inOrder.verify(transactionManager).commit(any());
+  }
+
+  @Test
+  void update_WhenExpectedVersionIsOutdated_ShouldThrowVersionConflictExceptionBeforeResolvingTheCurrency() throws ServiceException {
+    // given
+    final MemberDTO member = MemberDTO.builder().type(MemberType.CONTRACTOR).country("Brazil").build();
+    when(repository.findVersionById(1L)).thenReturn(Optional.of(3L));
+
+    // when
+    final VersionConflictException exception = assertThrows(VersionConflictException.class, () -> memberService.update(1L, member, 2L));
+
+    // then verify
+    assertEquals(2L, exception.getExpectedVersion());
+    verify(countryInfoService, never()).getCurrency(anyString());
+    verify(repository, never()).saveAndFlush(any());
+  }
+
+  @Test
+  void update_WhenMemberChangesWhileResolvingTheCurrency_ShouldThrowVersionConflictException() throws ServiceException {
+    // given
+    final Member entity = member(1L);
+    entity.setVersion(3L);
+    final MemberDTO member = MemberDTO.builder().type(MemberType.CONTRACTOR).country("Brazil").build();
+    when(repository.findVersionById(1L)).thenReturn(Optional.of(2L));
+    when(countryInfoService.getCurrency("Brazil")).thenReturn("BRL");
+    when(repository.findById(1L)).thenReturn(Optional.of(entity));
+
+    // when
+    final VersionConflictException exception = assertThrows(VersionConflictException.class, () -> memberService.update(1L, member, 2L));
+
+    // then verify
+    assertEquals(2L, exception.getExpectedVersion());
+    verify(repository, never()).saveAndFlush(any());
+    verify(transactionManager).rollback(any());
+  }
+
+  @Test
+  void update_WhenUpdatedConcurrently_ShouldThrowVersionConflictException() throws ServiceException {
+    // given
+    final Member entity = member(1L);
+    final MemberDTO member = MemberDTO.builder().type(MemberType.CONTRACTOR).country("Brazil").build();
+    when(repository.findVersionById(1L)).thenReturn(Optional.of(0L));
+    when(countryInfoService.getCurrency("Brazil")).thenReturn("BRL");
+    when(repository.findById(1L)).thenReturn(Optional.of(entity));
+    when(repository.saveAndFlush(entity)).thenThrow(new ObjectOptimisticLockingFailureException(Member.class, 1L));
+
+    // when
+    final VersionConflictException exception = assertThrows(VersionConflictException.class, () -> memberService.update(1L, member));
+
+    // then verify
+    assertNull(exception.getExpectedVersion());
+    verify(memberCache).invalidate(1L);
+  }
+
+  @Test
+  void patch_WhenCountryIsUnchanged_ShouldNotResolveTheCurrency() throws Exception {
+    // given
+    final Member entity = patchableMember();
+    when(repository.findById(1L)).thenReturn(Optional.of(entity));
+    when(memberMapper.toDto(entity)).thenReturn(patchableDto());
+    when(repository.saveAndFlush(entity)).thenReturn(entity);
+
+    // when
+    memberService.patch(1L, new ObjectMapper().readTree("{\"firstName\":\"Jane\",\"country\":\" brazil\"}"), null);
+
+    // then verify
+    final ArgumentCaptor<MemberDTO> patched = ArgumentCaptor.forClass(MemberDTO.class);
+    verify(memberMapper).updateEntity(patched.capture(), eq(entity));
+    assertEquals("Jane", patched.getValue().getFirstName());
+    assertEquals("Doe", patched.getValue().getLastName());
+    verify(countryInfoService, never()).getCurrency(anyString());
+    assertEquals("BRL", entity.getCurrency());
+  }
+
+  @Test
+  void patch_WhenCountryChanges_ShouldResolveTheCurrency() throws Exception {
+    // given
+    final Member entity = patchableMember();
+    when(repository.findById(1L)).thenReturn(Optional.of(entity));
+    when(memberMapper.toDto(entity)).thenReturn(patchableDto());
+    when(countryInfoService.getCurrency("France")).thenReturn("EUR");
+    when(repository.saveAndFlush(entity)).thenReturn(entity);
+
+    // when
+    memberService.patch(1L, new ObjectMapper().readTree("{\"country\":\"France\"}"), 0L);
+
+    // then verify
+    assertEquals("EUR", entity.getCurrency());
+  }
+
+  @Test
+  void patch_WhenExpectedVersionIsOutdated_ShouldThrowVersionConflictException() throws Exception {
+    // given
+    final Member entity = patchableMember();
+    when(repository.findById(1L)).thenReturn(Optional.of(entity));
+    when(memberMapper.toDto(entity)).thenReturn(patchableDto());
+
+    // when
+    final VersionConflictException exception = assertThrows(VersionConflictException.class,
+        () -> memberService.patch(1L, new ObjectMapper().readTree("{\"country\":\"France\"}"), 1L));
+
+    // then verify
+    assertEquals(1L, exception.getExpectedVersion());
+    verify(countryInfoService, never()).getCurrency(anyString());
+  }
+
+  @Test
+  void patch_WhenMemberDoesNotExist_ShouldThrowEntityNotFoundException() {
+    // given
+    when(repository.findById(1L)).thenReturn(Optional.empty());
+
+    // then verify
+    assertThrows(EntityNotFoundException.class, () -> memberService.patch(1L, new ObjectMapper().createObjectNode(), null));
+  }
+
   @Test
   void testCreate_WhenMemberHasTypeEmployeeButNoRole_ShouldThrowServiceException() throws ServiceException {
     // given
@@ -160,6 +454,21 @@ class MemberServiceTest {
     }
   }
 
+  @Test
+  void update_WhenMemberHasTypeEmployeeButNoRole_ShouldThrowServiceException() throws ServiceException {
+    // given
+    final MemberDTO member = MemberDTO.builder().firstName("John").lastName("Doe").type(MemberType.EMPLOYEE).country("US").build();
+    when(repository.findVersionById(1L)).thenReturn(Optional.of(2L));
+    when(countryInfoService.getCurrency("US")).thenReturn("USD");
+
+    // when
+    final ServiceException exception = assertThrows(ServiceException.class, () -> memberService.update(1L, member, null));
+
+    // then verify
+    assertEquals("If the member type is Employee, then we need to set their role before updating", exception.getMessage());
+    verify(repository, never()).saveAndFlush(any());
+  }
+
   @Test
   void testUpdate_WhenMemberNotFound_ShouldThrowEntityNotFoundException() throws ServiceException {
     // given
@@ -191,7 +500,7 @@ class MemberServiceTest {
     Long id = 1L;
 
     // when
-    when(repository.findById(id)).thenReturn(Optional.empty());
+    when(repository.findVersionById(id)).thenReturn(Optional.empty());
 
     // then verify
     var exception = assertThrows(EntityNotFoundException.class, () -> memberService.update(id, memberDTO));
@@ -207,13 +516,44 @@ class MemberServiceTest {
 
     // when
     when(repository.findById(eq(id))).thenReturn(java.util.Optional.of(member));
-    when(modelMapper.map(eq(member), eq(MemberDTO.class))).thenReturn(memberDTO);
+    when(memberMapper.toDto(eq(member))).thenReturn(memberDTO);
 
     // then verify
     final MemberDTO result = memberService.findById(id);
     assertEquals(result, memberDTO);
   }
 
+  @Test
+  void findById_WhenCalledTwice_ShouldReadTheRepositoryOnce() {
+    // given
+    final Member member = member(1L);
+    final MemberDTO memberDTO = new MemberDTO();
+    when(repository.findById(1L)).thenReturn(Optional.of(member));
+    when(memberMapper.toDto(member)).thenReturn(memberDTO);
+
+    // when
+    memberService.findById(1L);
+    final MemberDTO result = memberService.findById(1L);
+
+    // then verify
+    assertSame(memberDTO, result);
+    verify(repository, times(1)).findById(1L);
+    verify(memberMapper, times(1)).toDto(member);
+  }
+
+  @Test
+  void findById_WhenMemberIsMissing_ShouldNotCacheTheMiss() {
+    // given
+    when(repository.findById(1L)).thenReturn(Optional.empty());
+
+    // when
+    assertThrows(EntityNotFoundException.class, () -> memberService.findById(1L));
+    assertThrows(EntityNotFoundException.class, () -> memberService.findById(1L));
+
+    // then verify
+    verify(repository, times(2)).findById(1L);
+  }
+
   @Test
   void testFindById_EntityNotFoundException() {
     // given
@@ -226,24 +566,208 @@ class MemberServiceTest {
   }
 
   @Test
-  void findAllMembers_ShouldReturnListOfMembersDTO_WhenMembersExist() throws ServiceException {
+  void findMembers_WhenMoreMembersThanPageSize_ShouldReturnPageAndNextCursor() throws ServiceException {
     // given
-    final Member member1 = new Member();
-    final Member member2 = new Member();
-    final List<Member> members = Arrays.asList(member1, member2);
+    final List<Member> members = Arrays.asList(member(1L), member(2L), member(3L));
 
     // when
-    when(repository.findAll()).thenReturn(members);
+    when(repository.findAllBy(PageRequest.of(0, 3, Sort.by(Sort.Direction.ASC, "id")), Member.class)).thenReturn(members);
 
     // then verify
-    final List<MemberDTO> result = memberService.findAllMembers();
+    final CursorPage<MemberDTO> result = memberService.findMembers(null, 2, null, null);
+    assertEquals(2, result.items().size());
     assertEquals(2, result.size());
+    assertEquals(new PageCursor(MemberSortField.ID, Sort.Direction.ASC, null, 2L), PageCursor.decode(result.nextCursor()));
+  }
+
+  @Test
+  void findMembers_WhenLastPage_ShouldReturnNoNextCursor() throws ServiceException {
+    // given
+    final String cursor = new PageCursor(MemberSortField.ID, Sort.Direction.ASC, null, 2L).encode();
+
+    // when
+    when(repository.findByIdGreaterThan(2L, PageRequest.of(0, 3, Sort.by(Sort.Direction.ASC, "id")), Member.class)).thenReturn(List.of(member(3L)));
+
+    // then verify
+    final CursorPage<MemberDTO> result = memberService.findMembers(cursor, 2, null, null);
+    assertEquals(1, result.items().size());
+    assertNull(result.nextCursor());
+  }
+
+  @Test
+  void findMembers_WhenSortedByCreatedAtDescending_ShouldSeekBeforeTheCursor() throws ServiceException {
+    // given
+    final LocalDateTime createdAt = LocalDateTime.of(2023, 2, 1, 10, 30);
+    final String cursor = new PageCursor(MemberSortField.CREATED_AT, Sort.Direction.DESC, createdAt, 7L).encode();
+    final Member next = member(5L);
+    next.setCreatedAt(createdAt.minusDays(1));
+
+    // when
+    when(repository.findBeforeCreatedAt(createdAt, 7L, PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "createdAt", "id")), Member.class))
+        .thenReturn(List.of(next, member(4L)));
+
+    // then verify
+    final CursorPage<MemberDTO> result = memberService.findMembers(cursor, 1, MemberSortField.CREATED_AT, null);
+    assertEquals(1, result.items().size());
+    assertEquals(new PageCursor(MemberSortField.CREATED_AT, Sort.Direction.DESC, createdAt.minusDays(1), 5L),
+        PageCursor.decode(result.nextCursor()));
+  }
+
+  @Test
+  void findMembersVersion_ShouldDigestTheIdsAndVersionsOfThePage() throws ServiceException {
+    // given
+    final PageRequest limit = PageRequest.of(0, 3, Sort.by(Sort.Direction.ASC, "id"));
+    when(repository.findAllBy(limit, MemberVersion.class))
+        .thenReturn(List.of(version(1L, 0L), version(2L, 0L)), List.of(version(1L, 0L), version(2L, 1L)));
+
+    // when
+    final String version = memberService.findMembersVersion(null, 2, null, null);
+    final String updatedVersion = memberService.findMembersVersion(null, 2, null, null);
+
+    // then verify
+    assertEquals(32, version.length());
+    assertNotEquals(version, updatedVersion);
+    verify(repository, never()).findAllBy(any(Pageable.class), eq(Member.class));
+  }
+
+  @Test
+  void findMembers_ShouldReturnTheVersionOfThePageWithoutReadingItAgain() throws ServiceException {
+    // given
+    final PageRequest limit = PageRequest.of(0, 3, Sort.by(Sort.Direction.ASC, "id"));
+    final List<Member> members = Arrays.asList(member(1L), member(2L), member(3L));
+    members.forEach(member -> member.setVersion(member.getId() * 2));
+    when(repository.findAllBy(limit, Member.class)).thenReturn(members);
+    when(repository.findAllBy(limit, MemberVersion.class)).thenReturn(List.of(version(1L, 2L), version(2L, 4L), version(3L, 6L)));
+
+    // when
+    final CursorPage<MemberDTO> result = memberService.findMembers(null, 2, null, null);
+
+    // then verify
+    // the first member of the next page is part of the version, as it is of the one read alone
+    assertEquals(2, result.items().size());
+    assertEquals(memberService.findMembersVersion(null, 2, null, null), result.version());
+    verify(repository).findAllBy(limit, MemberVersion.class);
   }
 
   @Test
-  void findAllMembers_ShouldThrowServiceException_WhenErrorRetrievingMembers() throws ServiceException {
-    when(repository.findAll()).thenThrow(new RuntimeException("Error retrieving members"));
-    assertThrows(ServiceException.class, () -> memberService.findAllMembers());
+  void findVersion_WhenMemberIsNotCached_ShouldReadTheVersionOnly() {
+    // given
+    when(repository.findVersionById(1L)).thenReturn(Optional.of(4L));
+
+    // when
+    final Long version = memberService.findVersion(1L);
+
+    // then verify
+    assertEquals(4L, version);
+    verify(repository, never()).findById(1L);
+  }
+
+  @Test
+  void findVersion_WhenMemberIsCached_ShouldNotReadTheRepository() {
+    // given
+    final Member member = member(1L);
+    when(repository.findById(1L)).thenReturn(Optional.of(member));
+    when(memberMapper.toDto(member)).thenReturn(MemberDTO.builder().version(2L).build());
+    memberService.findById(1L);
+
+    // when
+    final Long version = memberService.findVersion(1L);
+
+    // then verify
+    assertEquals(2L, version);
+    verify(repository, never()).findVersionById(1L);
+  }
+
+  @Test
+  void findVersion_WhenMemberDoesNotExist_ShouldThrowEntityNotFoundException() {
+    // given
+    when(repository.findVersionById(1L)).thenReturn(Optional.empty());
+
+    // then verify
+    assertThrows(EntityNotFoundException.class, () -> memberService.findVersion(1L));
+  }
+
+  @Test
+  void findMembers_WhenFiltered_ShouldReadThePageWithTheComposedCriteria() throws ServiceException {
+    // given
+    final MemberFilter filter = new MemberFilter("brazil", MemberType.CONTRACTOR, null, null, new BigDecimal("5000"), null, null, null, null);
+    final String cursor = new PageCursor(MemberSortField.ID, Sort.Direction.ASC, null, 2L).encode();
+
+    // when
+    when(repository.findMembers(any(), eq(PageRequest.of(0, 3, Sort.by(Sort.Direction.ASC, "id")))))
+        .thenReturn(List.of(member(4L), member(7L), member(9L)));
+
+    // then verify
+    final CursorPage<MemberDTO> result = memberService.findMembers(filter, cursor, 2, null, null);
+    assertEquals(2, result.items().size());
+    assertEquals(new PageCursor(MemberSortField.ID, Sort.Direction.ASC, null, 7L), PageCursor.decode(result.nextCursor()));
+    verify(repository, never()).findByIdGreaterThan(anyLong(), any(Pageable.class), eq(Member.class));
+  }
+
+  @Test
+  void findMembersVersion_WhenFiltered_ShouldReadTheVersionsWithTheComposedCriteria() throws ServiceException {
+    // given
+    final MemberFilter filter = new MemberFilter(null, null, "EUR", null, null, null, null, null, null);
+    final PageRequest limit = PageRequest.of(0, 3, Sort.by(Sort.Direction.ASC, "id"));
+    when(repository.findMemberVersions(any(), eq(limit))).thenReturn(List.of(version(1L, 0L)));
+    when(repository.findAllBy(limit, MemberVersion.class)).thenReturn(List.of(version(1L, 0L), version(2L, 0L)));
+
+    // when
+    final String version = memberService.findMembersVersion(filter, null, 2, null, null);
+
+    // then verify
+    assertNotEquals(memberService.findMembersVersion(MemberFilter.NONE, null, 2, null, null), version);
+    verify(repository, never()).findMembers(any(), any(Pageable.class));
+  }
+
+  @Test
+  void memberFilter_WhenARangeIsInverted_ShouldThrowInvalidRequestException() {
+    // then verify
+    assertThrows(InvalidRequestException.class,
+        () -> new MemberFilter(null, null, null, new BigDecimal("2000"), new BigDecimal("1000"), null, null, null, null));
+    assertThrows(InvalidRequestException.class, () -> new MemberFilter(null, null, null, null, null, 12, 6, null, null));
+    assertTrue(MemberFilter.NONE.isEmpty());
+  }
+
+  @Test
+  void findMembers_WhenSizeExceedsMaximum_ShouldCapThePageSize() throws ServiceException {
+    // when
+    when(repository.findAllBy(any(Pageable.class), eq(Member.class))).thenReturn(List.of());
+
+    // then verify
+    assertEquals(100, memberService.findMembers(null, 10_000, null, null).size());
+    verify(repository).findAllBy(PageRequest.of(0, 101, Sort.by(Sort.Direction.ASC, "id")), Member.class);
+  }
+
+  @Test
+  void findMembers_WhenCursorWasIssuedForAnotherSort_ShouldThrowInvalidRequestException() {
+    // given
+    final String cursor = new PageCursor(MemberSortField.ID, Sort.Direction.ASC, null, 2L).encode();
+
+    // then verify
+    assertThrows(InvalidRequestException.class, () -> memberService.findMembers(cursor, 2, MemberSortField.CREATED_AT, null));
+    assertThrows(InvalidRequestException.class, () -> memberService.findMembers("not-a-cursor", 2, null, null));
+  }
+
+  @Test
+  void findMembers_ShouldThrowServiceException_WhenErrorRetrievingMembers() {
+    when(repository.findAllBy(any(Pageable.class), eq(Member.class))).thenThrow(new RuntimeException("Error retrieving members"));
+    assertThrows(ServiceException.class, () -> memberService.findMembers(null, null, null, null));
+  }
+
+  @Test
+  void findMembersPage_ShouldReturnPageWithTotals() throws ServiceException {
+    // given
+    final PageRequest pageable = PageRequest.of(1, 2, Sort.by("id"));
+
+    // when
+    when(repository.findAll(pageable)).thenReturn(new PageImpl<>(List.of(member(3L), member(4L)), pageable, 5));
+
+    // then verify
+    final OffsetPage<MemberDTO> result = memberService.findMembersPage(1, 2);
+    assertEquals(2, result.items().size());
+    assertEquals(5, result.totalElements());
+    assertEquals(3, result.totalPages());
   }
 
   @Test
@@ -259,6 +783,38 @@ class MemberServiceTest {
 
     // then verify
     verify(repository, times(1)).deleteById(id);
+    verify(memberCache, times(1)).invalidate(id);
+  }
+
+  @Test
+  void deleteById_shouldRemoveTheMemberFromThePayroll() {
+    // given
+    final Member member = member(1L);
+    member.setCurrency("BRL");
+    when(repository.findById(1L)).thenReturn(Optional.of(member));
+
+    // when
+    memberService.deleteById(1L);
+
+    // then verify
+    final InOrder inOrder = inOrder(repository, payrollService);
+    inOrder.verify(repository).deleteById(1L);
+    inOrder.verify(payrollService).apply(List.of(PayrollChange.removed(member)));
+  }
+
+  @Test
+  void deleteById_whenMemberIsCached_shouldEvictIt() {
+    // given
+    final Member member = member(1L);
+    when(repository.findById(1L)).thenReturn(Optional.of(member), Optional.of(member), Optional.empty());
+    when(memberMapper.toDto(member)).thenReturn(new MemberDTO());
+    memberService.findById(1L);
+
+    // when
+    memberService.deleteById(1L);
+
+    // then verify
+    assertThrows(EntityNotFoundException.class, () -> memberService.findById(1L));
   }
 
   @Test
@@ -285,4 +841,42 @@ class MemberServiceTest {
     // when & then
     assertThrows(DataIntegrityViolationException.class, () -> memberService.deleteById(id));
   }
+
+  private static Member patchableMember() {
+    final Member member = member(1L);
+    member.setVersion(0L);
+    member.setCurrency("BRL");
+    return member;
+  }
+
+  private static MemberDTO patchableDto() {
+    return MemberDTO.builder()
+        .firstName("John")
+        .lastName("Doe")
+        .type(MemberType.CONTRACTOR)
+        .tags(List.of("Backend"))
+        .country("Brazil")
+        .version(0L)
+        .build();
+  }
+
+  private static MemberVersion version(final Long id, final Long version) {
+    return new MemberVersion() {
+      @Override
+      public Long getId() {
+        return id;
+      }
+
+      @Override
+      public Long getVersion() {
+        return version;
+      }
+    };
+  }
+
+  private static Member member(final Long id) {
+    final Member member = new Member();
+    member.setId(id);
+    return member;
+  }
 }
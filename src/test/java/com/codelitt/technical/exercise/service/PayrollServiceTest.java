@@ -0,0 +1,220 @@
+package com.codelitt.technical.exercise.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.codelitt.technical.exercise.cache.ExchangeRates;
+import com.codelitt.technical.exercise.cache.SalaryConverter;
+import com.codelitt.technical.exercise.dto.payroll.PayrollChange;
+import com.codelitt.technical.exercise.dto.payroll.PayrollGroup;
+import com.codelitt.technical.exercise.enums.MemberType;
+import com.codelitt.technical.exercise.enums.PayrollDimension;
+import com.codelitt.technical.exercise.exception.ServiceException;
+import com.codelitt.technical.exercise.model.Member;
+import com.codelitt.technical.exercise.model.PayrollRollup;
+import com.codelitt.technical.exercise.repository.PayrollRollupRepository;
+import com.codelitt.technical.exercise.service.impl.PayrollServiceImpl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+@ExtendWith(MockitoExtension.class)
+class PayrollServiceTest {
+
+  @Mock
+  private PayrollRollupRepository repository;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  private PayrollService payrollService;
+
+  @BeforeEach
+  void setup() {
+    payrollService = new PayrollServiceImpl(repository, transactionManager);
+  }
+
+  @Test
+  void apply_ShouldUpdateEachGroupOnceInKeyOrder() {
+    // given
+    when(repository.lockGroup("Portugal", "EUR", "EMPLOYEE")).thenReturn(Optional.of(2));
+    when(repository.lockGroup("Brazil", "BRL", "CONTRACTOR")).thenReturn(Optional.of(1));
+
+    // when
+    payrollService.apply(List.of(
+        PayrollChange.added(member("Portugal", "EUR", MemberType.EMPLOYEE, "2000.00")),
+        PayrollChange.added(member("Brazil", "BRL", MemberType.CONTRACTOR, "1000.00")),
+        PayrollChange.added(member("Portugal", "EUR", MemberType.EMPLOYEE, null)),
+        PayrollChange.added(member("Brazil", "BRL", MemberType.CONTRACTOR, "500.50"))));
+
+    // then verify
+    final InOrder inOrder = inOrder(repository);
+    inOrder.verify(repository).lockGroup("Brazil", "BRL", "CONTRACTOR");
+    inOrder.verify(repository).add(1, 2, 2, new BigDecimal("1500.50"));
+    inOrder.verify(repository).lockGroup("Portugal", "EUR", "EMPLOYEE");
+    inOrder.verify(repository).add(2, 2, 1, new BigDecimal("2000.00"));
+  }
+
+  @Test
+  void apply_ShouldSkipPendingMembersAndChangesLeavingTheGroupAsItIs() {
+    // given
+    final Member member = member("Brazil", "BRL", MemberType.CONTRACTOR, "1000.00");
+
+    // when
+    payrollService.apply(List.of(
+        PayrollChange.removed(member),
+        PayrollChange.added(member),
+        PayrollChange.added(member("Brazil", null, MemberType.CONTRACTOR, "1000.00"))));
+
+    // then verify
+    verify(repository, never()).lockGroup(any(), any(), any());
+    verify(repository, never()).add(anyInt(), anyLong(), anyLong(), any());
+  }
+
+  @Test
+  void apply_ShouldAddTheMissingGroupInATransactionOfItsOwn() {
+    // given
+    when(repository.lockGroup("Brazil", "BRL", "CONTRACTOR")).thenReturn(Optional.empty(), Optional.of(1));
+    when(repository.addGroup("Brazil", "BRL", "CONTRACTOR")).thenThrow(new DataIntegrityViolationException("added concurrently"));
+
+    // when
+    payrollService.apply(List.of(PayrollChange.added(member("Brazil", "BRL", MemberType.CONTRACTOR, "1000.00"))));
+
+    // then verify
+    verify(repository).addGroup("Brazil", "BRL", "CONTRACTOR");
+    verify(repository).add(1, 1, 1, new BigDecimal("1000.00"));
+  }
+
+  @Test
+  void findPayroll_ShouldAddUpTheRollupsOfEachGroup() throws ServiceException {
+    // given
+    when(repository.findNonEmpty()).thenReturn(List.of(
+        rollup("Brazil", "BRL", MemberType.CONTRACTOR, 2, 2, "3000.00", "1000.00", "2000.00"),
+        rollup("France", "EUR", MemberType.CONTRACTOR, 1, 0, "0", null, null),
+        rollup("Portugal", "EUR", MemberType.CONTRACTOR, 3, 3, "10.00", "1.00", "5.00"),
+        rollup("Portugal", "EUR", MemberType.EMPLOYEE, 1, 1, "7.00", "7.00", "7.00")));
+
+    // when
+    final List<PayrollGroup> payroll = payrollService.findPayroll(EnumSet.of(PayrollDimension.CURRENCY, PayrollDimension.TYPE));
+
+    // then verify
+    assertEquals(List.of(
+        new PayrollGroup(null, "BRL", MemberType.CONTRACTOR, 2, 2, new BigDecimal("3000.00"), new BigDecimal("1000.00"),
+            new BigDecimal("2000.00"), new BigDecimal("1500.0000")),
+        new PayrollGroup(null, "EUR", MemberType.EMPLOYEE, 1, 1, new BigDecimal("7.00"), new BigDecimal("7.00"),
+            new BigDecimal("7.00"), new BigDecimal("7.0000")),
+        new PayrollGroup(null, "EUR", MemberType.CONTRACTOR, 4, 3, new BigDecimal("10.00"), new BigDecimal("1.00"),
+            new BigDecimal("5.00"), new BigDecimal("3.3333"))), payroll);
+  }
+
+  @Test
+  void findPayroll_WithoutConverter_ShouldNotAddUpTheSalariesOfDifferentCurrencies() throws ServiceException {
+    // given
+    when(repository.findNonEmpty()).thenReturn(List.of(
+        rollup("Brazil", "BRL", MemberType.CONTRACTOR, 2, 2, "3000.00", "1000.00", "2000.00"),
+        rollup("Portugal", "EUR", MemberType.CONTRACTOR, 2, 2, "500.00", "100.00", "400.00")));
+
+    // when
+    final List<PayrollGroup> payroll = payrollService.findPayroll(EnumSet.of(PayrollDimension.TYPE));
+
+    // then verify
+    assertEquals(List.of(
+        new PayrollGroup(null, "BRL", MemberType.CONTRACTOR, 2, 2, new BigDecimal("3000.00"), new BigDecimal("1000.00"),
+            new BigDecimal("2000.00"), new BigDecimal("1500.0000")),
+        new PayrollGroup(null, "EUR", MemberType.CONTRACTOR, 2, 2, new BigDecimal("500.00"), new BigDecimal("100.00"),
+            new BigDecimal("400.00"), new BigDecimal("250.0000"))), payroll);
+  }
+
+  @Test
+  void findPayroll_WhenNoDimensionIsGiven_ShouldGroupByAllOfThem() throws ServiceException {
+    // given
+    when(repository.findNonEmpty()).thenReturn(List.of(rollup("Brazil", "BRL", MemberType.CONTRACTOR, 1, 0, "0", null, null)));
+
+    // when
+    final List<PayrollGroup> payroll = payrollService.findPayroll(Set.of());
+
+    // then verify
+    assertEquals(List.of(new PayrollGroup("Brazil", "BRL", MemberType.CONTRACTOR, 1, 0, BigDecimal.ZERO, null, null, null)), payroll);
+  }
+
+  @Test
+  void findPayroll_WithConverter_ShouldConvertEachRollupBeforeAddingThemUp() throws ServiceException {
+    // given
+    final SalaryConverter converter = ExchangeRates.of(LocalDate.of(2023, 7, 3), "EUR", Map.of("BRL", new BigDecimal("5.2336")))
+        .converterTo("EUR");
+    when(repository.findNonEmpty()).thenReturn(List.of(
+        rollup("Brazil", "BRL", MemberType.CONTRACTOR, 2, 2, "3000.00", "1000.00", "2000.00"),
+        rollup("Portugal", "EUR", MemberType.CONTRACTOR, 2, 2, "500.00", "100.00", "400.00")));
+
+    // when
+    final List<PayrollGroup> payroll = payrollService.findPayroll(EnumSet.of(PayrollDimension.TYPE), converter);
+
+    // then verify
+    assertEquals(List.of(new PayrollGroup(null, null, MemberType.CONTRACTOR, 4, 4, new BigDecimal("1073.22"), new BigDecimal("100.00"),
+        new BigDecimal("400.00"), new BigDecimal("268.3050"), "EUR")), payroll);
+  }
+
+  @Test
+  void findPayroll_WithConverter_WhenACurrencyHasNoRate_ShouldThrowServiceException() {
+    // given
+    final SalaryConverter converter = ExchangeRates.of(LocalDate.of(2023, 7, 3), "EUR", Map.of()).converterTo("EUR");
+    when(repository.findNonEmpty()).thenReturn(List.of(rollup("Brazil", "BRL", MemberType.CONTRACTOR, 1, 1, "1000.00", "1000.00", "1000.00")));
+
+    // when & then
+    assertThrows(ServiceException.class, () -> payrollService.findPayroll(Set.of(), converter));
+  }
+
+  @Test
+  void findPayroll_WhenTheRollupsCannotBeRead_ShouldThrowServiceException() {
+    // given
+    when(repository.findNonEmpty()).thenThrow(new QueryTimeoutException("timeout"));
+
+    // when & then
+    assertThrows(ServiceException.class, () -> payrollService.findPayroll(Set.of()));
+  }
+
+  private static PayrollRollup rollup(final String country, final String currency, final MemberType type, final long members,
+                                      final long salaried, final String sum, final String min, final String max) {
+    return PayrollRollup.builder()
+        .country(country)
+        .currency(currency)
+        .type(type)
+        .members(members)
+        .salaried(salaried)
+        .salarySum(new BigDecimal(sum))
+        .salaryMin(min == null ? null : new BigDecimal(min))
+        .salaryMax(max == null ? null : new BigDecimal(max))
+        .build();
+  }
+
+  private static Member member(final String country, final String currency, final MemberType type, final String salary) {
+    final Member member = new Member();
+    member.setCountry(country);
+    member.setCurrency(currency);
+    member.setType(type);
+    member.setSalary(salary == null ? null : new BigDecimal(salary));
+    return member;
+  }
+}
@@ -0,0 +1,23 @@
+package com.codelitt.technical.exercise.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class MemberNamesTest {
+
+  @Test
+  void normalize_ShouldLowerTheCaseAndCollapseTheWhitespace() {
+    assertEquals("john doe", MemberNames.normalize("  John \t DOE "));
+    assertEquals("mary ann smith", MemberNames.normalize("Mary\nAnn  Smith"));
+    assertEquals("", MemberNames.normalize("   "));
+    assertEquals("", MemberNames.normalize(null));
+  }
+
+  @Test
+  void likePrefix_ShouldMatchTheWildcardsLiterally() {
+    assertEquals("john%", MemberNames.likePrefix("john"));
+    assertEquals("50\\%\\_off\\\\%", MemberNames.likePrefix("50%_off\\"));
+    assertEquals("%", MemberNames.likePrefix(""));
+  }
+}
@@ -0,0 +1,76 @@
+package com.codelitt.technical.exercise.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+class PostingListsTest {
+
+  @Test
+  void intersect_ShouldKeepTheIdsOfBothLists() {
+    // given
+    final long[] first = {1, 3, 5, 7, 9};
+    final long[] second = {2, 3, 4, 5, 10};
+
+    // when
+    final long[] result = PostingLists.intersect(first, second);
+
+    // then verify
+    assertArrayEquals(new long[] {3, 5}, result);
+    assertArrayEquals(new long[] {3, 5}, PostingLists.intersect(second, first));
+    assertArrayEquals(new long[0], PostingLists.intersect(first, new long[0]));
+  }
+
+  @Test
+  void intersect_WhenListsHaveVeryDifferentLengths_ShouldFindIdsAcrossTheLongerList() {
+    // given
+    final long[] longer = new long[100_000];
+    for (int i = 0; i < longer.length; i++) {
+      longer[i] = 2L * i;
+    }
+    final long[] shorter = {0, 1, 4, 99_999, 100_000, 199_998, 199_999, 500_000};
+
+    // when
+    final long[] result = PostingLists.intersect(shorter, longer);
+
+    // then verify
+    assertArrayEquals(new long[] {0, 4, 100_000, 199_998}, result);
+  }
+
+  @Test
+  void intersectAndUnion_ShouldMatchTheSetOperations() {
+    // given
+    final Random random = new Random(42);
+    for (int run = 0; run < 100; run++) {
+      final TreeSet<Long> first = randomSet(random, random.nextInt(50));
+      final TreeSet<Long> second = randomSet(random, random.nextInt(5_000));
+      final TreeSet<Long> intersection = new TreeSet<>(first);
+      intersection.retainAll(second);
+      final TreeSet<Long> union = new TreeSet<>(first);
+      union.addAll(second);
+
+      // when
+      final long[] intersected = PostingLists.intersect(toArray(first), toArray(second));
+      final long[] merged = PostingLists.union(toArray(first), toArray(second));
+
+      // then verify
+      assertArrayEquals(toArray(intersection), intersected);
+      assertArrayEquals(toArray(union), merged);
+    }
+  }
+
+  private static TreeSet<Long> randomSet(final Random random, final int size) {
+    final TreeSet<Long> ids = new TreeSet<>();
+    while (ids.size() < size) {
+      ids.add((long) random.nextInt(10_000));
+    }
+    return ids;
+  }
+
+  private static long[] toArray(final TreeSet<Long> ids) {
+    return ids.stream().mapToLong(Long::longValue).toArray();
+  }
+}
@@ -0,0 +1,83 @@
+package com.codelitt.technical.exercise.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+class SingleFlightTest {
+
+  private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+  @Test
+  void execute_WhenCallIsInFlight_ShouldShareItsResult() throws Exception {
+    // given
+    var executor = Executors.newFixedThreadPool(2);
+    var loads = new AtomicInteger();
+    var loading = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    var followerThread = new AtomicReference<Thread>();
+
+    var leader = executor.submit(() -> singleFlight.execute("key", () -> {
+      loads.incrementAndGet();
+      loading.countDown();
+      release.await();
+      return "value";
+    }));
+    loading.await(5, TimeUnit.SECONDS);
+
+    // when
+    var follower = executor.submit(() -> {
+      followerThread.set(Thread.currentThread());
+      return singleFlight.execute("key", () -> {
+        loads.incrementAndGet();
+        return "other";
+      });
+    });
+    while (followerThread.get() == null || followerThread.get().getState() != Thread.State.WAITING) {
+      Thread.onSpinWait();
+    }
+    release.countDown();
+
+    // then verify
+    assertEquals("value", leader.get(5, TimeUnit.SECONDS));
+    assertEquals("value", follower.get(5, TimeUnit.SECONDS));
+    assertEquals(1, loads.get());
+    assertEquals(0, singleFlight.inFlight());
+    executor.shutdown();
+  }
+
+  @Test
+  void execute_WhenLoaderFails_ShouldThrowTheLoaderException() {
+    // given
+    var failure = new IOException("boom");
+
+    // then verify
+    var exception = assertThrows(IOException.class, () -> singleFlight.execute("key", () -> {
+      throw failure;
+    }));
+    assertSame(failure, exception);
+    assertEquals(0, singleFlight.inFlight());
+  }
+
+  @Test
+  void execute_WhenPreviousCallCompleted_ShouldLoadAgain() throws Exception {
+    // given
+    var loads = new AtomicInteger();
+
+    // when
+    singleFlight.execute("key", () -> "value" + loads.incrementAndGet());
+    var second = singleFlight.execute("key", () -> "value" + loads.incrementAndGet());
+
+    // then verify
+    assertEquals("value2", second);
+  }
+}
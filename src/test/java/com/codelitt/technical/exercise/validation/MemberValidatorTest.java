@@ -0,0 +1,107 @@
+package com.codelitt.technical.exercise.validation;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import jakarta.validation.Validation;
+
+import com.codelitt.technical.exercise.dto.MemberDTO;
+import com.codelitt.technical.exercise.enums.MemberType;
+import com.codelitt.technical.exercise.exception.InvalidRequestException;
+import com.codelitt.technical.exercise.exception.ServiceException;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+class MemberValidatorTest {
+
+  private final MemberValidator memberValidator = new MemberValidator(Validation.buildDefaultValidatorFactory().getValidator());
+
+  @Test
+  void validate_WhenMemberIsValid_ShouldReturnNull() {
+    // when
+    final String result = memberValidator.validate(member());
+
+    // then verify
+    assertNull(result);
+  }
+
+  @Test
+  void validate_WhenConstraintsAreViolated_ShouldReturnThemOrderedByField() {
+    // given
+    final MemberDTO member = member();
+    member.setFirstName(null);
+    member.setSalary(new BigDecimal("-1"));
+
+    // when
+    final String result = memberValidator.validate(member);
+
+    // then verify
+    assertEquals("First name must not be blank; Salary must not be negative", result);
+  }
+
+  @Test
+  void validate_WhenEmployeeHasNoRole_ShouldReturnTheRuleViolation() {
+    // given
+    final MemberDTO member = member();
+    member.setRole(null);
+
+    // when
+    final String result = memberValidator.validate(member);
+
+    // then verify
+    assertEquals(MemberValidator.EMPLOYEE_ROLE_REQUIRED_ON_CREATE, result);
+  }
+
+  @Test
+  void checkConstraints_WhenConstraintsAreViolated_ShouldThrowInvalidRequestException() {
+    // given
+    final MemberDTO member = member();
+    member.setCountry("");
+
+    // when
+    final InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> memberValidator.checkConstraints(member));
+
+    // then verify
+    assertEquals("Country must not be blank", exception.getMessage());
+  }
+
+  @Test
+  void checkRules_WhenEmployeeHasNoRole_ShouldThrowServiceException() {
+    // given
+    final MemberDTO member = member();
+    member.setRole("");
+
+    // when
+    final ServiceException exception = assertThrows(ServiceException.class, () -> memberValidator.checkRules(member, MemberValidator.EMPLOYEE_ROLE_REQUIRED_ON_UPDATE));
+
+    // then verify
+    assertEquals(MemberValidator.EMPLOYEE_ROLE_REQUIRED_ON_UPDATE, exception.getMessage());
+  }
+
+  @Test
+  void checkRules_WhenContractorHasNoRole_ShouldPass() {
+    // given
+    final MemberDTO member = member();
+    member.setType(MemberType.CONTRACTOR);
+    member.setRole(null);
+    member.setContractDuration(12);
+
+    // then verify
+    assertDoesNotThrow(() -> memberValidator.checkRules(member, MemberValidator.EMPLOYEE_ROLE_REQUIRED_ON_UPDATE));
+  }
+
+  private static MemberDTO member() {
+    final MemberDTO member = new MemberDTO();
+    member.setFirstName("John");
+    member.setLastName("Doe");
+    member.setType(MemberType.EMPLOYEE);
+    member.setRole("Software Engineer");
+    member.setCountry("Brazil");
+    member.setSalary(new BigDecimal("1000"));
+    return member;
+  }
+}